@@ -80,6 +80,36 @@ public interface AggregationStrategy {
         return false;
     }
 
+    /**
+     * Indicates if this aggregation strategy can combine two partially aggregated exchanges.
+     * <p/>
+     * When enabled then EIPs such as the splitter and multicast can aggregate the sub exchanges concurrently
+     * into partial aggregations (each partial is only used by one thread at a time), and then merge the partial
+     * aggregations together using {@link #combine(Exchange, Exchange)} when all sub exchanges has been aggregated.
+     * This avoids aggregating all the sub exchanges one by one, which can become the bottleneck when splitting
+     * big messages in parallel.
+     *
+     * @return <tt>true</tt> if this strategy can combine partial aggregations, or <tt>false</tt> otherwise.
+     */
+    default boolean canCombine() {
+        return false;
+    }
+
+    /**
+     * Combines two partially aggregated exchanges together to create a single combined exchange.
+     * This callback will only be called if {@link #canCombine()} returns <tt>true</tt>.
+     * <p/>
+     * The partial aggregations are the result of calling {@link #aggregate(Exchange, Exchange)} on a subset of
+     * the exchanges, and the order of the exchanges between the partial aggregations is not guaranteed.
+     *
+     * @param oldExchange the first partial aggregation
+     * @param newExchange the second partial aggregation
+     * @return a combined composite of the two partial aggregations, favor returning the <tt>oldExchange</tt> whenever possible
+     */
+    default Exchange combine(Exchange oldExchange, Exchange newExchange) {
+        throw new UnsupportedOperationException("This aggregation strategy does not support combining partial aggregations: " + this);
+    }
+
     /**
      * The aggregated {@link Exchange} has completed
      *
@@ -34,6 +34,7 @@ import org.apache.camel.spi.DataType;
 import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -1550,4 +1551,14 @@ public interface CamelContext extends SuspendableService, RuntimeConfiguration {
      */
     void setHeadersMapFactory(HeadersMapFactory factory);
 
+    /**
+     * Gets the {@link ExchangeFactory} to use for creating new exchanges.
+     */
+    ExchangeFactory getExchangeFactory();
+
+    /**
+     * Sets a custom {@link ExchangeFactory} to be used, such as a pooled factory to recycle exchanges.
+     */
+    void setExchangeFactory(ExchangeFactory exchangeFactory);
+
 }
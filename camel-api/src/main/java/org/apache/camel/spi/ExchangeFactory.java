@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+
+/**
+ * Factory used by {@link Endpoint}s to create new {@link Exchange} instances.
+ * <p/>
+ * The default implementation creates a new {@link Exchange} every time. A pooled implementation
+ * can recycle the exchanges (and their messages) which a consumer has released after the
+ * {@link UnitOfWork} is done, to reduce the object allocations at high message rates.
+ * <p/>
+ * Important: A pooled factory should only be used when the routes do not keep a reference to the
+ * exchange after it has been completed, as the exchange is reset and reused for new messages.
+ * Exchanges are only recycled when the consumer releases them, which currently only the netty4 and
+ * netty4-http consumers do.
+ *
+ * @see org.apache.camel.impl.DefaultExchangeFactory
+ * @see org.apache.camel.support.PooledExchangeFactory
+ */
+public interface ExchangeFactory {
+
+    /**
+     * Creates (or acquires from the pool) an {@link Exchange} which is created from the given endpoint.
+     *
+     * @param fromEndpoint the endpoint which the exchange originates from
+     * @param pattern      the exchange pattern
+     * @return the exchange
+     */
+    Exchange create(Endpoint fromEndpoint, ExchangePattern pattern);
+
+    /**
+     * Releases the exchange back to the pool, when the consumer is completely done with the exchange.
+     *
+     * @param exchange the exchange
+     * @return <tt>true</tt> if the exchange was released to the pool, <tt>false</tt> if it was discarded
+     */
+    boolean release(Exchange exchange);
+
+    /**
+     * Whether the factory is pooled.
+     */
+    boolean isPooled();
+
+    /**
+     * The maximum number of exchanges to keep in the pool.
+     */
+    int getCapacity();
+
+    /**
+     * The current number of exchanges in the pool.
+     */
+    int getSize();
+
+    /**
+     * Number of new exchanges created, which is a pool miss.
+     */
+    long getCreatedCounter();
+
+    /**
+     * Number of exchanges acquired (reused) from the pool, which is a pool hit.
+     */
+    long getAcquiredCounter();
+
+    /**
+     * Number of exchanges released back to the pool.
+     */
+    long getReleasedCounter();
+
+    /**
+     * Number of exchanges which was discarded when released, such as when the pool is full,
+     * or the exchange is from another {@link org.apache.camel.CamelContext}.
+     */
+    long getDiscardedCounter();
+
+    /**
+     * Resets the statistics.
+     */
+    void resetStatistics();
+
+}
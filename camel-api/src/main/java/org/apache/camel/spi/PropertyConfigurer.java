@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.CamelContext;
+
+/**
+ * A configurer which sets the properties of a given target object by their name, without using reflection.
+ * <p/>
+ * The Camel annotation processor generates a configurer for the endpoints, components and their
+ * configuration classes, which is named as the configured class with a <tt>Configurer</tt> suffix.
+ */
+public interface PropertyConfigurer {
+
+    /**
+     * Configures the property with the given name on the target
+     *
+     * @param camelContext the camel context, used for type conversion of the value
+     * @param target       the target object to configure
+     * @param name         the name of the property
+     * @param value        the value of the property
+     * @return <tt>true</tt> if the property was configured, or <tt>false</tt> if its not a known property
+     * @throws Exception is thrown if error configuring the property, such as the value could not be type converted
+     */
+    boolean configure(CamelContext camelContext, Object target, String name, Object value) throws Exception;
+
+}
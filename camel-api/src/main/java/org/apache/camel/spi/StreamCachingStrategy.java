@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -155,6 +156,42 @@ public interface StreamCachingStrategy extends StaticService {
 
     SpoolUsedHeapMemoryLimit getSpoolUsedHeapMemoryLimit();
 
+    /**
+     * Sets a limit in bytes of off-heap memory to use for in-memory stream caches. The limit is shared by all
+     * the stream caches of the {@link org.apache.camel.CamelContext}.
+     * <p/>
+     * When the limit is higher than 0, the in-memory stream caches store the data in pooled direct {@link ByteBuffer}s
+     * of {@link #getBufferSize()} bytes, instead of byte arrays on the heap. When the limit is reached then the stream
+     * cache is spooled to disk. The buffers are returned to the pool when the exchange is done.
+     * <p/>
+     * The default is <tt>0</tt> which means off-heap memory is not used.
+     *
+     * @param limit limit in bytes
+     */
+    void setOffHeapMemoryLimit(long limit);
+
+    long getOffHeapMemoryLimit();
+
+    /**
+     * Gets the number of bytes of off-heap memory currently in use by stream caches.
+     */
+    long getOffHeapMemoryUsed();
+
+    /**
+     * Acquires a direct {@link ByteBuffer} of {@link #getBufferSize()} bytes from the pool of off-heap buffers.
+     * The buffer must be released using {@link #releaseOffHeapBuffer(ByteBuffer)} when no longer in use.
+     *
+     * @return the buffer, or <tt>null</tt> if off-heap memory is not in use or the off-heap memory limit has been reached
+     */
+    ByteBuffer acquireOffHeapBuffer();
+
+    /**
+     * Releases a buffer acquired using {@link #acquireOffHeapBuffer()} back to the pool of off-heap buffers.
+     *
+     * @param buffer the buffer
+     */
+    void releaseOffHeapBuffer(ByteBuffer buffer);
+
     /**
      * Sets the buffer size to use when allocating in-memory buffers used for in-memory stream caches.
      * <p/>
@@ -210,6 +210,19 @@ public interface UnitOfWork extends Service {
      */
     void afterProcess(Processor processor, Exchange exchange, AsyncCallback callback, boolean doneSync);
 
+    /**
+     * Whether the routing engine should call the {@link #afterProcess(Processor, Exchange, AsyncCallback, boolean)}
+     * method after processing.
+     * <p/>
+     * Implementations which do not do any work in the after process method can return <tt>false</tt>,
+     * which allows the routing engine to avoid scheduling the after process work for every processor.
+     *
+     * @return <tt>true</tt> to call the after process method, <tt>false</tt> to skip it.
+     */
+    default boolean isAfterProcessRequired() {
+        return true;
+    }
+
     /**
      * Create a child unit of work, which is associated to this unit of work as its parent.
      * <p/>
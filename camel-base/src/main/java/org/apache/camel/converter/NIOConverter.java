@@ -22,6 +22,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
@@ -80,6 +83,33 @@ public final class NIOConverter {
         }
     }
 
+    /**
+     * Opens a {@link FileChannel} for reading the file, which allows to transfer the file content
+     * to another channel without copying it into the Java heap.
+     */
+    @Converter
+    public static FileChannel toFileChannel(File file) throws IOException {
+        return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
+    /**
+     * Maps the file into memory as a read-only buffer, so the file content is not copied into the Java heap.
+     * <p/>
+     * A buffer is limited to 2 GB, so files larger than {@link Integer#MAX_VALUE} bytes cannot be mapped,
+     * use {@link #toFileChannel(File)} to stream such files instead.
+     */
+    @Converter
+    public static MappedByteBuffer toMappedByteBuffer(File file) throws IOException {
+        try (FileChannel channel = toFileChannel(file)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Cannot map file: " + file + " with size: " + size
+                    + " bytes into memory as it is larger than the 2 GB limit of a MappedByteBuffer. Use a FileChannel instead.");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
     @Converter
     public static ByteBuffer toByteBuffer(String value, Exchange exchange) {
         byte[] bytes = null;
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.StringTokenizer;
@@ -62,14 +63,24 @@ import org.slf4j.LoggerFactory;
  * Therefore its recommended to specify FQN class names in the {@link #META_INF_SERVICES} file.
  * Likewise the procedure for scanning using {@link PackageScanClassResolver} may require custom implementations
  * to work in various containers such as JBoss, OSGi, etc.
+ * <p/>
+ * The Camel annotation processor generates a {@link TypeConverterLoader} for the {@link Converter} classes in each
+ * JAR which loads the type converters without any reflection. These loaders are listed in the
+ * {@link #META_INF_SERVICES_TYPE_CONVERTER_LOADER} file and are loaded first. A generated loader is named as the
+ * {@link Converter} class with a <tt>Loader</tt> suffix, and the {@link Converter} classes it covers are not
+ * introspected using reflection.
  */
 public class AnnotationTypeConverterLoader implements TypeConverterLoader {
     public static final String META_INF_SERVICES = "META-INF/services/org/apache/camel/TypeConverter";
+    public static final String META_INF_SERVICES_TYPE_CONVERTER_LOADER = "META-INF/services/org/apache/camel/TypeConverterLoader";
+    private static final String LOADER_SUFFIX = "Loader";
     private static final Logger LOG = LoggerFactory.getLogger(AnnotationTypeConverterLoader.class);
     private static final Charset UTF8 = Charset.forName("UTF-8");
     protected PackageScanClassResolver resolver;
     protected Set<Class<?>> visitedClasses = new HashSet<>();
     protected Set<String> visitedURIs = new HashSet<>();
+    protected Set<String> failedLoaderClassNames = new HashSet<>();
+    private boolean skipRegisteredConverters;
 
     public AnnotationTypeConverterLoader(PackageScanClassResolver resolver) {
         this.resolver = resolver;
@@ -79,15 +90,28 @@ public class AnnotationTypeConverterLoader implements TypeConverterLoader {
     public void load(TypeConverterRegistry registry) throws TypeConverterLoaderException {
         String[] packageNames;
 
+        // the generated type converter loaders are loaded first as they do not use any reflection
+        Set<String> loadedClassNames;
+        LOG.trace("Searching for {} services", META_INF_SERVICES_TYPE_CONVERTER_LOADER);
+        try {
+            loadedClassNames = loadTypeConverterLoaders(registry);
+        } catch (Exception e) {
+            throw new TypeConverterLoaderException("Cannot load type converter loaders from " + META_INF_SERVICES_TYPE_CONVERTER_LOADER, e);
+        }
+
         LOG.trace("Searching for {} services", META_INF_SERVICES);
         try {
             packageNames = findPackageNames();
-            if (packageNames == null || packageNames.length == 0) {
-                throw new TypeConverterLoaderException("Cannot find package names to be used for classpath scanning for annotated type converters.");
-            }
         } catch (Exception e) {
             throw new TypeConverterLoaderException("Cannot find package names to be used for classpath scanning for annotated type converters.", e);
         }
+        if (packageNames == null || packageNames.length == 0) {
+            if (!loadedClassNames.isEmpty()) {
+                LOG.debug("No package names found in classpath for annotated type converters.");
+                return;
+            }
+            throw new TypeConverterLoaderException("Cannot find package names to be used for classpath scanning for annotated type converters.");
+        }
 
         // if we only have camel-core on the classpath then we have already pre-loaded all its type converters
         // but we exposed the "org.apache.camel.core" package in camel-core. This ensures there is at least one
@@ -102,6 +126,15 @@ public class AnnotationTypeConverterLoader implements TypeConverterLoader {
         // now filter out org.apache.camel.core as its not needed anymore (it was just a dummy)
         packageNames = filterUnwantedPackage("org.apache.camel.core", packageNames);
 
+        // and the @Converter classes which has already been loaded by their generated loader
+        if (!loadedClassNames.isEmpty()) {
+            packageNames = Arrays.stream(packageNames).filter(n -> !loadedClassNames.contains(n)).toArray(String[]::new);
+            if (packageNames.length == 0) {
+                LOG.debug("No additional package names found in classpath for annotated type converters.");
+                return;
+            }
+        }
+
         // filter out package names which can be loaded as a class directly so we avoid package scanning which
         // is much slower and does not work 100% in all runtime containers
         Set<Class<?>> classes = new HashSet<>();
@@ -125,15 +158,20 @@ public class AnnotationTypeConverterLoader implements TypeConverterLoader {
 
         // load all the found classes into the type converter registry
         for (Class<?> type : classes) {
+            if (loadedClassNames.contains(type.getName())) {
+                LOG.trace("Skipping converter class: {} as it has been loaded by its generated loader", type.getName());
+                continue;
+            }
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Loading converter class: {}", ObjectHelper.name(type));
             }
-            loadConverterMethods(registry, type);
+            loadConverterMethods(registry, type, failedLoaderClassNames.contains(type.getName()));
         }
 
         // now clear the maps so we do not hold references
         visitedClasses.clear();
         visitedURIs.clear();
+        failedLoaderClassNames.clear();
     }
 
     /**
@@ -209,14 +247,18 @@ public class AnnotationTypeConverterLoader implements TypeConverterLoader {
     }
 
     protected void findPackages(Set<String> packages, ClassLoader classLoader) throws IOException {
-        Enumeration<URL> resources = classLoader.getResources(META_INF_SERVICES);
+        findNames(META_INF_SERVICES, packages, classLoader);
+    }
+
+    private void findNames(String file, Set<String> packages, ClassLoader classLoader) throws IOException {
+        Enumeration<URL> resources = classLoader.getResources(file);
         while (resources.hasMoreElements()) {
             URL url = resources.nextElement();
             String path = url.getPath();
             if (!visitedURIs.contains(path)) {
                 // remember we have visited this uri so we wont read it twice
                 visitedURIs.add(path);
-                LOG.debug("Loading file {} to retrieve list of packages, from url: {}", META_INF_SERVICES, url);
+                LOG.debug("Loading file {} to retrieve list of packages, from url: {}", file, url);
                 BufferedReader reader = IOHelper.buffered(new InputStreamReader(url.openStream(), UTF8));
                 try {
                     while (true) {
@@ -237,6 +279,52 @@ public class AnnotationTypeConverterLoader implements TypeConverterLoader {
         }
     }
 
+    /**
+     * Loads the type converter loaders listed in the {@link #META_INF_SERVICES_TYPE_CONVERTER_LOADER} files
+     * on the classpath, which are generated by the Camel annotation processor.
+     *
+     * @param registry the type converter registry
+     * @return the names of the {@link Converter} classes which has been loaded by a generated loader
+     * @throws IOException is thrown for IO related errors
+     * @throws TypeConverterLoaderException is thrown if a generated loader failed
+     */
+    protected Set<String> loadTypeConverterLoaders(TypeConverterRegistry registry) throws IOException, TypeConverterLoaderException {
+        Set<String> names = new LinkedHashSet<>();
+        ClassLoader ccl = Thread.currentThread().getContextClassLoader();
+        if (ccl != null) {
+            findNames(META_INF_SERVICES_TYPE_CONVERTER_LOADER, names, ccl);
+        }
+        findNames(META_INF_SERVICES_TYPE_CONVERTER_LOADER, names, getClass().getClassLoader());
+
+        Set<String> answer = new HashSet<>();
+        for (String name : names) {
+            Class<?> type = ObjectHelper.loadClass(name, getClass().getClassLoader());
+            if (type == null) {
+                LOG.warn("Ignoring type converter loader: {} as the class could not be found", name);
+                continue;
+            }
+            LOG.trace("Loading type converter loader: {}", name);
+            TypeConverterLoader loader = org.apache.camel.support.ObjectHelper.newInstance(type, TypeConverterLoader.class);
+            try {
+                loader.load(registry);
+            } catch (LinkageError e) {
+                // the converter class is then not skipped, so it is introspected if found when scanning the packages,
+                // but without the type converters the loader has registered before it failed
+                LOG.warn("Ignoring type converter loader: " + name + " as a dependent class could not be loaded: " + e, e);
+                if (name.endsWith(LOADER_SUFFIX)) {
+                    failedLoaderClassNames.add(name.substring(0, name.length() - LOADER_SUFFIX.length()));
+                }
+                continue;
+            }
+            // only skip the converter class when its generated loader has loaded it
+            if (name.endsWith(LOADER_SUFFIX)) {
+                answer.add(name.substring(0, name.length() - LOADER_SUFFIX.length()));
+            }
+        }
+        LOG.debug("Loaded {} generated type converter loaders", names.size());
+        return answer;
+    }
+
     /**
      * Tokenizes the line from the META-IN/services file using commas and
      * ignoring whitespace between packages
@@ -251,6 +339,23 @@ public class AnnotationTypeConverterLoader implements TypeConverterLoader {
         }
     }
 
+    /**
+     * Loads all of the converter methods for the given type
+     *
+     * @param registry        the type converter registry
+     * @param type            the converter class
+     * @param skipRegistered  whether to skip the type converters which are already registered, which is used when the
+     *                        generated loader of the converter class failed after it has registered some of them
+     */
+    protected void loadConverterMethods(TypeConverterRegistry registry, Class<?> type, boolean skipRegistered) {
+        skipRegisteredConverters = skipRegistered;
+        try {
+            loadConverterMethods(registry, type);
+        } finally {
+            skipRegisteredConverters = false;
+        }
+    }
+
     /**
      * Loads all of the converter methods for the given type
      */
@@ -367,6 +472,11 @@ public class AnnotationTypeConverterLoader implements TypeConverterLoader {
 
     protected void registerTypeConverter(TypeConverterRegistry registry,
                                          Method method, Class<?> toType, Class<?> fromType, TypeConverter typeConverter) {
+        if (skipRegisteredConverters && registry instanceof BaseTypeConverterRegistry
+                && ((BaseTypeConverterRegistry) registry).getTypeConverter(toType, fromType) != null) {
+            LOG.trace("Skipping converter method: {} as a type converter from: {} to: {} is already registered", method, fromType, toType);
+            return;
+        }
         registry.addTypeConverter(toType, fromType, typeConverter);
     }
 
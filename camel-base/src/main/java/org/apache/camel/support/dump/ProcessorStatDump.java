@@ -67,6 +67,18 @@ public final class ProcessorStatDump {
     @XmlAttribute
     private Long meanProcessingTime;
 
+    @XmlAttribute
+    private Long p50ProcessingTime;
+
+    @XmlAttribute
+    private Long p90ProcessingTime;
+
+    @XmlAttribute
+    private Long p99ProcessingTime;
+
+    @XmlAttribute
+    private Long p999ProcessingTime;
+
     @XmlAttribute
     private Long accumulatedProcessingTime;
 
@@ -201,6 +213,38 @@ public final class ProcessorStatDump {
         this.meanProcessingTime = meanProcessingTime;
     }
 
+    public Long getP50ProcessingTime() {
+        return p50ProcessingTime;
+    }
+
+    public void setP50ProcessingTime(Long p50ProcessingTime) {
+        this.p50ProcessingTime = p50ProcessingTime;
+    }
+
+    public Long getP90ProcessingTime() {
+        return p90ProcessingTime;
+    }
+
+    public void setP90ProcessingTime(Long p90ProcessingTime) {
+        this.p90ProcessingTime = p90ProcessingTime;
+    }
+
+    public Long getP99ProcessingTime() {
+        return p99ProcessingTime;
+    }
+
+    public void setP99ProcessingTime(Long p99ProcessingTime) {
+        this.p99ProcessingTime = p99ProcessingTime;
+    }
+
+    public Long getP999ProcessingTime() {
+        return p999ProcessingTime;
+    }
+
+    public void setP999ProcessingTime(Long p999ProcessingTime) {
+        this.p999ProcessingTime = p999ProcessingTime;
+    }
+
     public Long getAccumulatedProcessingTime() {
         return accumulatedProcessingTime;
     }
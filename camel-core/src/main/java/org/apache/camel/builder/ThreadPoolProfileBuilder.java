@@ -77,6 +77,11 @@ public class ThreadPoolProfileBuilder {
         return this;
     }
 
+    public ThreadPoolProfileBuilder virtualThreads(Boolean virtualThreads) {
+        profile.setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     public ThreadPoolProfileBuilder rejectedPolicy(ThreadPoolRejectedPolicy rejectedPolicy) {
         profile.setRejectedPolicy(rejectedPolicy);
         return this;
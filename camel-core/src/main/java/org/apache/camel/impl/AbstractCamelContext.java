@@ -121,6 +121,7 @@ import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -258,6 +259,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Mod
     private volatile ManagementMBeanAssembler managementMBeanAssembler;
     private volatile RestRegistry restRegistry;
     private volatile HeadersMapFactory headersMapFactory;
+    private volatile ExchangeFactory exchangeFactory;
     private volatile ClassResolver classResolver;
     private volatile PackageScanClassResolver packageScanClassResolver;
     private volatile ServicePool<Producer> producerServicePool;
@@ -4043,6 +4045,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Mod
                 getDataFormatResolver();
                 getManagementStrategy();
                 getHeadersMapFactory();
+                getExchangeFactory();
                 getClassResolver();
                 getNodeIdFactory();
                 getProcessorFactory();
@@ -4668,6 +4671,23 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Mod
         this.headersMapFactory = doAddService(headersMapFactory);
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        if (exchangeFactory == null) {
+            synchronized (lock) {
+                if (exchangeFactory == null) {
+                    setExchangeFactory(createExchangeFactory());
+                }
+            }
+        }
+        return exchangeFactory;
+    }
+
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        this.exchangeFactory = doAddService(exchangeFactory);
+    }
+
     protected Map<String, RouteService> getRouteServices() {
         return routeServices;
     }
@@ -4769,6 +4789,8 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Mod
 
     protected abstract HeadersMapFactory createHeadersMapFactory();
 
+    protected abstract ExchangeFactory createExchangeFactory();
+
     protected abstract LanguageResolver createLanguageResolver();
 
     protected abstract RestRegistry createRestRegistry();
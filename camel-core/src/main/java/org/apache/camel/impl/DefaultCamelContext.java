@@ -45,6 +45,7 @@ import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.ComponentResolver;
 import org.apache.camel.spi.DataFormatResolver;
 import org.apache.camel.spi.EndpointRegistry;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -280,6 +281,10 @@ public class DefaultCamelContext extends AbstractCamelContext {
         return new HeadersMapFactoryResolver().resolve(this);
     }
 
+    protected ExchangeFactory createExchangeFactory() {
+        return new DefaultExchangeFactory();
+    }
+
     protected LanguageResolver createLanguageResolver() {
         return new DefaultLanguageResolver();
     }
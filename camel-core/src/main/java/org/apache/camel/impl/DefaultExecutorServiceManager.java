@@ -50,6 +50,7 @@ import org.apache.camel.util.URISupport;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadHelper;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutor;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,6 +83,7 @@ public class DefaultExecutorServiceManager extends ServiceSupport implements Exe
         defaultProfile.setMaxQueueSize(1000);
         defaultProfile.setAllowCoreThreadTimeOut(false);
         defaultProfile.setRejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns);
+        defaultProfile.setVirtualThreads(false);
 
         registerThreadPoolProfile(defaultProfile);
     }
@@ -186,8 +188,18 @@ public class DefaultExecutorServiceManager extends ServiceSupport implements Exe
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
-        ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
+        ExecutorService executorService;
+        if (isVirtualThreads(profile)) {
+            // virtual threads are not pooled, so start a new thread per task, and limit how many tasks can run concurrently
+            // in this thread pool to the number of tasks it would otherwise accept (running and queued), or unlimited
+            // if the queue is unbounded
+            int limit = profile.getMaxQueueSize() < 0 ? -1 : profile.getMaxPoolSize() + profile.getMaxQueueSize();
+            ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, true);
+            executorService = new ThreadPerTaskExecutor(threadFactory, limit, profile.getRejectedPolicy());
+        } else {
+            ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+            executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
+        }
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
             LOG.debug("Created new ThreadPool for source: {} with name: {}. -> {}", source, sanitizedName, executorService);
@@ -212,7 +224,15 @@ public class DefaultExecutorServiceManager extends ServiceSupport implements Exe
     @Override
     public ExecutorService newCachedThreadPool(Object source, String name) {
         String sanitizedName = URISupport.sanitizeUri(name);
-        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true));
+        ExecutorService answer;
+        if (isVirtualThreads(getDefaultThreadPoolProfile())) {
+            // virtual threads are not pooled, and a cached thread pool has no upper limit either
+            ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, true);
+            answer = new ThreadPerTaskExecutor(threadFactory, -1, ThreadPoolRejectedPolicy.Abort);
+        } else {
+            ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+            answer = threadPoolFactory.newCachedThreadPool(threadFactory);
+        }
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -333,6 +353,8 @@ public class DefaultExecutorServiceManager extends ServiceSupport implements Exe
             threadPool = (ThreadPoolExecutor) executorService;
         } else if (executorService instanceof SizedScheduledExecutorService) {
             threadPool = ((SizedScheduledExecutorService) executorService).getScheduledThreadPoolExecutor();
+        } else if (executorService instanceof ThreadPerTaskExecutor) {
+            threadPool = ((ThreadPerTaskExecutor) executorService).getThreadPoolExecutor();
         }
         if (threadPool != null) {
             for (LifecycleStrategy lifecycle : camelContext.getLifecycleStrategies()) {
@@ -377,6 +399,8 @@ public class DefaultExecutorServiceManager extends ServiceSupport implements Exe
             threadPool = (ThreadPoolExecutor) executorService;
         } else if (executorService instanceof SizedScheduledExecutorService) {
             threadPool = ((SizedScheduledExecutorService) executorService).getScheduledThreadPoolExecutor();
+        } else if (executorService instanceof ThreadPerTaskExecutor) {
+            threadPool = ((ThreadPerTaskExecutor) executorService).getThreadPoolExecutor();
         }
         if (threadPool != null) {
             for (LifecycleStrategy lifecycle : camelContext.getLifecycleStrategies()) {
@@ -535,6 +559,8 @@ public class DefaultExecutorServiceManager extends ServiceSupport implements Exe
             threadPool = (ThreadPoolExecutor) executorService;
         } else if (executorService instanceof SizedScheduledExecutorService) {
             threadPool = ((SizedScheduledExecutorService) executorService).getScheduledThreadPoolExecutor();
+        } else if (executorService instanceof ThreadPerTaskExecutor) {
+            threadPool = ((ThreadPerTaskExecutor) executorService).getThreadPoolExecutor();
         }
         if (threadPool != null) {
             for (LifecycleStrategy lifecycle : camelContext.getLifecycleStrategies()) {
@@ -547,7 +573,20 @@ public class DefaultExecutorServiceManager extends ServiceSupport implements Exe
     }
 
     private ThreadFactory createThreadFactory(String name, boolean isDaemon) {
-        return new CamelThreadFactory(threadNamePattern, name, isDaemon);
+        return createThreadFactory(name, isDaemon, false);
+    }
+
+    private ThreadFactory createThreadFactory(String name, boolean isDaemon, boolean virtual) {
+        return new CamelThreadFactory(threadNamePattern, name, isDaemon, virtual);
+    }
+
+    private static boolean isVirtualThreads(ThreadPoolProfile profile) {
+        boolean virtual = profile != null && Boolean.TRUE.equals(profile.getVirtualThreads());
+        if (virtual && !ThreadHelper.isVirtualThreadsSupported()) {
+            LOG.debug("ThreadPoolProfile: {} is configured to use virtual threads, but the JVM does not support virtual threads. Will use regular threads.", profile.getId());
+            return false;
+        }
+        return virtual;
     }
 
 }
@@ -19,9 +19,13 @@ package org.apache.camel.impl;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -46,6 +50,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private long spoolThreshold = StreamCache.DEFAULT_SPOOL_THRESHOLD;
     private int spoolUsedHeapMemoryThreshold;
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
+    private long offHeapMemoryLimit;
+    private final AtomicLong offHeapMemoryUsed = new AtomicLong();
+    private final Queue<ByteBuffer> offHeapBuffers = new ConcurrentLinkedQueue<>();
     private String spoolChiper;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
@@ -101,6 +108,51 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.spoolUsedHeapMemoryLimit = spoolUsedHeapMemoryLimit;
     }
 
+    public long getOffHeapMemoryLimit() {
+        return offHeapMemoryLimit;
+    }
+
+    public void setOffHeapMemoryLimit(long offHeapMemoryLimit) {
+        this.offHeapMemoryLimit = offHeapMemoryLimit;
+    }
+
+    public long getOffHeapMemoryUsed() {
+        return offHeapMemoryUsed.get();
+    }
+
+    public ByteBuffer acquireOffHeapBuffer() {
+        if (offHeapMemoryLimit <= 0) {
+            return null;
+        }
+
+        // reserve the memory before taking a buffer, so the limit is never exceeded
+        int size = bufferSize;
+        long used;
+        do {
+            used = offHeapMemoryUsed.get();
+            if (used + size > offHeapMemoryLimit) {
+                log.trace("Off-heap memory limit {} reached with {} bytes in use", offHeapMemoryLimit, used);
+                return null;
+            }
+        } while (!offHeapMemoryUsed.compareAndSet(used, used + size));
+
+        ByteBuffer buffer = offHeapBuffers.poll();
+        if (buffer == null || buffer.capacity() != size) {
+            // the pool is empty (or the buffer size has been changed)
+            buffer = ByteBuffer.allocateDirect(size);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    public void releaseOffHeapBuffer(ByteBuffer buffer) {
+        offHeapMemoryUsed.addAndGet(-buffer.capacity());
+        if (buffer.capacity() == bufferSize) {
+            buffer.clear();
+            offHeapBuffers.offer(buffer);
+        }
+    }
+
     public void setSpoolThreshold(long spoolThreshold) {
         this.spoolThreshold = spoolThreshold;
     }
@@ -228,7 +280,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         // if we can overflow to disk then make sure directory exists / is created
-        if (spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0) {
+        if (spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0 || offHeapMemoryLimit > 0) {
 
             if (spoolDirectory == null && spoolDirectoryName == null) {
                 throw new IllegalArgumentException("SpoolDirectory must be configured when using SpoolThreshold > 0");
@@ -272,6 +324,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (offHeapMemoryLimit > 0) {
+            log.info("StreamCaching using off-heap memory with limit: {} bytes", offHeapMemoryLimit);
+        }
+
         log.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -283,6 +339,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     @Override
     protected void doStop() throws Exception {
+        // the buffers in use are released when their exchanges are done and are then returned to the pool
+        offHeapBuffers.clear();
+
         if (spoolThreshold > 0 & spoolDirectory != null  && isRemoveSpoolDirectoryWhenStopping()) {
             log.debug("Removing spool directory: {}", spoolDirectory);
             FileUtil.removeDir(spoolDirectory);
@@ -302,6 +361,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             + ", spoolChiper=" + spoolChiper
             + ", spoolThreshold=" + spoolThreshold
             + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
+            + ", offHeapMemoryLimit=" + offHeapMemoryLimit
             + ", bufferSize=" + bufferSize
             + ", anySpoolRules=" + anySpoolRules + "]";
     }
@@ -53,6 +53,18 @@ import org.slf4j.LoggerFactory;
  */
 public class DefaultUnitOfWork implements UnitOfWork, Service {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultUnitOfWork.class);
+    // whether the unit of work class overrides the before or after process methods, and therefore needs after process
+    private static final ClassValue<Boolean> AFTER_PROCESS_REQUIRED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("beforeProcess", Processor.class, Exchange.class, AsyncCallback.class).getDeclaringClass() != DefaultUnitOfWork.class
+                    || type.getMethod("afterProcess", Processor.class, Exchange.class, AsyncCallback.class, boolean.class).getDeclaringClass() != DefaultUnitOfWork.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
 
     // TODO: This implementation seems to have transformed itself into a to broad concern
     // where unit of work is doing a bit more work than the transactional aspect that ties
@@ -328,6 +340,12 @@ public class DefaultUnitOfWork implements UnitOfWork, Service {
     public void afterProcess(Processor processor, Exchange exchange, AsyncCallback callback, boolean doneSync) {
     }
 
+    @Override
+    public boolean isAfterProcessRequired() {
+        // no after process work needed, unless a subclass has overridden the before or after process methods
+        return AFTER_PROCESS_REQUIRED.get(getClass());
+    }
+
     @Override
     public void beginSubUnitOfWork(Exchange exchange) {
         if (log.isTraceEnabled()) {
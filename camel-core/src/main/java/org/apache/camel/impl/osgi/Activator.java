@@ -79,6 +79,7 @@ public class Activator implements BundleActivator, BundleTrackerCustomizer {
     public static final String META_INF_LANGUAGE_RESOLVER = "META-INF/services/org/apache/camel/language/resolver/";
     public static final String META_INF_DATAFORMAT = "META-INF/services/org/apache/camel/dataformat/";
     public static final String META_INF_TYPE_CONVERTER = "META-INF/services/org/apache/camel/TypeConverter";
+    public static final String META_INF_TYPE_CONVERTER_LOADER = "META-INF/services/org/apache/camel/TypeConverterLoader";
     public static final String META_INF_FALLBACK_TYPE_CONVERTER = "META-INF/services/org/apache/camel/FallbackTypeConverter";
     public static final String EXTENDER_NAMESPACE = "osgi.extender";
     public static final String CAMEL_EXTENDER = "org.apache.camel";
@@ -231,7 +232,8 @@ public class Activator implements BundleActivator, BundleTrackerCustomizer {
         if (canSee(bundle, TypeConverter.class)) {
             URL url1 = bundle.getEntry(META_INF_TYPE_CONVERTER);
             URL url2 = bundle.getEntry(META_INF_FALLBACK_TYPE_CONVERTER);
-            if (url1 != null || url2 != null) {
+            URL url3 = bundle.getEntry(META_INF_TYPE_CONVERTER_LOADER);
+            if (url1 != null || url2 != null || url3 != null) {
                 LOG.debug("Found TypeConverter in bundle {}", bundle.getSymbolicName());
                 resolvers.add(new BundleTypeConverterLoader(bundle, url2 != null));
             }
@@ -419,6 +421,26 @@ public class Activator implements BundleActivator, BundleTrackerCustomizer {
                 Set<Class<?>> classes = new LinkedHashSet<>();
                 Set<String> packages = getConverterPackages(bundle.getEntry(META_INF_TYPE_CONVERTER));
 
+                // load the generated type converter loaders first, and skip the @Converter classes they have loaded
+                for (String name : getConverterPackages(bundle.getEntry(META_INF_TYPE_CONVERTER_LOADER))) {
+                    LOG.trace("Loading {} type converter loader", name);
+                    try {
+                        Class<?> clazz = bundle.loadClass(name);
+                        TypeConverterLoader loader = (TypeConverterLoader) clazz.newInstance();
+                        loader.load(registry);
+                        if (name.endsWith("Loader")) {
+                            packages.remove(name.substring(0, name.length() - "Loader".length()));
+                        }
+                    } catch (TypeConverterLoaderException e) {
+                        throw e;
+                    } catch (Throwable t) {
+                        LOG.warn("Ignoring type converter loader: " + name + " due " + t.getMessage(), t);
+                        if (name.endsWith("Loader")) {
+                            failedLoaderClassNames.add(name.substring(0, name.length() - "Loader".length()));
+                        }
+                    }
+                }
+
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Found {} {} packages: {}", packages.size(), META_INF_TYPE_CONVERTER, packages);
                 }
@@ -475,8 +497,9 @@ public class Activator implements BundleActivator, BundleTrackerCustomizer {
                     if (LOG.isTraceEnabled()) {
                         LOG.trace("Loading converter class: {}", ObjectHelper.name(type));
                     }
-                    loadConverterMethods(registry, type);
+                    loadConverterMethods(registry, type, failedLoaderClassNames.contains(type.getName()));
                 }
+                failedLoaderClassNames.clear();
 
                 // register fallback converters
                 URL fallbackUrl = bundle.getEntry(META_INF_FALLBACK_TYPE_CONVERTER);
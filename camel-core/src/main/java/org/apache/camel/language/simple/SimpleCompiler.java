@@ -0,0 +1,441 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.builder.BinaryPredicateSupport;
+import org.apache.camel.builder.ExpressionBuilder;
+import org.apache.camel.builder.PredicateBuilder;
+import org.apache.camel.builder.ValueBuilder;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.CompositeNodes;
+import org.apache.camel.language.simple.ast.DoubleQuoteStart;
+import org.apache.camel.language.simple.ast.LiteralExpression;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.ast.SingleQuoteStart;
+import org.apache.camel.language.simple.types.BinaryOperatorType;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.apache.camel.support.ObjectHelper;
+
+/**
+ * Compiles the AST of a parsed simple expression or predicate into a tree of {@link Predicate}s
+ * and {@link Expression}s which is optimized for being evaluated over and over again.
+ * <p/>
+ * The compiled tree evaluates to the same result as the regular simple language, however:
+ * <ul>
+ *   <li>logical operators are short circuit predicates which do not create any objects per evaluation</li>
+ *   <li>binary operators are predicates, which avoids converting the result to and from a boolean value</li>
+ *   <li>constant values on the right hand side of binary operators are only resolved once, such as numbers to
+ *   compare with, the regular expression of the regex operator, the values of the in operator, and the
+ *   range of the range operator</li>
+ *   <li>template text is concatenated as is without being evaluated as constant expressions</li>
+ * </ul>
+ * Nodes which cannot be compiled are evaluated the same way as the regular simple language.
+ */
+public final class SimpleCompiler {
+
+    // this is special for the range operator where you define the range as from..to (where from and to are numbers)
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^(\\d+)(\\.\\.)(\\d+)$");
+
+    private SimpleCompiler() {
+    }
+
+    /**
+     * Compiles the node as a {@link Predicate}
+     *
+     * @param node       the node
+     * @param expression the input string
+     * @return the compiled predicate, or <tt>null</tt> if the node does not create an expression
+     */
+    public static Predicate compilePredicate(SimpleNode node, String expression) {
+        Predicate answer = null;
+        if (node instanceof LogicalExpression) {
+            answer = compileLogical((LogicalExpression) node, expression);
+        } else if (node instanceof BinaryExpression) {
+            answer = compileBinary((BinaryExpression) node, expression);
+        }
+        if (answer == null) {
+            // fallback and evaluate the node as a regular expression
+            Expression exp = node.createExpression(expression);
+            if (exp != null) {
+                answer = ExpressionToPredicateAdapter.toPredicate(exp);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Compiles the nodes as an {@link Expression} which is the concatenated value of the nodes
+     *
+     * @param nodes      the nodes
+     * @param expression the input string
+     * @return the compiled expression
+     */
+    public static Expression compileExpression(List<SimpleNode> nodes, String expression) {
+        List<Object> parts = new ArrayList<>(nodes.size());
+        for (SimpleNode node : nodes) {
+            // a simple function is also a literal so check the type exactly
+            if (node.getClass() == LiteralExpression.class) {
+                String text = ((LiteralExpression) node).getText();
+                // merge with previous text
+                int last = parts.size() - 1;
+                if (last >= 0 && parts.get(last) instanceof String) {
+                    parts.set(last, parts.get(last) + text);
+                } else {
+                    parts.add(text);
+                }
+            } else {
+                Expression exp = node.createExpression(expression);
+                if (exp != null) {
+                    parts.add(exp);
+                }
+            }
+        }
+
+        if (parts.isEmpty()) {
+            // return an empty string as response as there was nothing to parse
+            return ExpressionBuilder.constantExpression("");
+        } else if (parts.size() == 1) {
+            Object part = parts.get(0);
+            return part instanceof String ? ExpressionBuilder.constantExpression(part) : (Expression) part;
+        } else {
+            return new ConcatExpression(parts.toArray(), expression);
+        }
+    }
+
+    private static Predicate compileLogical(LogicalExpression logical, String expression) {
+        if (logical.getLeft() == null || logical.getRight() == null) {
+            return null;
+        }
+        final Predicate left = compilePredicate(logical.getLeft(), expression);
+        final Predicate right = compilePredicate(logical.getRight(), expression);
+        if (left == null || right == null) {
+            return null;
+        }
+
+        final String text = logical.toString();
+        if (logical.getOperator() == LogicalOperatorType.AND) {
+            return new Predicate() {
+                public boolean matches(Exchange exchange) {
+                    return left.matches(exchange) && right.matches(exchange);
+                }
+
+                @Override
+                public String toString() {
+                    return text;
+                }
+            };
+        } else if (logical.getOperator() == LogicalOperatorType.OR) {
+            return new Predicate() {
+                public boolean matches(Exchange exchange) {
+                    return left.matches(exchange) || right.matches(exchange);
+                }
+
+                @Override
+                public String toString() {
+                    return text;
+                }
+            };
+        }
+        return null;
+    }
+
+    private static Predicate compileBinary(final BinaryExpression binary, final String expression) {
+        if (binary.getLeft() == null || binary.getRight() == null) {
+            return null;
+        }
+        final Expression left = binary.getLeft().createExpression(expression);
+        final Expression right = binary.getRight().createExpression(expression);
+        final boolean constant = isConstant(binary.getRight());
+        final BinaryOperatorType operator = binary.getOperator();
+
+        switch (operator) {
+        case EQ:
+            return PredicateBuilder.isEqualTo(left, right);
+        case EQ_IGNORE:
+            return PredicateBuilder.isEqualToIgnoreCase(left, right);
+        case NOT_EQ:
+            return PredicateBuilder.isNotEqualTo(left, right);
+        case GT:
+            return constant ? new ConstantComparePredicate(left, right, operator) : PredicateBuilder.isGreaterThan(left, right);
+        case GTE:
+            return constant ? new ConstantComparePredicate(left, right, operator) : PredicateBuilder.isGreaterThanOrEqualTo(left, right);
+        case LT:
+            return constant ? new ConstantComparePredicate(left, right, operator) : PredicateBuilder.isLessThan(left, right);
+        case LTE:
+            return constant ? new ConstantComparePredicate(left, right, operator) : PredicateBuilder.isLessThanOrEqualTo(left, right);
+        case CONTAINS:
+            return PredicateBuilder.contains(left, right);
+        case NOT_CONTAINS:
+            return PredicateBuilder.not(PredicateBuilder.contains(left, right));
+        case CONTAINS_IGNORECASE:
+            return PredicateBuilder.containsIgnoreCase(left, right);
+        case STARTS_WITH:
+            return PredicateBuilder.startsWith(left, right);
+        case ENDS_WITH:
+            return PredicateBuilder.endsWith(left, right);
+        case REGEX:
+        case NOT_REGEX:
+            if (constant) {
+                return new ConstantOperandPredicate(binary) {
+                    @Override
+                    protected Predicate createPredicate(Exchange exchange) {
+                        // reg ex should use String pattern, so we evaluate the right hand side as a String
+                        Predicate predicate = PredicateBuilder.regex(left, right.evaluate(exchange, String.class));
+                        return operator == BinaryOperatorType.NOT_REGEX ? PredicateBuilder.not(predicate) : predicate;
+                    }
+                };
+            }
+            return null;
+        case IN:
+        case NOT_IN:
+            if (constant) {
+                return new ConstantOperandPredicate(binary) {
+                    @Override
+                    protected Predicate createPredicate(Exchange exchange) {
+                        Iterator<?> it = ObjectHelper.createIterator(right.evaluate(exchange, Object.class));
+                        List<Object> values = new ArrayList<>();
+                        while (it.hasNext()) {
+                            values.add(it.next());
+                        }
+                        Predicate predicate = new ValueBuilder(left).in(values.toArray());
+                        return operator == BinaryOperatorType.NOT_IN ? PredicateBuilder.not(predicate) : predicate;
+                    }
+                };
+            }
+            return null;
+        case RANGE:
+        case NOT_RANGE:
+            if (constant) {
+                return new ConstantOperandPredicate(binary) {
+                    @Override
+                    protected Predicate createPredicate(Exchange exchange) {
+                        String range = right.evaluate(exchange, String.class);
+                        Matcher matcher = RANGE_PATTERN.matcher(range);
+                        if (!matcher.matches()) {
+                            throw new SimpleIllegalSyntaxException(expression, binary.getRight().getToken().getIndex(),
+                                    operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
+                        }
+                        Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
+                        Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
+                        Predicate predicate = PredicateBuilder.and(new ConstantComparePredicate(left, from, BinaryOperatorType.GTE),
+                                new ConstantComparePredicate(left, to, BinaryOperatorType.LTE));
+                        return operator == BinaryOperatorType.NOT_RANGE ? PredicateBuilder.not(predicate) : predicate;
+                    }
+                };
+            }
+            return null;
+        default:
+            // the is operator resolves classes which should be done on evaluation
+            return null;
+        }
+    }
+
+    /**
+     * Whether the node is a literal (or a quoted literal) which evaluates to the same value every time.
+     */
+    private static boolean isConstant(SimpleNode node) {
+        // a simple function is also a literal so check the type exactly
+        if (node.getClass() == LiteralExpression.class) {
+            return true;
+        }
+        CompositeNodes block = null;
+        if (node instanceof SingleQuoteStart) {
+            block = ((SingleQuoteStart) node).getBlock();
+        } else if (node instanceof DoubleQuoteStart) {
+            block = ((DoubleQuoteStart) node).getBlock();
+        }
+        if (block == null) {
+            return false;
+        }
+        for (SimpleNode child : block.getChildren()) {
+            if (child.getClass() != LiteralExpression.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A predicate which depends on a constant value from the right hand side of a binary operator,
+     * which is created once on first evaluation, and then reused.
+     */
+    private abstract static class ConstantOperandPredicate implements Predicate {
+
+        private final BinaryExpression binary;
+        private volatile Predicate predicate;
+
+        ConstantOperandPredicate(BinaryExpression binary) {
+            this.binary = binary;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Predicate answer = predicate;
+            if (answer == null) {
+                answer = createPredicate(exchange);
+                predicate = answer;
+            }
+            return answer.matches(exchange);
+        }
+
+        protected abstract Predicate createPredicate(Exchange exchange);
+
+        @Override
+        public String toString() {
+            return binary.toString();
+        }
+    }
+
+    /**
+     * Compares against a constant value, where the numeric value of the constant is only resolved once.
+     */
+    private static final class ConstantComparePredicate extends BinaryPredicateSupport {
+
+        private final BinaryOperatorType operator;
+        private volatile boolean resolved;
+        private Object rightValue;
+        private Long rightLong;
+        private Double rightDouble;
+
+        ConstantComparePredicate(Expression left, Expression right, BinaryOperatorType operator) {
+            super(left, right);
+            this.operator = operator;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object leftValue = getLeft().evaluate(exchange, Object.class);
+            return matches(exchange, leftValue, null);
+        }
+
+        @Override
+        protected boolean matches(Exchange exchange, Object leftValue, Object ignore) {
+            // the constant is never null, so its not equal if the left value is null
+            if (leftValue == null) {
+                return false;
+            }
+
+            TypeConverter converter = exchange.getContext().getTypeConverter();
+            if (!resolved) {
+                rightValue = getRight().evaluate(exchange, Object.class);
+                rightLong = converter.tryConvertTo(Long.class, rightValue);
+                rightDouble = converter.tryConvertTo(Double.class, rightValue);
+                resolved = true;
+            }
+
+            // same logic as ObjectHelper.typeCoerceCompare but with the right value already converted
+            if (rightLong != null) {
+                Long leftLong = converter.tryConvertTo(Long.class, leftValue);
+                if (leftLong != null) {
+                    return test(leftLong.compareTo(rightLong));
+                }
+            }
+            if (rightDouble != null) {
+                Double leftDouble = converter.tryConvertTo(Double.class, leftValue);
+                if (leftDouble != null) {
+                    return test(leftDouble.compareTo(rightDouble));
+                }
+            }
+            return test(ObjectHelper.typeCoerceCompare(converter, leftValue, rightValue));
+        }
+
+        private boolean test(int compare) {
+            switch (operator) {
+            case GT:
+                return compare > 0;
+            case GTE:
+                return compare >= 0;
+            case LT:
+                return compare < 0;
+            default:
+                return compare <= 0;
+            }
+        }
+
+        @Override
+        protected String getOperationText() {
+            switch (operator) {
+            case GT:
+                return ">";
+            case GTE:
+                return ">=";
+            case LT:
+                return "<";
+            default:
+                return "<=";
+            }
+        }
+    }
+
+    /**
+     * Concatenates template text and the values of expressions.
+     */
+    private static final class ConcatExpression extends ExpressionAdapter {
+
+        private final Object[] parts;
+        private final String expression;
+        private final int length;
+
+        ConcatExpression(Object[] parts, String expression) {
+            this.parts = parts;
+            this.expression = expression;
+            int len = 0;
+            for (Object part : parts) {
+                if (part instanceof String) {
+                    len += ((String) part).length();
+                }
+            }
+            this.length = len;
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            StringBuilder buffer = new StringBuilder(length + 16);
+            for (Object part : parts) {
+                if (part instanceof String) {
+                    buffer.append((String) part);
+                } else {
+                    String text = ((Expression) part).evaluate(exchange, String.class);
+                    if (text != null) {
+                        buffer.append(text);
+                    }
+                }
+            }
+            return buffer.toString();
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+    }
+
+}
@@ -41,10 +41,25 @@ public class SimpleExpressionParser extends BaseSimpleParser {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
+    private final boolean compiled;
 
     public SimpleExpressionParser(String expression, boolean allowEscape,
                                   Map<String, Expression> cacheExpression) {
+        this(expression, allowEscape, false, cacheExpression);
+    }
+
+    /**
+     * Creates the parser.
+     *
+     * @param expression      the input string
+     * @param allowEscape     whether to allow escape characters
+     * @param compiled        whether to compile the parsed expression using {@link SimpleCompiler}
+     * @param cacheExpression cache of parsed functions (optional)
+     */
+    public SimpleExpressionParser(String expression, boolean allowEscape, boolean compiled,
+                                  Map<String, Expression> cacheExpression) {
         super(expression, allowEscape);
+        this.compiled = compiled;
         this.cacheExpression = cacheExpression;
     }
 
@@ -83,6 +98,10 @@ public class SimpleExpressionParser extends BaseSimpleParser {
         // compact and stack unary operators
         prepareUnaryExpressions();
 
+        if (compiled) {
+            return SimpleCompiler.compileExpression(nodes, expression);
+        }
+
         // create and return as a Camel expression
         List<Expression> expressions = createExpressions();
         if (expressions.isEmpty()) {
@@ -100,16 +100,25 @@ import org.slf4j.LoggerFactory;
 @Language("simple")
 public class SimpleLanguage extends LanguageSupport implements StaticService {
 
+    /**
+     * Global option on the {@link org.apache.camel.CamelContext} to enable compiled predicates/expressions.
+     */
+    public static final String SIMPLE_COMPILED = "CamelSimpleCompiled";
+
     private static final Logger LOG = LoggerFactory.getLogger(SimpleLanguage.class);
 
     // singleton for expressions without a result type
     private static final SimpleLanguage SIMPLE = new SimpleLanguage();
 
     boolean allowEscape = true;
+    boolean compiled;
 
-    // use caches to avoid re-parsing the same expressions over and over again
+    // use caches to avoid re-parsing the same expressions over and over again,
+    // which are separate for compiled mode as it creates different predicates/expressions
     private Map<String, Expression> cacheExpression;
     private Map<String, Predicate> cachePredicate;
+    private Map<String, Expression> cacheCompiledExpression;
+    private Map<String, Predicate> cacheCompiledPredicate;
 
     /**
      * Default constructor.
@@ -126,44 +135,54 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             if (maxSize > 0) {
                 cacheExpression = LRUCacheFactory.newLRUCache(16, maxSize, false);
                 cachePredicate = LRUCacheFactory.newLRUCache(16, maxSize, false);
+                cacheCompiledExpression = LRUCacheFactory.newLRUCache(16, maxSize, false);
+                cacheCompiledPredicate = LRUCacheFactory.newLRUCache(16, maxSize, false);
                 LOG.debug("Simple language predicate/expression cache size: {}", maxSize);
             } else {
                 LOG.debug("Simple language disabled predicate/expression cache");
             }
         }
+        if (!compiled && getCamelContext() != null) {
+            String s = getCamelContext().getGlobalOption(SIMPLE_COMPILED);
+            compiled = "true".equalsIgnoreCase(s);
+            if (compiled) {
+                LOG.debug("Simple language compiled predicates/expressions is enabled");
+            }
+        }
     }
 
     @Override
     public void stop() throws Exception {
-        if (cachePredicate instanceof LRUCache) {
-            if (LOG.isDebugEnabled()) {
-                LRUCache cache = (LRUCache) cachePredicate;
-                LOG.debug("Clearing simple language predicate cache[size={}, hits={}, misses={}, evicted={}]",
-                        cache.size(), cache.getHits(), cache.getMisses(), cache.getEvicted());
-            }
-        }
-        if (cacheExpression instanceof LRUCache) {
-            if (LOG.isDebugEnabled()) {
-                LRUCache cache = (LRUCache) cacheExpression;
-                LOG.debug("Clearing simple language expression cache[size={}, hits={}, misses={}, evicted={}]",
-                        cache.size(), cache.getHits(), cache.getMisses(), cache.getEvicted());
-            }
+        logCache("predicate", cachePredicate);
+        logCache("expression", cacheExpression);
+        logCache("compiled predicate", cacheCompiledPredicate);
+        logCache("compiled expression", cacheCompiledExpression);
+    }
+
+    private static void logCache(String name, Map<String, ?> cache) {
+        if (cache instanceof LRUCache && LOG.isDebugEnabled()) {
+            LRUCache lru = (LRUCache) cache;
+            LOG.debug("Clearing simple language {} cache[size={}, hits={}, misses={}, evicted={}]",
+                    name, lru.size(), lru.getHits(), lru.getMisses(), lru.getEvicted());
         }
     }
 
     public Predicate createPredicate(String expression) {
         ObjectHelper.notNull(expression, "expression");
 
-        Predicate answer = cachePredicate != null ? cachePredicate.get(expression) : null;
+        boolean compiled = this.compiled;
+        Map<String, Predicate> predicates = compiled ? cacheCompiledPredicate : cachePredicate;
+        Predicate answer = predicates != null ? predicates.get(expression) : null;
         if (answer == null) {
 
             expression = loadResource(expression);
 
-            SimplePredicateParser parser = new SimplePredicateParser(expression, allowEscape, cacheExpression);
+            SimplePredicateParser parser = new SimplePredicateParser(expression, allowEscape, compiled,
+                    compiled ? cacheCompiledExpression : cacheExpression);
             answer = parser.parsePredicate();
 
-            if (cachePredicate != null && answer != null) {
-                cachePredicate.put(expression, answer);
+            if (predicates != null && answer != null) {
+                predicates.put(expression, answer);
             }
         }
 
@@ -173,22 +192,40 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public Expression createExpression(String expression) {
         ObjectHelper.notNull(expression, "expression");
 
-        Expression answer = cacheExpression != null ? cacheExpression.get(expression) : null;
+        boolean compiled = this.compiled;
+        Map<String, Expression> expressions = compiled ? cacheCompiledExpression : cacheExpression;
+        Expression answer = expressions != null ? expressions.get(expression) : null;
         if (answer == null) {
 
             expression = loadResource(expression);
 
-            SimpleExpressionParser parser = new SimpleExpressionParser(expression, allowEscape, cacheExpression);
+            SimpleExpressionParser parser = new SimpleExpressionParser(expression, allowEscape, compiled, expressions);
             answer = parser.parseExpression();
 
-            if (cacheExpression != null && answer != null) {
-                cacheExpression.put(expression, answer);
+            if (expressions != null && answer != null) {
+                expressions.put(expression, answer);
             }
         }
 
         return answer;
     }
 
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Whether to compile the parsed predicates and expressions into a tree which is optimized for
+     * repeated evaluation, where constant values are resolved only once.
+     * <p/>
+     * This can also be enabled using the global option {@link #SIMPLE_COMPILED} on the {@link org.apache.camel.CamelContext}.
+     * <p/>
+     * Is by default <tt>false</tt>.
+     */
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     /**
      * Creates a new {@link Expression}.
      * <p/>
@@ -56,9 +56,23 @@ public class SimplePredicateParser extends BaseSimpleParser {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
+    private final boolean compiled;
 
     public SimplePredicateParser(String expression, boolean allowEscape, Map<String, Expression> cacheExpression) {
+        this(expression, allowEscape, false, cacheExpression);
+    }
+
+    /**
+     * Creates the parser.
+     *
+     * @param expression      the input string
+     * @param allowEscape     whether to allow escape characters
+     * @param compiled        whether to compile the parsed predicate using {@link SimpleCompiler}
+     * @param cacheExpression cache of parsed functions (optional)
+     */
+    public SimplePredicateParser(String expression, boolean allowEscape, boolean compiled, Map<String, Expression> cacheExpression) {
         super(expression, allowEscape);
+        this.compiled = compiled;
         this.cacheExpression = cacheExpression;
     }
 
@@ -441,9 +455,16 @@ public class SimplePredicateParser extends BaseSimpleParser {
     private List<Predicate> createPredicates() {
         List<Predicate> answer = new ArrayList<>();
         for (SimpleNode node : nodes) {
-            Expression exp = node.createExpression(expression);
-            if (exp != null) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(exp);
+            Predicate predicate = null;
+            if (compiled) {
+                predicate = SimpleCompiler.compilePredicate(node, expression);
+            } else {
+                Expression exp = node.createExpression(expression);
+                if (exp != null) {
+                    predicate = ExpressionToPredicateAdapter.toPredicate(exp);
+                }
+            }
+            if (predicate != null) {
                 answer.add(predicate);
             }
         }
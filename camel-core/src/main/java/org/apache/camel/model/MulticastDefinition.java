@@ -67,6 +67,8 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition> i
     private Boolean parallelAggregate;
     @XmlAttribute
     private Boolean stopOnAggregateException;
+    @XmlAttribute
+    private Integer maxInflight;
 
     public MulticastDefinition() {
     }
@@ -304,6 +306,21 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition> i
         return this;
     }
 
+    /**
+     * Sets the maximum number of multicasted messages which can be processed concurrently when parallelProcessing is enabled.
+     * When the limit is reached the multicast does not send the next message until a message has been completed and aggregated.
+     * This keeps the memory usage bounded when multicasting to many destinations in streaming mode.
+     * <p/>
+     * Is by default 0 which means no limit.
+     *
+     * @param maxInflight the maximum number of in-flight messages
+     * @return the builder
+     */
+    public MulticastDefinition maxInflight(int maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     public AggregationStrategy getAggregationStrategy() {
         return aggregationStrategy;
     }
@@ -440,4 +457,12 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition> i
         this.stopOnAggregateException = stopOnAggregateException;
     }
 
+    public Integer getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(Integer maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
 }
@@ -67,6 +67,8 @@ public class SplitDefinition extends ExpressionNode implements ExecutorServiceAw
     private Boolean parallelAggregate;
     @XmlAttribute
     private Boolean stopOnAggregateException;
+    @XmlAttribute
+    private Integer maxInflight;
 
     public SplitDefinition() {
     }
@@ -299,6 +301,22 @@ public class SplitDefinition extends ExpressionNode implements ExecutorServiceAw
         return this;
     }
 
+    /**
+     * Sets the maximum number of splitted messages which can be processed concurrently when parallelProcessing is enabled.
+     * When the limit is reached the splitter does not split the next message until a message has been completed and aggregated.
+     * This keeps the memory usage bounded, for example when splitting big files in streaming mode and the
+     * downstream processing is slower than the splitting.
+     * <p/>
+     * Is by default 0 which means no limit.
+     *
+     * @param maxInflight the maximum number of in-flight messages
+     * @return the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     // Properties
     //-------------------------------------------------------------------------
 
@@ -450,4 +468,12 @@ public class SplitDefinition extends ExpressionNode implements ExecutorServiceAw
         this.shareUnitOfWork = shareUnitOfWork;
     }
 
+    public Integer getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(Integer maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
 }
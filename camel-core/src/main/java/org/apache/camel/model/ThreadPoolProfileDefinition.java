@@ -53,6 +53,8 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
     private String allowCoreThreadTimeOut;
     @XmlAttribute
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    @XmlAttribute
+    private String virtualThreads;
 
     public ThreadPoolProfileDefinition() {
     }
@@ -118,6 +120,11 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         return this;
     }
 
+    public ThreadPoolProfileDefinition virtualThreads(boolean virtualThreads) {
+        setVirtualThreads("" + virtualThreads);
+        return this;
+    }
+
     public Boolean getDefaultProfile() {
         return defaultProfile;
     }
@@ -192,6 +199,24 @@ public class ThreadPoolProfileDefinition extends OptionalIdentifiedDefinition<Th
         this.allowCoreThreadTimeOut = allowCoreThreadTimeOut;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Whether to use virtual threads for the thread pool. This requires a JVM which supports virtual threads,
+     * otherwise regular threads are used.
+     * <p/>
+     * When using virtual threads then a new thread is started for each task, and the max pool size plus the max queue size
+     * limits how many tasks can be executed concurrently by each thread pool created from the profile
+     * (unlimited if the max queue size is -1).
+     * <p/>
+     * Is by default <tt>false</tt>
+     */
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public TimeUnit getTimeUnit() {
         return timeUnit;
     }
@@ -61,6 +61,8 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition> imp
     private ThreadPoolRejectedPolicy rejectedPolicy;
     @XmlAttribute @Metadata(defaultValue = "true")
     private Boolean callerRunsWhenRejected;
+    @XmlAttribute
+    private Boolean virtualThreads;
     
     public ThreadsDefinition() {
         this.threadName =  "Threads";
@@ -204,6 +206,24 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition> imp
         return this;
     }
 
+    /**
+     * Whether to use virtual threads for the thread pool. This requires a JVM which supports virtual threads,
+     * otherwise regular threads are used.
+     * <p/>
+     * When using virtual threads then a new thread is started for each exchange, and the max pool size plus
+     * the max queue size limits how many exchanges can be processed concurrently by the thread pool
+     * (unlimited if the max queue size is -1).
+     * <p/>
+     * Is by default <tt>false</tt>
+     *
+     * @param virtualThreads <tt>true</tt> to use virtual threads
+     * @return the builder
+     */
+    public ThreadsDefinition virtualThreads(boolean virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     public ExecutorService getExecutorService() {
         return executorService;
     }
@@ -291,4 +311,12 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition> imp
     public void setAllowCoreThreadTimeOut(Boolean allowCoreThreadTimeOut) {
         this.allowCoreThreadTimeOut = allowCoreThreadTimeOut;
     }
+
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
 }
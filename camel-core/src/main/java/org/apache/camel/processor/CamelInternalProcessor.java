@@ -83,6 +83,7 @@ import org.slf4j.LoggerFactory;
 public class CamelInternalProcessor extends DelegateAsyncProcessor {
 
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
+    private boolean statefulAdvices;
 
     public CamelInternalProcessor() {
     }
@@ -100,6 +101,8 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         advices.add(advice);
         // ensure advices are sorted so they are in the order we want
         advices.sort(OrderedComparator.get());
+        // only keep the states during routing if any of the advices has state
+        statefulAdvices |= advice.hasState();
     }
 
     /**
@@ -140,14 +143,16 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             return true;
         }
 
-        // optimise to use object array for states
-        final Object[] states = new Object[advices.size()];
+        // optimise to use object array for states, which is only needed if any of the advices has state
+        final Object[] states = statefulAdvices ? new Object[advices.size()] : null;
         // optimise for loop using index access to avoid creating iterator object
         for (int i = 0; i < advices.size(); i++) {
             CamelInternalProcessorAdvice task = advices.get(i);
             try {
                 Object state = task.before(exchange);
-                states[i] = state;
+                if (states != null) {
+                    states[i] = state;
+                }
             } catch (Throwable e) {
                 exchange.setException(e);
                 ocallback.done(true);
@@ -156,29 +161,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         }
 
         // create internal callback which will execute the advices in reverse order when done
-        AsyncCallback callback = doneSync -> {
-            try {
-                for (int i = advices.size() - 1; i >= 0; i--) {
-                    CamelInternalProcessorAdvice task = advices.get(i);
-                    Object state = states[i];
-                    try {
-                        task.after(exchange, state);
-                    } catch (Throwable e) {
-                        exchange.setException(e);
-                        // allow all advices to complete even if there was an exception
-                    }
-                }
-            } finally {
-                // ----------------------------------------------------------
-                // CAMEL END USER - DEBUG ME HERE +++ START +++
-                // ----------------------------------------------------------
-                // callback must be called
-                ReactiveHelper.callback(ocallback);
-                // ----------------------------------------------------------
-                // CAMEL END USER - DEBUG ME HERE +++ END +++
-                // ----------------------------------------------------------
-            }
-        };
+        AsyncCallback callback = new InternalCallback(states, exchange, ocallback);
 
         if (exchange.isTransacted()) {
             // must be synchronized for transacted exchanges
@@ -223,21 +206,74 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             // CAMEL END USER - DEBUG ME HERE +++ END +++
             // ----------------------------------------------------------
 
-            ReactiveHelper.schedule(() -> {
-                // execute any after processor work (in current thread, not in the callback)
-                if (uow != null) {
-                    uow.afterProcess(processor, exchange, callback, false);
-                }
+            // execute any after processor work (in current thread, not in the callback)
+            // only schedule the work if the unit of work needs it, to avoid the overhead for every exchange
+            if (uow != null && uow.isAfterProcessRequired()) {
+                ReactiveHelper.schedule(() -> uow.afterProcess(processor, exchange, callback, false),
+                        "CamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId());
+            }
 
-                if (log.isTraceEnabled()) {
-                    log.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
-                             exchange.getExchangeId(), exchange);
-                }
-            }, "CamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId());
+            if (log.isTraceEnabled()) {
+                log.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
+                         exchange.getExchangeId(), exchange);
+            }
             return false;
         }
     }
 
+    /**
+     * Internal callback that executes the after advices, and then schedules the original callback
+     * (which is done by running this callback from the reactive queue).
+     */
+    private final class InternalCallback implements AsyncCallback, Runnable {
+
+        private final Object[] states;
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        private InternalCallback(Object[] states, Exchange exchange, AsyncCallback callback) {
+            this.states = states;
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void done(boolean doneSync) {
+            try {
+                for (int i = advices.size() - 1; i >= 0; i--) {
+                    CamelInternalProcessorAdvice task = advices.get(i);
+                    Object state = states != null ? states[i] : null;
+                    try {
+                        task.after(exchange, state);
+                    } catch (Throwable e) {
+                        exchange.setException(e);
+                        // allow all advices to complete even if there was an exception
+                    }
+                }
+            } finally {
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ START +++
+                // ----------------------------------------------------------
+                // callback must be called
+                ReactiveHelper.schedule(this);
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ END +++
+                // ----------------------------------------------------------
+            }
+        }
+
+        @Override
+        public void run() {
+            callback.done(false);
+        }
+
+        @Override
+        public String toString() {
+            return "Callback[" + callback + "]";
+        }
+    }
+
     @Override
     public String toString() {
         return processor != null ? processor.toString() : super.toString();
@@ -298,6 +334,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
                 uow.afterRoute(exchange, route);
             }
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -323,6 +364,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object state) throws Exception {
             inflightRepository.remove(exchange, id);
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 
     /**
@@ -392,6 +438,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             }
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         private static boolean isCamelStopping(CamelContext context) {
             if (context instanceof StatefulService) {
                 StatefulService ss = (StatefulService) context;
@@ -447,6 +498,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             // noop
         }
 
+        @Override
+        public boolean hasState() {
+            return false;
+        }
+
         @Override
         public int getOrder() {
             // we want tracer just before calling the processor
@@ -736,5 +792,10 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public void after(Exchange exchange, Object data) throws Exception {
             // noop
         }
+
+        @Override
+        public boolean hasState() {
+            return false;
+        }
     }
 }
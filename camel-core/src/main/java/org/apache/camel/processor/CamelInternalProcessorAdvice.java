@@ -49,6 +49,17 @@ public interface CamelInternalProcessorAdvice<T> {
      */
     void after(Exchange exchange, T data) throws Exception;
 
+    /**
+     * Whether this advice has state which is returned from the {@link #before(org.apache.camel.Exchange)} method
+     * and provided to the {@link #after(org.apache.camel.Exchange, Object)} method.
+     * <p/>
+     * Advices which always return <tt>null</tt> from the {@link #before(org.apache.camel.Exchange)} method should return
+     * <tt>false</tt> which allows the routing engine to avoid keeping the state during routing.
+     */
+    default boolean hasState() {
+        return true;
+    }
+
     /**
      * Wrap an InstrumentationProcessor into a CamelInternalProcessorAdvice
      */
@@ -111,6 +111,11 @@ public class ContractAdvice implements CamelInternalProcessorAdvice {
             exchange.setException(e);
         }
     }
+
+    @Override
+    public boolean hasState() {
+        return false;
+    }
     
     private void doTransform(Message message, DataType from, DataType to) throws Exception {
         if (from == null) {
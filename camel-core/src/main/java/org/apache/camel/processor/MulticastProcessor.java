@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -149,6 +150,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
     private final long timeout;
     private final ConcurrentMap<PreparedErrorHandler, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int maxInflight;
 
     public MulticastProcessor(CamelContext camelContext, Collection<Processor> processors) {
         this(camelContext, processors, null);
@@ -257,6 +259,9 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean suspended = new AtomicBoolean();
+        final AggregationStrategy combiner;
+        final ConcurrentLinkedQueue<AtomicReference<Exchange>> partials;
 
         MulticastState(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback) {
             this.original = original;
@@ -266,6 +271,16 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             this.lock = new ReentrantLock();
             this.completion = new AsyncCompletionService<>(MulticastProcessor.this::schedule, !isStreaming(), lock);
             this.result = new AtomicReference<>();
+            // when the replies can be aggregated out-of-order then use partial aggregations
+            // which are combined at the end, if the aggregation strategy supports that
+            AggregationStrategy strategy = getAggregationStrategy(original);
+            if (isParallelProcessing() && isStreaming() && timeout <= 0 && strategy != null && strategy.canCombine()) {
+                this.combiner = strategy;
+                this.partials = new ConcurrentLinkedQueue<>();
+            } else {
+                this.combiner = null;
+                this.partials = null;
+            }
             if (timeout > 0) {
                 schedule(aggregateExecutorService, this::timeout, timeout, TimeUnit.MILLISECONDS);
             }
@@ -286,7 +301,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                 // of an item before queuing the run.
                 // or some iterators may return true for hasNext() but then null in next()
                 if (!iterator.hasNext()) {
-                    doDone(result.get(), true);
+                    doDone(currentResult(), true);
                     return;
                 }
 
@@ -294,7 +309,7 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                 boolean hasNext = iterator.hasNext();
                 // some iterators may return true for hasNext() but then null in next()
                 if (pair == null && !hasNext) {
-                    doDone(result.get(), true);
+                    doDone(currentResult(), true);
                     return;
                 }
 
@@ -305,7 +320,11 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                 // Schedule the processing of the next pair
                 if (hasNext) {
                     if (isParallelProcessing()) {
-                        schedule(this);
+                        if (maxInflight > 0) {
+                            scheduleWithinWindow();
+                        } else {
+                            schedule(this);
+                        }
                     }
                 } else {
                     allSent.set(true);
@@ -337,10 +356,14 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                             return;
                         }
 
-                        exchangeResult.accept(exchange);
+                        if (partials != null) {
+                            aggregatePartial(exchange);
+                        } else {
+                            exchangeResult.accept(exchange);
 
-                        // aggregate exchanges if any
-                        aggregate();
+                            // aggregate exchanges if any
+                            aggregate();
+                        }
 
                         // next step
                         if (hasNext && !isParallelProcessing()) {
@@ -363,6 +386,8 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
                         doAggregate(result, exchange);
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
+                        } else if (maxInflight > 0) {
+                            resume();
                         }
                     }
                 } catch (Throwable e) {
@@ -375,6 +400,83 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
             }
         }
 
+        /**
+         * Aggregates the exchange into one of the partial aggregations which is not in use by another thread,
+         * which allows to aggregate concurrently without the aggregation strategy having to be thread-safe.
+         */
+        protected void aggregatePartial(Exchange exchange) {
+            try {
+                if (done.get()) {
+                    return;
+                }
+                AtomicReference<Exchange> partial = partials.poll();
+                if (partial == null) {
+                    partial = new AtomicReference<>();
+                }
+                doAggregateInternal(combiner, partial, exchange);
+                partials.offer(partial);
+
+                if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
+                    doDone(combinePartials(), true);
+                } else if (maxInflight > 0) {
+                    resume();
+                }
+            } catch (Throwable e) {
+                original.setException(e);
+                // and do the done work
+                doDone(null, false);
+            }
+        }
+
+        /**
+         * Combines the partial aggregations pairwise as a tree until there is only the result left.
+         */
+        protected Exchange combinePartials() {
+            List<Exchange> list = new ArrayList<>();
+            AtomicReference<Exchange> partial;
+            while ((partial = partials.poll()) != null) {
+                if (partial.get() != null) {
+                    list.add(partial.get());
+                }
+            }
+            while (list.size() > 1) {
+                List<Exchange> combined = new ArrayList<>((list.size() + 1) / 2);
+                for (int i = 0; i < list.size(); i += 2) {
+                    combined.add(i + 1 < list.size() ? combiner.combine(list.get(i), list.get(i + 1)) : list.get(i));
+                }
+                list = combined;
+            }
+            return list.isEmpty() ? null : list.get(0);
+        }
+
+        protected Exchange currentResult() {
+            return partials != null ? combinePartials() : result.get();
+        }
+
+        /**
+         * Schedules the processing of the next pair if there is room in the in-flight window,
+         * otherwise the iterator is suspended until a sub exchange has been aggregated.
+         */
+        protected void scheduleWithinWindow() {
+            if (nbExchangeSent.get() - nbAggregated.get() < maxInflight) {
+                schedule(this);
+            } else {
+                suspended.set(true);
+                // a sub exchange may have been aggregated in the meantime
+                resume();
+            }
+        }
+
+        /**
+         * Resumes the iterator if it has been suspended and there is room in the in-flight window.
+         */
+        protected void resume() {
+            if (suspended.get() && nbExchangeSent.get() - nbAggregated.get() < maxInflight
+                    && suspended.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -936,6 +1038,26 @@ public class MulticastProcessor extends AsyncProcessorSupport implements Navigat
         return shareUnitOfWork;
     }
 
+    /**
+     * The maximum number of sub exchanges which can be in-flight at the same time when using parallel processing,
+     * or <tt>0</tt> for no limit.
+     */
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub exchanges which can be in-flight at the same time when using parallel processing.
+     * When the limit is reached, the multicast does not create the next sub exchange (eg the splitter does not
+     * advance its iterator) until a sub exchange has been completed and aggregated. This keeps the memory usage
+     * bounded when splitting big messages in streaming mode.
+     * <p/>
+     * Is by default <tt>0</tt> which means no limit.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public List<Processor> next() {
         if (!hasNext()) {
             return null;
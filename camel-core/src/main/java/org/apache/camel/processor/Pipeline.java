@@ -82,11 +82,9 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         if (exchange.isTransacted()) {
-            ReactiveHelper.scheduleSync(() -> Pipeline.this.doProcess(exchange, callback, processors.iterator(), true),
-                    "Step[" + exchange.getExchangeId() + "," + Pipeline.this + "]");
+            ReactiveHelper.scheduleSync(new PipelineTask(exchange, callback, processors.iterator(), true));
         } else {
-            ReactiveHelper.scheduleMain(() -> Pipeline.this.doProcess(exchange, callback, processors.iterator(), true),
-                    "Step[" + exchange.getExchangeId() + "," + Pipeline.this + "]");
+            ReactiveHelper.scheduleMain(new PipelineTask(exchange, callback, processors.iterator(), true));
         }
         return false;
     }
@@ -105,20 +103,50 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
             AsyncProcessor processor = processors.next();
 
             processor.process(exchange, doneSync ->
-                    ReactiveHelper.schedule(() -> doProcess(exchange, callback, processors, false),
-                            "Step[" + exchange.getExchangeId() + "," + Pipeline.this + "]"));
+                    ReactiveHelper.schedule(new PipelineTask(exchange, callback, processors, false)));
         } else {
             ExchangeHelper.copyResults(exchange, exchange);
 
             // logging nextExchange as it contains the exchange that might have altered the payload and since
             // we are logging the completion if will be confusing if we log the original instead
             // we could also consider logging the original and the nextExchange then we have *before* and *after* snapshots
-            log.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+            if (log.isTraceEnabled()) {
+                log.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+            }
 
             ReactiveHelper.callback(callback);
         }
     }
 
+    /**
+     * Task for the next step in the pipeline, which computes its description lazily as it is only
+     * in use for logging.
+     */
+    private final class PipelineTask implements Runnable {
+
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final Iterator<AsyncProcessor> processors;
+        private final boolean first;
+
+        PipelineTask(Exchange exchange, AsyncCallback callback, Iterator<AsyncProcessor> processors, boolean first) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.processors = processors;
+            this.first = first;
+        }
+
+        @Override
+        public void run() {
+            doProcess(exchange, callback, processors, first);
+        }
+
+        @Override
+        public String toString() {
+            return "Step[" + exchange.getExchangeId() + "," + Pipeline.this + "]";
+        }
+    }
+
     protected boolean continueRouting(Iterator<AsyncProcessor> it, Exchange exchange) {
         Object stop = exchange.getProperty(Exchange.ROUTE_STOP);
         if (stop != null) {
@@ -130,7 +158,9 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
         }
         // continue if there are more processors to route
         boolean answer = it.hasNext();
-        log.trace("ExchangeId: {} should continue routing: {}", exchange.getExchangeId(), answer);
+        if (log.isTraceEnabled()) {
+            log.trace("ExchangeId: {} should continue routing: {}", exchange.getExchangeId(), answer);
+        }
         return answer;
     }
 
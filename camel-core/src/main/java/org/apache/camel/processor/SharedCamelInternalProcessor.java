@@ -69,12 +69,17 @@ public class SharedCamelInternalProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(SharedCamelInternalProcessor.class);
     private final List<CamelInternalProcessorAdvice> advices = new ArrayList<>();
+    private boolean statefulAdvices;
 
     public SharedCamelInternalProcessor(CamelInternalProcessorAdvice... advices) {
         if (advices != null) {
             this.advices.addAll(Arrays.asList(advices));
             // ensure advices are sorted so they are in the order we want
             this.advices.sort(OrderedComparator.get());
+            // only keep the states during routing if any of the advices has state
+            for (CamelInternalProcessorAdvice advice : advices) {
+                statefulAdvices |= advice.hasState();
+            }
         }
     }
 
@@ -127,14 +132,16 @@ public class SharedCamelInternalProcessor {
             return true;
         }
 
-        // optimise to use object array for states
-        final Object[] states = new Object[advices.size()];
+        // optimise to use object array for states, which is only needed if any of the advices has state
+        final Object[] states = statefulAdvices ? new Object[advices.size()] : null;
         // optimise for loop using index access to avoid creating iterator object
         for (int i = 0; i < advices.size(); i++) {
             CamelInternalProcessorAdvice task = advices.get(i);
             try {
                 Object state = task.before(exchange);
-                states[i] = state;
+                if (states != null) {
+                    states[i] = state;
+                }
             } catch (Throwable e) {
                 exchange.setException(e);
                 ocallback.done(true);
@@ -190,17 +197,17 @@ public class SharedCamelInternalProcessor {
             // CAMEL END USER - DEBUG ME HERE +++ END +++
             // ----------------------------------------------------------
 
-            ReactiveHelper.schedule(() -> {
-                // execute any after processor work (in current thread, not in the callback)
-                if (uow != null) {
-                    uow.afterProcess(processor, exchange, callback, sync);
-                }
+            // execute any after processor work (in current thread, not in the callback)
+            // only schedule the work if the unit of work needs it, to avoid the overhead for every exchange
+            if (uow != null && uow.isAfterProcessRequired()) {
+                ReactiveHelper.schedule(() -> uow.afterProcess(processor, exchange, callback, sync),
+                        "SharedCamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId());
+            }
 
-                if (LOG.isTraceEnabled()) {
-                    LOG.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
-                            exchange.getExchangeId(), exchange);
-                }
-            }, "SharedCamelInternalProcessor - UnitOfWork - afterProcess - " + processor + " - " + exchange.getExchangeId());
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
+                        exchange.getExchangeId(), exchange);
+            }
             return sync;
         }
     }
@@ -240,7 +247,7 @@ public class SharedCamelInternalProcessor {
             try {
                 for (int i = advices.size() - 1; i >= 0; i--) {
                     CamelInternalProcessorAdvice task = advices.get(i);
-                    Object state = states[i];
+                    Object state = states != null ? states[i] : null;
                     try {
                         task.after(exchange, state);
                     } catch (Throwable e) {
@@ -38,6 +38,18 @@ import org.apache.camel.Exchange;
  */
 public abstract class AbstractListAggregationStrategy<V> implements AggregationStrategy {
 
+    // whether the strategy class keeps the aggregate method, as the combine method only knows how to merge its lists
+    private static final ClassValue<Boolean> CAN_COMBINE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("aggregate", Exchange.class, Exchange.class).getDeclaringClass() == AbstractListAggregationStrategy.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     /**
      * This method is implemented by the sub-class and is called to retrieve
      * an instance of the value that will be aggregated and forwarded to the
@@ -97,6 +109,40 @@ public abstract class AbstractListAggregationStrategy<V> implements AggregationS
         return oldExchange != null ? oldExchange : newExchange;
     }
 
+    /**
+     * Partial aggregations can be combined, unless a sub-class has overridden the {@link #aggregate(Exchange, Exchange)}
+     * method, as then the partial aggregations may hold more than the list of values.
+     */
+    @Override
+    public boolean canCombine() {
+        return CAN_COMBINE.get(getClass());
+    }
+
+    /**
+     * This method will combine two partial aggregations by appending the values of the new exchange
+     * to the list of the old exchange.
+     *
+     * @param oldExchange The first partial aggregation, can be null
+     * @param newExchange The second partial aggregation, can be null
+     * @return the combined partial aggregation
+     */
+    @SuppressWarnings("unchecked")
+    public Exchange combine(Exchange oldExchange, Exchange newExchange) {
+        if (oldExchange == null) {
+            return newExchange;
+        }
+        if (newExchange == null) {
+            return oldExchange;
+        }
+
+        List<V> list = getList(oldExchange);
+        List<V> other = newExchange.getProperty(Exchange.GROUPED_EXCHANGE, List.class);
+        if (other != null) {
+            list.addAll(other);
+        }
+        return oldExchange;
+    }
+
     @SuppressWarnings("unchecked")
     private List<V> getList(Exchange exchange) {
         List<V> list = exchange.getProperty(Exchange.GROUPED_EXCHANGE, List.class);
@@ -90,6 +90,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     public static final String AGGREGATE_TIMEOUT_CHECKER = "AggregateTimeoutChecker";
     public static final String AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR = "AggregateOptimisticLockingExecutor";
 
+    public static final int MAX_LOCK_STRIPES = 1 << 16;
+
     public static final String COMPLETED_BY_SIZE = "size";
     public static final String COMPLETED_BY_PREDICATE = "predicate";
     public static final String COMPLETED_BY_CONSUMER = "consumer";
@@ -99,6 +101,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     public static final String COMPLETED_BY_FORCE = "force";
 
     private Lock lock;
+    private Lock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final AsyncProcessor processor;
@@ -205,6 +208,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -357,13 +361,16 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         copy.getIn().removeHeader(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS_INCLUSIVE);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // the other groups to force complete when using lock striping
+        Set<String> forceCompletionKeys = stripedLocks != null ? new LinkedHashSet<>() : null;
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, forceCompletionKeys);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -372,6 +379,11 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        // when using lock striping then force completion of the other groups is deferred until we no longer hold the lock
+        if (forceCompletionKeys != null && !forceCompletionKeys.isEmpty()) {
+            forceCompletionOfGroups(forceCompletionKeys);
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (getAndRemoveBooleanHeader(exchange, Exchange.AGGREGATION_COMPLETE_ALL_GROUPS_INCLUSIVE)) {
             forceCompletionOfAllGroups();
@@ -403,10 +415,11 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
      *
      * @param key      the correlation key
      * @param newExchange the exchange
+     * @param forceCompletionKeys to collect the keys of the other groups to force complete, when using lock striping
      * @return the aggregated exchange(s) which is complete, or <tt>null</tt> if not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, Set<String> forceCompletionKeys) throws CamelExchangeException {
         log.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -485,10 +498,10 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
         // check for the special exchange property to force completion of all groups
         if (getAndRemoveBooleanProperty(answer, Exchange.AGGREGATION_COMPLETE_ALL_GROUPS)) {
-            forceCompletionOfAllGroups();
+            onForceCompletionOfAllGroups(key, forceCompletionKeys);
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
-            forceCompletionOfAllGroups();
+            onForceCompletionOfAllGroups(key, forceCompletionKeys);
         }
 
         // special for some repository implementations
@@ -524,6 +537,28 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         return list;
     }
 
+    private void onForceCompletionOfAllGroups(String key, Set<String> forceCompletionKeys) {
+        if (stripedLocks == null) {
+            forceCompletionOfAllGroups();
+            return;
+        }
+
+        // we hold the lock of the current group, and cannot safely acquire the other stripes, so take a snapshot
+        // of the existing groups now (before the current group is updated) and defer completing the other groups
+        // until the current aggregation is done and the lock has been released
+        Set<String> keys = aggregationRepository.getKeys();
+        if (keys != null) {
+            for (String other : keys) {
+                if (key.equals(other)) {
+                    // we already hold its lock so complete the current group now
+                    doForceCompletionOfGroup(key);
+                } else {
+                    forceCompletionKeys.add(other);
+                }
+            }
+        }
+    }
+
     protected void doAggregationComplete(String complete, List<Exchange> list, String key, Exchange originalExchange, Exchange answer) {
         if (COMPLETED_BY_CONSUMER.equals(complete)) {
             for (String batchKey : batchConsumerCorrelationKeys) {
@@ -977,6 +1012,55 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of lock stripes to use for aggregating different correlation groups in parallel.
+     * <p/>
+     * By default a single lock is shared by all correlation groups. When using lock striping then the lock is
+     * selected by the hash code of the correlation key, which allows unrelated correlation groups to be
+     * aggregated concurrently. The number is rounded up to the nearest power of two, and can be at most {@link #MAX_LOCK_STRIPES}.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
+    /**
+     * Gets the lock to use for aggregating the given correlation key
+     */
+    protected Lock getLock(String key) {
+        if (stripedLocks == null) {
+            return lock;
+        }
+        // spread the hash code so the stripes are used evenly
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return stripedLocks[hash & (stripedLocks.length - 1)];
+    }
+
+    private void lockAll() {
+        if (stripedLocks == null) {
+            lock.lock();
+        } else {
+            // always acquire the stripes in the same order to avoid deadlocks
+            for (Lock stripe : stripedLocks) {
+                stripe.lock();
+            }
+        }
+    }
+
+    private void unlockAll() {
+        if (stripedLocks == null) {
+            lock.unlock();
+        } else {
+            for (int i = stripedLocks.length - 1; i >= 0; i--) {
+                stripedLocks[i].unlock();
+            }
+        }
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1116,6 +1200,11 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
         @Override
         public void purge() {
+            if (stripedLocks != null) {
+                // the lock of the correlation key is acquired during eviction
+                super.purge();
+                return;
+            }
             // must acquire the shared aggregation lock to be able to purge
             lock.lock();
             try {
@@ -1127,6 +1216,32 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
         @Override
         public boolean onEviction(String key, String exchangeId) {
+            if (stripedLocks == null) {
+                return doEviction(key, exchangeId);
+            }
+
+            Lock keyLock = getLock(key);
+            keyLock.lock();
+            try {
+                // the correlation group may have received a new exchange since the purge task found the entry
+                // as expired, and if so the timeout has been extended and we should not evict
+                String current = get(key);
+                if (current == null || !current.equals(exchangeId)) {
+                    return false;
+                }
+                // remove while holding the lock so we do not remove a timeout of a new correlation group,
+                // and only when evicted as otherwise the timeout completion should be retried on next purge
+                if (doEviction(key, exchangeId)) {
+                    remove(key);
+                }
+            } finally {
+                keyLock.unlock();
+            }
+            // already removed
+            return false;
+        }
+
+        private boolean doEviction(String key, String exchangeId) {
             log.debug("Completion timeout triggered for correlation key: {}", key);
 
             boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
@@ -1179,10 +1294,11 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             Set<String> keys = aggregationRepository.getKeys();
 
             if (keys != null && !keys.isEmpty()) {
-                // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
-                try {
-                    for (String key : keys) {
+                for (String key : keys) {
+                    // must acquire the aggregation lock to be able to trigger interval completion
+                    Lock keyLock = getLock(key);
+                    keyLock.lock();
+                    try {
                         boolean stolenInterval = false;
                         Exchange exchange = aggregationRepository.get(camelContext, key);
                         if (exchange == null) {
@@ -1203,9 +1319,9 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                         if (optimisticLocking && stolenInterval) {
                             log.debug("Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}", key);
                         }
+                    } finally {
+                        keyLock.unlock();
                     }
-                } finally {
-                    lock.unlock();
                 }
             }
 
@@ -1243,7 +1359,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                     log.info("We are shutting down so stop recovering");
                     return;
                 }
-                lock.lock();
+                lockAll();
                 try {
                     // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                     // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1307,7 +1423,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1434,6 +1550,21 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             }
         } else {
             lock = new ReentrantLock();
+            if (lockStripes > 1) {
+                if (isCompletionFromBatchConsumer()) {
+                    throw new IllegalArgumentException("Lock striping cannot be used together with completionFromBatchConsumer");
+                }
+                if (lockStripes > MAX_LOCK_STRIPES) {
+                    throw new IllegalArgumentException("Option lockStripes must be at most " + MAX_LOCK_STRIPES + ", was: " + lockStripes);
+                }
+                // round up to power of two so we can select the stripe using a bit mask
+                int size = Integer.highestOneBit(lockStripes - 1) << 1;
+                stripedLocks = new Lock[size];
+                for (int i = 0; i < size; i++) {
+                    stripedLocks[i] = new ReentrantLock();
+                }
+                log.info("Lock striping is enabled using {} locks", size);
+            }
         }
     }
 
@@ -1466,6 +1597,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         }
         batchConsumerCorrelationKeys.clear();
         redeliveryState.clear();
+        stripedLocks = null;
     }
 
     @Override
@@ -1543,7 +1675,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1557,7 +1690,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         log.trace("Completed force completion of group {}", key);
 
@@ -1581,34 +1714,56 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // trigger completion for all in the repository
         Set<String> keys = aggregationRepository.getKeys();
 
+        int total = forceCompletionOfGroups(keys);
+        log.trace("Completed force completion of all groups task");
+
+        if (total > 0) {
+            log.debug("Forcing completion of all groups with {} exchanges", total);
+        }
+        return total;
+    }
+
+    private int forceCompletionOfGroups(Set<String> keys) {
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
-            // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
             total = keys.size();
-            try {
+            if (stripedLocks != null) {
+                // acquire the lock per correlation key so other groups can continue to aggregate
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        log.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
-                        }
+                    Lock keyLock = getLock(key);
+                    keyLock.lock();
+                    try {
+                        doForceCompletionOfGroup(key);
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
-            } finally {
-                lock.unlock();
+            } else {
+                // must acquire the shared aggregation lock to be able to trigger force completion
+                lock.lock();
+                try {
+                    for (String key : keys) {
+                        doForceCompletionOfGroup(key);
+                    }
+                } finally {
+                    lock.unlock();
+                }
             }
         }
-        log.trace("Completed force completion of all groups task");
+        return total;
+    }
 
-        if (total > 0) {
-            log.debug("Forcing completion of all groups with {} exchanges", total);
+    private void doForceCompletionOfGroup(String key) {
+        Exchange exchange = aggregationRepository.get(camelContext, key);
+        if (exchange != null) {
+            log.trace("Force completion triggered for correlation key: {}", key);
+            // indicate it was completed by a force completion request
+            exchange.setProperty(Exchange.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+            Exchange answer = onCompletion(key, exchange, exchange, false);
+            if (answer != null) {
+                onSubmitCompletion(key, answer);
+            }
         }
-        return total;
     }
 
 }
@@ -52,6 +52,12 @@ public class GroupedExchangeAggregationStrategy extends AbstractListAggregationS
         return super.aggregate(oldExchange, newExchange);
     }
 
+    @Override
+    public boolean canCombine() {
+        // the aggregate method only creates a new holder exchange, so the lists can still be combined
+        return true;
+    }
+
     @Override
     public Exchange getValue(Exchange exchange) {
         return exchange;
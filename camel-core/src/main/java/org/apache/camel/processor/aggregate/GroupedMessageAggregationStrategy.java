@@ -42,6 +42,12 @@ public class GroupedMessageAggregationStrategy extends AbstractListAggregationSt
         return super.aggregate(oldExchange, newExchange);
     }
 
+    @Override
+    public boolean canCombine() {
+        // the aggregate method only creates a new holder exchange, so the lists can still be combined
+        return true;
+    }
+
     @Override
     public Message getValue(Exchange exchange) {
         return exchange.getIn();
@@ -69,6 +69,20 @@ public final class ShareUnitOfWorkAggregationStrategy extends ServiceSupport imp
         return strategy.preComplete(oldExchange, newExchange);
     }
 
+    @Override
+    public boolean canCombine() {
+        return strategy.canCombine();
+    }
+
+    @Override
+    public Exchange combine(Exchange oldExchange, Exchange newExchange) {
+        Exchange answer = strategy.combine(oldExchange, newExchange);
+        // ensure any errors is propagated from the partial aggregation to the answer
+        propagateFailure(answer, newExchange);
+
+        return answer;
+    }
+
     @Override
     public void onCompletion(Exchange exchange) {
         strategy.onCompletion(exchange);
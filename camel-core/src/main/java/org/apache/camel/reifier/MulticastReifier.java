@@ -75,6 +75,9 @@ class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
 
         MulticastProcessor answer = new MulticastProcessor(routeContext.getCamelContext(), list, strategy, isParallelProcessing,
                 threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, definition.getOnPrepare(), isShareUnitOfWork, isParallelAggregate, isStopOnAggregateException);
+        if (definition.getMaxInflight() != null) {
+            answer.setMaxInflight(definition.getMaxInflight());
+        }
         return answer;
     }
 
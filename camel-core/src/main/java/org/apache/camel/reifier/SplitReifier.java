@@ -63,6 +63,9 @@ class SplitReifier extends ExpressionReifier<SplitDefinition> {
         Splitter answer = new Splitter(routeContext.getCamelContext(), exp, childProcessor, definition.getAggregationStrategy(),
                 isParallelProcessing, threadPool, shutdownThreadPool, isStreaming, definition.isStopOnException(),
                 timeout, definition.getOnPrepare(), isShareUnitOfWork, isParallelAggregate, isStopOnAggregateException);
+        if (definition.getMaxInflight() != null) {
+            answer.setMaxInflight(definition.getMaxInflight());
+        }
         return answer;
     }
 
@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for the watchIndex=true option.
+ */
+public class FileConsumerWatchIndexTest extends ContextTestSupport {
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/watchindex");
+        super.setUp();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("file://target/watchindex/noop?watchIndex=true&noop=true&recursive=true&initialDelay=0&delay=10")
+                    .convertBodyTo(String.class).to("mock:noop");
+
+                from("file://target/watchindex/delete?watchIndex=true&delete=true&initialDelay=0&delay=10")
+                    .convertBodyTo(String.class).to("mock:delete");
+
+                from("file://target/watchindex/done?watchIndex=true&doneFileName=${file:name}.done&initialDelay=0&delay=10")
+                    .convertBodyTo(String.class).to("mock:done");
+            }
+        };
+    }
+
+    @Test
+    public void testWatchIndexNoop() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:noop");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World");
+
+        writeFile("noop", "hello.txt", "Hello World");
+        writeFile("noop", "sub/bye.txt", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        // new files should be picked up, but the files consumed before should not
+        mock.reset();
+        mock.expectedBodiesReceived("Hi World");
+        writeFile("noop", "sub/hi.txt", "Hi World");
+
+        assertMockEndpointsSatisfied();
+        Thread.sleep(100);
+        assertEquals(1, mock.getReceivedCounter());
+    }
+
+    @Test
+    public void testWatchIndexDelete() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:delete");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B");
+
+        writeFile("delete", "b.txt", "B");
+        writeFile("delete", "a.txt", "A");
+
+        assertMockEndpointsSatisfied();
+
+        mock.reset();
+        mock.expectedBodiesReceived("C");
+        writeFile("delete", "c.txt", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testWatchIndexDoneFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:done");
+        mock.expectedMessageCount(0);
+
+        writeFile("done", "hello.txt", "Hello World");
+
+        Thread.sleep(100);
+        assertMockEndpointsSatisfied();
+
+        mock.reset();
+        mock.expectedBodiesReceived("Hello World");
+        writeFile("done", "hello.txt.done", "");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private static void writeFile(String dir, String name, String body) throws Exception {
+        // write the file using a temporary name, so the consumer does not pick up a half written file
+        File file = new File("target/watchindex/" + dir + "/" + name);
+        file.getParentFile().mkdirs();
+        File tmp = new File(file.getParentFile(), "." + file.getName() + ".tmp");
+        Files.write(tmp.toPath(), body.getBytes());
+        assertTrue(tmp.renameTo(file));
+    }
+
+    @Test
+    public void testWatchIndexPendingFiles() throws Exception {
+        File dir = new File("target/watchindex/index");
+        dir.mkdirs();
+        File hello = new File(dir, "hello.txt");
+        Files.write(hello.toPath(), "Hello World".getBytes());
+
+        FileWatchIndex index = new FileWatchIndex(0);
+        index.start();
+        try {
+            assertEquals(Arrays.asList(hello), Arrays.asList(index.listPendingFiles(dir)));
+
+            // the caller may modify the returned files, such as when sorting them, without affecting the index
+            index.listPendingFiles(dir)[0] = null;
+            assertEquals(Arrays.asList(hello), Arrays.asList(index.listPendingFiles(dir)));
+
+            index.consumed(hello, hello.lastModified(), hello.length());
+            assertEquals(0, index.listPendingFiles(dir).length);
+            assertEquals(1, index.listFiles(dir).size());
+
+            // a new file is pending as soon as the watch event is received
+            File bye = new File(dir, "bye.txt");
+            Files.write(bye.toPath(), "Bye World".getBytes());
+            File[] pending = null;
+            for (int i = 0; i < 100; i++) {
+                pending = index.listPendingFiles(dir);
+                if (pending.length > 0) {
+                    break;
+                }
+                Thread.sleep(50);
+            }
+            assertEquals(Arrays.asList(bye), Arrays.asList(pending));
+            assertEquals(2, index.listFiles(dir).size());
+        } finally {
+            index.stop();
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for writing files from file channel and byte buffer bodies.
+ */
+public class FileProducerFileChannelTest extends ContextTestSupport {
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/filechannel");
+        super.setUp();
+        template.sendBodyAndHeader("file://target/filechannel/in", "Hello World", Exchange.FILE_NAME, "hello.txt");
+    }
+
+    @Test
+    public void testFileChannelBody() throws Exception {
+        FileChannel channel = context.getTypeConverter().mandatoryConvertTo(FileChannel.class, new File("target/filechannel/in/hello.txt"));
+        template.sendBodyAndHeader("file://target/filechannel/out", channel, Exchange.FILE_NAME, "channel.txt");
+
+        assertFileExists("target/filechannel/out/channel.txt");
+        assertEquals("Hello World", new String(Files.readAllBytes(new File("target/filechannel/out/channel.txt").toPath())));
+        assertFalse("The channel should be closed", channel.isOpen());
+    }
+
+    @Test
+    public void testMappedByteBufferBody() throws Exception {
+        MappedByteBuffer buffer = context.getTypeConverter().mandatoryConvertTo(MappedByteBuffer.class, new File("target/filechannel/in/hello.txt"));
+        template.sendBodyAndHeader("file://target/filechannel/out", buffer, Exchange.FILE_NAME, "mapped.txt");
+
+        assertEquals("Hello World", new String(Files.readAllBytes(new File("target/filechannel/out/mapped.txt").toPath())));
+        // the body should not have been consumed
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void testByteBufferBodyAppend() throws Exception {
+        template.sendBodyAndHeader("file://target/filechannel/out", ByteBuffer.wrap("Hello ".getBytes()), Exchange.FILE_NAME, "append.txt");
+        template.sendBodyAndHeader("file://target/filechannel/out?fileExist=Append", ByteBuffer.wrap("World".getBytes()), Exchange.FILE_NAME, "append.txt");
+
+        assertEquals("Hello World", new String(Files.readAllBytes(new File("target/filechannel/out/append.txt").toPath())));
+    }
+
+    @Test
+    public void testFileBodyAppend() throws Exception {
+        template.sendBodyAndHeader("file://target/filechannel/out", "Bye World\n", Exchange.FILE_NAME, "file.txt");
+        template.sendBodyAndHeader("file://target/filechannel/out?fileExist=Append", new File("target/filechannel/in/hello.txt"), Exchange.FILE_NAME, "file.txt");
+
+        assertEquals("Bye World\nHello World", new String(Files.readAllBytes(new File("target/filechannel/out/file.txt").toPath())));
+    }
+
+}
@@ -0,0 +1,199 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TestSupport;
+import org.junit.Test;
+
+public class RingBufferBlockingQueueTest extends TestSupport {
+
+    @Test
+    public void testOfferAndPoll() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        assertFalse("Should be full", queue.offer("D"));
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+
+        assertEquals("A", queue.peek());
+        assertEquals("A", queue.poll());
+        assertTrue(queue.offer("D"));
+        assertEquals("B", queue.poll());
+        assertEquals("C", queue.poll());
+        assertEquals("D", queue.poll());
+        assertNull(queue.poll());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRemoveAndDrain() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(10);
+        queue.add("A");
+        queue.add("B");
+        queue.add("C");
+
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+
+        List<String> list = new ArrayList<>();
+        assertEquals(2, queue.drainTo(list, 5));
+        assertEquals("A", list.get(0));
+        assertEquals("C", list.get(1));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRemovedIsNotCounted() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        queue.add("A");
+        queue.add("B");
+        queue.add("C");
+        assertEquals(3, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+
+        assertTrue(queue.remove("B"));
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.remainingCapacity());
+
+        assertEquals("A", queue.poll());
+        assertEquals("C", queue.poll());
+        assertEquals(0, queue.size());
+        assertEquals(3, queue.remainingCapacity());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testRemoveSameElementOfferedAgain() throws Exception {
+        RingBufferBlockingQueue<Object> queue = new RingBufferBlockingQueue<>(2);
+        Object pooled = new Object();
+
+        // the same instance is offered, consumed and offered again into the same slot
+        queue.add(pooled);
+        queue.add("B");
+        assertSame(pooled, queue.poll());
+        queue.add(pooled);
+        assertEquals(2, queue.size());
+
+        // removes the instance which is still in the queue
+        assertTrue(queue.remove(pooled));
+        assertFalse(queue.remove(pooled));
+        assertEquals(1, queue.size());
+        assertEquals("B", queue.poll());
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+
+        // and the slot of the removed element can be used again
+        assertTrue(queue.offer(pooled));
+        assertTrue(queue.offer("C"));
+        assertSame(pooled, queue.poll());
+        assertEquals("C", queue.poll());
+    }
+
+    @Test
+    public void testConcurrentRemoveAndPoll() throws Exception {
+        final RingBufferBlockingQueue<Object> queue = new RingBufferBlockingQueue<>(4, RingBufferWaitStrategy.Yielding);
+        final Object[] pooled = {new Object(), new Object(), new Object(), new Object()};
+        final int rounds = 20000;
+        final int[] polled = new int[1];
+        final int[] removed = new int[1];
+
+        Thread consumer = new Thread(() -> {
+            for (int i = 0; i < rounds; i++) {
+                if (queue.poll() != null) {
+                    polled[0]++;
+                }
+            }
+        });
+        Thread remover = new Thread(() -> {
+            for (int i = 0; i < rounds; i++) {
+                if (queue.remove(pooled[i % pooled.length])) {
+                    removed[0]++;
+                }
+            }
+        });
+        consumer.start();
+        remover.start();
+        int offered = 0;
+        for (int i = 0; i < rounds; i++) {
+            if (queue.offer(pooled[i % pooled.length])) {
+                offered++;
+            }
+        }
+        consumer.join(30000);
+        remover.join(30000);
+        while (queue.poll() != null) {
+            polled[0]++;
+        }
+
+        // every offered element is either polled or removed, but not both
+        assertEquals(offered, polled[0] + removed[0]);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        final RingBufferBlockingQueue<Integer> queue = new RingBufferBlockingQueue<>(16, RingBufferWaitStrategy.Yielding);
+        final int producers = 4;
+        final int perProducer = 10000;
+        final long[] sums = new long[producers];
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int n = 1; n <= perProducer; n++) {
+                        queue.put(n);
+                    }
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+            }));
+            final int id = i;
+            threads.add(new Thread(() -> {
+                try {
+                    long sum = 0;
+                    for (int n = 0; n < perProducer; n++) {
+                        sum += queue.take();
+                    }
+                    sums[id] = sum;
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join(30000);
+        }
+
+        long total = 0;
+        for (long sum : sums) {
+            total += sum;
+        }
+        // every element must be consumed exactly once
+        assertEquals((long) producers * perProducer * (perProducer + 1) / 2, total);
+        assertTrue(queue.isEmpty());
+    }
+}
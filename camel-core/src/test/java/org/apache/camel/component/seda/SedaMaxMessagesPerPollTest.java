@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.junit.Test;
+
+public class SedaMaxMessagesPerPollTest extends ContextTestSupport {
+
+    @Test
+    public void testMaxMessagesPerPoll() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A+B+C+D+E");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "consumer");
+
+        template.sendBody("seda:foo", "A");
+        template.sendBody("seda:foo", "B");
+        template.sendBody("seda:foo", "C");
+        template.sendBody("seda:foo", "D");
+        template.sendBody("seda:foo", "E");
+
+        context.getRouteController().startRoute("myRoute");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMaxMessagesPerPollInOut() throws Exception {
+        Object out = template.requestBody("seda:bar", "World");
+        assertEquals("Bye World", out);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?maxMessagesPerPoll=10").routeId("myRoute").noAutoStartup()
+                    .aggregate(constant(true), new BodyInAggregatingStrategy()).completionFromBatchConsumer()
+                        .to("mock:result");
+
+                from("seda:bar?maxMessagesPerPoll=10")
+                    .transform(body().prepend("Bye "));
+            }
+        };
+    }
+}
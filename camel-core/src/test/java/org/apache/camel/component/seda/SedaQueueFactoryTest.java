@@ -66,4 +66,14 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
         BlockingQueue<Exchange> queue = endpoint.getQueue();
         assertIsInstanceOf(LinkedBlockingQueue.class, queue);
     }
+
+    @Test
+    public void testRingBufferBlockingQueue() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:ringQueue?ringBuffer=true&ringBufferWaitStrategy=Yielding&size=50", SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        RingBufferBlockingQueue<Exchange> ringBuffer = assertIsInstanceOf(RingBufferBlockingQueue.class, queue);
+        assertEquals("remainingCapacity", 50, ringBuffer.remainingCapacity());
+        assertEquals(RingBufferWaitStrategy.Yielding, ringBuffer.getWaitStrategy());
+    }
 }
@@ -0,0 +1,71 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class SedaRingBufferTest extends ContextTestSupport {
+
+    @Test
+    public void testRingBufferConcurrentProducers() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(500);
+
+        ExecutorService service = Executors.newFixedThreadPool(10);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBody("seda:foo?ringBuffer=true&size=100&blockWhenFull=true", "Message " + count);
+                return null;
+            });
+        }
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+    }
+
+    @Test
+    public void testRingBufferInOut() throws Exception {
+        Object out = template.requestBody("seda:bar?ringBuffer=true&ringBufferWaitStrategy=BusySpin", "World");
+        assertEquals("Bye World", out);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?ringBuffer=true&size=100&concurrentConsumers=5")
+                    .to("mock:result");
+
+                from("seda:bar?ringBuffer=true&ringBufferWaitStrategy=BusySpin")
+                    .transform(body().prepend("Bye "));
+            }
+        };
+    }
+}
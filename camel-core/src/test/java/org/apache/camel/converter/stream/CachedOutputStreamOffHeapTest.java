@@ -0,0 +1,156 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/cachedir");
+        context.getStreamCachingStrategy().setSpoolThreshold(-1);
+        context.getStreamCachingStrategy().setBufferSize(64);
+        context.getStreamCachingStrategy().setOffHeapMemoryLimit(1024);
+        return context;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        deleteDirectory("target/cachedir");
+        createDirectory("target/cachedir");
+
+        exchange = createExchange();
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private Exchange createExchange() {
+        Exchange answer = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(answer);
+        answer.setUnitOfWork(uow);
+        return answer;
+    }
+
+    private static String data(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testCacheStreamOffHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        String data = data(500);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data.getBytes("UTF-8"), 0, 100);
+        cos.write(data.getBytes("UTF-8"), 100, 400);
+        assertEquals(512, strategy.getOffHeapMemoryUsed());
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue("Should get the ByteBufferInputStreamCache", cache instanceof ByteBufferInputStreamCache);
+        assertEquals(500, cache.length());
+        assertTrue(cache.inMemory());
+        assertEquals(data, context.getTypeConverter().convertTo(String.class, cache));
+
+        // read again after reset, byte by byte
+        cache.reset();
+        InputStream is = (InputStream) cache;
+        assertEquals('a', is.read());
+        assertEquals(10, is.skip(10));
+        assertEquals('l', is.read());
+
+        // the copy should share the buffers
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertEquals(data, bos.toString("UTF-8"));
+        assertEquals(512, strategy.getOffHeapMemoryUsed());
+
+        // the buffers should be released when the exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getOffHeapMemoryUsed());
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamSpoolWhenOffHeapLimitReached() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        // the first stream uses most of the off-heap memory
+        CachedOutputStream first = new CachedOutputStream(exchange);
+        first.write(data(800).getBytes("UTF-8"));
+        assertEquals(832, strategy.getOffHeapMemoryUsed());
+
+        // so the second stream is spooled to disk
+        Exchange other = createExchange();
+        String data = data(300);
+        CachedOutputStream second = new CachedOutputStream(other);
+        second.write(data.getBytes("UTF-8"), 0, 100);
+        assertEquals(960, strategy.getOffHeapMemoryUsed());
+        second.write(data.getBytes("UTF-8"), 100, 200);
+
+        assertEquals(832, strategy.getOffHeapMemoryUsed());
+        File file = new File("target/cachedir");
+        assertEquals("we should have a temp file", 1, file.list().length);
+
+        StreamCache cache = second.newStreamCache();
+        assertTrue("Should get the FileInputStreamCache", cache instanceof FileInputStreamCache);
+        assertEquals(data, context.getTypeConverter().convertTo(String.class, cache));
+
+        other.getUnitOfWork().done(other);
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getOffHeapMemoryUsed());
+        assertEquals("we should have no temp file", 0, file.list().length);
+
+        // the released buffers should be reused
+        CachedOutputStream third = new CachedOutputStream(createExchange());
+        third.write(data.getBytes("UTF-8"));
+        assertTrue(third.newStreamCache() instanceof ByteBufferInputStreamCache);
+        assertEquals(320, strategy.getOffHeapMemoryUsed());
+        IOHelper.close(first, second, third);
+    }
+
+}
@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeHolderCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.ExchangeHolderCodec;
+import org.apache.camel.support.SerializationExchangeHolderCodec;
+import org.junit.Test;
+
+public class BinaryExchangeHolderCodecTest extends ContextTestSupport {
+
+    private final ExchangeHolderCodec codec = new BinaryExchangeHolderCodec();
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Exchange exchange = createExchange();
+
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, true);
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, codec.decode(context, codec.encode(holder)));
+
+        assertEquals(exchange.getExchangeId(), copy.getExchangeId());
+        assertEquals("Hello World", copy.getIn().getBody());
+        assertEquals("ABC", copy.getIn().getHeader("string"));
+        assertEquals(-123, copy.getIn().getHeader("int"));
+        assertEquals(Long.MAX_VALUE, copy.getIn().getHeader("long"));
+        assertEquals((short) 7, copy.getIn().getHeader("short"));
+        assertEquals((byte) -2, copy.getIn().getHeader("byte"));
+        assertEquals(1.5d, copy.getIn().getHeader("double"));
+        assertEquals(-2.5f, copy.getIn().getHeader("float"));
+        assertEquals(Boolean.TRUE, copy.getIn().getHeader("true"));
+        assertEquals(Boolean.FALSE, copy.getIn().getHeader("false"));
+        assertEquals('x', copy.getIn().getHeader("char"));
+        assertEquals(new Date(1234567890L), copy.getIn().getHeader("date"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), copy.getIn().getHeader("bigInteger"));
+        assertEquals(new BigDecimal("-12345.6789"), copy.getIn().getHeader("bigDecimal"));
+        assertEquals(new MyValue("Camel"), copy.getIn().getHeader("serialized"));
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) copy.getOut().getBody());
+        assertEquals("æøå", copy.getOut().getHeader("unicode"));
+        assertEquals(444, copy.getProperty("bar"));
+        assertTrue(copy.getOut().isFault());
+        assertIsInstanceOf(IllegalArgumentException.class, copy.getException());
+        assertEquals("Forced", copy.getException().getMessage());
+    }
+
+    @Test
+    public void testNoOut() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+
+        DefaultExchangeHolder holder = codec.decode(context, codec.encode(DefaultExchangeHolder.marshal(exchange)));
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, holder);
+
+        assertEquals("Hello World", copy.getIn().getBody());
+        assertFalse(copy.hasOut());
+        assertNull(copy.getException());
+    }
+
+    @Test
+    public void testDecodeJavaSerialization() throws Exception {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(createExchange(), true, true);
+        byte[] data = new SerializationExchangeHolderCodec().encode(holder);
+
+        Exchange copy = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(copy, codec.decode(context, data));
+
+        assertEquals("Hello World", copy.getIn().getBody());
+        assertEquals(-123, copy.getIn().getHeader("int"));
+        assertEquals(new MyValue("Camel"), copy.getIn().getHeader("serialized"));
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() throws Exception {
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(createExchange(), true, false);
+
+        int binary = codec.encode(holder).length;
+        int serialized = new SerializationExchangeHolderCodec().encode(holder).length;
+        assertTrue("Binary size " + binary + " should be less than " + serialized, binary < serialized);
+    }
+
+    @Test
+    public void testDecodeInvalidData() throws Exception {
+        try {
+            codec.decode(context, new byte[]{1, 2, 3, 4});
+            fail("Should throw exception");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    private Exchange createExchange() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("string", "ABC");
+        exchange.getIn().setHeader("int", -123);
+        exchange.getIn().setHeader("long", Long.MAX_VALUE);
+        exchange.getIn().setHeader("short", (short) 7);
+        exchange.getIn().setHeader("byte", (byte) -2);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("float", -2.5f);
+        exchange.getIn().setHeader("true", true);
+        exchange.getIn().setHeader("false", false);
+        exchange.getIn().setHeader("char", 'x');
+        exchange.getIn().setHeader("date", new Date(1234567890L));
+        exchange.getIn().setHeader("bigInteger", new BigInteger("123456789012345678901234567890"));
+        exchange.getIn().setHeader("bigDecimal", new BigDecimal("-12345.6789"));
+        exchange.getIn().setHeader("serialized", new MyValue("Camel"));
+        exchange.getOut().setBody(new byte[]{1, 2, 3});
+        exchange.getOut().setHeader("unicode", "æøå");
+        exchange.getOut().setFault(true);
+        exchange.setProperty("bar", 444);
+        exchange.setException(new IllegalArgumentException("Forced"));
+        return exchange;
+    }
+
+    private static class MyValue implements java.io.Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+
+        MyValue(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MyValue && name.equals(((MyValue) o).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+}
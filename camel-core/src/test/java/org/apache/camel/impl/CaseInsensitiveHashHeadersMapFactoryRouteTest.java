@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.CaseInsensitiveHashMap;
+import org.junit.Test;
+
+public class CaseInsensitiveHashHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setHeadersMapFactory(new CaseInsensitiveHashHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCaseInsensitiveHashHeaders() throws Exception {
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", "a");
+        getMockEndpoint("mock:a").expectedHeaderReceived("BAR", "yes");
+        getMockEndpoint("mock:b").expectedHeaderReceived("FOO", "b");
+        getMockEndpoint("mock:b").expectedHeaderReceived("bar", "yes");
+        // the multicast uses the latest reply by default
+        getMockEndpoint("mock:result").expectedHeaderReceived("Foo", "b");
+        getMockEndpoint("mock:result").expectedHeaderReceived("bar", "yes");
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("foo", 123);
+        headers.put("FOO", 456);
+        headers.put("Bar", "yes");
+
+        template.sendBodyAndHeaders("direct:start", "Hello World", headers);
+
+        assertMockEndpointsSatisfied();
+
+        Map<String, Object> received = getMockEndpoint("mock:result").getReceivedExchanges().get(0).getIn().getHeaders();
+        assertTrue(received instanceof CaseInsensitiveHashMap);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // the multicast copies the headers, which must not affect each other
+                from("direct:start")
+                    .multicast()
+                        .to("direct:a", "direct:b")
+                    .end()
+                    .to("mock:result");
+
+                from("direct:a").setHeader("FOO", constant("a")).to("mock:a");
+                from("direct:b").setHeader("foo", constant("b")).to("mock:b");
+            }
+        };
+    }
+
+}
@@ -45,6 +45,17 @@ public class CustomUnitOfWorkFactoryTest extends ContextTestSupport {
         assertMockEndpointsSatisfied();
     }
 
+    @Test
+    public void testCustomUnitOfWorkAfterProcess() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        Exchange exchange = template.send("direct:start", e -> e.getIn().setBody("Hello World"));
+
+        assertMockEndpointsSatisfied();
+        // the after process is called for the custom unit of work which overrides it
+        assertEquals("I was here", exchange.getProperty("after"));
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() throws Exception {
         return new RouteBuilder() {
@@ -76,5 +87,10 @@ public class CustomUnitOfWorkFactoryTest extends ContextTestSupport {
             exchange.getIn().setHeader("before", "I was here");
             return callback;
         }
+
+        @Override
+        public void afterProcess(Processor processor, Exchange exchange, AsyncCallback callback, boolean doneSync) {
+            exchange.setProperty("after", "I was here");
+        }
     }
 }
@@ -131,6 +131,103 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
         assertEquals("banana", exchange.getProperty("beer", "banana", String.class));
     }
     
+    @Test
+    public void testInternalProperty() throws Exception {
+        exchange.removeProperty("foobar");
+        assertFalse(exchange.hasProperties());
+
+        exchange.setProperty(Exchange.SPLIT_INDEX, 2);
+        exchange.setProperty("fruit", "apple");
+        assertTrue(exchange.hasProperties());
+
+        assertEquals(2, exchange.getProperty(Exchange.SPLIT_INDEX));
+        assertEquals("2", exchange.getProperty(Exchange.SPLIT_INDEX, String.class));
+        assertEquals(2, exchange.getProperties().size());
+        assertEquals(2, exchange.getProperties().get(Exchange.SPLIT_INDEX));
+        assertTrue(exchange.getProperties().containsKey(Exchange.SPLIT_INDEX));
+        assertTrue(exchange.getProperties().containsKey("fruit"));
+
+        // changes to the map is reflected in the exchange
+        exchange.getProperties().put(Exchange.SPLIT_SIZE, 3);
+        assertEquals(3, exchange.getProperty(Exchange.SPLIT_SIZE));
+        exchange.getProperties().remove(Exchange.SPLIT_INDEX);
+        assertNull(exchange.getProperty(Exchange.SPLIT_INDEX));
+
+        // and setting null removes the property
+        exchange.setProperty(Exchange.SPLIT_SIZE, null);
+        assertEquals(1, exchange.getProperties().size());
+        assertEquals("apple", exchange.getProperty("fruit"));
+    }
+
+    @Test
+    public void testInternalPropertyCopy() throws Exception {
+        exchange.setProperty(Exchange.CREATED_TIMESTAMP, new java.util.Date());
+        exchange.setProperty(Exchange.MESSAGE_HISTORY, new java.util.LinkedList<>());
+        exchange.setProperty("fruit", "apple");
+
+        Exchange copy = exchange.copy();
+        assertEquals(exchange.getProperties(), copy.getProperties());
+        assertNotNull(copy.getCreated());
+        // message history is copied defensively
+        assertNotSame(exchange.getProperty(Exchange.MESSAGE_HISTORY), copy.getProperty(Exchange.MESSAGE_HISTORY));
+
+        // the copy has its own properties
+        copy.setProperty(Exchange.SPLIT_INDEX, 1);
+        copy.removeProperty("fruit");
+        assertNull(exchange.getProperty(Exchange.SPLIT_INDEX));
+        assertEquals("apple", exchange.getProperty("fruit"));
+    }
+
+    @Test
+    public void testSharedProperties() throws Exception {
+        exchange.setProperty(Exchange.SPLIT_INDEX, 1);
+
+        DefaultExchange other = new DefaultExchange(context);
+        other.setProperties(exchange.getProperties());
+        assertEquals(1, other.getProperty(Exchange.SPLIT_INDEX));
+
+        // changes is visible in both exchanges as the properties is shared
+        other.setProperty(Exchange.SPLIT_SIZE, 2);
+        other.setProperty("fruit", "apple");
+        assertEquals(2, exchange.getProperty(Exchange.SPLIT_SIZE));
+        assertEquals("apple", exchange.getProperty("fruit"));
+    }
+
+    @Test
+    public void testInternalPropertiesSetConcurrently() throws Exception {
+        DefaultExchange other = new DefaultExchange(context);
+        final String[] names = {Exchange.SPLIT_INDEX, Exchange.SPLIT_SIZE, Exchange.MULTICAST_INDEX, Exchange.LOOP_INDEX};
+
+        Thread[] threads = new Thread[names.length];
+        for (int i = 0; i < names.length; i++) {
+            final String name = names[i];
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    other.setProperty(name, j);
+                    other.removeProperty(name);
+                }
+                other.setProperty(name, 1);
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // no property is lost, and the count is kept in sync
+        for (String name : names) {
+            assertEquals(1, other.getProperty(name));
+        }
+        assertEquals(names.length, other.getProperties().size());
+
+        for (String name : names) {
+            other.removeProperty(name);
+        }
+        assertFalse(other.hasProperties());
+    }
+
     @Test
     public void testRemoveProperties() throws Exception {
         exchange.removeProperty("foobar");
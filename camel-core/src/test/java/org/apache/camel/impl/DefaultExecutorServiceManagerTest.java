@@ -16,18 +16,28 @@
  */
 package org.apache.camel.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.LifecycleStrategySupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutor;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import static org.junit.Assume.assumeTrue;
+
 public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
     
     @Test
@@ -353,6 +363,173 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(tp.isShutdown());
     }
 
+    @Test
+    public void testNewThreadPoolProfileVirtualThreads() throws Exception {
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setPoolSize(5);
+        foo.setMaxPoolSize(10);
+        foo.setVirtualThreads(true);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", foo);
+        assertNotNull(pool);
+
+        if (ThreadHelper.isVirtualThreadsSupported()) {
+            // virtual threads are not pooled but started per task
+            ThreadPerTaskExecutor executor = assertIsInstanceOf(ThreadPerTaskExecutor.class, pool);
+            // the limit is max pool size plus the default max queue size
+            assertEquals(10 + 1000, executor.getLimit());
+        } else {
+            // regular thread pool is used if the JVM does not support virtual threads
+            ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+            assertEquals(10, tp.getMaximumPoolSize());
+            assertEquals(5, tp.getCorePoolSize());
+            CamelThreadFactory factory = assertIsInstanceOf(CamelThreadFactory.class, tp.getThreadFactory());
+            assertFalse(factory.isVirtual());
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final StringBuilder name = new StringBuilder();
+        pool.submit(() -> {
+            name.append(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(name.toString().endsWith("Cool"));
+
+        context.stop();
+
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void testNewThreadPoolProfileVirtualThreadsRunsMoreTasksThanMaxPoolSize() throws Exception {
+        assumeTrue(ThreadHelper.isVirtualThreadsSupported());
+
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setPoolSize(2);
+        foo.setMaxPoolSize(2);
+        foo.setMaxQueueSize(8);
+        foo.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+        foo.setVirtualThreads(true);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", foo);
+
+        // all the tasks must run at the same time to count down the latch
+        final CountDownLatch running = new CountDownLatch(10);
+        final CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < 10; i++) {
+            pool.execute(() -> {
+                running.countDown();
+                try {
+                    done.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+            });
+        }
+        assertTrue("Should run more tasks than max pool size at the same time", running.await(5, TimeUnit.SECONDS));
+
+        // but no more than max pool size plus max queue size
+        try {
+            pool.execute(() -> { });
+            fail("Should have thrown a RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+
+        done.countDown();
+        context.stop();
+
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void testNewThreadPoolProfileVirtualThreadsUnboundedQueue() throws Exception {
+        assumeTrue(ThreadHelper.isVirtualThreadsSupported());
+
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setPoolSize(2);
+        foo.setMaxPoolSize(2);
+        foo.setMaxQueueSize(-1);
+        foo.setVirtualThreads(true);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", foo);
+
+        // an unbounded queue means there is no limit
+        ThreadPerTaskExecutor executor = assertIsInstanceOf(ThreadPerTaskExecutor.class, pool);
+        assertEquals(-1, executor.getLimit());
+
+        context.stop();
+
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void testNewThreadPoolProfileVirtualThreadsIsManaged() throws Exception {
+        assumeTrue(ThreadHelper.isVirtualThreadsSupported());
+
+        final List<ThreadPoolExecutor> added = new ArrayList<>();
+        final List<ThreadPoolExecutor> removed = new ArrayList<>();
+        context.addLifecycleStrategy(new LifecycleStrategySupport() {
+            @Override
+            public void onThreadPoolAdd(CamelContext camelContext, ThreadPoolExecutor threadPool, String id,
+                                        String sourceId, String routeId, String threadPoolProfileId) {
+                added.add(threadPool);
+            }
+
+            @Override
+            public void onThreadPoolRemove(CamelContext camelContext, ThreadPoolExecutor threadPool) {
+                removed.add(threadPool);
+            }
+        });
+
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setPoolSize(2);
+        foo.setMaxPoolSize(2);
+        foo.setMaxQueueSize(3);
+        foo.setVirtualThreads(true);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", foo);
+        ThreadPerTaskExecutor executor = assertIsInstanceOf(ThreadPerTaskExecutor.class, pool);
+        assertEquals(1, added.size());
+        ThreadPoolExecutor tp = added.get(0);
+        assertSame(executor.getThreadPoolExecutor(), tp);
+        assertEquals(5, tp.getMaximumPoolSize());
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        pool.submit(latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, tp.getTaskCount());
+
+        context.getExecutorServiceManager().shutdownGraceful(pool);
+        assertEquals(1, tp.getCompletedTaskCount());
+        assertEquals(0, tp.getActiveCount());
+        assertTrue(tp.isShutdown());
+        assertEquals(1, removed.size());
+        assertSame(tp, removed.get(0));
+    }
+
+    @Test
+    public void testNewCachedThreadPoolVirtualThreads() throws Exception {
+        context.getExecutorServiceManager().getDefaultThreadPoolProfile().setVirtualThreads(true);
+
+        ExecutorService pool = context.getExecutorServiceManager().newCachedThreadPool(this, "Cool");
+        assertNotNull(pool);
+
+        if (ThreadHelper.isVirtualThreadsSupported()) {
+            // virtual threads are not pooled, and a cached thread pool is unlimited
+            ThreadPerTaskExecutor executor = assertIsInstanceOf(ThreadPerTaskExecutor.class, pool);
+            assertEquals(-1, executor.getLimit());
+        } else {
+            ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+            assertEquals(Integer.MAX_VALUE, tp.getMaximumPoolSize());
+        }
+
+        context.stop();
+
+        assertTrue(pool.isShutdown());
+    }
+
     @Test
     public void testNewThreadPoolProfileById() throws Exception {
         assertNull(context.getExecutorServiceManager().getThreadPoolProfile("foo"));
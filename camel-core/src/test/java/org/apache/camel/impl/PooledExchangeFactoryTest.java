@@ -0,0 +1,165 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.PooledExchangeFactory;
+import org.junit.Test;
+
+public class PooledExchangeFactoryTest extends ContextTestSupport {
+
+    private PooledExchangeFactory factory;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        factory = new PooledExchangeFactory(2);
+        factory.setLeakDetection(true);
+        context.setExchangeFactory(factory);
+        return context;
+    }
+
+    @Test
+    public void testDefaultExchangeFactory() throws Exception {
+        ExchangeFactory ef = new DefaultCamelContext().getExchangeFactory();
+        assertIsInstanceOf(DefaultExchangeFactory.class, ef);
+        assertFalse(ef.isPooled());
+    }
+
+    @Test
+    public void testPooled() throws Exception {
+        assertSame(factory, context.getExchangeFactory());
+        assertTrue(factory.isPooled());
+
+        Endpoint endpoint = context.getEndpoint("direct:start");
+        Exchange exchange = endpoint.createExchange(ExchangePattern.InOut);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+        exchange.setProperty("bar", 456);
+        exchange.setException(new IllegalArgumentException("Forced"));
+        String id = exchange.getExchangeId();
+        assertEquals(1, factory.getCreatedCounter());
+        assertEquals(1, factory.getLeakCandidates());
+
+        assertTrue(factory.release(exchange));
+        assertEquals(1, factory.getReleasedCounter());
+        assertEquals(1, factory.getSize());
+        assertEquals(0, factory.getLeakCandidates());
+
+        // should reuse the released exchange which has been reset
+        Exchange reused = endpoint.createExchange();
+        assertSame(exchange, reused);
+        assertEquals(1, factory.getAcquiredCounter());
+        assertEquals(0, factory.getSize());
+        assertNull(reused.getIn().getBody());
+        assertFalse(reused.getIn().hasHeaders());
+        assertFalse(reused.hasProperties());
+        assertNull(reused.getException());
+        assertFalse(id.equals(reused.getExchangeId()));
+        assertEquals(ExchangePattern.InOnly, reused.getPattern());
+        assertSame(endpoint, reused.getFromEndpoint());
+    }
+
+    @Test
+    public void testMessageSetOnOtherExchangeIsNotReused() throws Exception {
+        Endpoint endpoint = context.getEndpoint("direct:start");
+        Exchange exchange = endpoint.createExchange();
+        Message in = exchange.getIn();
+        in.setBody("Hello World");
+
+        // the message is now used by another exchange
+        Exchange other = new DefaultExchange(context);
+        other.setIn(in);
+
+        assertTrue(factory.release(exchange));
+        Exchange reused = endpoint.createExchange();
+        assertSame(exchange, reused);
+        assertNotSame(in, reused.getIn());
+        assertEquals("Hello World", other.getIn().getBody());
+    }
+
+    @Test
+    public void testReleaseFromOtherCamelContext() throws Exception {
+        CamelContext other = new DefaultCamelContext();
+        Exchange exchange = new DefaultExchange(other);
+
+        assertFalse(factory.release(exchange));
+        assertEquals(0, factory.getSize());
+        assertEquals(0, factory.getReleasedCounter());
+        assertEquals(1, factory.getDiscardedCounter());
+    }
+
+    @Test
+    public void testReleaseTwice() throws Exception {
+        Exchange exchange = context.getEndpoint("direct:start").createExchange();
+
+        assertTrue(factory.release(exchange));
+        // must not be added twice to the pool
+        assertFalse(factory.release(exchange));
+        assertEquals(1, factory.getSize());
+    }
+
+    @Test
+    public void testCapacity() throws Exception {
+        Endpoint endpoint = context.getEndpoint("direct:start");
+        Exchange e1 = endpoint.createExchange();
+        Exchange e2 = endpoint.createExchange();
+        Exchange e3 = endpoint.createExchange();
+        assertEquals(3, factory.getCreatedCounter());
+        assertEquals(3, factory.getLeakCandidates());
+
+        assertTrue(factory.release(e1));
+        assertTrue(factory.release(e2));
+        // pool is full
+        assertFalse(factory.release(e3));
+        assertEquals(2, factory.getSize());
+        assertEquals(2, factory.getReleasedCounter());
+        assertEquals(1, factory.getDiscardedCounter());
+        assertEquals(0, factory.getLeakCandidates());
+
+        factory.resetStatistics();
+        assertEquals(0, factory.getCreatedCounter());
+        assertEquals(0, factory.getDiscardedCounter());
+    }
+
+    @Test
+    public void testRouteWithPooledExchanges() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+}
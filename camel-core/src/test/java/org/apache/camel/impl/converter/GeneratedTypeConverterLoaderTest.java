@@ -0,0 +1,154 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Set;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Converter;
+import org.apache.camel.TypeConverterExists;
+import org.apache.camel.TypeConverterLoaderException;
+import org.apache.camel.impl.DefaultClassResolver;
+import org.apache.camel.impl.DefaultFactoryFinderResolver;
+import org.apache.camel.impl.DefaultPackageScanClassResolver;
+import org.apache.camel.spi.TypeConverterLoader;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.SimpleTypeConverter;
+import org.apache.camel.util.ReflectionInjector;
+import org.junit.Test;
+
+public class GeneratedTypeConverterLoaderTest extends ContextTestSupport {
+
+    // the annotation processor generates a loader for this converter class in camel-core
+    private static final String BEAN_CONVERTER = "org.apache.camel.component.bean.BeanConverter";
+
+    @Test
+    public void testLoadGeneratedTypeConverterLoader() throws Exception {
+        Set<String> names = new AnnotationTypeConverterLoader(new DefaultPackageScanClassResolver())
+            .loadTypeConverterLoaders(context.getTypeConverterRegistry());
+
+        assertTrue("Should load the generated loader listed in " + AnnotationTypeConverterLoader.META_INF_SERVICES_TYPE_CONVERTER_LOADER,
+            names.contains(BEAN_CONVERTER));
+    }
+
+    @Test
+    public void testFailedTypeConverterLoaderIsNotSkipped() throws Exception {
+        File file = new File("target/data/TypeConverterLoader");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), MyFailingConverterLoader.class.getName().getBytes(StandardCharsets.UTF_8));
+        final URL url = file.toURI().toURL();
+
+        ClassLoader ccl = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (AnnotationTypeConverterLoader.META_INF_SERVICES_TYPE_CONVERTER_LOADER.equals(name)) {
+                    return Collections.enumeration(Collections.singletonList(url));
+                }
+                return super.getResources(name);
+            }
+        });
+        try {
+            Set<String> names = new AnnotationTypeConverterLoader(new DefaultPackageScanClassResolver())
+                .loadTypeConverterLoaders(context.getTypeConverterRegistry());
+
+            assertTrue(names.contains(BEAN_CONVERTER));
+            // the converter class of the failed loader must still be loaded by introspection
+            String name = MyFailingConverterLoader.class.getName();
+            assertFalse(names.contains(name.substring(0, name.length() - "Loader".length())));
+        } finally {
+            Thread.currentThread().setContextClassLoader(ccl);
+        }
+    }
+
+    @Test
+    public void testPartiallyFailedTypeConverterLoader() throws Exception {
+        File file = new File("target/data/TypeConverterLoader");
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), MyPartialConverterLoader.class.getName().getBytes(StandardCharsets.UTF_8));
+        final URL url = file.toURI().toURL();
+
+        DefaultTypeConverter registry = new DefaultTypeConverter(new DefaultPackageScanClassResolver(), new ReflectionInjector(),
+            new DefaultFactoryFinderResolver().resolveDefaultFactoryFinder(new DefaultClassResolver()), false);
+        registry.setTypeConverterExists(TypeConverterExists.Fail);
+
+        ClassLoader ccl = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (AnnotationTypeConverterLoader.META_INF_SERVICES_TYPE_CONVERTER_LOADER.equals(name)) {
+                    return Collections.enumeration(Collections.singletonList(url));
+                }
+                return super.getResources(name);
+            }
+        });
+        try {
+            // the converter class is introspected after its loader failed, which must not fail
+            // for the type converter the loader has registered before it failed
+            new AnnotationTypeConverterLoader(new DefaultPackageScanClassResolver()) {
+                @Override
+                protected String[] findPackageNames() throws IOException {
+                    return new String[]{MyPartialConverter.class.getName()};
+                }
+            }.load(registry);
+        } finally {
+            Thread.currentThread().setContextClassLoader(ccl);
+        }
+
+        assertEquals(Integer.valueOf(3), registry.convertTo(Integer.class, "abc"));
+        assertEquals(Long.valueOf(3), registry.convertTo(Long.class, "abc"));
+    }
+
+    @Converter
+    public static final class MyPartialConverter {
+
+        @Converter
+        public static Integer toInteger(String value) {
+            return value.length();
+        }
+
+        @Converter
+        public static Long toLong(String value) {
+            return (long) value.length();
+        }
+    }
+
+    public static final class MyPartialConverterLoader implements TypeConverterLoader {
+
+        @Override
+        public void load(TypeConverterRegistry registry) throws TypeConverterLoaderException {
+            registry.addTypeConverter(Integer.class, String.class,
+                new SimpleTypeConverter(false, (type, exchange, value) -> MyPartialConverter.toInteger((String) value)));
+            throw new NoClassDefFoundError("com/foo/Missing");
+        }
+    }
+
+    public static final class MyFailingConverterLoader implements TypeConverterLoader {
+
+        @Override
+        public void load(TypeConverterRegistry registry) throws TypeConverterLoaderException {
+            throw new NoClassDefFoundError("com/foo/Missing");
+        }
+    }
+}
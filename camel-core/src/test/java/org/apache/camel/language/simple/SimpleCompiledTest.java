@@ -0,0 +1,63 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Predicate;
+import org.apache.camel.spi.Language;
+import org.junit.Test;
+
+/**
+ * Runs the tests from {@link SimpleTest} with the simple language in compiled mode.
+ */
+public class SimpleCompiledTest extends SimpleTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(SimpleLanguage.SIMPLE_COMPILED, "true");
+        return context;
+    }
+
+    @Override
+    protected Language assertResolveLanguage(String languageName) {
+        Language language = super.assertResolveLanguage(languageName);
+        if (language instanceof SimpleLanguage) {
+            assertTrue("Simple language should be compiled", ((SimpleLanguage) language).isCompiled());
+        }
+        return language;
+    }
+
+    @Test
+    public void testCompiledModeIsCachedSeparately() throws Exception {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        exchange.getIn().setHeader("foo", 123);
+
+        Predicate compiled = simple.createPredicate("${header.foo} == 123");
+        simple.setCompiled(false);
+        try {
+            Predicate interpreted = simple.createPredicate("${header.foo} == 123");
+            assertNotSame("Should not use the cached compiled predicate", compiled, interpreted);
+            assertTrue(interpreted.matches(exchange));
+            assertSame(interpreted, simple.createPredicate("${header.foo} == 123"));
+        } finally {
+            simple.setCompiled(true);
+        }
+        assertSame(compiled, simple.createPredicate("${header.foo} == 123"));
+        assertTrue(compiled.matches(exchange));
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.CachingIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.FileIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CachingIdempotentRepositoryTest extends ContextTestSupport {
+
+    private File store = new File("target/cachingidempotentfilestore.dat");
+    private CachingIdempotentRepository repo;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        // delete file store before testing
+        if (store.exists()) {
+            store.delete();
+        }
+        // the file store already contains some keys
+        Files.write(store.toPath(), Arrays.asList("1", "2", "3"));
+
+        repo = new CachingIdempotentRepository(FileIdempotentRepository.fileIdempotentRepository(store));
+
+        super.setUp();
+        repo.setCamelContext(context);
+    }
+
+    @Test
+    public void testCacheHits() throws Exception {
+        CachingIdempotentRepository memory = new CachingIdempotentRepository(MemoryIdempotentRepository.memoryIdempotentRepository());
+        memory.start();
+
+        assertTrue(memory.add("A"));
+        assertFalse(memory.add("A"));
+        assertTrue(memory.contains("A"));
+        assertFalse(memory.contains("B"));
+
+        // no bloom filter as the memory repository is not bulk capable
+        assertEquals(0, memory.getBloomFilterSize());
+        assertEquals(2, memory.getCacheHits());
+        assertEquals(2, memory.getRepositoryLookups());
+
+        memory.stop();
+    }
+
+    @Test
+    public void testBloomFilterWarmUp() throws Exception {
+        repo.start();
+
+        assertTrue(repo.getBloomFilterSize() > 0);
+
+        // keys in the file store are detected as duplicates
+        assertFalse(repo.add("1"));
+        assertTrue(repo.contains("2"));
+        assertEquals(2, repo.getRepositoryLookups());
+
+        // new keys are definitely not in the bloom filter so the file store is not looked up
+        assertTrue(repo.add("4"));
+        assertTrue(repo.add("5"));
+        assertFalse(repo.contains("6"));
+        assertEquals(3, repo.getBloomFilterMisses());
+        assertEquals(2, repo.getRepositoryLookups());
+
+        // the new keys are now cached
+        assertFalse(repo.add("4"));
+        assertTrue(repo.contains("5"));
+        assertEquals(2, repo.getCacheHits());
+
+        repo.stop();
+
+        assertStoreContains("1", "2", "3", "4", "5");
+    }
+
+    @Test
+    public void testWriteBehind() throws Exception {
+        repo.setWriteBehindSize(10);
+        // a long timeout so the keys are only written when stopping
+        repo.setWriteBehindTimeout(60000);
+        repo.start();
+
+        assertTrue(repo.add("4"));
+        assertTrue(repo.add("5"));
+        assertFalse(repo.add("4"));
+        assertEquals(2, repo.getPendingSize());
+        assertTrue(repo.contains("5"));
+
+        repo.stop();
+
+        assertEquals(0, repo.getPendingSize());
+        assertStoreContains("1", "2", "3", "4", "5");
+    }
+
+    @Test
+    public void testRemoveAndClear() throws Exception {
+        repo.setWriteBehindSize(10);
+        repo.setWriteBehindTimeout(60000);
+        repo.start();
+
+        assertTrue(repo.add("4"));
+        assertTrue(repo.remove("4"));
+        assertFalse(repo.contains("4"));
+        assertTrue(repo.remove("1"));
+        assertFalse(repo.contains("1"));
+
+        // a removed key can be added again
+        assertTrue(repo.add("1"));
+        assertTrue(repo.contains("1"));
+
+        repo.clear();
+        assertFalse(repo.contains("1"));
+        assertFalse(repo.contains("2"));
+        assertTrue(repo.add("2"));
+
+        repo.stop();
+
+        assertStoreContains("2");
+    }
+
+    @Test
+    public void testIdempotentConsumer() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .idempotentConsumer(header("messageId"), repo)
+                    .to("mock:result");
+            }
+        });
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("four", "five");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "four", "messageId", "4");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+        template.sendBodyAndHeader("direct:start", "four", "messageId", "4");
+        template.sendBodyAndHeader("direct:start", "five", "messageId", "5");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private void assertStoreContains(String... keys) throws Exception {
+        List<String> lines = Files.readAllLines(store.toPath());
+        assertEquals(Arrays.asList(keys), lines);
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.AbstractListAggregationStrategy;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.apache.camel.processor.aggregate.GroupedExchangeAggregationStrategy;
+import org.apache.camel.processor.aggregate.GroupedMessageAggregationStrategy;
+import org.junit.Test;
+
+public class SplitterParallelCombineAggregationTest extends ContextTestSupport {
+
+    private static final int SIZE = 1000;
+
+    private final AtomicInteger combined = new AtomicInteger();
+
+    @Test
+    public void testGroupedBody() throws Exception {
+        List<Integer> body = createBody();
+
+        List<?> out = template.requestBody("direct:grouped", body, List.class);
+
+        assertEquals(SIZE, out.size());
+        List<Integer> sorted = new ArrayList<>();
+        for (Object o : out) {
+            sorted.add((Integer) o);
+        }
+        Collections.sort(sorted);
+        assertEquals(body, sorted);
+    }
+
+    @Test
+    public void testCombineSum() throws Exception {
+        Integer out = template.requestBody("direct:sum", createBody(), Integer.class);
+
+        assertEquals(SIZE * (SIZE - 1) / 2, out.intValue());
+        assertTrue("Should combine partial aggregations", combined.get() > 0);
+    }
+
+    @Test
+    public void testListStrategyCanCombine() throws Exception {
+        assertTrue(new GroupedBodyAggregationStrategy().canCombine());
+        assertTrue(new GroupedExchangeAggregationStrategy().canCombine());
+        assertTrue(new GroupedMessageAggregationStrategy().canCombine());
+        // the partial aggregations of a strategy with a custom aggregate method cannot be combined as lists
+        assertFalse(new FirstAggregationStrategy().canCombine());
+    }
+
+    @Test
+    public void testCustomListAggregate() throws Exception {
+        Object out = template.requestBody("direct:first", createBody());
+
+        assertEquals(0, out);
+    }
+
+    private static List<Integer> createBody() {
+        List<Integer> body = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            body.add(i);
+        }
+        return body;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:grouped")
+                    .split(body(), new GroupedBodyAggregationStrategy()).streaming().parallelProcessing()
+                        .to("log:grouped?level=OFF")
+                    .end();
+
+                from("direct:first")
+                    .split(body(), new FirstAggregationStrategy()).streaming().parallelProcessing()
+                        .to("log:first?level=OFF")
+                    .end();
+
+                from("direct:sum")
+                    .split(body(), new SumAggregationStrategy()).streaming().parallelProcessing()
+                        .to("log:sum?level=OFF")
+                    .end();
+            }
+        };
+    }
+
+    /**
+     * A list strategy which keeps track of the lowest value in its aggregate method, which the combine method is unaware of.
+     */
+    private static class FirstAggregationStrategy extends AbstractListAggregationStrategy<Integer> {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            Exchange answer = super.aggregate(oldExchange, newExchange);
+            Integer value = newExchange.getIn().getBody(Integer.class);
+            Integer first = answer.getProperty("first", Integer.class);
+            if (first == null || value < first) {
+                answer.setProperty("first", value);
+            }
+            return answer;
+        }
+
+        @Override
+        public Integer getValue(Exchange exchange) {
+            return exchange.getIn().getBody(Integer.class);
+        }
+
+        @Override
+        public void onCompletion(Exchange exchange) {
+            exchange.getIn().setBody(exchange.getProperty("first"));
+        }
+    }
+
+    /**
+     * A strategy which is not thread-safe, as the partial aggregations are only used by one thread at a time.
+     */
+    private class SumAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            int sum = oldExchange.getIn().getBody(int.class) + newExchange.getIn().getBody(int.class);
+            try {
+                // slow aggregation so the threads aggregate concurrently
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                // ignore
+            }
+            oldExchange.getIn().setBody(sum);
+            return oldExchange;
+        }
+
+        @Override
+        public boolean canCombine() {
+            return true;
+        }
+
+        @Override
+        public Exchange combine(Exchange oldExchange, Exchange newExchange) {
+            combined.incrementAndGet();
+            return aggregate(oldExchange, newExchange);
+        }
+    }
+}
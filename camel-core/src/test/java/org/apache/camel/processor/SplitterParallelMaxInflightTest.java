@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.GroupedBodyAggregationStrategy;
+import org.junit.Test;
+
+public class SplitterParallelMaxInflightTest extends ContextTestSupport {
+
+    private static final int SIZE = 50;
+    private static final int MAX_INFLIGHT = 3;
+
+    private final AtomicInteger split = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger maxSeen = new AtomicInteger();
+
+    @Test
+    public void testSplitMaxInflight() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().method("size").isEqualTo(SIZE);
+
+        template.sendBody("direct:start", new CountingIterator());
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(SIZE, completed.get());
+        assertTrue("Should not exceed " + MAX_INFLIGHT + " in-flight messages, was " + maxSeen.get(), maxSeen.get() <= MAX_INFLIGHT);
+    }
+
+    @Test
+    public void testMulticastMaxInflight() throws Exception {
+        getMockEndpoint("mock:a").expectedMessageCount(1);
+        getMockEndpoint("mock:b").expectedMessageCount(1);
+        getMockEndpoint("mock:c").expectedMessageCount(1);
+        getMockEndpoint("mock:d").expectedMessageCount(1);
+        getMockEndpoint("mock:multicast").expectedMessageCount(1);
+
+        template.sendBody("direct:multicast", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .split(body(), new GroupedBodyAggregationStrategy()).streaming().parallelProcessing().maxInflight(MAX_INFLIGHT)
+                        .process(e -> {
+                            // simulate slow downstream processing
+                            Thread.sleep(5);
+                            completed.incrementAndGet();
+                        })
+                    .end()
+                    .to("mock:result");
+
+                from("direct:multicast")
+                    .multicast().parallelProcessing().maxInflight(2)
+                        .to("mock:a", "mock:b", "mock:c", "mock:d")
+                    .end()
+                    .to("mock:multicast");
+            }
+        };
+    }
+
+    private class CountingIterator implements Iterator<Integer> {
+
+        @Override
+        public boolean hasNext() {
+            return split.get() < SIZE;
+        }
+
+        @Override
+        public Integer next() {
+            int index = split.incrementAndGet();
+            // the sub exchange is aggregated shortly after it has completed so allow for that
+            int inflight = index - completed.get();
+            maxSeen.accumulateAndGet(inflight, Math::max);
+            return index;
+        }
+    }
+}
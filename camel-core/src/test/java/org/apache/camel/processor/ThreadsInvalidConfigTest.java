@@ -174,4 +174,23 @@ public class ThreadsInvalidConfigTest extends ContextTestSupport {
         fail();
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testFailIfVirtualThreadsAndExecutorServiceRef() throws Exception {
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    context.getExecutorServiceManager().registerThreadPoolProfile(threadPoolProfile);
+                    from("direct:start")
+                            .threads().executorServiceRef(threadPoolProfile.getId()).virtualThreads(true)
+                            .to("mock:test");
+                }
+            });
+        } catch (FailedToCreateRouteException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+            assertTrue(e.getCause().getMessage().startsWith("VirtualThreads"));
+            return;
+        }
+        fail();
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class ThreadsVirtualThreadsTest extends ContextTestSupport {
+
+    @Test
+    public void testThreadsVirtualThreads() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        // the thread name should be used regardless if virtual threads is supported by the JVM
+        getMockEndpoint("mock:result").allMessages().header("threadName").contains("myPool");
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    // use virtual threads (if the JVM supports it) with at most 5 concurrent tasks
+                    .threads().poolSize(5).maxPoolSize(5).threadName("myPool").virtualThreads(true)
+                    .process(e -> e.getIn().setHeader("threadName", Thread.currentThread().getName()))
+                    .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.junit.Test;
+
+public class AggregateLockStripingTest extends ContextTestSupport {
+
+    private final int size = 200;
+
+    @Test
+    public void testAggregateLockStriping() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int id = i % 5;
+            final int count = i;
+            tasks.add(new Callable<Object>() {
+                public Object call() throws Exception {
+                    template.sendBodyAndHeader("direct:start", "" + count, "id", id);
+                    return null;
+                }
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+
+        // submit all tasks
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+    }
+
+    @Test
+    public void testAggregateLockStripingTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+
+        template.sendBodyAndHeader("direct:timeout", "A", "id", 1);
+        template.sendBodyAndHeader("direct:timeout", "C", "id", 2);
+        template.sendBodyAndHeader("direct:timeout", "B", "id", 1);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripingInterval() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:interval");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+
+        template.sendBodyAndHeader("direct:interval", "A", "id", 1);
+        template.sendBodyAndHeader("direct:interval", "C", "id", 2);
+        template.sendBodyAndHeader("direct:interval", "B", "id", 1);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripingCompletionOnNewCorrelationGroup() throws Exception {
+        getMockEndpoint("mock:newGroup").expectedBodiesReceived("A+A", "B+B", "C+C+C");
+
+        template.sendBodyAndHeader("direct:newGroup", "A", "id", 1);
+        template.sendBodyAndHeader("direct:newGroup", "A", "id", 1);
+        template.sendBodyAndHeader("direct:newGroup", "B", "id", 2);
+        template.sendBodyAndHeader("direct:newGroup", "B", "id", 2);
+        template.sendBodyAndHeader("direct:newGroup", "C", "id", 3);
+        template.sendBodyAndHeader("direct:newGroup", "C", "id", 3);
+        template.sendBodyAndHeader("direct:newGroup", "C", "id", 3);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripingCompleteAllGroupsInAggregationStrategy() throws Exception {
+        getMockEndpoint("mock:completeAll").expectedBodiesReceived("AAA", "BB");
+
+        template.sendBody("direct:completeAll", "A,A,A,B,B");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripingCompleteAllGroupsHeader() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:completeAllHeader");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+
+        template.sendBodyAndHeader("direct:completeAllHeader", "A", "id", 1);
+        template.sendBodyAndHeader("direct:completeAllHeader", "C", "id", 2);
+        template.sendBodyAndHeader("direct:completeAllHeader", "B", "id", 1);
+        mock.assertIsNotSatisfied(100);
+
+        template.sendBodyAndHeader("direct:completeAllHeader", "X", Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateTooManyLockStripes() throws Exception {
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:tooMany")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(3).lockStripes(Integer.MAX_VALUE)
+                            .to("mock:tooMany");
+                }
+            });
+            fail("Should have thrown exception");
+        } catch (Exception e) {
+            IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertTrue(cause.getMessage().startsWith("Option lockStripes must be at most"));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(40).lockStripes(16)
+                        .to("mock:result");
+
+                from("direct:timeout")
+                    .aggregate(header("id"), new BodyInAggregatingStrategy()).completionTimeout(500).completionTimeoutCheckerInterval(100).lockStripes(16)
+                        .to("mock:timeout");
+
+                from("direct:newGroup")
+                    .aggregate(header("id"), new BodyInAggregatingStrategy()).completionOnNewCorrelationGroup().completionSize(3).lockStripes(16)
+                        .to("mock:newGroup");
+
+                from("direct:completeAll")
+                    .split(body())
+                        .aggregate(simple("${body}"), new AggregateForceCompletionHeaderInAggregationStrategyTest.MyAggregationStrategy())
+                            .completionPredicate(exchangeProperty(Exchange.SPLIT_COMPLETE)).lockStripes(16)
+                        .to("mock:completeAll");
+
+                from("direct:completeAllHeader")
+                    .aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(10).lockStripes(16)
+                        .to("mock:completeAllHeader");
+
+                from("direct:interval")
+                    .aggregate(header("id"), new BodyInAggregatingStrategy()).completionInterval(500).lockStripes(16)
+                        .to("mock:interval");
+            }
+        };
+    }
+}
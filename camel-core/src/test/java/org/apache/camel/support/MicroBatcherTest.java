@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MicroBatcherTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testFlushWhenFull() throws Exception {
+        MicroBatcher<Integer> batcher = new MicroBatcher<>(scheduler, 3, 60000, batches::add);
+        for (int i = 0; i < 7; i++) {
+            batcher.add(i);
+        }
+
+        assertEquals(2, batches.size());
+        assertEquals("[0, 1, 2]", batches.get(0).toString());
+        assertEquals("[3, 4, 5]", batches.get(1).toString());
+        assertEquals(1, batcher.size());
+
+        batcher.flush();
+        assertEquals(3, batches.size());
+        assertEquals("[6]", batches.get(2).toString());
+        assertEquals(0, batcher.size());
+    }
+
+    @Test
+    public void testFlushOnTimeout() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        MicroBatcher<Integer> batcher = new MicroBatcher<>(scheduler, 100, 50, b -> {
+            batches.add(b);
+            latch.countDown();
+        });
+        batcher.add(1);
+        batcher.add(2);
+
+        assertTrue("Should flush on timeout", latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, batches.size());
+        assertEquals("[1, 2]", batches.get(0).toString());
+        assertEquals(0, batcher.size());
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        MicroBatcher<Integer> batcher = new MicroBatcher<>(scheduler, 10, 20, batches::add);
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    batcher.add(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        batcher.flush();
+
+        int total = 0;
+        for (List<Integer> batch : batches) {
+            assertTrue(batch.size() <= 10);
+            total += batch.size();
+        }
+        assertEquals(8000, total);
+    }
+
+    @Test
+    public void testAddAfterShutdown() throws Exception {
+        MicroBatcher<Integer> batcher = new MicroBatcher<>(scheduler, 3, 60000, batches::add);
+        batcher.add(1);
+        batcher.add(2);
+
+        batcher.shutdown();
+        assertTrue(batcher.isShutdown());
+        assertEquals(1, batches.size());
+        assertEquals("[1, 2]", batches.get(0).toString());
+
+        // the scheduler is no longer used so it can be shutdown
+        scheduler.shutdownNow();
+        batcher.add(3);
+        assertEquals(2, batches.size());
+        assertEquals("[3]", batches.get(1).toString());
+        assertEquals(0, batcher.size());
+    }
+
+    @Test
+    public void testIsDataManipulation() throws Exception {
+        assertTrue(MicroBatchStatement.isDataManipulation("insert into foo values (1)"));
+        assertTrue(MicroBatchStatement.isDataManipulation("  UPDATE foo set bar = 1"));
+        assertTrue(MicroBatchStatement.isDataManipulation("delete from foo"));
+        assertTrue(MicroBatchStatement.isDataManipulation("MERGE"));
+        assertFalse(MicroBatchStatement.isDataManipulation("select * from foo"));
+        assertFalse(MicroBatchStatement.isDataManipulation("inserted"));
+        assertFalse(MicroBatchStatement.isDataManipulation(null));
+    }
+}
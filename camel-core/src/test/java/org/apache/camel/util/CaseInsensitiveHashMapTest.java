@@ -0,0 +1,197 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CaseInsensitiveHashMapTest extends Assert {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+        map.put("Bar", 123);
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals(123, map.get("bar"));
+        assertTrue(map.containsKey("BAR"));
+        assertTrue(map.keySet().contains("bAr"));
+        assertFalse(map.containsKey("baz"));
+
+        // the original key case is kept
+        map.put("FOO", "cake");
+        assertEquals(2, map.size());
+        assertEquals("cake", map.get("foo"));
+        assertEquals("foo", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        for (int i = 0; i < 20; i++) {
+            map.put("key" + i, i);
+        }
+        map.remove("KEY5");
+        map.remove("key19");
+        map.put("key5", 5);
+
+        List<String> keys = new ArrayList<>(map.keySet());
+        assertEquals(19, keys.size());
+        assertEquals("key0", keys.get(0));
+        assertEquals("key4", keys.get(4));
+        assertEquals("key6", keys.get(5));
+        assertEquals("key5", keys.get(18));
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> copy = new CaseInsensitiveHashMap(map);
+        assertEquals(map, copy);
+
+        // changing the copy should not affect the original
+        copy.put("FOO", "cake");
+        copy.put("baz", true);
+        copy.remove("bar");
+        assertEquals("cheese", map.get("foo"));
+        assertEquals(123, map.get("bar"));
+        assertNull(map.get("baz"));
+        assertEquals(2, map.size());
+
+        // changing the original should not affect the copy
+        Map<String, Object> copy2 = new CaseInsensitiveHashMap(map);
+        map.entrySet().iterator().next().setValue("beer");
+        map.clear();
+        assertEquals(2, copy2.size());
+        assertEquals("cheese", copy2.get("FOO"));
+        assertEquals(123, copy2.get("BAR"));
+        assertTrue(map.isEmpty());
+        assertNull(map.get("foo"));
+    }
+
+    @Test
+    public void testPutAllEmptySharesStorage() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+
+        Map<String, Object> other = new CaseInsensitiveHashMap();
+        other.putAll(map);
+        assertEquals("cheese", other.get("FOO"));
+
+        Iterator<String> it = other.keySet().iterator();
+        it.next();
+        it.remove();
+        assertTrue(other.isEmpty());
+        assertEquals("cheese", map.get("foo"));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        // compare against a hash map using lower case keys
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        Map<String, Object> expected = new HashMap<>();
+        List<Map<String, Object>> copies = new ArrayList<>();
+        List<Map<String, Object>> expectedCopies = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            String key = "Key" + random.nextInt(100);
+            if (random.nextBoolean()) {
+                key = key.toUpperCase(Locale.ENGLISH);
+            }
+            int op = random.nextInt(10);
+            if (op < 5) {
+                assertEquals(expected.put(key.toLowerCase(Locale.ENGLISH), i), map.put(key, i));
+            } else if (op < 8) {
+                assertEquals(expected.remove(key.toLowerCase(Locale.ENGLISH)), map.remove(key));
+            } else if (op == 8) {
+                assertEquals(expected.get(key.toLowerCase(Locale.ENGLISH)), map.get(key));
+            } else if (copies.size() < 50) {
+                copies.add(new CaseInsensitiveHashMap(map));
+                expectedCopies.add(new HashMap<>(expected));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            assertEquals(expected.get(entry.getKey().toLowerCase(Locale.ENGLISH)), entry.getValue());
+        }
+
+        // the copies should be unaffected by the changes
+        for (int i = 0; i < copies.size(); i++) {
+            Map<String, Object> copy = copies.get(i);
+            Map<String, Object> expectedCopy = expectedCopies.get(i);
+            assertEquals(expectedCopy.size(), copy.size());
+            for (Map.Entry<String, Object> entry : expectedCopy.entrySet()) {
+                assertEquals(entry.getValue(), copy.get(entry.getKey().toUpperCase(Locale.ENGLISH)));
+            }
+        }
+    }
+
+    @Test
+    public void testNonAsciiKeys() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Größe", 1);
+        map.put("ÆBLE", 2);
+
+        assertEquals(1, map.get("GRÖßE"));
+        assertEquals(1, map.get("größe"));
+        assertEquals(2, map.get("æble"));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("bar", Arrays.asList(1, 2, 3));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(map);
+        out.close();
+
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        CaseInsensitiveHashMap copy = (CaseInsensitiveHashMap) in.readObject();
+
+        assertEquals(map, copy);
+        assertEquals("cheese", copy.get("FOO"));
+        copy.put("baz", 123);
+        assertEquals(3, copy.size());
+    }
+
+}
@@ -17,7 +17,9 @@
 package org.apache.camel.util;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ContextTestSupport;
@@ -25,9 +27,11 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.NoSuchBeanException;
 import org.apache.camel.Processor;
+import org.apache.camel.TypeConversionException;
 import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.impl.SimpleRegistry;
 import org.apache.camel.support.EndpointHelper;
+import org.apache.camel.support.PropertyConfigurerSupport;
 import org.junit.Test;
 
 public class EndpointHelperTest extends ContextTestSupport {
@@ -143,4 +147,88 @@ public class EndpointHelperTest extends ContextTestSupport {
         assertEquals(123, num.intValue());
     }
 
+    @Test
+    public void testSetPropertiesUsingConfigurer() throws Exception {
+        assertNotNull(EndpointHelper.getPropertyConfigurer(MyBean.class));
+        assertNull(EndpointHelper.getPropertyConfigurer(MyOtherBean.class));
+
+        MyBean bean = new MyBean();
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("number", "123");
+        parameters.put("name", "Camel");
+        parameters.put("cheese", "Gauda");
+        EndpointHelper.setProperties(context, bean, parameters);
+
+        assertEquals(123, bean.getNumber());
+        assertEquals("Camel", bean.getName());
+        assertEquals("Gauda", bean.getCheese());
+        assertTrue(parameters.isEmpty());
+        // only the properties known by the configurer are set without reflection
+        assertEquals(2, bean.configured);
+    }
+
+    @Test
+    public void testSetPropertiesUsingConfigurerInvalidValue() throws Exception {
+        MyBean bean = new MyBean();
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("number", "abc");
+        try {
+            EndpointHelper.setProperties(context, bean, parameters);
+            fail("Should have thrown exception");
+        } catch (TypeConversionException e) {
+            // same failure as when using reflection
+            assertEquals("abc", e.getValue());
+            assertEquals(int.class, e.getToType());
+        }
+    }
+
+    public static class MyBean {
+        private int number;
+        private String name;
+        private String cheese;
+        private int configured;
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getCheese() {
+            return cheese;
+        }
+
+        public void setCheese(String cheese) {
+            this.cheese = cheese;
+        }
+    }
+
+    public static class MyBeanPropertyConfigurer extends PropertyConfigurerSupport {
+
+        @Override
+        public boolean configure(CamelContext camelContext, Object target, String name, Object value) throws Exception {
+            MyBean bean = (MyBean) target;
+            switch (name) {
+            case "number": bean.setNumber(property(camelContext, int.class, value)); break;
+            case "name": bean.setName(property(camelContext, String.class, value)); break;
+            default: return false;
+            }
+            bean.configured++;
+            return true;
+        }
+    }
+
+    public static class MyOtherBean {
+    }
+
 }
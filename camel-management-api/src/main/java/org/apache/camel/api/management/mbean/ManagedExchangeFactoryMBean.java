@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedExchangeFactoryMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Whether the exchanges are pooled")
+    boolean isPooled();
+
+    @ManagedAttribute(description = "Maximum number of exchanges to keep in the pool")
+    int getCapacity();
+
+    @ManagedAttribute(description = "Current number of exchanges in the pool")
+    int getSize();
+
+    @ManagedAttribute(description = "Number of new exchanges created (pool miss)")
+    long getCreatedCounter();
+
+    @ManagedAttribute(description = "Number of exchanges acquired from the pool (pool hit)")
+    long getAcquiredCounter();
+
+    @ManagedAttribute(description = "Number of exchanges released back to the pool")
+    long getReleasedCounter();
+
+    @ManagedAttribute(description = "Number of exchanges discarded when released, such as when the pool is full")
+    long getDiscardedCounter();
+
+    @ManagedAttribute(description = "Whether leak detection is enabled")
+    boolean isLeakDetection();
+
+    @ManagedAttribute(description = "Number of exchanges acquired and not yet released (only tracked when leak detection is enabled)")
+    int getLeakCandidates();
+
+    @ManagedOperation(description = "Reset the statistics")
+    void resetStatistics();
+
+}
@@ -55,6 +55,15 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether used heap memory limit is committed or maximum")
     SpoolUsedHeapMemoryLimit getSpoolUsedHeapMemoryLimit();
 
+    @ManagedAttribute(description = "Limit in bytes of off-heap memory to use for in-memory stream caches (0 = not in use)")
+    void setOffHeapMemoryLimit(long limit);
+
+    @ManagedAttribute(description = "Limit in bytes of off-heap memory to use for in-memory stream caches (0 = not in use)")
+    long getOffHeapMemoryLimit();
+
+    @ManagedAttribute(description = "Number of bytes of off-heap memory currently in use by stream caches")
+    long getOffHeapMemoryUsed();
+
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     void setBufferSize(int bufferSize);
 
@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Service;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedExchangeFactoryMBean;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.PooledExchangeFactory;
+
+@ManagedResource(description = "Managed ExchangeFactory")
+public class ManagedExchangeFactory extends ManagedService implements ManagedExchangeFactoryMBean {
+
+    private final ExchangeFactory exchangeFactory;
+
+    public ManagedExchangeFactory(CamelContext context, ExchangeFactory exchangeFactory) {
+        super(context, (Service) exchangeFactory);
+        this.exchangeFactory = exchangeFactory;
+    }
+
+    public ExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    @Override
+    public boolean isPooled() {
+        return exchangeFactory.isPooled();
+    }
+
+    @Override
+    public int getCapacity() {
+        return exchangeFactory.getCapacity();
+    }
+
+    @Override
+    public int getSize() {
+        return exchangeFactory.getSize();
+    }
+
+    @Override
+    public long getCreatedCounter() {
+        return exchangeFactory.getCreatedCounter();
+    }
+
+    @Override
+    public long getAcquiredCounter() {
+        return exchangeFactory.getAcquiredCounter();
+    }
+
+    @Override
+    public long getReleasedCounter() {
+        return exchangeFactory.getReleasedCounter();
+    }
+
+    @Override
+    public long getDiscardedCounter() {
+        return exchangeFactory.getDiscardedCounter();
+    }
+
+    @Override
+    public boolean isLeakDetection() {
+        if (exchangeFactory instanceof PooledExchangeFactory) {
+            return ((PooledExchangeFactory) exchangeFactory).isLeakDetection();
+        }
+        return false;
+    }
+
+    @Override
+    public int getLeakCandidates() {
+        if (exchangeFactory instanceof PooledExchangeFactory) {
+            return ((PooledExchangeFactory) exchangeFactory).getLeakCandidates();
+        }
+        return 0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        exchangeFactory.resetStatistics();
+    }
+}
@@ -42,7 +42,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
     private Statistic totalProcessingTime;
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
-    private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -68,7 +68,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         this.totalProcessingTime = new StatisticCounter();
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
-        this.meanProcessingTime = new StatisticValue();
+        this.processingTimeHistogram = new StatisticHistogram();
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -90,7 +90,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         totalProcessingTime.reset();
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
-        meanProcessingTime.reset();
+        processingTimeHistogram.reset();
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -130,7 +130,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
     }
 
     public long getMeanProcessingTime() throws Exception {
-        return meanProcessingTime.getValue();
+        return meanProcessingTime();
     }
 
     public long getMaxProcessingTime() throws Exception {
@@ -149,6 +149,22 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         return deltaProcessingTime.getValue();
     }
 
+    public long getP50ProcessingTime() throws Exception {
+        return processingTimeAtPercentile(50.0d);
+    }
+
+    public long getP90ProcessingTime() throws Exception {
+        return processingTimeAtPercentile(90.0d);
+    }
+
+    public long getP99ProcessingTime() throws Exception {
+        return processingTimeAtPercentile(99.0d);
+    }
+
+    public long getP999ProcessingTime() throws Exception {
+        return processingTimeAtPercentile(99.9d);
+    }
+
     public Date getLastExchangeCompletedTimestamp() {
         long value = lastExchangeCompletedTimestamp.getValue();
         return value > 0 ? new Date(value) : null;
@@ -215,6 +231,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        processingTimeHistogram.updateValue(time);
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -226,14 +243,6 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
             firstExchangeCompletedExchangeId = exchange.getExchangeId();
         }
         lastExchangeCompletedExchangeId = exchange.getExchangeId();
-
-        // update mean
-        long mean = 0;
-        long completed = exchangesCompleted.getValue();
-        if (completed > 0) {
-            mean = totalProcessingTime.getValue() / completed;
-        }
-        meanProcessingTime.updateValue(mean);
     }
 
     public void failedExchange(Exchange exchange) {
@@ -274,7 +283,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         sb.append(String.format(" totalProcessingTime=\"%s\"", totalProcessingTime.getValue()));
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
-        sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime()));
+        sb.append(String.format(" p50ProcessingTime=\"%s\"", processingTimeAtPercentile(50.0d)));
+        sb.append(String.format(" p90ProcessingTime=\"%s\"", processingTimeAtPercentile(90.0d)));
+        sb.append(String.format(" p99ProcessingTime=\"%s\"", processingTimeAtPercentile(99.0d)));
+        sb.append(String.format(" p999ProcessingTime=\"%s\"", processingTimeAtPercentile(99.9d)));
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
@@ -292,6 +305,18 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         return sb.toString();
     }
 
+    private long meanProcessingTime() {
+        // the mean is calculated when queried, so the counters are not summed up for every exchange
+        long completed = exchangesCompleted.getValue();
+        return completed > 0 ? totalProcessingTime.getValue() / completed : 0;
+    }
+
+    private long processingTimeAtPercentile(double percentile) {
+        // the histogram value is the highest value of its bucket, so cap it by the max processing time
+        long value = processingTimeHistogram.getValueAtPercentile(percentile);
+        return Math.min(value, maxProcessingTime.getValue());
+    }
+
     private static String dateAsString(long value) {
         if (value == 0) {
             return "";
@@ -104,6 +104,18 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         }
     }
 
+    public void setOffHeapMemoryLimit(long limit) {
+        streamCachingStrategy.setOffHeapMemoryLimit(limit);
+    }
+
+    public long getOffHeapMemoryLimit() {
+        return streamCachingStrategy.getOffHeapMemoryLimit();
+    }
+
+    public long getOffHeapMemoryUsed() {
+        return streamCachingStrategy.getOffHeapMemoryUsed();
+    }
+
     public void setBufferSize(int bufferSize) {
         streamCachingStrategy.setBufferSize(bufferSize);
     }
@@ -16,27 +16,42 @@
  */
 package org.apache.camel.management.mbean;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * A counter which is backed by a {@link LongAdder}, so many threads can update the counter
+ * concurrently without contending on a single value. Reading the value is more costly, as the
+ * striped cells are summed up, which is okay as the value is only read when querying the statistics.
+ */
 public class StatisticCounter extends Statistic {
 
-    private final AtomicLong value = new AtomicLong(0);
+    private final LongAdder value = new LongAdder();
 
     public void updateValue(long newValue) {
-        value.getAndAdd(newValue);
+        value.add(newValue);
+    }
+
+    @Override
+    public void increment() {
+        value.increment();
+    }
+
+    @Override
+    public void decrement() {
+        value.decrement();
     }
 
     public long getValue() {
-        return value.get();
+        return value.sum();
     }
 
     @Override
     public String toString() {
-        return "" + value.get();
+        return "" + value.sum();
     }
 
     public void reset() {
-        value.set(0);
+        value.reset();
     }
 
     @Override
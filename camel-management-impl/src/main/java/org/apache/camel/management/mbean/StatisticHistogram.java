@@ -0,0 +1,150 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of recorded values (such as processing times), which can be used
+ * to calculate percentiles such as p50, p90, p99 and p999.
+ * <p/>
+ * The values are recorded into log-linear buckets in the same way as a HDR histogram does, where each power of two range
+ * is divided into 32 linear sub buckets. This means a calculated percentile is accurate within about 3% of the real value,
+ * while a fixed amount of memory is used regardless of how many values has been recorded.
+ * Values from 0 to 63 are recorded exactly, and values above {@link Integer#MAX_VALUE} are recorded as {@link Integer#MAX_VALUE}.
+ * <p/>
+ * As the processing times of a route tends to fall into the same few buckets, then each bucket is a {@link LongAdder}
+ * (as {@link StatisticCounter} uses) so many threads can record values into the same bucket with low contention.
+ * The buckets are created lazily when the first value is recorded into the bucket, so only the buckets in use take up memory.
+ */
+public class StatisticHistogram extends Statistic {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_COUNT = SUB_BUCKET_COUNT << 1;
+    private static final int BUCKET_COUNT = indexOf(Integer.MAX_VALUE) + 1;
+
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+
+    public void updateValue(long newValue) {
+        int index = indexOf(newValue);
+        LongAdder bucket = buckets.get(index);
+        if (bucket == null) {
+            // only one of the threads recording the first value into the bucket creates the bucket
+            buckets.compareAndSet(index, null, new LongAdder());
+            bucket = buckets.get(index);
+        }
+        bucket.increment();
+    }
+
+    /**
+     * Number of values which has been recorded
+     */
+    public long getValue() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += countOf(i);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the value at the given percentile, such as 99.0 for p99.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the highest value of the bucket that holds the value at the given percentile, or 0 if no values has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        // take a snapshot of the buckets as they can be updated concurrently
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = countOf(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        double p = Math.min(Math.max(percentile, 0.0d), 100.0d);
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0d * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return highestValueOf(i);
+            }
+        }
+        return highestValueOf(BUCKET_COUNT - 1);
+    }
+
+    @Override
+    public boolean isUpdated() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (countOf(i) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            LongAdder bucket = buckets.get(i);
+            if (bucket != null) {
+                bucket.reset();
+            }
+        }
+    }
+
+    private long countOf(int index) {
+        LongAdder bucket = buckets.get(index);
+        return bucket != null ? bucket.sum() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "" + getValue();
+    }
+
+    static int indexOf(long value) {
+        if (value < 0) {
+            value = 0;
+        } else if (value > Integer.MAX_VALUE) {
+            value = Integer.MAX_VALUE;
+        }
+        if (value < LINEAR_COUNT) {
+            return (int) value;
+        }
+        // the magnitude is the position of the highest bit, and the sub bucket is the next bits below it
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_COUNT + (shift - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < LINEAR_COUNT) {
+            return index;
+        }
+        int shift = (index - LINEAR_COUNT) / SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - LINEAR_COUNT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
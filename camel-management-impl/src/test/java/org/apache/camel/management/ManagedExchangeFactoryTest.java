@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.PooledExchangeFactory;
+import org.junit.Test;
+
+public class ManagedExchangeFactoryTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        // init the context first (as new DefaultCamelContext() does) so the management is setup
+        // and the factory is enlisted in JMX when added
+        context.init();
+        PooledExchangeFactory factory = new PooledExchangeFactory(10);
+        factory.setLeakDetection(true);
+        context.setExchangeFactory(factory);
+        return context;
+    }
+
+    @Test
+    public void testExchangeFactory() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MBeanServer mbeanServer = getMBeanServer();
+
+        ObjectName on = ObjectName.getInstance("org.apache.camel:context=myCamel,type=services,*");
+
+        Set<ObjectName> names = mbeanServer.queryNames(on, null);
+        ObjectName name = null;
+        for (ObjectName service : names) {
+            if (service.toString().contains("PooledExchangeFactory")) {
+                name = service;
+                break;
+            }
+        }
+        assertNotNull("Cannot find PooledExchangeFactory", name);
+
+        Endpoint endpoint = context.getEndpoint("direct:start");
+        Exchange e1 = endpoint.createExchange();
+        Exchange e2 = endpoint.createExchange();
+        context.getExchangeFactory().release(e1);
+        Exchange e3 = endpoint.createExchange();
+        assertSame(e1, e3);
+
+        Boolean pooled = (Boolean) mbeanServer.getAttribute(name, "Pooled");
+        assertEquals(Boolean.TRUE, pooled);
+
+        Integer capacity = (Integer) mbeanServer.getAttribute(name, "Capacity");
+        assertEquals(10, capacity.intValue());
+
+        Long counter = (Long) mbeanServer.getAttribute(name, "CreatedCounter");
+        assertEquals(2, counter.longValue());
+
+        counter = (Long) mbeanServer.getAttribute(name, "AcquiredCounter");
+        assertEquals(1, counter.longValue());
+
+        counter = (Long) mbeanServer.getAttribute(name, "ReleasedCounter");
+        assertEquals(1, counter.longValue());
+
+        Integer leaks = (Integer) mbeanServer.getAttribute(name, "LeakCandidates");
+        assertEquals(2, leaks.intValue());
+
+        context.getExchangeFactory().release(e2);
+        context.getExchangeFactory().release(e3);
+
+        Integer size = (Integer) mbeanServer.getAttribute(name, "Size");
+        assertEquals(2, size.intValue());
+
+        mbeanServer.invoke(name, "resetStatistics", null, null);
+        counter = (Long) mbeanServer.getAttribute(name, "CreatedCounter");
+        assertEquals(0, counter.longValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                DefaultCamelContext dcc = (DefaultCamelContext) context;
+                dcc.setName("myCamel");
+
+                from("direct:start").routeId("foo")
+                    .to("mock:a");
+            }
+        };
+    }
+
+}
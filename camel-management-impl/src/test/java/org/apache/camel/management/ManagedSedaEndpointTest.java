@@ -53,6 +53,12 @@ public class ManagedSedaEndpointTest extends ManagementTestSupport {
         Boolean singleton = (Boolean) mbeanServer.getAttribute(name, "Singleton");
         assertEquals(true, singleton.booleanValue());
 
+        Boolean ringBuffer = (Boolean) mbeanServer.getAttribute(name, "RingBuffer");
+        assertEquals(false, ringBuffer.booleanValue());
+
+        String waitStrategy = (String) mbeanServer.getAttribute(name, "RingBufferWaitStrategyName");
+        assertEquals("Parking", waitStrategy);
+
         // stop route
         context.getRouteController().stopRoute("foo");
 
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class ManagedStatisticsPercentileTest extends ManagementTestSupport {
+
+    @Test
+    public void testPercentileProcessingTime() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName route = ObjectName.getInstance("org.apache.camel:context=camel-1,type=routes,name=\"route1\"");
+        ObjectName foo = ObjectName.getInstance("org.apache.camel:context=camel-1,type=processors,name=\"foo\"");
+
+        assertEquals(0, ((Long) mbeanServer.getAttribute(route, "P50ProcessingTime")).longValue());
+        assertEquals(0, ((Long) mbeanServer.getAttribute(route, "P999ProcessingTime")).longValue());
+
+        getMockEndpoint("mock:result").expectedMessageCount(20);
+
+        // 18 fast messages and 2 slow messages
+        for (int i = 0; i < 20; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello World", "delay", i % 10 == 9 ? 200 : 0);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        for (ObjectName on : new ObjectName[]{route, foo}) {
+            long p50 = (Long) mbeanServer.getAttribute(on, "P50ProcessingTime");
+            long p90 = (Long) mbeanServer.getAttribute(on, "P90ProcessingTime");
+            long p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+            long p999 = (Long) mbeanServer.getAttribute(on, "P999ProcessingTime");
+            long max = (Long) mbeanServer.getAttribute(on, "MaxProcessingTime");
+
+            // the fast messages are the median, and the slow messages are the tail
+            assertTrue("P50 should be fast: " + p50, p50 < 150);
+            assertTrue("P90 should be fast: " + p90, p90 < 150);
+            assertTrue("P99 should be slow: " + p99, p99 >= 190);
+            assertTrue(p99 <= p999);
+            assertTrue(p999 <= max);
+        }
+
+        String xml = (String) mbeanServer.invoke(route, "dumpStatsAsXml", new Object[]{false}, new String[]{"boolean"});
+        assertTrue(xml, xml.contains("p99ProcessingTime="));
+
+        // reset should clear the percentiles
+        mbeanServer.invoke(route, "reset", null, null);
+        assertEquals(0, ((Long) mbeanServer.getAttribute(route, "P99ProcessingTime")).longValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .delay(header("delay")).id("foo")
+                    .to("mock:result");
+            }
+        };
+    }
+
+}
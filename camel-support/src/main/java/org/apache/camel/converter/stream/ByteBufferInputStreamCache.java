@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} for caching using pooled off-heap buffers.
+ * <p/>
+ * The buffers are shared by the copies of this stream cache, and are released back to the pool
+ * when all the exchanges using the stream cache are done.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final OffHeapBuffers buffers;
+    private final long length;
+    private long position;
+    private int index;
+    private int offset;
+
+    ByteBufferInputStreamCache(OffHeapBuffers buffers, long length) {
+        this.buffers = buffers;
+        this.length = length;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position >= length) {
+            return -1;
+        }
+        ByteBuffer buffer = currentBuffer();
+        position++;
+        return buffer.get(offset++) & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= length) {
+            return -1;
+        }
+        int total = 0;
+        while (len > 0 && position < length) {
+            ByteBuffer buffer = currentBuffer().duplicate();
+            buffer.limit(buffer.position());
+            buffer.position(offset);
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            offset += n;
+            position += n;
+            off += n;
+            len -= n;
+            total += n;
+        }
+        return total;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (n > 0 && position < length) {
+            ByteBuffer buffer = currentBuffer();
+            int s = (int) Math.min(n, buffer.position() - offset);
+            offset += s;
+            position += s;
+            n -= s;
+            skipped += s;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.min(length - position, Integer.MAX_VALUE);
+    }
+
+    private ByteBuffer currentBuffer() throws IOException {
+        List<ByteBuffer> list = buffers.getBuffers();
+        ByteBuffer buffer = list.get(index);
+        while (offset >= buffer.position()) {
+            buffer = list.get(++index);
+            offset = 0;
+        }
+        return buffer;
+    }
+
+    @Override
+    public void reset() {
+        position = 0;
+        index = 0;
+        offset = 0;
+    }
+
+    public void writeTo(OutputStream os) throws IOException {
+        buffers.writeTo(os, position, length);
+    }
+
+    public StreamCache copy(Exchange exchange) throws IOException {
+        buffers.addExchange(exchange);
+        return new ByteBufferInputStreamCache(buffers, length);
+    }
+
+    public boolean inMemory() {
+        return true;
+    }
+
+    public long length() {
+        return length;
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * An {@link OutputStream} which writes to pooled off-heap buffers, and that is capable of returning a
+ * {@link ByteBufferInputStreamCache} view of the buffers.
+ * <p/>
+ * The buffers are acquired from the {@link org.apache.camel.spi.StreamCachingStrategy} when needed,
+ * and {@link #reserve(int)} returns <tt>false</tt> when the off-heap memory limit has been reached.
+ */
+final class CachedByteBufferOutputStream extends OutputStream {
+
+    private final OffHeapBuffers buffers;
+    // index of the buffer currently written to
+    private int index = -1;
+    private long count;
+
+    CachedByteBufferOutputStream(OffHeapBuffers buffers) {
+        this.buffers = buffers;
+    }
+
+    /**
+     * Acquires the buffers needed to write the given number of bytes.
+     *
+     * @return <tt>true</tt> if the bytes can be written, or <tt>false</tt> if the off-heap memory limit has been reached
+     */
+    boolean reserve(int len) throws IOException {
+        List<ByteBuffer> list = buffers.getBuffers();
+        long remaining = 0;
+        for (int i = Math.max(index, 0); i < list.size(); i++) {
+            remaining += list.get(i).remaining();
+        }
+        while (remaining < len) {
+            ByteBuffer buffer = buffers.acquire();
+            if (buffer == null) {
+                return false;
+            }
+            remaining += buffer.capacity();
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        nextBuffer().put((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer buffer = nextBuffer();
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    private ByteBuffer nextBuffer() throws IOException {
+        List<ByteBuffer> list = buffers.getBuffers();
+        if (index >= 0 && list.get(index).hasRemaining()) {
+            return list.get(index);
+        }
+        if (index + 1 == list.size() && buffers.acquire() == null) {
+            throw new IOException("Cannot acquire off-heap buffer as the off-heap memory limit has been reached");
+        }
+        return list.get(++index);
+    }
+
+    /**
+     * Writes the cached data to the given stream
+     */
+    void writeTo(OutputStream os) throws IOException {
+        buffers.writeTo(os, 0, count);
+    }
+
+    long size() {
+        return count;
+    }
+
+    /**
+     * Creates a new {@link ByteBufferInputStreamCache} view of the buffers
+     */
+    ByteBufferInputStreamCache newInputStreamCache() {
+        return new ByteBufferInputStreamCache(buffers, count);
+    }
+}
@@ -30,6 +30,9 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * This output stream will store the content into a File if the stream context size is exceed the
  * THRESHOLD value. The default THRESHOLD value is {@link StreamCache#DEFAULT_SPOOL_THRESHOLD} bytes .
  * <p/>
+ * If an off-heap memory limit is configured on the {@link StreamCachingStrategy}, then the content is stored in pooled
+ * off-heap buffers instead of on the heap. If the off-heap memory limit is reached, then the content is stored into a File.
+ * <p/>
  * The temp file will store in the temp directory, you can configure it by setting the TEMP_DIR property.
  * If you don't set the TEMP_DIR property, it will choose the directory which is set by the
  * system property of "java.io.tmpdir".
@@ -45,6 +48,7 @@ public class CachedOutputStream extends OutputStream {
     private boolean inMemory = true;
     private int totalLength;
     private final TempFileManager tempFileManager;
+    private final OffHeapBuffers offHeapBuffers;
     private final boolean closedOnCompletion;
 
     public CachedOutputStream(Exchange exchange) {
@@ -56,7 +60,14 @@ public class CachedOutputStream extends OutputStream {
         tempFileManager = new TempFileManager(closedOnCompletion);
         tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
-        currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        if (strategy.getOffHeapMemoryLimit() > 0) {
+            offHeapBuffers = new OffHeapBuffers(strategy, closedOnCompletion);
+            offHeapBuffers.addExchange(exchange);
+            currentStream = new CachedByteBufferOutputStream(offHeapBuffers);
+        } else {
+            offHeapBuffers = null;
+            currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        }
     }
 
     public void flush() throws IOException {
@@ -69,6 +80,9 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            if (offHeapBuffers != null) {
+                offHeapBuffers.release();
+            }
         }
     }
 
@@ -92,6 +106,8 @@ public class CachedOutputStream extends OutputStream {
         this.totalLength += len;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
+        } else if (inMemory && currentStream instanceof CachedByteBufferOutputStream) {
+            pageFromOffHeap(len);
         }
         currentStream.write(b, off, len);
     }
@@ -100,6 +116,8 @@ public class CachedOutputStream extends OutputStream {
         this.totalLength += b.length;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
+        } else if (inMemory && currentStream instanceof CachedByteBufferOutputStream) {
+            pageFromOffHeap(b.length);
         }
         currentStream.write(b);
     }
@@ -108,6 +126,8 @@ public class CachedOutputStream extends OutputStream {
         this.totalLength++;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
+        } else if (inMemory && currentStream instanceof CachedByteBufferOutputStream) {
+            pageFromOffHeap(1);
         }
         currentStream.write(b);
     }
@@ -130,6 +150,8 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream) {
                 return ((CachedByteArrayOutputStream) currentStream).newInputStreamCache();
+            } else if (currentStream instanceof CachedByteBufferOutputStream) {
+                return ((CachedByteBufferOutputStream) currentStream).newInputStreamCache();
             } else {
                 throw new IllegalStateException("CurrentStream should be an instance of CachedByteArrayOutputStream but is: " + currentStream.getClass().getName());
             }
@@ -152,6 +174,36 @@ public class CachedOutputStream extends OutputStream {
         }
     }
 
+    private void pageFromOffHeap(int len) throws IOException {
+        CachedByteBufferOutputStream bout = (CachedByteBufferOutputStream) currentStream;
+        if (strategy.shouldSpoolCache(totalLength)) {
+            pageToFileStream(bout);
+        } else if (!bout.reserve(len)) {
+            // the off-heap memory limit is reached
+            if (strategy.getSpoolDirectory() != null) {
+                pageToFileStream(bout);
+            } else {
+                // cannot spool to disk so fallback to the heap
+                CachedByteArrayOutputStream heap = new CachedByteArrayOutputStream((int) Math.max(bout.size() + len, strategy.getBufferSize()));
+                bout.writeTo(heap);
+                currentStream = heap;
+                offHeapBuffers.release();
+            }
+        }
+    }
+
+    private void pageToFileStream(CachedByteBufferOutputStream bout) throws IOException {
+        try {
+            // creates an tmp file and a file output stream
+            currentStream = tempFileManager.createOutputStream(strategy);
+            bout.writeTo(currentStream);
+        } finally {
+            // ensure flag is flipped to file based, and the off-heap memory can be used by other stream caches
+            inMemory = false;
+            offHeapBuffers.release();
+        }
+    }
+
     public int getStrategyBufferSize() {
         return strategy.getBufferSize();
     }
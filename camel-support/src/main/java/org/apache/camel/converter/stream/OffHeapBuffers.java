@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.Synchronization;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.SynchronizationAdapter;
+
+/**
+ * Manages the pooled off-heap buffers that stores the data of a {@link CachedOutputStream}.
+ * <p/>
+ * Counts the number of exchanges which uses the buffers (such as copies of the stream cache from the multicast or wire tap),
+ * and releases the buffers back to the pool of the {@link StreamCachingStrategy} when all the exchanges are done.
+ *
+ * @see CachedByteBufferOutputStream
+ * @see ByteBufferInputStreamCache
+ */
+final class OffHeapBuffers {
+
+    private final StreamCachingStrategy strategy;
+    private final boolean closedOnCompletion;
+    private final AtomicInteger exchangeCounter = new AtomicInteger();
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private volatile boolean released;
+
+    OffHeapBuffers(StreamCachingStrategy strategy, boolean closedOnCompletion) {
+        this.strategy = strategy;
+        this.closedOnCompletion = closedOnCompletion;
+    }
+
+    void addExchange(Exchange exchange) {
+        if (closedOnCompletion) {
+            exchangeCounter.incrementAndGet();
+            Synchronization onCompletion = new SynchronizationAdapter() {
+                @Override
+                public void onDone(Exchange exchange) {
+                    if (exchangeCounter.decrementAndGet() == 0) {
+                        release();
+                    }
+                }
+
+                @Override
+                public String toString() {
+                    return "OnCompletion[CachedOutputStream]";
+                }
+            };
+            UnitOfWork streamCacheUnitOfWork = exchange.getProperty(Exchange.STREAM_CACHE_UNIT_OF_WORK, UnitOfWork.class);
+            if (streamCacheUnitOfWork != null) {
+                // the stream cache of sub routes from the splitter and multicast must be released with the unit of work
+                // of the main route, as the result of the sub routes may be aggregated later in the main route
+                streamCacheUnitOfWork.addSynchronization(onCompletion);
+            } else {
+                exchange.addOnCompletion(onCompletion);
+            }
+        }
+    }
+
+    /**
+     * Acquires one more buffer to write to.
+     *
+     * @return the buffer, or <tt>null</tt> if the off-heap memory limit has been reached
+     */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = strategy.acquireOffHeapBuffer();
+        if (buffer != null) {
+            buffers.add(buffer);
+        }
+        return buffer;
+    }
+
+    List<ByteBuffer> getBuffers() throws IOException {
+        if (released) {
+            throw new IOException("The stream cache has been released as the exchange is done");
+        }
+        return buffers;
+    }
+
+    void writeTo(OutputStream os, long position, long length) throws IOException {
+        byte[] data = new byte[(int) Math.min(length - position, strategy.getBufferSize())];
+        List<ByteBuffer> list = getBuffers();
+        for (ByteBuffer buffer : list) {
+            int size = buffer.position();
+            if (position >= size) {
+                position -= size;
+                continue;
+            }
+            ByteBuffer slice = buffer.duplicate();
+            slice.flip();
+            slice.position((int) position);
+            position = 0;
+            while (slice.hasRemaining()) {
+                int len = Math.min(slice.remaining(), data.length);
+                slice.get(data, 0, len);
+                os.write(data, 0, len);
+            }
+        }
+    }
+
+    synchronized void release() {
+        if (!released) {
+            released = true;
+            for (ByteBuffer buffer : buffers) {
+                strategy.releaseOffHeapBuffer(buffer);
+            }
+            buffers.clear();
+        }
+    }
+
+}
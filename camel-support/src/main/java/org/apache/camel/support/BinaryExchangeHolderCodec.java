@@ -0,0 +1,423 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+
+/**
+ * A compact binary {@link ExchangeHolderCodec}.
+ * <p/>
+ * The format is schema-less and uses variable length integers for lengths and numbers, and a type tag
+ * for each value. The common value types such as {@link String}, <tt>byte[]</tt>, numbers, {@link Boolean},
+ * {@link Character} and {@link Date} are encoded directly, and Java serialization is only used as fallback
+ * for other types (such as exceptions or when serialized headers are allowed).
+ * <p/>
+ * Data which has been encoded using Java serialization (such as by {@link SerializationExchangeHolderCodec})
+ * is detected and decoded as well, which allows to switch an existing store to this codec.
+ */
+public class BinaryExchangeHolderCodec implements ExchangeHolderCodec {
+
+    private static final byte MAGIC_1 = (byte) 'C';
+    private static final byte MAGIC_2 = (byte) 'X';
+    private static final byte VERSION = 1;
+
+    // the first bytes of a Java serialization stream
+    private static final byte SERIALIZATION_MAGIC_1 = (byte) 0xAC;
+    private static final byte SERIALIZATION_MAGIC_2 = (byte) 0xED;
+
+    private static final int FLAG_OUT = 1;
+    private static final int FLAG_IN_FAULT = 1 << 1;
+    private static final int FLAG_OUT_FAULT = 1 << 2;
+
+    private static final int TYPE_NULL = 0;
+    private static final int TYPE_STRING = 1;
+    private static final int TYPE_BYTES = 2;
+    private static final int TYPE_INTEGER = 3;
+    private static final int TYPE_LONG = 4;
+    private static final int TYPE_TRUE = 5;
+    private static final int TYPE_FALSE = 6;
+    private static final int TYPE_DOUBLE = 7;
+    private static final int TYPE_FLOAT = 8;
+    private static final int TYPE_SHORT = 9;
+    private static final int TYPE_BYTE = 10;
+    private static final int TYPE_CHARACTER = 11;
+    private static final int TYPE_DATE = 12;
+    private static final int TYPE_BIG_INTEGER = 13;
+    private static final int TYPE_BIG_DECIMAL = 14;
+    private static final int TYPE_SERIALIZED = 15;
+
+    @Override
+    public byte[] encode(DefaultExchangeHolder holder) throws IOException {
+        Output out = new Output();
+        out.writeByte(MAGIC_1);
+        out.writeByte(MAGIC_2);
+        out.writeByte(VERSION);
+
+        boolean hasOut = holder.getOutBody() != null;
+        int flags = 0;
+        if (hasOut) {
+            flags |= FLAG_OUT;
+        }
+        if (Boolean.TRUE.equals(holder.getInFaultFlag())) {
+            flags |= FLAG_IN_FAULT;
+        }
+        if (Boolean.TRUE.equals(holder.getOutFaultFlag())) {
+            flags |= FLAG_OUT_FAULT;
+        }
+        out.writeByte(flags);
+
+        out.writeString(holder.getExchangeId());
+        writeValue(out, holder.getInBody());
+        writeMap(out, holder.getInHeaders());
+        if (hasOut) {
+            writeValue(out, holder.getOutBody());
+            writeMap(out, holder.getOutHeaders());
+        }
+        writeMap(out, holder.getProperties());
+        writeValue(out, holder.getException());
+        return out.toByteArray();
+    }
+
+    @Override
+    public DefaultExchangeHolder decode(CamelContext camelContext, byte[] data) throws IOException, ClassNotFoundException {
+        if (data.length >= 2 && data[0] == SERIALIZATION_MAGIC_1 && data[1] == SERIALIZATION_MAGIC_2) {
+            // encoded using java serialization
+            return (DefaultExchangeHolder) SerializationExchangeHolderCodec.deserialize(camelContext, data, 0, data.length);
+        }
+        if (data.length < 4 || data[0] != MAGIC_1 || data[1] != MAGIC_2) {
+            throw new IOException("Data is not encoded using the binary exchange holder format");
+        }
+        if (data[2] != VERSION) {
+            throw new IOException("Unsupported binary exchange holder format version: " + data[2]);
+        }
+
+        Input in = new Input(camelContext, data, 3);
+        int flags = in.readByte();
+
+        DefaultExchangeHolder holder = new DefaultExchangeHolder();
+        holder.setInFaultFlag((flags & FLAG_IN_FAULT) != 0);
+        holder.setOutFaultFlag((flags & FLAG_OUT_FAULT) != 0);
+        holder.setExchangeId(in.readString());
+        holder.setInBody(readValue(in));
+        holder.setInHeaders(readMap(in));
+        if ((flags & FLAG_OUT) != 0) {
+            holder.setOutBody(readValue(in));
+            holder.setOutHeaders(readMap(in));
+        }
+        holder.setProperties(readMap(in));
+        holder.setException((Exception) readValue(in));
+        return holder;
+    }
+
+    private static void writeMap(Output out, Map<String, Object> map) throws IOException {
+        // use 0 for null so we can restore null maps as is
+        if (map == null) {
+            out.writeVarInt(0);
+            return;
+        }
+        out.writeVarInt(map.size() + 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            out.writeString(entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(Input in) throws IOException, ClassNotFoundException {
+        int size = in.readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            String key = in.readString();
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    private static void writeValue(Output out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            out.writeString((String) value);
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            out.writeByte(TYPE_BYTES);
+            out.writeVarInt(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeVarLong(zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeVarLong(zigZag((Long) value));
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TYPE_TRUE : TYPE_FALSE);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeFixedLong(Double.doubleToLongBits((Double) value));
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFixedInt(Float.floatToIntBits((Float) value));
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            out.writeVarLong(zigZag((Short) value));
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(TYPE_CHARACTER);
+            out.writeVarInt((Character) value);
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(TYPE_DATE);
+            out.writeVarLong(zigZag(((Date) value).getTime()));
+        } else if (value.getClass() == BigInteger.class) {
+            byte[] bytes = ((BigInteger) value).toByteArray();
+            out.writeByte(TYPE_BIG_INTEGER);
+            out.writeVarInt(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        } else if (value.getClass() == BigDecimal.class) {
+            BigDecimal decimal = (BigDecimal) value;
+            byte[] bytes = decimal.unscaledValue().toByteArray();
+            out.writeByte(TYPE_BIG_DECIMAL);
+            out.writeVarLong(zigZag(decimal.scale()));
+            out.writeVarInt(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        } else {
+            // fallback to java serialization
+            byte[] bytes = SerializationExchangeHolderCodec.serialize(value);
+            out.writeByte(TYPE_SERIALIZED);
+            out.writeVarInt(bytes.length);
+            out.writeBytes(bytes, 0, bytes.length);
+        }
+    }
+
+    private static Object readValue(Input in) throws IOException, ClassNotFoundException {
+        int type = in.readByte();
+        switch (type) {
+        case TYPE_NULL:
+            return null;
+        case TYPE_STRING:
+            return in.readString();
+        case TYPE_BYTES:
+            return in.readBytes(in.readVarInt());
+        case TYPE_INTEGER:
+            return (int) unZigZag(in.readVarLong());
+        case TYPE_LONG:
+            return unZigZag(in.readVarLong());
+        case TYPE_TRUE:
+            return Boolean.TRUE;
+        case TYPE_FALSE:
+            return Boolean.FALSE;
+        case TYPE_DOUBLE:
+            return Double.longBitsToDouble(in.readFixedLong());
+        case TYPE_FLOAT:
+            return Float.intBitsToFloat(in.readFixedInt());
+        case TYPE_SHORT:
+            return (short) unZigZag(in.readVarLong());
+        case TYPE_BYTE:
+            return (byte) in.readByte();
+        case TYPE_CHARACTER:
+            return (char) in.readVarInt();
+        case TYPE_DATE:
+            return new Date(unZigZag(in.readVarLong()));
+        case TYPE_BIG_INTEGER:
+            return new BigInteger(in.readBytes(in.readVarInt()));
+        case TYPE_BIG_DECIMAL:
+            int scale = (int) unZigZag(in.readVarLong());
+            return new BigDecimal(new BigInteger(in.readBytes(in.readVarInt())), scale);
+        case TYPE_SERIALIZED:
+            int length = in.readVarInt();
+            Object answer = SerializationExchangeHolderCodec.deserialize(in.camelContext, in.data, in.position, length);
+            in.skip(length);
+            return answer;
+        default:
+            throw new IOException("Unknown type " + type + " at position " + (in.position - 1));
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * A growable byte array to encode to, which avoids the synchronization of {@link java.io.ByteArrayOutputStream}.
+     */
+    private static final class Output {
+
+        private byte[] buffer = new byte[256];
+        private int count;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[count++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[count++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[count++] = (byte) value;
+        }
+
+        void writeFixedInt(int value) {
+            ensureCapacity(4);
+            for (int i = 24; i >= 0; i -= 8) {
+                buffer[count++] = (byte) (value >>> i);
+            }
+        }
+
+        void writeFixedLong(long value) {
+            ensureCapacity(8);
+            for (int i = 56; i >= 0; i -= 8) {
+                buffer[count++] = (byte) (value >>> i);
+            }
+        }
+
+        void writeString(String value) {
+            // use 0 for null so we can restore null strings
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, count);
+        }
+
+        private void ensureCapacity(int length) {
+            if (count + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, count + length));
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final CamelContext camelContext;
+        private final byte[] data;
+        private int position;
+
+        Input(CamelContext camelContext, byte[] data, int position) {
+            this.camelContext = camelContext;
+            this.data = data;
+            this.position = position;
+        }
+
+        int readByte() throws IOException {
+            if (position >= data.length) {
+                throw new IOException("Unexpected end of data");
+            }
+            return data[position++];
+        }
+
+        int readVarInt() throws IOException {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException("Invalid length " + value + " at position " + position);
+            }
+            return (int) value;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed variable length number at position " + position);
+        }
+
+        int readFixedInt() throws IOException {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        long readFixedLong() throws IOException {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        byte[] readBytes(int length) throws IOException {
+            checkAvailable(length);
+            byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() throws IOException {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            checkAvailable(length);
+            String answer = new String(data, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return answer;
+        }
+
+        void skip(int length) throws IOException {
+            checkAvailable(length);
+            position += length;
+        }
+
+        private void checkAvailable(int length) throws IOException {
+            if (length < 0 || position + length > data.length) {
+                throw new IOException("Unexpected end of data");
+            }
+        }
+    }
+}
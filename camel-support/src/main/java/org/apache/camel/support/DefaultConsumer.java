@@ -100,6 +100,17 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
         UnitOfWorkHelper.doneUow(exchange.getUnitOfWork(), exchange);
     }
 
+    /**
+     * Releases the {@link Exchange} when the consumer is completely done with the exchange (including
+     * any reply sent back to the client), which allows a pooled {@link org.apache.camel.spi.ExchangeFactory}
+     * to recycle the exchange.
+     *
+     * @param exchange the exchange
+     */
+    public void releaseExchange(Exchange exchange) {
+        endpoint.getCamelContext().getExchangeFactory().release(exchange);
+    }
+
     public Endpoint getEndpoint() {
         return endpoint;
     }
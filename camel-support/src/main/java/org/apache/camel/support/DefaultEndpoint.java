@@ -213,6 +213,10 @@ public abstract class DefaultEndpoint extends ServiceSupport implements Endpoint
     }
 
     public Exchange createExchange(ExchangePattern pattern) {
+        CamelContext context = getCamelContext();
+        if (context != null) {
+            return context.getExchangeFactory().create(this, pattern);
+        }
         return new DefaultExchange(this, pattern);
     }
 
@@ -16,14 +16,23 @@
  */
 package org.apache.camel.support;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelExecutionException;
@@ -38,11 +47,54 @@ import org.apache.camel.util.ObjectHelper;
 
 /**
  * A default implementation of {@link Exchange}
+ * <p/>
+ * The well known internal properties from {@link Exchange} (such as {@link Exchange#CREATED_TIMESTAMP}) are stored
+ * in an index addressed array, and a map is only created when user defined properties are in use.
+ * The {@link #getProperties()} method returns a live map view of both.
+ * <p/>
+ * The properties can be set concurrently (as with the {@link ConcurrentHashMap} used for the user defined properties),
+ * so the array slots are updated atomically, and keep a count of the properties which are set.
  */
 public final class DefaultExchange implements Exchange {
 
+    /**
+     * The well known internal exchange properties which are stored in the array slots.
+     */
+    private static final String[] INTERNAL_PROPERTIES = {
+        Exchange.CREATED_TIMESTAMP, Exchange.MESSAGE_HISTORY, Exchange.TO_ENDPOINT, Exchange.FAILURE_ENDPOINT,
+        Exchange.FAILURE_ROUTE_ID, Exchange.FAILURE_HANDLED, Exchange.ERRORHANDLER_HANDLED, Exchange.EXCEPTION_CAUGHT,
+        Exchange.EXCEPTION_HANDLED, Exchange.CORRELATION_ID, Exchange.AGGREGATED_SIZE, Exchange.AGGREGATED_TIMEOUT,
+        Exchange.AGGREGATED_COMPLETED_BY, Exchange.AGGREGATED_CORRELATION_KEY, Exchange.BATCH_INDEX, Exchange.BATCH_SIZE,
+        Exchange.BATCH_COMPLETE, Exchange.SPLIT_INDEX, Exchange.SPLIT_SIZE, Exchange.SPLIT_COMPLETE,
+        Exchange.MULTICAST_INDEX, Exchange.MULTICAST_COMPLETE, Exchange.LOOP_INDEX, Exchange.LOOP_SIZE,
+        Exchange.STREAM_CACHE_UNIT_OF_WORK, Exchange.CHARSET_NAME, Exchange.INTERRUPTED, Exchange.ROLLBACK_ONLY,
+        Exchange.ROLLBACK_ONLY_LAST, Exchange.EXTERNAL_REDELIVERED, Exchange.FILTER_MATCHED, Exchange.DUPLICATE_MESSAGE,
+        Exchange.GROUPED_EXCHANGE, Exchange.REDELIVERY_EXHAUSTED, Exchange.ERRORHANDLER_CIRCUIT_DETECTED,
+        Exchange.FATAL_FALLBACK_ERROR_HANDLER, Exchange.PARENT_UNIT_OF_WORK, Exchange.RECIPIENT_LIST_ENDPOINT,
+        Exchange.SLIP_ENDPOINT, Exchange.INTERCEPTED_ENDPOINT, Exchange.ON_COMPLETION, Exchange.UNIT_OF_WORK_EXHAUSTED,
+        Exchange.TRY_ROUTE_BLOCK
+    };
+    private static final Map<String, Integer> INTERNAL_PROPERTIES_INDEX = new HashMap<>(INTERNAL_PROPERTIES.length * 2);
+
+    private static final int MESSAGE_HISTORY_INDEX = Arrays.asList(INTERNAL_PROPERTIES).indexOf(Exchange.MESSAGE_HISTORY);
+
+    private static final AtomicReferenceFieldUpdater<DefaultExchange, InternalProperties> INTERNAL_PROPERTIES_UPDATER
+        = AtomicReferenceFieldUpdater.newUpdater(DefaultExchange.class, InternalProperties.class, "internalProperties");
+
+    static {
+        for (int i = 0; i < INTERNAL_PROPERTIES.length; i++) {
+            INTERNAL_PROPERTIES_INDEX.put(INTERNAL_PROPERTIES[i], i);
+        }
+    }
+
     protected final CamelContext context;
+    // the well known internal properties (lazy created)
+    private volatile InternalProperties internalProperties;
+    // the user defined properties, or all the properties when they have been set using setProperties
     private Map<String, Object> properties;
+    // whether the properties has been set using setProperties and should be used as-is
+    private boolean externalProperties;
+    private Map<String, Object> propertiesView;
     private Message in;
     private Message out;
     private Exception exception;
@@ -52,6 +104,8 @@ public final class DefaultExchange implements Exchange {
     private Endpoint fromEndpoint;
     private String fromRouteId;
     private List<Synchronization> onCompletions;
+    // whether the exchange has been released to a pooled exchange factory
+    private boolean released;
 
     public DefaultExchange(CamelContext context) {
         this(context, ExchangePattern.InOnly);
@@ -119,12 +173,39 @@ public final class DefaultExchange implements Exchange {
 
         // copy properties after body as body may trigger lazy init
         if (hasProperties()) {
-            exchange.setProperties(safeCopyProperties(getProperties()));
+            exchange.copyPropertiesFrom(this);
         }
 
         return exchange;
     }
 
+    /**
+     * Copies the properties from the source exchange, where the message history is copied defensively.
+     * <p/>
+     * When the source is a {@link DefaultExchange} then the internal property slots are copied as-is
+     * which avoids creating any map for the internal properties.
+     */
+    @SuppressWarnings("unchecked")
+    void copyPropertiesFrom(Exchange source) {
+        if (source instanceof DefaultExchange && !((DefaultExchange) source).externalProperties) {
+            DefaultExchange other = (DefaultExchange) source;
+            InternalProperties slots = other.internalProperties;
+            if (slots != null) {
+                InternalProperties copy = new InternalProperties(slots);
+                List<MessageHistory> history = (List<MessageHistory>) copy.get(MESSAGE_HISTORY_INDEX);
+                if (history != null) {
+                    copy.set(MESSAGE_HISTORY_INDEX, new LinkedList<>(history));
+                }
+                internalProperties = copy;
+            }
+            if (other.properties != null && !other.properties.isEmpty()) {
+                properties = createProperties(other.properties);
+            }
+        } else {
+            setProperties(safeCopyProperties(source.getProperties()));
+        }
+    }
+
     private Map<String, Object> safeCopyHeaders(Map<String, Object> headers) {
         if (headers == null) {
             return null;
@@ -155,6 +236,13 @@ public final class DefaultExchange implements Exchange {
     }
 
     public Object getProperty(String name) {
+        if (!externalProperties) {
+            Integer idx = INTERNAL_PROPERTIES_INDEX.get(name);
+            if (idx != null) {
+                InternalProperties slots = internalProperties;
+                return slots != null ? slots.get(idx) : null;
+            }
+        }
         if (properties != null) {
             return properties.get(name);
         }
@@ -209,11 +297,11 @@ public final class DefaultExchange implements Exchange {
     public void setProperty(String name, Object value) {
         if (value != null) {
             // avoid the NullPointException
-            getProperties().put(name, value);
+            doPutProperty(name, value);
         } else {
             // if the value is null, we just remove the key from the map
             if (name != null) {
-                getProperties().remove(name);
+                doRemoveProperty(name);
             }
         }
     }
@@ -222,7 +310,49 @@ public final class DefaultExchange implements Exchange {
         if (!hasProperties()) {
             return null;
         }
-        return getProperties().remove(name);
+        return doRemoveProperty(name);
+    }
+
+    private Object doPutProperty(String name, Object value) {
+        if (!externalProperties) {
+            Integer idx = INTERNAL_PROPERTIES_INDEX.get(name);
+            if (idx != null) {
+                return getOrCreateInternalProperties().put(idx, value);
+            }
+        }
+        if (properties == null) {
+            properties = createProperties();
+        }
+        return properties.put(name, value);
+    }
+
+    private Object doRemoveProperty(String name) {
+        if (!externalProperties) {
+            Integer idx = INTERNAL_PROPERTIES_INDEX.get(name);
+            if (idx != null) {
+                InternalProperties slots = internalProperties;
+                return slots != null ? slots.remove(idx) : null;
+            }
+        }
+        if (properties == null) {
+            return null;
+        }
+        return properties.remove(name);
+    }
+
+    private InternalProperties getOrCreateInternalProperties() {
+        InternalProperties slots = internalProperties;
+        while (slots == null) {
+            // the properties may be set concurrently so only create the slots once
+            INTERNAL_PROPERTIES_UPDATER.compareAndSet(this, null, new InternalProperties());
+            slots = internalProperties;
+        }
+        return slots;
+    }
+
+    private int internalPropertiesSize() {
+        InternalProperties slots = internalProperties;
+        return slots != null ? slots.size() : 0;
     }
 
     public boolean removeProperties(String pattern) {
@@ -235,9 +365,10 @@ public final class DefaultExchange implements Exchange {
         }
 
         // store keys to be removed as we cannot loop and remove at the same time in implementations such as HashMap
+        Map<String, Object> map = getProperties();
         Set<String> toBeRemoved = new HashSet<>();
         boolean matches = false;
-        for (String key : properties.keySet()) {
+        for (String key : map.keySet()) {
             if (PatternHelper.matchPattern(key, pattern)) {
                 if (excludePatterns != null && PatternHelper.isExcludePatternMatch(key, excludePatterns)) {
                     continue;
@@ -248,11 +379,11 @@ public final class DefaultExchange implements Exchange {
         }
 
         if (!toBeRemoved.isEmpty()) {
-            if (toBeRemoved.size() == properties.size()) {
+            if (toBeRemoved.size() == map.size()) {
                 // special optimization when all should be removed
-                properties.clear();
+                map.clear();
             } else {
-                toBeRemoved.forEach(k -> properties.remove(k));
+                toBeRemoved.forEach(map::remove);
             }
         }
 
@@ -260,18 +391,29 @@ public final class DefaultExchange implements Exchange {
     }
 
     public Map<String, Object> getProperties() {
-        if (properties == null) {
-            properties = createProperties();
+        if (externalProperties) {
+            return properties;
         }
-        return properties;
+        if (propertiesView == null) {
+            propertiesView = new PropertiesMap();
+        }
+        return propertiesView;
     }
 
     public boolean hasProperties() {
-        return properties != null && !properties.isEmpty();
+        if (properties != null && !properties.isEmpty()) {
+            return true;
+        }
+        return !externalProperties && internalPropertiesSize() > 0;
     }
 
     public void setProperties(Map<String, Object> properties) {
+        // the given map is used as-is (it may be shared with another exchange)
+        // so all the properties is stored in the map from now on
+        this.internalProperties = null;
+        this.propertiesView = null;
         this.properties = properties;
+        this.externalProperties = properties != null;
     }
 
     public Message getIn() {
@@ -522,6 +664,46 @@ public final class DefaultExchange implements Exchange {
         return answer;
     }
 
+    /**
+     * Whether the exchange has been released to a pooled exchange factory.
+     */
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Resets the exchange when released to a pooled exchange factory, so it can be reused for a new message.
+     */
+    void reset() {
+        released = true;
+        internalProperties = null;
+        properties = null;
+        externalProperties = false;
+        if (in != null && in.getClass() == DefaultMessage.class && ((DefaultMessage) in).getExchange() == this) {
+            // plain messages can be reused as well, but only if owned by this exchange
+            // as the message may have been set on another exchange which still uses it
+            ((DefaultMessage) in).reset();
+        } else {
+            in = null;
+        }
+        out = null;
+        exception = null;
+        exchangeId = null;
+        unitOfWork = null;
+        fromEndpoint = null;
+        fromRouteId = null;
+        onCompletions = null;
+    }
+
+    /**
+     * Prepares the exchange when acquired from a pooled exchange factory.
+     */
+    void acquire(Endpoint fromEndpoint, ExchangePattern pattern) {
+        this.released = false;
+        this.fromEndpoint = fromEndpoint;
+        this.pattern = pattern;
+    }
+
     /**
      * Configures the message after it has been set on the exchange
      */
@@ -545,4 +727,196 @@ public final class DefaultExchange implements Exchange {
         return new ConcurrentHashMap<>(properties);
     }
 
+    /**
+     * A live map view of the internal property slots and the user defined properties.
+     */
+    private final class PropertiesMap extends AbstractMap<String, Object> {
+
+        private final Set<Entry<String, Object>> entrySet = new EntrySet();
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? getProperty((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            if (key == null || value == null) {
+                // same as ConcurrentHashMap
+                throw new NullPointerException();
+            }
+            return doPutProperty(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return key instanceof String ? doRemoveProperty((String) key) : null;
+        }
+
+        @Override
+        public int size() {
+            int size = properties != null ? properties.size() : 0;
+            return size + internalPropertiesSize();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasProperties();
+        }
+
+        @Override
+        public void clear() {
+            internalProperties = null;
+            if (properties != null) {
+                properties.clear();
+            }
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return entrySet;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return propertiesView.size();
+        }
+
+        @Override
+        public void clear() {
+            propertiesView.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private final InternalProperties slots = internalProperties;
+        private final Iterator<Map.Entry<String, Object>> userIterator = properties != null ? properties.entrySet().iterator() : null;
+        private int slotIndex = -1;
+        private int nextSlotIndex = -1;
+        private boolean lastFromSlots;
+
+        @Override
+        public boolean hasNext() {
+            if (slots != null) {
+                if (nextSlotIndex <= slotIndex) {
+                    nextSlotIndex = slotIndex + 1;
+                    while (nextSlotIndex < slots.length() && slots.get(nextSlotIndex) == null) {
+                        nextSlotIndex++;
+                    }
+                }
+                if (nextSlotIndex < slots.length()) {
+                    return true;
+                }
+            }
+            return userIterator != null && userIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (slots != null && nextSlotIndex < slots.length()) {
+                slotIndex = nextSlotIndex;
+                lastFromSlots = true;
+                return new SlotEntry(slotIndex, slots.get(slotIndex));
+            }
+            lastFromSlots = false;
+            return userIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastFromSlots) {
+                if (slotIndex < 0) {
+                    throw new IllegalStateException();
+                }
+                doRemoveProperty(INTERNAL_PROPERTIES[slotIndex]);
+            } else if (userIterator != null) {
+                userIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    private final class SlotEntry extends AbstractMap.SimpleEntry<String, Object> {
+
+        SlotEntry(int index, Object value) {
+            super(INTERNAL_PROPERTIES[index], value);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            super.setValue(value);
+            return doPutProperty(getKey(), value);
+        }
+    }
+
+    /**
+     * The array slots of the internal properties, which keeps a count of the slots which are set.
+     */
+    private static final class InternalProperties extends AtomicReferenceArray<Object> {
+
+        private static final long serialVersionUID = 1L;
+        private static final AtomicIntegerFieldUpdater<InternalProperties> COUNT_UPDATER
+            = AtomicIntegerFieldUpdater.newUpdater(InternalProperties.class, "count");
+
+        private volatile int count;
+
+        InternalProperties() {
+            super(INTERNAL_PROPERTIES.length);
+        }
+
+        InternalProperties(InternalProperties source) {
+            this();
+            int size = 0;
+            for (int i = 0; i < INTERNAL_PROPERTIES.length; i++) {
+                Object value = source.get(i);
+                if (value != null) {
+                    set(i, value);
+                    size++;
+                }
+            }
+            count = size;
+        }
+
+        Object put(int index, Object value) {
+            Object old = getAndSet(index, value);
+            if (old == null) {
+                COUNT_UPDATER.incrementAndGet(this);
+            }
+            return old;
+        }
+
+        Object remove(int index) {
+            Object old = getAndSet(index, null);
+            if (old != null) {
+                COUNT_UPDATER.decrementAndGet(this);
+            }
+            return old;
+        }
+
+        int size() {
+            return count;
+        }
+    }
+
 }
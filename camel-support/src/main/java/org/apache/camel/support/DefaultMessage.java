@@ -237,6 +237,16 @@ public class DefaultMessage extends MessageSupport {
         return new DefaultMessage(getCamelContext());
     }
 
+    @Override
+    void reset() {
+        super.reset();
+        fault = false;
+        // the headers map may be shared with another message so we cannot clear and reuse it
+        headers = null;
+        attachments = null;
+        attachmentObjects = null;
+    }
+
     /**
      * A factory method to lazily create the headers to make it easy to create
      * efficient Message implementations which only construct and populate the
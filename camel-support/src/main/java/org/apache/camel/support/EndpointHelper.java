@@ -30,11 +30,14 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.Message;
+import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
 import org.apache.camel.ResolveEndpointFailedException;
 import org.apache.camel.Route;
+import org.apache.camel.TypeConversionException;
 import org.apache.camel.spi.BrowsableEndpoint;
+import org.apache.camel.spi.PropertyConfigurer;
 
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.StringHelper;
@@ -51,6 +54,25 @@ public final class EndpointHelper {
 
     private static final Logger LOG = LoggerFactory.getLogger(EndpointHelper.class);
     private static final AtomicLong ENDPOINT_COUNTER = new AtomicLong(0);
+    private static final ClassValue<PropertyConfigurer> CONFIGURERS = new ClassValue<PropertyConfigurer>() {
+        @Override
+        protected PropertyConfigurer computeValue(Class<?> type) {
+            if (type.isArray() || type.isPrimitive() || type.getClassLoader() == null) {
+                return null;
+            }
+            try {
+                Class<?> clazz = Class.forName(type.getName() + "PropertyConfigurer", true, type.getClassLoader());
+                if (PropertyConfigurer.class.isAssignableFrom(clazz)) {
+                    return (PropertyConfigurer) clazz.newInstance();
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                // no generated configurer
+            } catch (Exception e) {
+                LOG.debug("Cannot create property configurer for: {} due: {}", type.getName(), e.getMessage());
+            }
+            return null;
+        }
+    };
 
     private EndpointHelper() {
         //Utility Class
@@ -157,7 +179,37 @@ public final class EndpointHelper {
      * @throws Exception is thrown if setting property fails
      */
     public static void setProperties(CamelContext context, Object bean, Map<String, Object> parameters) throws Exception {
-        IntrospectionSupport.setProperties(context.getTypeConverter(), bean, parameters);
+        PropertyConfigurer configurer = getPropertyConfigurer(bean.getClass());
+        if (configurer != null && !parameters.isEmpty()) {
+            for (Iterator<Map.Entry<String, Object>> it = parameters.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, Object> entry = it.next();
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                try {
+                    if (configurer.configure(context, bean, entry.getKey(), entry.getValue())) {
+                        it.remove();
+                    }
+                } catch (NoTypeConversionAvailableException | TypeConversionException e) {
+                    // let reflection deal with it, which reports the failure in the usual way
+                    LOG.trace("Cannot configure property: {} using configurer: {} due: {}", entry.getKey(), configurer, e.getMessage());
+                }
+            }
+        }
+        if (!parameters.isEmpty()) {
+            IntrospectionSupport.setProperties(context.getTypeConverter(), bean, parameters);
+        }
+    }
+
+    /**
+     * Gets the generated {@link PropertyConfigurer} for the given class, which is a class in the same package
+     * with the same name and a <tt>PropertyConfigurer</tt> suffix.
+     *
+     * @param type the class of the bean to configure
+     * @return the configurer, or <tt>null</tt> if the class has no generated configurer
+     */
+    public static PropertyConfigurer getPropertyConfigurer(Class<?> type) {
+        return CONFIGURERS.get(type);
     }
 
     /**
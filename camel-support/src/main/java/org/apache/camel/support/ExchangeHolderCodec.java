@@ -0,0 +1,52 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.IOException;
+
+import org.apache.camel.CamelContext;
+
+/**
+ * A codec which encodes and decodes a {@link DefaultExchangeHolder} to and from bytes,
+ * for example to persist exchanges in an {@link org.apache.camel.spi.AggregationRepository}.
+ *
+ * @see SerializationExchangeHolderCodec
+ * @see BinaryExchangeHolderCodec
+ */
+public interface ExchangeHolderCodec {
+
+    /**
+     * Encodes the holder to bytes.
+     *
+     * @param holder the holder
+     * @return the encoded bytes
+     * @throws IOException is thrown if error encoding the holder
+     */
+    byte[] encode(DefaultExchangeHolder holder) throws IOException;
+
+    /**
+     * Decodes the holder from the given bytes.
+     *
+     * @param camelContext the camel context, which can be used for loading classes
+     * @param data         the encoded bytes
+     * @return the holder
+     * @throws IOException is thrown if error decoding the holder
+     * @throws ClassNotFoundException is thrown if a class of a serialized object cannot be loaded
+     */
+    DefaultExchangeHolder decode(CamelContext camelContext, byte[] data) throws IOException, ClassNotFoundException;
+
+}
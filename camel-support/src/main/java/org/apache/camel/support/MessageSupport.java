@@ -317,4 +317,13 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         }
         return uuid;
     }
+
+    /**
+     * Resets the message so it can be reused by a pooled {@link org.apache.camel.spi.ExchangeFactory}.
+     */
+    void reset() {
+        body = null;
+        messageId = null;
+        dataType = null;
+    }
 }
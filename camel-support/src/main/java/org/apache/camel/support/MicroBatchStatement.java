@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+
+/**
+ * A SQL statement from an exchange which is waiting to be executed in a JDBC batch by a {@link MicroBatcher}.
+ */
+public final class MicroBatchStatement {
+
+    private static final String[] DATA_MANIPULATION_KEYWORDS = {"INSERT", "UPDATE", "DELETE", "MERGE"};
+
+    private final Exchange exchange;
+    private final AsyncCallback callback;
+    private final String sql;
+    private final String preparedQuery;
+    private int updateCount;
+
+    public MicroBatchStatement(Exchange exchange, AsyncCallback callback, String sql, String preparedQuery) {
+        this.exchange = exchange;
+        this.callback = callback;
+        this.sql = sql;
+        this.preparedQuery = preparedQuery;
+    }
+
+    public Exchange getExchange() {
+        return exchange;
+    }
+
+    public AsyncCallback getCallback() {
+        return callback;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getPreparedQuery() {
+        return preparedQuery;
+    }
+
+    public int getUpdateCount() {
+        return updateCount;
+    }
+
+    public void setUpdateCount(int updateCount) {
+        this.updateCount = updateCount;
+    }
+
+    /**
+     * Whether the sql is an insert, update, delete or merge statement, which can be executed in a batch
+     * as it does not return a result set.
+     */
+    public static boolean isDataManipulation(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String statement = sql.trim();
+        for (String keyword : DATA_MANIPULATION_KEYWORDS) {
+            if (startsWithKeyword(statement, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWithKeyword(String statement, String keyword) {
+        return statement.regionMatches(true, 0, keyword, 0, keyword.length())
+            && (statement.length() == keyword.length() || !Character.isLetterOrDigit(statement.charAt(keyword.length())));
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects elements added by concurrent threads into batches, which are flushed when the batch has reached
+ * the given size, or when the given timeout has elapsed since the first element was added to the batch.
+ * <p/>
+ * This can be used by producers to coalesce work from concurrent exchanges, such as executing the statements
+ * of many exchanges as one JDBC batch. When the batch is full then it is flushed by the thread which added the
+ * last element, otherwise the batch is flushed by the scheduler when the timeout elapses.
+ *
+ * @param <E> the type of the elements
+ */
+public class MicroBatcher<E> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MicroBatcher.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final int batchSize;
+    private final long batchTimeout;
+    private final Consumer<List<E>> flusher;
+    private final Lock lock = new ReentrantLock();
+    private List<E> batch;
+    private ScheduledFuture<?> timeoutTask;
+    private boolean shutdown;
+
+    /**
+     * Creates a new micro batcher.
+     *
+     * @param scheduler    the scheduler to use for flushing the batch when the timeout elapses
+     * @param batchSize    the maximum number of elements in a batch
+     * @param batchTimeout the maximum time in millis to wait for more elements before the batch is flushed
+     * @param flusher      the consumer which processes a batch, which must handle any errors by itself
+     */
+    public MicroBatcher(ScheduledExecutorService scheduler, int batchSize, long batchTimeout, Consumer<List<E>> flusher) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("BatchSize must be a positive number, was: " + batchSize);
+        }
+        this.scheduler = scheduler;
+        this.batchSize = batchSize;
+        this.batchTimeout = batchTimeout;
+        this.flusher = flusher;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * Adds the element to the current batch, which is flushed by the calling thread if the batch is full.
+     * <p/>
+     * If the batcher has been shutdown then the element is flushed as a batch of its own by the calling thread.
+     */
+    public void add(E element) {
+        List<E> full = null;
+        lock.lock();
+        try {
+            if (shutdown) {
+                full = Collections.singletonList(element);
+            } else {
+                batch.add(element);
+                if (batch.size() >= batchSize) {
+                    full = takeBatch();
+                } else if (batch.size() == 1) {
+                    timeoutTask = scheduler.schedule(this::flush, batchTimeout, TimeUnit.MILLISECONDS);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            doFlush(full);
+        }
+    }
+
+    /**
+     * Flushes the current batch, if any elements has been added.
+     */
+    public void flush() {
+        List<E> pending;
+        lock.lock();
+        try {
+            pending = takeBatch();
+        } finally {
+            lock.unlock();
+        }
+        if (!pending.isEmpty()) {
+            doFlush(pending);
+        }
+    }
+
+    /**
+     * Flushes the current batch and shutdown the batcher, so elements added afterwards are flushed
+     * by the calling thread right away, and the scheduler is no longer used.
+     */
+    public void shutdown() {
+        List<E> pending;
+        lock.lock();
+        try {
+            shutdown = true;
+            pending = takeBatch();
+        } finally {
+            lock.unlock();
+        }
+        if (!pending.isEmpty()) {
+            doFlush(pending);
+        }
+    }
+
+    public boolean isShutdown() {
+        lock.lock();
+        try {
+            return shutdown;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of elements in the current batch
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return batch.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<E> takeBatch() {
+        if (timeoutTask != null) {
+            timeoutTask.cancel(false);
+            timeoutTask = null;
+        }
+        if (batch.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<E> answer = batch;
+        batch = new ArrayList<>(batchSize);
+        return answer;
+    }
+
+    private void doFlush(List<E> elements) {
+        LOG.trace("Flushing batch with {} elements", elements.size());
+        flusher.accept(elements);
+    }
+}
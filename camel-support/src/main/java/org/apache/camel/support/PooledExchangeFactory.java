@@ -0,0 +1,231 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A pooled {@link ExchangeFactory} which recycles the {@link DefaultExchange} instances (and their plain
+ * {@link DefaultMessage}) when the consumer has released the exchange after the unit of work is done.
+ * <p/>
+ * Exchanges are only recycled when a consumer releases the exchange, such as via
+ * {@link DefaultConsumer#releaseExchange(Exchange)}. Exchanges which are never released are simply garbage
+ * collected as usual, and a new exchange is created when the pool is empty.
+ * Currently only the netty4 and netty4-http consumers release their exchanges, so with other consumers
+ * the pool is not used.
+ * <p/>
+ * Exchanges from another {@link CamelContext} are not recycled, and counted as discarded.
+ * <p/>
+ * The leak detection mode (intended for debugging) keeps track of which exchanges has been acquired from this factory
+ * and not released, and logs a WARN with the stacktrace where the leaked exchanges was created when the factory is stopped.
+ */
+public class PooledExchangeFactory extends ServiceSupport implements ExchangeFactory, CamelContextAware {
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final Map<Exchange, Throwable> leaks = new ConcurrentHashMap<>();
+    private BlockingQueue<DefaultExchange> pool;
+    private CamelContext camelContext;
+    private int capacity = 100;
+    private boolean leakDetection;
+
+    public PooledExchangeFactory() {
+    }
+
+    public PooledExchangeFactory(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The maximum number of exchanges to keep in the pool.
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public boolean isLeakDetection() {
+        return leakDetection;
+    }
+
+    /**
+     * Whether to keep track of exchanges which are acquired from this factory but never released, and
+     * report those as leaks when the factory is stopped. This is intended for debugging as it captures
+     * a stacktrace for every created exchange.
+     */
+    public void setLeakDetection(boolean leakDetection) {
+        this.leakDetection = leakDetection;
+    }
+
+    /**
+     * Number of exchanges which are currently acquired from this factory and not released (only tracked
+     * when leak detection is enabled).
+     */
+    public int getLeakCandidates() {
+        return leaks.size();
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint, ExchangePattern pattern) {
+        DefaultExchange answer = pool != null ? pool.poll() : null;
+        if (answer != null && answer.getContext() != fromEndpoint.getCamelContext()) {
+            // the pool is shared by several camel contexts
+            log.debug("Discarding pooled exchange: {} as it is from another CamelContext than endpoint: {}", answer, fromEndpoint);
+            discarded.increment();
+            answer = null;
+        }
+        if (answer != null) {
+            acquired.increment();
+            answer.acquire(fromEndpoint, pattern);
+        } else {
+            created.increment();
+            answer = new DefaultExchange(fromEndpoint, pattern);
+        }
+        if (leakDetection) {
+            leaks.put(answer, new Throwable("Exchange acquired from " + fromEndpoint + " on thread " + Thread.currentThread().getName()));
+        }
+        return answer;
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        if (exchange instanceof DefaultExchange && ((DefaultExchange) exchange).isReleased()) {
+            // must not add the same instance twice to the pool
+            log.warn("Exchange: {} is already released", exchange);
+            return false;
+        }
+        if (leakDetection) {
+            leaks.remove(exchange);
+        }
+
+        if (pool == null || !(exchange instanceof DefaultExchange)) {
+            discarded.increment();
+            return false;
+        }
+        if (camelContext != null && exchange.getContext() != camelContext) {
+            log.debug("Discarding exchange: {} as it is from another CamelContext than: {}", exchange, camelContext.getName());
+            discarded.increment();
+            return false;
+        }
+
+        DefaultExchange de = (DefaultExchange) exchange;
+        de.reset();
+        if (pool.offer(de)) {
+            released.increment();
+            return true;
+        } else {
+            discarded.increment();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isPooled() {
+        return true;
+    }
+
+    @Override
+    public int getSize() {
+        return pool != null ? pool.size() : 0;
+    }
+
+    @Override
+    public long getCreatedCounter() {
+        return created.sum();
+    }
+
+    @Override
+    public long getAcquiredCounter() {
+        return acquired.sum();
+    }
+
+    @Override
+    public long getReleasedCounter() {
+        return released.sum();
+    }
+
+    @Override
+    public long getDiscardedCounter() {
+        return discarded.sum();
+    }
+
+    @Override
+    public void resetStatistics() {
+        created.reset();
+        acquired.reset();
+        released.reset();
+        discarded.reset();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be a positive number, was: " + capacity);
+        }
+        pool = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (leakDetection && !leaks.isEmpty()) {
+            log.warn("{} exchanges was acquired from this factory but never released", leaks.size());
+            for (Map.Entry<Exchange, Throwable> entry : leaks.entrySet()) {
+                log.warn("Leaked exchange: " + entry.getKey(), entry.getValue());
+            }
+        }
+        leaks.clear();
+        if (pool != null) {
+            pool.clear();
+            pool = null;
+        }
+        log.debug("Stopped PooledExchangeFactory (created: {}, acquired: {}, released: {}, discarded: {})",
+            getCreatedCounter(), getAcquiredCounter(), getReleasedCounter(), getDiscardedCounter());
+    }
+
+    @Override
+    public String toString() {
+        return "PooledExchangeFactory[capacity=" + capacity + "]";
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.spi.PropertyConfigurer;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Base class for the {@link PropertyConfigurer} classes which are generated by the Camel annotation processor.
+ */
+public abstract class PropertyConfigurerSupport implements PropertyConfigurer {
+
+    /**
+     * Converts the value to the type of the property
+     *
+     * @param camelContext the camel context
+     * @param type         the type of the property
+     * @param value        the value
+     * @return the value as the given type
+     * @throws NoTypeConversionAvailableException is thrown if the value could not be converted
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T property(CamelContext camelContext, Class<T> type, Object value) throws NoTypeConversionAvailableException {
+        if (value == null || ObjectHelper.isAssignableFrom(type, value.getClass())) {
+            return (T) value;
+        }
+        return camelContext.getTypeConverter().mandatoryConvertTo(type, value);
+    }
+
+}
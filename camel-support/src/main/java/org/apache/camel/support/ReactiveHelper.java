@@ -16,7 +16,7 @@
  */
 package org.apache.camel.support;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
 
 import org.apache.camel.AsyncCallback;
 import org.slf4j.Logger;
@@ -77,6 +77,10 @@ public final class ReactiveHelper {
     }
 
     private static Runnable describe(Runnable runnable, String description) {
+        if (!LOG.isDebugEnabled()) {
+            // the description is only in use for logging, so avoid the wrapper
+            return runnable;
+        }
         return new Runnable() {
             @Override
             public void run() {
@@ -91,18 +95,22 @@ public final class ReactiveHelper {
 
     private static class Worker {
 
-        LinkedList<Runnable> queue = new LinkedList<>();
-        LinkedList<LinkedList<Runnable>> back;
+        // the number of empty queues to keep around for reuse
+        private static final int MAX_SPARE = 16;
+
+        ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        ArrayDeque<ArrayDeque<Runnable>> back;
+        ArrayDeque<ArrayDeque<Runnable>> spare;
         boolean running;
 
         public void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
             if (main) {
                 if (!queue.isEmpty()) {
                     if (back == null) {
-                        back = new LinkedList<>();
+                        back = new ArrayDeque<>();
                     }
                     back.push(queue);
-                    queue = new LinkedList<>();
+                    queue = newQueue();
                 }
             }
             if (first) {
@@ -119,6 +127,7 @@ public final class ReactiveHelper {
                         final Runnable polled = queue.poll();
                         if (polled == null) {
                             if (back != null && !back.isEmpty()) {
+                                releaseQueue(queue);
                                 queue = back.poll();
                                 continue;
                             } else {
@@ -141,6 +150,20 @@ public final class ReactiveHelper {
             }
         }
 
+        private ArrayDeque<Runnable> newQueue() {
+            ArrayDeque<Runnable> answer = spare != null ? spare.poll() : null;
+            return answer != null ? answer : new ArrayDeque<>();
+        }
+
+        private void releaseQueue(ArrayDeque<Runnable> empty) {
+            if (spare == null) {
+                spare = new ArrayDeque<>();
+            }
+            if (spare.size() < MAX_SPARE) {
+                spare.push(empty);
+            }
+        }
+
         public boolean executeFromQueue() {
             final Runnable polled = queue != null ? queue.poll() : null;
             if (polled == null) {
@@ -0,0 +1,89 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An {@link ExchangeHolderCodec} which uses Java serialization to encode the {@link DefaultExchangeHolder}.
+ * <p/>
+ * The classes are loaded using the application context class loader from the {@link CamelContext}, and
+ * then using the class loader which loaded the holder.
+ */
+public class SerializationExchangeHolderCodec implements ExchangeHolderCodec {
+
+    @Override
+    public byte[] encode(DefaultExchangeHolder holder) throws IOException {
+        return serialize(holder);
+    }
+
+    @Override
+    public DefaultExchangeHolder decode(CamelContext camelContext, byte[] data) throws IOException, ClassNotFoundException {
+        return (DefaultExchangeHolder) deserialize(camelContext, data, 0, data.length);
+    }
+
+    static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut);
+        objectOut.writeObject(object);
+        objectOut.close();
+        return bytesOut.toByteArray();
+    }
+
+    static Object deserialize(CamelContext camelContext, byte[] data, int offset, int length) throws IOException, ClassNotFoundException {
+        ObjectInputStream objectIn = null;
+        try {
+            objectIn = new ContextClassLoadingObjectInputStream(camelContext, new ByteArrayInputStream(data, offset, length));
+            return objectIn.readObject();
+        } finally {
+            IOHelper.close(objectIn);
+        }
+    }
+
+    private static final class ContextClassLoadingObjectInputStream extends ObjectInputStream {
+
+        private final CamelContext camelContext;
+
+        ContextClassLoadingObjectInputStream(CamelContext camelContext, InputStream in) throws IOException {
+            super(in);
+            this.camelContext = camelContext;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader loader = camelContext != null ? camelContext.getApplicationContextClassLoader() : null;
+            if (loader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, loader);
+                } catch (ClassNotFoundException e) {
+                    // fallback to default
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import org.apache.camel.spi.IdempotentRepository;
+
+/**
+ * An {@link IdempotentRepository} which supports iterating all its keys and adding many keys at once.
+ * <p/>
+ * This is used by the {@link CachingIdempotentRepository} to warm up its bloom filter when starting,
+ * and to write the new keys behind in batches.
+ */
+public interface BulkIdempotentRepository extends IdempotentRepository {
+
+    /**
+     * Performs the given action for each key in the repository.
+     *
+     * @param action the action
+     */
+    void forEachKey(Consumer<String> action);
+
+    /**
+     * Adds the keys to the repository, which are known to not already be in the repository,
+     * so the repository does not need to check whether the keys exist.
+     *
+     * @param keys the keys
+     */
+    void addAll(Collection<String> keys);
+
+}
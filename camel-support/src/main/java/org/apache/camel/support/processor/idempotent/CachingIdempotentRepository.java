@@ -0,0 +1,471 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.MicroBatcher;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * An {@link IdempotentRepository} which decorates another repository, such as a JDBC or file based repository,
+ * to avoid accessing the repository for most of the keys.
+ * <p/>
+ * The recently used keys are kept in a bounded local LRU cache, so duplicates of recent keys are detected without
+ * accessing the repository. If the repository is a {@link BulkIdempotentRepository} then a scalable bloom filter
+ * is warmed up with all the keys from the repository when starting. Keys which the bloom filter has definitely not
+ * seen are new keys, and are added to the repository without checking whether they exist. Only when the bloom filter
+ * might have seen the key (which is a duplicate, or a false positive) then the repository is checked.
+ * <p/>
+ * The new keys can be written behind in batches by setting {@link #setWriteBehindSize(int)}. The keys are then
+ * written to the repository when the batch is full or the {@link #setWriteBehindTimeout(long) timeout} elapsed.
+ * Notice the pending keys are lost if the JVM crashes before they have been written.
+ * <p/>
+ * <b>Important:</b> The bloom filter only knows the keys from the repository when starting, and the keys added
+ * via this repository. Therefore the repository must not be updated by others while this repository is in use,
+ * such as other nodes in a cluster sharing the same JDBC table.
+ */
+@ManagedResource(description = "Caching IdempotentRepository")
+public class CachingIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private final IdempotentRepository repository;
+    private CamelContext camelContext;
+    private int cacheSize = 1000;
+    private int bloomFilterCapacity = 10000;
+    private double bloomFilterFalsePositiveProbability = 0.01;
+    private int writeBehindSize;
+    private long writeBehindTimeout = 1000;
+
+    // guards the cache, bloom filter and pending keys
+    private final Lock lock = new ReentrantLock();
+    // writes to the repository use the read lock so they can run concurrently, and remove and clear
+    // use the write lock so they are not interleaved with a write of the same key
+    private final ReadWriteLock storeLock = new ReentrantReadWriteLock();
+    private final Set<String> pending = new HashSet<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder bloomFilterMisses = new LongAdder();
+    private final LongAdder repositoryLookups = new LongAdder();
+    private Map<String, Object> cache;
+    private ScalableBloomFilter bloomFilter;
+    private ScheduledExecutorService scheduler;
+    private MicroBatcher<String> writeBehind;
+
+    public CachingIdempotentRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Creates a new caching repository which decorates the given repository.
+     *
+     * @param repository the repository
+     */
+    public static IdempotentRepository cachingIdempotentRepository(IdempotentRepository repository) {
+        return new CachingIdempotentRepository(repository);
+    }
+
+    @ManagedOperation(description = "Adds the key to the store")
+    @Override
+    public boolean add(String key) {
+        return doAdd(null, key);
+    }
+
+    @Override
+    public boolean add(Exchange exchange, String key) {
+        return doAdd(exchange, key);
+    }
+
+    @ManagedOperation(description = "Does the store contain the given key")
+    @Override
+    public boolean contains(String key) {
+        return doContains(null, key);
+    }
+
+    @Override
+    public boolean contains(Exchange exchange, String key) {
+        return doContains(exchange, key);
+    }
+
+    @ManagedOperation(description = "Remove the key from the store")
+    @Override
+    public boolean remove(String key) {
+        return doRemove(null, key);
+    }
+
+    @Override
+    public boolean remove(Exchange exchange, String key) {
+        return doRemove(exchange, key);
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return repository.confirm(key);
+    }
+
+    @Override
+    public boolean confirm(Exchange exchange, String key) {
+        return repository.confirm(exchange, key);
+    }
+
+    @ManagedOperation(description = "Clear the store")
+    @Override
+    public void clear() {
+        storeLock.writeLock().lock();
+        try {
+            lock.lock();
+            try {
+                cache.clear();
+                pending.clear();
+                if (bloomFilter != null) {
+                    bloomFilter.clear();
+                }
+            } finally {
+                lock.unlock();
+            }
+            repository.clear();
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    private boolean doAdd(Exchange exchange, String key) {
+        boolean definitelyNew = false;
+        lock.lock();
+        try {
+            if (cache.get(key) != null || pending.contains(key)) {
+                cacheHits.increment();
+                return false;
+            }
+            if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+                // the key is definitely new, so add it without checking the repository
+                bloomFilterMisses.increment();
+                bloomFilter.add(key);
+                cache.put(key, key);
+                // keep the key as pending until it has been written so concurrent calls see it
+                pending.add(key);
+                definitelyNew = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (definitelyNew) {
+            if (writeBehind != null) {
+                writeBehind.add(key);
+            } else {
+                write(Collections.singletonList(key), true);
+            }
+            return true;
+        }
+
+        // the key may be a duplicate so let the repository decide
+        repositoryLookups.increment();
+        boolean answer = exchange != null ? repository.add(exchange, key) : repository.add(key);
+        lock.lock();
+        try {
+            cache.put(key, key);
+            if (bloomFilter != null) {
+                bloomFilter.add(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return answer;
+    }
+
+    private boolean doContains(Exchange exchange, String key) {
+        lock.lock();
+        try {
+            if (cache.get(key) != null || pending.contains(key)) {
+                cacheHits.increment();
+                return true;
+            }
+            if (bloomFilter != null && !bloomFilter.mightContain(key)) {
+                bloomFilterMisses.increment();
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        repositoryLookups.increment();
+        boolean answer = exchange != null ? repository.contains(exchange, key) : repository.contains(key);
+        if (answer) {
+            lock.lock();
+            try {
+                cache.put(key, key);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return answer;
+    }
+
+    private boolean doRemove(Exchange exchange, String key) {
+        if (writeBehind != null) {
+            // write the pending keys so the key is not written after it has been removed
+            writeBehind.flush();
+        }
+        storeLock.writeLock().lock();
+        try {
+            lock.lock();
+            try {
+                cache.remove(key);
+                pending.remove(key);
+            } finally {
+                lock.unlock();
+            }
+            return exchange != null ? repository.remove(exchange, key) : repository.remove(key);
+        } finally {
+            storeLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the new keys to the repository
+     *
+     * @param keys      the keys
+     * @param propagate whether to propagate a failure to the caller, or add the keys one by one
+     */
+    private void write(List<String> keys, boolean propagate) {
+        storeLock.readLock().lock();
+        try {
+            List<String> keysToWrite = new ArrayList<>(keys.size());
+            lock.lock();
+            try {
+                // the keys may have been removed in the meantime
+                for (String key : keys) {
+                    if (pending.contains(key)) {
+                        keysToWrite.add(key);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (keysToWrite.isEmpty()) {
+                return;
+            }
+
+            List<String> failed = Collections.emptyList();
+            try {
+                ((BulkIdempotentRepository) repository).addAll(keysToWrite);
+            } catch (RuntimeException e) {
+                if (propagate) {
+                    failed = keysToWrite;
+                    throw e;
+                }
+                log.warn("Error writing {} keys to {} due {}. Will add the keys one by one.", keysToWrite.size(), repository, e.getMessage(), e);
+                failed = new ArrayList<>();
+                for (String key : keysToWrite) {
+                    try {
+                        repository.add(key);
+                    } catch (RuntimeException ex) {
+                        log.warn("Error adding key {} to {}. This key may be processed again.", key, repository, ex);
+                        failed.add(key);
+                    }
+                }
+            } finally {
+                lock.lock();
+                try {
+                    pending.removeAll(keysToWrite);
+                    // the keys which could not be written are not known by the repository
+                    for (String key : failed) {
+                        cache.remove(key);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            storeLock.readLock().unlock();
+        }
+    }
+
+    private void writeBehind(List<String> keys) {
+        write(keys, false);
+    }
+
+    public IdempotentRepository getRepository() {
+        return repository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "The maximum number of keys in the local cache")
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * The maximum number of recently used keys to keep in the local LRU cache. The default is 1000.
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public int getBloomFilterCapacity() {
+        return bloomFilterCapacity;
+    }
+
+    /**
+     * The initial number of keys the bloom filter is sized for. The bloom filter grows when more keys are added.
+     * The default is 10000.
+     */
+    public void setBloomFilterCapacity(int bloomFilterCapacity) {
+        this.bloomFilterCapacity = bloomFilterCapacity;
+    }
+
+    public double getBloomFilterFalsePositiveProbability() {
+        return bloomFilterFalsePositiveProbability;
+    }
+
+    /**
+     * The probability the bloom filter reports it may have seen a key which it has not,
+     * which causes the repository to be checked. The default is 0.01.
+     */
+    public void setBloomFilterFalsePositiveProbability(double bloomFilterFalsePositiveProbability) {
+        this.bloomFilterFalsePositiveProbability = bloomFilterFalsePositiveProbability;
+    }
+
+    public int getWriteBehindSize() {
+        return writeBehindSize;
+    }
+
+    /**
+     * If set greater than zero, then the new keys are written behind to the repository in batches of this size.
+     * This requires the repository to be a {@link BulkIdempotentRepository}. By default the new keys are written
+     * before the add method returns.
+     */
+    public void setWriteBehindSize(int writeBehindSize) {
+        this.writeBehindSize = writeBehindSize;
+    }
+
+    public long getWriteBehindTimeout() {
+        return writeBehindTimeout;
+    }
+
+    /**
+     * The maximum time in millis a new key is pending before it is written behind to the repository. The default is 1000.
+     */
+    public void setWriteBehindTimeout(long writeBehindTimeout) {
+        this.writeBehindTimeout = writeBehindTimeout;
+    }
+
+    @ManagedAttribute(description = "Number of keys found in the local cache")
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    @ManagedAttribute(description = "Number of keys which the bloom filter has definitely not seen")
+    public long getBloomFilterMisses() {
+        return bloomFilterMisses.sum();
+    }
+
+    @ManagedAttribute(description = "Number of keys which has been checked in the repository")
+    public long getRepositoryLookups() {
+        return repositoryLookups.sum();
+    }
+
+    @ManagedAttribute(description = "Number of keys in the bloom filter")
+    public long getBloomFilterSize() {
+        lock.lock();
+        try {
+            return bloomFilter != null ? bloomFilter.size() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of new keys which has not yet been written to the repository")
+    public int getPendingSize() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(repository, "repository", this);
+        ServiceHelper.startService(repository);
+
+        cache = LRUCacheFactory.newLRUCache(cacheSize);
+        if (repository instanceof BulkIdempotentRepository) {
+            ScalableBloomFilter filter = new ScalableBloomFilter(bloomFilterCapacity, bloomFilterFalsePositiveProbability);
+            ((BulkIdempotentRepository) repository).forEachKey(filter::add);
+            log.debug("Warmed up bloom filter with {} keys ({} bits) from {}", filter.size(), filter.bitSize(), repository);
+            bloomFilter = filter;
+
+            if (writeBehindSize > 0) {
+                ObjectHelper.notNull(camelContext, "camelContext", this);
+                scheduler = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "CachingIdempotentRepository");
+                writeBehind = new MicroBatcher<>(scheduler, writeBehindSize, writeBehindTimeout, this::writeBehind);
+            }
+        } else if (writeBehindSize > 0) {
+            log.warn("Write behind is not supported as the repository {} is not a BulkIdempotentRepository", repository);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (writeBehind != null) {
+            // write the pending keys before stopping
+            writeBehind.flush();
+            writeBehind = null;
+        }
+        if (scheduler != null) {
+            camelContext.getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        ServiceHelper.stopService(repository);
+        bloomFilter = null;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -20,9 +20,12 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedAttribute;
@@ -49,7 +52,7 @@ import org.apache.camel.util.Scanner;
  * number of entries from the file store is dropped to reduce the file store and make room for newer entries.
  */
 @ManagedResource(description = "File based idempotent repository")
-public class FileIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+public class FileIdempotentRepository extends ServiceSupport implements BulkIdempotentRepository {
 
     private static final String STORE_DELIMITER = "\n";
 
@@ -172,6 +175,36 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
         return true;
     }
     
+    public void forEachKey(Consumer<String> action) {
+        synchronized (cache) {
+            if (fileStore == null || !fileStore.exists()) {
+                return;
+            }
+            try (Scanner scanner = new Scanner(fileStore, null, STORE_DELIMITER)) {
+                while (scanner.hasNext()) {
+                    action.accept(scanner.next());
+                }
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+    }
+
+    public void addAll(Collection<String> keys) {
+        synchronized (cache) {
+            for (String key : keys) {
+                cache.put(key, key);
+            }
+            appendToStore(keys);
+
+            // check if we hit maximum capacity (if enabled) and report a warning about this
+            if (maxFileStoreSize > 0 && fileStore.length() > maxFileStoreSize) {
+                log.warn("Maximum capacity of file store: {} hit at {} bytes. Dropping {} oldest entries from the file store", fileStore, maxFileStoreSize, dropOldestFileStore);
+                trunkStore();
+            }
+        }
+    }
+
     @ManagedOperation(description = "Clear the store (danger this removes all entries)")
     public void clear() {
         synchronized (cache) {
@@ -305,7 +338,16 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
      * @param key  the key
      */
     protected void appendToStore(final String key) {
-        log.debug("Appending: {} to idempotent filestore: {}", key, fileStore);
+        appendToStore(Collections.singletonList(key));
+    }
+
+    /**
+     * Appends the given keys to the file store
+     *
+     * @param keys  the keys
+     */
+    protected void appendToStore(final Collection<String> keys) {
+        log.debug("Appending: {} to idempotent filestore: {}", keys, fileStore);
         FileOutputStream fos = null;
         try {
             // create store parent directory if missing
@@ -324,8 +366,10 @@ public class FileIdempotentRepository extends ServiceSupport implements Idempote
             }
             // append to store
             fos = new FileOutputStream(fileStore, true);
-            fos.write(key.getBytes());
-            fos.write(STORE_DELIMITER.getBytes());
+            for (String key : keys) {
+                fos.write(key.getBytes());
+                fos.write(STORE_DELIMITER.getBytes());
+            }
         } catch (IOException e) {
             throw RuntimeCamelException.wrapRuntimeCamelException(e);
         } finally {
@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scalable bloom filter, which adds a new and larger bloom filter with a tighter false positive probability
+ * when the current filter is full, so the overall false positive probability stays bounded as more keys are added.
+ * <p/>
+ * This implementation is not thread-safe.
+ */
+final class ScalableBloomFilter {
+
+    // each new filter has twice the capacity and half the false positive probability of the previous filter
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+
+    private final List<Filter> filters = new ArrayList<>();
+    private final int initialCapacity;
+    private final double falsePositiveProbability;
+    private long size;
+
+    ScalableBloomFilter(int initialCapacity, double falsePositiveProbability) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("InitialCapacity must be a positive number, was: " + initialCapacity);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("FalsePositiveProbability must be between 0 and 1, was: " + falsePositiveProbability);
+        }
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveProbability = falsePositiveProbability;
+        clear();
+    }
+
+    /**
+     * Adds the key to the filter
+     */
+    void add(String key) {
+        long hash = hash(key);
+        if (mightContain(hash)) {
+            return;
+        }
+        Filter current = filters.get(filters.size() - 1);
+        if (current.size >= current.capacity) {
+            current = new Filter((long) current.capacity * GROWTH, current.probability * TIGHTENING);
+            filters.add(current);
+        }
+        current.add(hash);
+        size++;
+    }
+
+    /**
+     * Whether the key might have been added to the filter. If <tt>false</tt> then the key has definitely not been added.
+     */
+    boolean mightContain(String key) {
+        return mightContain(hash(key));
+    }
+
+    /**
+     * The number of keys added to the filter
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * The number of bits used by the filter
+     */
+    long bitSize() {
+        long answer = 0;
+        for (Filter filter : filters) {
+            answer += filter.bits;
+        }
+        return answer;
+    }
+
+    void clear() {
+        filters.clear();
+        filters.add(new Filter(initialCapacity, falsePositiveProbability * (1 - TIGHTENING)));
+        size = 0;
+    }
+
+    private boolean mightContain(long hash) {
+        for (int i = filters.size() - 1; i >= 0; i--) {
+            if (filters.get(i).mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the UTF-8 bytes, with a final mix step so the upper and lower half can be used as two hashes
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Filter {
+        private final long capacity;
+        private final double probability;
+        private final long bits;
+        private final int hashes;
+        private final long[] words;
+        private long size;
+
+        Filter(long capacity, double probability) {
+            this.capacity = capacity;
+            this.probability = probability;
+            // optimal number of bits and hash functions for the given capacity and false positive probability
+            long m = (long) Math.ceil(-capacity * Math.log(probability) / (Math.log(2) * Math.log(2)));
+            this.bits = Math.max(64, m);
+            this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+            this.words = new long[(int) ((bits + 63) >>> 6)];
+        }
+
+        void add(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bits;
+                words[(int) (index >>> 6)] |= 1L << index;
+            }
+            size++;
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashes; i++) {
+                long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bits;
+                if ((words[(int) (index >>> 6)] & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
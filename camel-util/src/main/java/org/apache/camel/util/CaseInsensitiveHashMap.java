@@ -0,0 +1,489 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, and which is optimized for storing message headers.
+ * <p/>
+ * The entries are stored in insertion order in flat arrays, together with a precomputed case insensitive hash of their keys,
+ * and looked up via an open-addressing (linear probing) hash table. This means lookup is O(1) and only the keys
+ * with the same hash are compared ignoring case, whereas {@link CaseInsensitiveMap} uses O(log n) case insensitive comparisons.
+ * <p/>
+ * Creating a copy of this map using {@link #CaseInsensitiveHashMap(Map)}, or calling {@link #putAll(Map)} on an empty map,
+ * shares the storage with the existing map (copy-on-write), so copying is O(1). The storage is first copied when
+ * either of the maps is changed.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed
+ * by the Camel routing engine. However maps that share storage can be used by different threads, as the shared
+ * storage is never changed.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 5546372591473208946L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // entries in insertion order (removed entries are null keys until compacted)
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // open-addressing table with the position of the entries plus 1 (0 means empty slot)
+    private int[] table;
+    // number of entries, and number of used positions in the entries
+    private int size;
+    private int used;
+    // whether the arrays are shared with another map and must be copied before changing them
+    private boolean shared;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+    private transient Set<String> keySet;
+
+    public CaseInsensitiveHashMap() {
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String) {
+            int index = indexOf((String) key);
+            if (index >= 0) {
+                return values[index];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = hash(key);
+        if (keys != null) {
+            int mask = table.length - 1;
+            for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+                int index = table[slot] - 1;
+                if (index < 0) {
+                    break;
+                }
+                if (hashes[index] == hash && key.equalsIgnoreCase(keys[index])) {
+                    copyOnWrite();
+                    Object answer = values[index];
+                    // like CaseInsensitiveMap the original key case is kept
+                    values[index] = value;
+                    return answer;
+                }
+            }
+        }
+
+        copyOnWrite();
+        if (keys == null) {
+            allocate(DEFAULT_CAPACITY);
+        } else if (used == keys.length) {
+            // grow if the map is more than half full, otherwise just compact away the removed entries
+            resize(size >= keys.length >> 1 ? keys.length << 1 : keys.length);
+        }
+        int index = used++;
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        insert(index);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void putAll(Map<? extends String, ?> map) {
+        if (size == 0 && map instanceof CaseInsensitiveHashMap) {
+            // share the storage until any of the maps are changed
+            CaseInsensitiveHashMap other = (CaseInsensitiveHashMap) map;
+            if (other.size > 0) {
+                other.shared = true;
+                shared = true;
+                keys = other.keys;
+                values = other.values;
+                hashes = other.hashes;
+                table = other.table;
+                size = other.size;
+                used = other.used;
+                modCount++;
+            }
+            return;
+        }
+        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String) {
+            int index = indexOf((String) key);
+            if (index >= 0) {
+                Object answer = values[index];
+                removeAt(index);
+                return answer;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            // do not touch the shared storage
+            keys = null;
+            values = null;
+            hashes = null;
+            table = null;
+            shared = false;
+        } else if (keys != null) {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+            Arrays.fill(table, 0);
+        }
+        size = 0;
+        used = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (keySet == null) {
+            keySet = new KeySet();
+        }
+        return keySet;
+    }
+
+    /**
+     * Computes the case insensitive hash of the key, which is the same for keys that are
+     * {@link String#equalsIgnoreCase(String) equal ignoring case}.
+     */
+    static int hash(String key) {
+        int h = 0;
+        for (int i = 0, len = key.length(); i < len; i++) {
+            char ch = key.charAt(i);
+            if (ch < 128) {
+                // fast path for ascii
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch += 'a' - 'A';
+                }
+            } else {
+                // same folding as String#equalsIgnoreCase
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(String key) {
+        if (size == 0) {
+            return -1;
+        }
+        int hash = hash(key);
+        int mask = table.length - 1;
+        for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (index < 0) {
+                return -1;
+            }
+            if (hashes[index] == hash && key.equalsIgnoreCase(keys[index])) {
+                return index;
+            }
+        }
+    }
+
+    private void setValueAt(int index, Object value) {
+        copyOnWrite();
+        values[index] = value;
+    }
+
+    private void removeAt(int index) {
+        copyOnWrite();
+        int mask = table.length - 1;
+        int slot = hashes[index] & mask;
+        while (table[slot] != index + 1) {
+            slot = (slot + 1) & mask;
+        }
+        // shift back the following entries in the probe sequence, so no tombstones are needed
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            int other = table[next];
+            if (other == 0) {
+                break;
+            }
+            int home = hashes[other - 1] & mask;
+            boolean between = slot <= next ? slot < home && home <= next : slot < home || home <= next;
+            if (!between) {
+                table[slot] = other;
+                slot = next;
+            }
+        }
+        table[slot] = 0;
+
+        keys[index] = null;
+        values[index] = null;
+        if (index == used - 1) {
+            used--;
+        }
+        size--;
+        modCount++;
+    }
+
+    private void insert(int index) {
+        int mask = table.length - 1;
+        int slot = hashes[index] & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    private void copyOnWrite() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            table = table.clone();
+            shared = false;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        // keep the table at most half full
+        table = new int[capacity << 1];
+    }
+
+    private void resize(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+        allocate(capacity);
+        used = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != null) {
+                keys[used] = oldKeys[i];
+                values[used] = oldValues[i];
+                hashes[used] = oldHashes[i];
+                insert(used++);
+            }
+        }
+    }
+
+    private abstract class EntryIterator<E> implements Iterator<E> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        EntryIterator() {
+            advance();
+        }
+
+        private void advance() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        int nextIndex() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            advance();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+        private final String key;
+        private final int index;
+        private final int expectedModCount;
+
+        Entry(int index) {
+            this.key = keys[index];
+            this.index = index;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return modCount == expectedModCount ? values[index] : get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (modCount == expectedModCount) {
+                Object answer = values[index];
+                setValueAt(index, value);
+                return answer;
+            }
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return key.equals(e.getKey()) && ObjectHelper.equal(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator<Map.Entry<String, Object>>() {
+                @Override
+                public Map.Entry<String, Object> next() {
+                    return new Entry(nextIndex());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            return new EntryIterator<String>() {
+                @Override
+                public String next() {
+                    return keys[nextIndex()];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (o instanceof String) {
+                int index = indexOf((String) o);
+                if (index >= 0) {
+                    removeAt(index);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+}
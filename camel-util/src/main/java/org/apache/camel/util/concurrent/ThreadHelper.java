@@ -16,6 +16,7 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -23,16 +24,67 @@ import java.util.regex.Pattern;
 import org.apache.camel.util.StringHelper;
 
 /**
- * Various helper method for thread naming.
+ * Various helper method for thread naming and creating threads.
  */
 public final class ThreadHelper {
     public static final String DEFAULT_PATTERN = "Camel Thread ##counter# - #name#";
     private static final Pattern INVALID_PATTERN = Pattern.compile(".*#\\w+#.*");
 
     private static AtomicLong threadCounter = new AtomicLong();
-    
+
+    // virtual threads requires Java 21+ so they are looked up using reflection
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_UNSTARTED;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method unstarted = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            name = builder.getMethod("name", String.class);
+            unstarted = builder.getMethod("unstarted", Runnable.class);
+            // try to create a virtual thread to ensure they are supported (could be a preview feature)
+            unstarted.invoke(name.invoke(ofVirtual.invoke(null), "Camel"), (Runnable) () -> { });
+        } catch (Throwable e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = name;
+        BUILDER_UNSTARTED = unstarted;
+    }
+
     private ThreadHelper() {
     }
+
+    /**
+     * Whether the JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a new (unstarted) virtual thread with the given name.
+     *
+     * @param name     the thread name
+     * @param runnable the task the thread should execute
+     * @return the virtual thread
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static Thread newVirtualThread(String name, Runnable runnable) {
+        if (OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException("Virtual threads is not supported on this JVM");
+        }
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name);
+            return (Thread) BUILDER_UNSTARTED.invoke(builder, runnable);
+        } catch (Exception e) {
+            throw new IllegalStateException("Error creating virtual thread due " + e.getMessage(), e);
+        }
+    }
     
     private static long nextThreadCounter() {
         return threadCounter.getAndIncrement();
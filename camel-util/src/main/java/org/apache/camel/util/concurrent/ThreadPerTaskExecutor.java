@@ -0,0 +1,348 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor which starts a new thread for each task instead of reusing the threads of a pool,
+ * which is intended for virtual threads that are cheap to create.
+ * <p/>
+ * A {@link Semaphore} limits how many tasks can run concurrently in this executor. When the limit is reached then new tasks
+ * are rejected according to the {@link ThreadPoolRejectedPolicy}. As there is no queue of pending tasks,
+ * then <tt>DiscardOldest</tt> discards the new task as <tt>Discard</tt> does.
+ * Tasks which implement {@link Rejectable} are notified when they are rejected, as with
+ * {@link RejectableThreadPoolExecutor}.
+ * <p/>
+ * As this is not a {@link ThreadPoolExecutor}, then {@link #getThreadPoolExecutor()} provides a read-only view
+ * of the executor, which reports the active, limit and completed counts, such as for management.
+ */
+public class ThreadPerTaskExecutor extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final int limit;
+    private final Semaphore limiter;
+    private final ThreadPoolRejectedPolicy rejectedPolicy;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final Object lock = new Object();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger largest = new AtomicInteger();
+    private final AtomicLong taskCount = new AtomicLong();
+    private final AtomicLong completedTaskCount = new AtomicLong();
+    private final ThreadPoolExecutor view;
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a new executor.
+     *
+     * @param threadFactory  the factory to create a new thread for each task
+     * @param limit          the maximum number of tasks which can run concurrently, use 0 or negative value for unlimited
+     * @param rejectedPolicy the policy for tasks which are rejected, is <tt>CallerRuns</tt> if <tt>null</tt>
+     */
+    public ThreadPerTaskExecutor(ThreadFactory threadFactory, int limit, ThreadPoolRejectedPolicy rejectedPolicy) {
+        this.threadFactory = threadFactory;
+        this.limit = limit > 0 ? limit : -1;
+        this.limiter = limit > 0 ? new Semaphore(limit) : null;
+        this.rejectedPolicy = rejectedPolicy != null ? rejectedPolicy : ThreadPoolRejectedPolicy.CallerRuns;
+        this.view = new ThreadPoolExecutorView();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+        if (!acquire()) {
+            reject(task);
+            return;
+        }
+
+        Thread thread;
+        try {
+            thread = threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    threads.remove(Thread.currentThread());
+                    completedTaskCount.incrementAndGet();
+                    release();
+                    tryTerminate();
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            release();
+            throw e;
+        }
+
+        synchronized (lock) {
+            if (shutdown) {
+                release();
+                reject(task);
+                return;
+            }
+            threads.add(thread);
+        }
+        taskCount.incrementAndGet();
+        try {
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            taskCount.decrementAndGet();
+            threads.remove(thread);
+            release();
+            tryTerminate();
+            throw e;
+        }
+    }
+
+    private boolean acquire() {
+        if (limiter != null && !limiter.tryAcquire()) {
+            return false;
+        }
+        largest.accumulateAndGet(active.incrementAndGet(), Math::max);
+        return true;
+    }
+
+    private void release() {
+        active.decrementAndGet();
+        if (limiter != null) {
+            limiter.release();
+        }
+    }
+
+    private void reject(Runnable task) {
+        if (rejectedPolicy == ThreadPoolRejectedPolicy.CallerRuns) {
+            // same as the JDK caller runs policy which discards the task when shutdown
+            if (!shutdown) {
+                task.run();
+            }
+        } else if (task instanceof Rejectable) {
+            ((Rejectable) task).reject();
+        } else if (rejectedPolicy == ThreadPoolRejectedPolicy.Abort) {
+            throw new RejectedExecutionException("Task " + task.toString() + " rejected from " + toString());
+        }
+    }
+
+    private void tryTerminate() {
+        synchronized (lock) {
+            if (shutdown && threads.isEmpty()) {
+                terminated.countDown();
+            }
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        if (runnable instanceof Rejectable) {
+            return new RejectableFutureTask<>(runnable, value);
+        } else {
+            return super.newTaskFor(runnable, value);
+        }
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        if (callable instanceof Rejectable) {
+            return new RejectableFutureTask<>(callable);
+        } else {
+            return super.newTaskFor(callable);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+        }
+        tryTerminate();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        // there is no queue of pending tasks
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * The maximum number of tasks which can run concurrently, or <tt>-1</tt> if unlimited.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * The number of tasks which are currently running.
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * The largest number of tasks which have been running at the same time.
+     */
+    public int getLargestActiveCount() {
+        return largest.get();
+    }
+
+    /**
+     * The number of tasks which have been started.
+     */
+    public long getTaskCount() {
+        return taskCount.get();
+    }
+
+    /**
+     * The number of tasks which have completed.
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    /**
+     * Gets a read-only {@link ThreadPoolExecutor} view of this executor, which can be used for management
+     * of the executor. The view executes tasks using this executor, and reports the counts of this executor,
+     * where the pool size is the number of running tasks, and the maximum pool size is the limit
+     * (or {@link Integer#MAX_VALUE} if unlimited). The view cannot be reconfigured.
+     */
+    public ThreadPoolExecutor getThreadPoolExecutor() {
+        return view;
+    }
+
+    public ThreadPoolRejectedPolicy getRejectedPolicy() {
+        return rejectedPolicy;
+    }
+
+    @Override
+    public String toString() {
+        // the thread factory often have more precise details what the executor is used for
+        String name = threadFactory instanceof CamelThreadFactory ? "[" + ((CamelThreadFactory) threadFactory).getName() + "]" : "";
+        return super.toString() + "[" + (shutdown ? "Shutdown" : "Running") + ", active tasks = " + getActiveCount()
+            + ", limit = " + limit + "]" + name;
+    }
+
+    private final class ThreadPoolExecutorView extends ThreadPoolExecutor {
+
+        ThreadPoolExecutorView() {
+            // the view never starts any threads of its own
+            super(0, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), threadFactory);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            ThreadPerTaskExecutor.this.execute(command);
+        }
+
+        @Override
+        public int getPoolSize() {
+            return ThreadPerTaskExecutor.this.getActiveCount();
+        }
+
+        @Override
+        public int getActiveCount() {
+            return ThreadPerTaskExecutor.this.getActiveCount();
+        }
+
+        @Override
+        public int getLargestPoolSize() {
+            return ThreadPerTaskExecutor.this.getLargestActiveCount();
+        }
+
+        @Override
+        public int getMaximumPoolSize() {
+            return limit > 0 ? limit : Integer.MAX_VALUE;
+        }
+
+        @Override
+        public long getTaskCount() {
+            return ThreadPerTaskExecutor.this.getTaskCount();
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return ThreadPerTaskExecutor.this.getCompletedTaskCount();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return ThreadPerTaskExecutor.this.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return ThreadPerTaskExecutor.this.isTerminated();
+        }
+
+        @Override
+        public void setCorePoolSize(int corePoolSize) {
+            throw new UnsupportedOperationException("Cannot change the core pool size of " + ThreadPerTaskExecutor.this);
+        }
+
+        @Override
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            throw new UnsupportedOperationException("Cannot change the maximum pool size of " + ThreadPerTaskExecutor.this);
+        }
+
+        @Override
+        public void setKeepAliveTime(long time, TimeUnit unit) {
+            throw new UnsupportedOperationException("Cannot change the keep alive time of " + ThreadPerTaskExecutor.this);
+        }
+
+        @Override
+        public void allowCoreThreadTimeOut(boolean value) {
+            throw new UnsupportedOperationException("Cannot change the core thread timeout of " + ThreadPerTaskExecutor.this);
+        }
+
+        @Override
+        public String toString() {
+            return ThreadPerTaskExecutor.this.toString();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ThreadPerTaskExecutorTest extends Assert {
+
+    @Test
+    public void testTasksRunConcurrentlyUpToLimit() throws Exception {
+        ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new CamelThreadFactory(null, "test", true), 5, ThreadPoolRejectedPolicy.Abort);
+
+        CountDownLatch running = new CountDownLatch(5);
+        CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                running.countDown();
+                awaitQuietly(done);
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(5, executor.getActiveCount());
+
+        try {
+            executor.execute(() -> { });
+            fail("Should have thrown a RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+
+        done.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getActiveCount());
+    }
+
+    @Test
+    public void testCallerRunsWhenLimitReached() throws Exception {
+        ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new CamelThreadFactory(null, "test", true), 1, null);
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            awaitQuietly(done);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        Thread caller = Thread.currentThread();
+        AtomicBoolean callerRuns = new AtomicBoolean();
+        executor.execute(() -> callerRuns.set(Thread.currentThread() == caller));
+        assertTrue(callerRuns.get());
+
+        done.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDiscardRejectsRejectableTask() throws Exception {
+        ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new CamelThreadFactory(null, "test", true), 1, ThreadPoolRejectedPolicy.Discard);
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            awaitQuietly(done);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        RejectableTask task = new RejectableTask();
+        executor.execute(task);
+        assertTrue(task.rejected);
+
+        done.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdownNowInterruptsTasks() throws Exception {
+        ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new CamelThreadFactory(null, "test", true), 1, ThreadPoolRejectedPolicy.Abort);
+
+        CountDownLatch running = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            awaitQuietly(new CountDownLatch(1));
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertFalse(executor.isTerminated());
+
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(executor.isShutdown());
+
+        try {
+            executor.execute(() -> { });
+            fail("Should have thrown a RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testUnlimited() throws Exception {
+        ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new CamelThreadFactory(null, "test", true), -1, ThreadPoolRejectedPolicy.Abort);
+        assertEquals(-1, executor.getLimit());
+
+        CountDownLatch running = new CountDownLatch(20);
+        CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < 20; i++) {
+            executor.execute(() -> {
+                running.countDown();
+                awaitQuietly(done);
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(20, executor.getActiveCount());
+
+        done.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getActiveCount());
+    }
+
+    @Test
+    public void testThreadPoolExecutorView() throws Exception {
+        ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor(new CamelThreadFactory(null, "test", true), 3, ThreadPoolRejectedPolicy.Abort);
+        ThreadPoolExecutor view = executor.getThreadPoolExecutor();
+        assertEquals(3, view.getMaximumPoolSize());
+
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            view.execute(() -> {
+                running.countDown();
+                awaitQuietly(done);
+            });
+        }
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(2, view.getActiveCount());
+        assertEquals(2, view.getPoolSize());
+        assertEquals(2, view.getLargestPoolSize());
+        assertEquals(2, view.getTaskCount());
+        assertEquals(0, view.getCompletedTaskCount());
+
+        done.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(view.isShutdown());
+        assertEquals(0, view.getActiveCount());
+        assertEquals(2, view.getLargestPoolSize());
+        assertEquals(2, view.getCompletedTaskCount());
+
+        try {
+            view.setMaximumPoolSize(10);
+            fail("Should have thrown an UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            // ignore
+        }
+    }
+
+    private static final class RejectableTask implements Runnable, Rejectable {
+        private volatile boolean rejected;
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public void reject() {
+            rejected = true;
+        }
+    }
+}
@@ -590,6 +590,10 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
             StreamCachingStrategy.SpoolUsedHeapMemoryLimit ul = CamelContextHelper.mandatoryConvertTo(getContext(), StreamCachingStrategy.SpoolUsedHeapMemoryLimit.class, limit);
             getContext().getStreamCachingStrategy().setSpoolUsedHeapMemoryLimit(ul);
         }
+        Long offHeapLimit = CamelContextHelper.parseLong(getContext(), streamCaching.getOffHeapMemoryLimit());
+        if (offHeapLimit != null) {
+            getContext().getStreamCachingStrategy().setOffHeapMemoryLimit(offHeapLimit);
+        }
         String spoolChiper = CamelContextHelper.parseText(getContext(), streamCaching.getSpoolChiper());
         if (spoolChiper != null) {
             getContext().getStreamCachingStrategy().setSpoolChiper(spoolChiper);
@@ -1000,6 +1004,7 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         answer.setAllowCoreThreadTimeOut(CamelContextHelper.parseBoolean(context, definition.getAllowCoreThreadTimeOut()));
         answer.setRejectedPolicy(definition.getRejectedPolicy());
         answer.setTimeUnit(definition.getTimeUnit());
+        answer.setVirtualThreads(CamelContextHelper.parseBoolean(context, definition.getVirtualThreads()));
         return answer;
     }
 
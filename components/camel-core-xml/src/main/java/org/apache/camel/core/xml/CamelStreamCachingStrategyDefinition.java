@@ -45,6 +45,8 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     @XmlAttribute
     private String spoolUsedHeapMemoryLimit;
     @XmlAttribute
+    private String offHeapMemoryLimit;
+    @XmlAttribute
     private String spoolRules;
     @XmlAttribute
     private String bufferSize;
@@ -132,6 +134,20 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.spoolUsedHeapMemoryLimit = spoolUsedHeapMemoryLimit;
     }
 
+    public String getOffHeapMemoryLimit() {
+        return offHeapMemoryLimit;
+    }
+
+    /**
+     * Sets a limit in bytes of off-heap memory to use for in-memory stream caches.
+     * When set, the in-memory stream caches are stored in pooled off-heap buffers instead of on the heap,
+     * and the stream caches are spooled to disk when the limit is reached.
+     * The default is 0 which means off-heap memory is not used.
+     */
+    public void setOffHeapMemoryLimit(String offHeapMemoryLimit) {
+        this.offHeapMemoryLimit = offHeapMemoryLimit;
+    }
+
     public String getSpoolRules() {
         return spoolRules;
     }
@@ -31,6 +31,7 @@ import java.util.Set;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
 
@@ -41,6 +42,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
 
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private FileWatchIndex watchIndex;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations, GenericFileProcessStrategy<File> processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -68,7 +70,13 @@ public class FileConsumer extends GenericFileConsumer<File> {
         }
 
         log.trace("Polling directory: {}", directory.getPath());
-        File[] dirFiles = directory.listFiles();
+        File[] dirFiles;
+        if (watchIndex != null) {
+            // only the files which have not been consumed before
+            dirFiles = watchIndex.listPendingFiles(directory);
+        } else {
+            dirFiles = directory.listFiles();
+        }
         if (dirFiles == null || dirFiles.length == 0) {
             // no files in this directory to poll
             if (log.isTraceEnabled()) {
@@ -85,6 +93,10 @@ public class FileConsumer extends GenericFileConsumer<File> {
         if (getEndpoint().isPreSort()) {
             files.sort(Comparator.comparing(File::getAbsoluteFile));
         }
+        if (watchIndex != null) {
+            // the done file must be looked up among all the files in the directory
+            files = watchIndex.listFiles(directory);
+        }
 
         for (File file : dirFiles) {
             // check if we can continue polling in files
@@ -92,6 +104,12 @@ public class FileConsumer extends GenericFileConsumer<File> {
                 return false;
             }
 
+            // the watch events for files which have just been deleted or moved may not yet have been received
+            if (watchIndex != null && !file.exists()) {
+                log.trace("Skipping file: {} as it no longer exists", file);
+                continue;
+            }
+
             // trace log as Windows/Unix can have different views what the file is?
             if (log.isTraceEnabled()) {
                 log.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]",
@@ -158,6 +176,13 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return true;
     }
 
+    @Override
+    protected void onAlreadyConsumed(GenericFile<File> file) {
+        if (watchIndex != null) {
+            watchIndex.consumed(file.getFile(), file.getLastModified(), file.getFileLength());
+        }
+    }
+
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, List<File> files) {
         String onlyName = FileUtil.stripPath(doneFileName);
@@ -240,6 +265,22 @@ public class FileConsumer extends GenericFileConsumer<File> {
         }
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().isWatchIndex()) {
+            watchIndex = new FileWatchIndex(getEndpoint().getWatchIndexReconcileInterval());
+            ServiceHelper.startService(watchIndex);
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        ServiceHelper.stopService(watchIndex);
+        watchIndex = null;
+    }
+
     @Override
     public FileEndpoint getEndpoint() {
         return (FileEndpoint) super.getEndpoint();
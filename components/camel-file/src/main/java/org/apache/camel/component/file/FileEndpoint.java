@@ -62,6 +62,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean watchIndex;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchIndexReconcileInterval = 60000;
     @UriParam(label = "producer,advanced")
     private String chmod;
     @UriParam(label = "producer,advanced")
@@ -287,6 +291,32 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isWatchIndex() {
+        return watchIndex;
+    }
+
+    /**
+     * Whether the consumer should keep an in-memory index of the directories, which is updated using file system watch events,
+     * instead of listing the directories on every poll. Files which have already been consumed (as told by the idempotent repository)
+     * are remembered by the index and not evaluated again until they are changed. This can reduce the cost of polling
+     * directories with a very large number of files.
+     */
+    public void setWatchIndex(boolean watchIndex) {
+        this.watchIndex = watchIndex;
+    }
+
+    public long getWatchIndexReconcileInterval() {
+        return watchIndexReconcileInterval;
+    }
+
+    /**
+     * When using watchIndex, the interval in millis to list the directories again to reconcile the index with the file system,
+     * in case some watch events was lost. Use 0 or a negative value to turn this off.
+     */
+    public void setWatchIndexReconcileInterval(long watchIndexReconcileInterval) {
+        this.watchIndexReconcileInterval = watchIndexReconcileInterval;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
@@ -17,16 +17,18 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -329,9 +331,18 @@ public class FileOperations implements GenericFileOperations<File> {
                 in = IOHelper.buffered(in);
                 writeFileByReaderWithCharset(in, file, charset);
             } else {
-                // fallback and use stream based
-                InputStream in = exchange.getIn().getMandatoryBody(InputStream.class);
-                writeFileByStream(in, file);
+                Object body = exchange.getIn().getBody();
+                if (body instanceof ReadableByteChannel) {
+                    // transfer the channel directly, which for a file channel avoids copying the content into the heap
+                    writeFileByChannel((ReadableByteChannel) body, file);
+                } else if (body instanceof ByteBuffer) {
+                    // such as a memory mapped file
+                    writeFileByByteBuffer((ByteBuffer) body, file);
+                } else {
+                    // fallback and use stream based
+                    InputStream in = exchange.getIn().getMandatoryBody(InputStream.class);
+                    writeFileByStream(in, file);
+                }
             }
 
             // try to keep last modified timestamp if configured to do so
@@ -380,10 +391,56 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void writeFileByFile(File source, File target) throws IOException {
-        Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        writeFileByChannel(FileChannel.open(source.toPath(), StandardOpenOption.READ), target);
+    }
+
+    private void writeFileByChannel(ReadableByteChannel in, File target) throws IOException {
+        try (FileChannel out = prepareOutputFileChannel(target)) {
+            if (in instanceof FileChannel) {
+                // let the file system transfer the file content (zero copy)
+                LOG.debug("Using FileChannel to transfer file: {}", target);
+                FileChannel source = (FileChannel) in;
+                long position = source.position();
+                long size = source.size();
+                while (position < size) {
+                    long transferred = source.transferTo(position, size - position, out);
+                    if (transferred <= 0) {
+                        // do not silently write a truncated file
+                        throw new IOException("Cannot transfer file content to: " + target + " as no bytes was transferred at position: "
+                            + position + " of size: " + size);
+                    }
+                    position += transferred;
+                }
+            } else {
+                LOG.debug("Using ReadableByteChannel to write file: {}", target);
+                long position = out.position();
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, endpoint.getBufferSize())) > 0) {
+                    position += transferred;
+                }
+            }
+        } finally {
+            IOHelper.close(in, target.getName(), LOG);
+        }
+    }
+
+    private void writeFileByByteBuffer(ByteBuffer buffer, File target) throws IOException {
+        try (FileChannel out = prepareOutputFileChannel(target)) {
+            LOG.debug("Using ByteBuffer to write file: {}", target);
+            // use a duplicate so the position of the body is not changed
+            ByteBuffer source = buffer.duplicate();
+            while (source.hasRemaining()) {
+                out.write(source);
+            }
+        }
     }
 
     private void writeFileByStream(InputStream in, File target) throws IOException {
+        if (in instanceof FileInputStream) {
+            // transfer from the file channel instead of copying the content through a heap buffer
+            writeFileByChannel(((FileInputStream) in).getChannel(), target);
+            return;
+        }
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
             
             LOG.debug("Using InputStream to write file: {}", target);
@@ -437,11 +494,11 @@ public class FileOperations implements GenericFileOperations<File> {
      * Creates and prepares the output file channel. Will position itself in correct position if the file is writable
      * eg. it should append or override any existing content.
      */
-    private SeekableByteChannel prepareOutputFileChannel(File target) throws IOException {
+    private FileChannel prepareOutputFileChannel(File target) throws IOException {
         if (endpoint.getFileExist() == GenericFileExist.Append) {
-            SeekableByteChannel out = Files.newByteChannel(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
             return out.position(out.size());
         }
-        return Files.newByteChannel(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE);
+        return FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE);
     }
 }
@@ -0,0 +1,284 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.support.service.ServiceSupport;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * An in-memory index of the directories polled by the {@link FileConsumer}, which is kept up to date using
+ * a {@link WatchService} instead of listing the directories on every poll.
+ * <p/>
+ * The index remembers the files which have already been consumed, so they are not offered to the consumer again
+ * until they are changed. The directories are listed again at the given reconcile interval, or when the watch service
+ * has lost events, to keep the index in sync with the file system.
+ */
+public class FileWatchIndex extends ServiceSupport {
+
+    private final long reconcileInterval;
+    private final Map<File, DirectoryEntry> directories = new HashMap<>();
+    private final Map<WatchKey, DirectoryEntry> keys = new HashMap<>();
+    private WatchService watchService;
+    private long lastReconcile;
+
+    /**
+     * @param reconcileInterval interval in millis to list the directories again, or 0 to only do this on lost watch events
+     */
+    public FileWatchIndex(long reconcileInterval) {
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    /**
+     * Lists the files in the directory which have not been consumed before, or have been changed since.
+     *
+     * @param directory the directory
+     * @return a copy of the files which the caller may modify, such as sorting, or <tt>null</tt> if the directory cannot be listed
+     */
+    public synchronized File[] listPendingFiles(File directory) {
+        DirectoryEntry entry = getDirectoryEntry(directory);
+        // the pending files are cached until the directory changes, so they must not be modified by the caller
+        return entry != null ? entry.getPendingFiles().clone() : null;
+    }
+
+    /**
+     * Lists all the files in the directory.
+     *
+     * @param directory the directory
+     * @return the files, or an empty list if the directory cannot be listed
+     */
+    public synchronized List<File> listFiles(File directory) {
+        DirectoryEntry entry = getDirectoryEntry(directory);
+        return entry != null ? entry.getFiles() : Collections.emptyList();
+    }
+
+    /**
+     * Marks the file as consumed, so its no longer a pending file until its changed.
+     *
+     * @param file         the file
+     * @param lastModified the last modified timestamp of the file when it was consumed
+     * @param length       the length of the file when it was consumed
+     */
+    public synchronized void consumed(File file, long lastModified, long length) {
+        DirectoryEntry entry = directories.get(file.getParentFile());
+        if (entry != null) {
+            entry.consumed(file.getName(), lastModified, length);
+        }
+    }
+
+    private DirectoryEntry getDirectoryEntry(File directory) {
+        processEvents();
+
+        if (reconcileInterval > 0) {
+            long now = System.currentTimeMillis();
+            if (now - lastReconcile >= reconcileInterval) {
+                log.debug("Reconciling index of {} directories", directories.size());
+                for (DirectoryEntry entry : directories.values()) {
+                    entry.stale = true;
+                }
+                lastReconcile = now;
+            }
+        }
+
+        DirectoryEntry entry = directories.get(directory);
+        if (entry == null) {
+            entry = new DirectoryEntry(directory);
+            try {
+                entry.key = directory.toPath().register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                keys.put(entry.key, entry);
+            } catch (IOException e) {
+                // the directory will then be listed on every poll
+                log.debug("Cannot watch directory: {} due: {}. The directory will be listed on every poll.", directory, e.getMessage());
+            }
+            directories.put(directory, entry);
+        }
+        if (entry.stale && !entry.reload()) {
+            removeDirectory(directory);
+            return null;
+        }
+        return entry;
+    }
+
+    private void processEvents() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            DirectoryEntry entry = keys.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (entry == null) {
+                    continue;
+                }
+                if (event.kind() == OVERFLOW) {
+                    log.debug("Lost watch events for directory: {}", entry.directory);
+                    entry.stale = true;
+                } else {
+                    String name = ((Path) event.context()).toString();
+                    if (event.kind() == ENTRY_DELETE) {
+                        entry.removed(name);
+                        removeDirectory(new File(entry.directory, name));
+                    } else {
+                        entry.changed(name);
+                    }
+                }
+            }
+            if (!key.reset() && entry != null) {
+                // the directory is no longer accessible
+                removeDirectory(entry.directory);
+            }
+        }
+    }
+
+    private void removeDirectory(File directory) {
+        String prefix = directory.getPath() + File.separator;
+        for (Iterator<DirectoryEntry> it = directories.values().iterator(); it.hasNext();) {
+            DirectoryEntry entry = it.next();
+            if (entry.directory.equals(directory) || entry.directory.getPath().startsWith(prefix)) {
+                if (entry.key != null) {
+                    entry.key.cancel();
+                    keys.remove(entry.key);
+                }
+                it.remove();
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        watchService = FileSystems.getDefault().newWatchService();
+        lastReconcile = System.currentTimeMillis();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        directories.clear();
+        keys.clear();
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    private static final class FileState {
+        private final long lastModified;
+        private final long length;
+
+        FileState(long lastModified, long length) {
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+
+    private static final class DirectoryEntry {
+        private final File directory;
+        private final Map<String, File> files = new HashMap<>();
+        private final Map<String, FileState> consumed = new HashMap<>();
+        private WatchKey key;
+        private boolean stale = true;
+        private List<File> allFiles;
+        private File[] pendingFiles;
+
+        DirectoryEntry(File directory) {
+            this.directory = directory;
+        }
+
+        boolean reload() {
+            String[] names = directory.list();
+            if (names == null) {
+                return false;
+            }
+            Map<String, File> old = new HashMap<>(files);
+            files.clear();
+            for (String name : names) {
+                File file = old.get(name);
+                files.put(name, file != null ? file : new File(directory, name));
+            }
+            // forget about the consumed files which are gone or have been changed
+            for (Iterator<Map.Entry<String, FileState>> it = consumed.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, FileState> entry = it.next();
+                File file = files.get(entry.getKey());
+                if (file == null || file.lastModified() != entry.getValue().lastModified || file.length() != entry.getValue().length) {
+                    it.remove();
+                }
+            }
+            // without a watch key the directory must be listed every time
+            stale = key == null;
+            invalidate();
+            return true;
+        }
+
+        void changed(String name) {
+            files.computeIfAbsent(name, n -> new File(directory, n));
+            consumed.remove(name);
+            invalidate();
+        }
+
+        void removed(String name) {
+            files.remove(name);
+            consumed.remove(name);
+            invalidate();
+        }
+
+        void consumed(String name, long lastModified, long length) {
+            if (files.containsKey(name)) {
+                consumed.put(name, new FileState(lastModified, length));
+                pendingFiles = null;
+            }
+        }
+
+        List<File> getFiles() {
+            if (allFiles == null) {
+                allFiles = Collections.unmodifiableList(new ArrayList<>(files.values()));
+            }
+            return allFiles;
+        }
+
+        File[] getPendingFiles() {
+            if (pendingFiles == null) {
+                List<File> answer = new ArrayList<>(files.size() - consumed.size());
+                for (Map.Entry<String, File> entry : files.entrySet()) {
+                    if (!consumed.containsKey(entry.getKey())) {
+                        answer.add(entry.getValue());
+                    }
+                }
+                pendingFiles = answer.toArray(new File[0]);
+            }
+            return pendingFiles;
+        }
+
+        private void invalidate() {
+            allFiles = null;
+            pendingFiles = null;
+        }
+    }
+
+}
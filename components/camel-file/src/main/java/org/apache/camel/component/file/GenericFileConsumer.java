@@ -556,6 +556,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             }
             if (key != null && endpoint.getIdempotentRepository().contains(key)) {
                 log.trace("This consumer is idempotent and the file has been consumed before matching idempotentKey: {}. Will skip this file: {}", key, file);
+                onAlreadyConsumed(file);
                 return false;
             }
         }
@@ -565,6 +566,16 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return endpoint.getInProgressRepository().add(absoluteFilePath);
     }
 
+    /**
+     * Override if required. Invoked when the file is skipped because the idempotent repository tells it has been
+     * consumed before.
+     *
+     * @param file the file
+     */
+    protected void onAlreadyConsumed(GenericFile<T> file) {
+        // noop
+    }
+
     /**
      * Strategy to perform file matching based on endpoint configuration.
      * <p/>
@@ -326,6 +326,8 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
             endpoint.setCookieStore(getCookieStore());
         }
         endpoint.setHttpClientOptions(httpClientOptions);
+        // the non-blocking client creates its own connection manager using the ssl configuration
+        endpoint.setSslContextParameters(sslContextParameters);
         
         return endpoint;
     }
@@ -354,14 +356,16 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         HttpClientBuilder clientBuilder = HttpClientBuilder.create();
         // allow the builder pattern
         httpClientOptions.putAll(IntrospectionSupport.extractProperties(parameters, "httpClient."));
-        IntrospectionSupport.setProperties(clientBuilder, httpClientOptions);
+        // use a copy as the options are removed when set, and the endpoint needs them for the non-blocking client
+        Map<String, Object> options = new HashMap<>(httpClientOptions);
+        IntrospectionSupport.setProperties(clientBuilder, options);
         // set the Request configure this way and allow the builder pattern
         RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
-        IntrospectionSupport.setProperties(requestConfigBuilder, httpClientOptions);
+        IntrospectionSupport.setProperties(requestConfigBuilder, options);
         clientBuilder.setDefaultRequestConfig(requestConfigBuilder.build());
 
         // validate that we could resolve all httpClient. parameters as this component is lenient
-        validateParameters(uri, httpClientOptions, null);
+        validateParameters(uri, options, null);
 
         return clientBuilder;
     }
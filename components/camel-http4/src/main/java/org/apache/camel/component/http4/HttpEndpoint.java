@@ -19,8 +19,11 @@ package org.apache.camel.component.http4;
 import java.io.Closeable;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.PollingConsumer;
@@ -34,6 +37,7 @@ import org.apache.camel.http.common.cookie.CookieHandler;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
+import org.apache.camel.support.IntrospectionSupport;
 import org.apache.camel.support.jsse.SSLContextParameters;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -41,13 +45,24 @@ import org.apache.http.HttpHost;
 import org.apache.http.client.CookieStore;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
 
 /**
  * For calling out to external HTTP servers using Apache HTTP Client 4.x.
@@ -77,6 +92,14 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private HttpClient httpClient;
     @UriParam(label = "advanced", defaultValue = "false", description = "To use System Properties as fallback for configuration")
     private boolean useSystemProperties;
+    @UriParam(label = "producer,advanced", description = "Whether the producer should use the non-blocking HttpAsyncClient to call the remote server."
+        + " The producer then does not block a thread while waiting for the response, and the exchange continues being routed"
+        + " by the I/O dispatcher thread of the HttpAsyncClient when the response has been received."
+        + " Notice the response body is read into memory before the exchange continues being routed.")
+    private boolean useAsyncHttpClient;
+    @UriParam(label = "advanced", description = "Sets a custom HttpAsyncClient to be used by the producer when useAsyncHttpClient is enabled")
+    private CloseableHttpAsyncClient asyncHttpClient;
+    private NHttpClientConnectionManager asyncClientConnectionManager;
 
     // timeout
     @Metadata(label = "timeout", defaultValue = "-1", description = "The timeout in milliseconds used when requesting a connection"
@@ -188,16 +211,8 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
         if (!useSystemProperties) {
             // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
-                String host = getCamelContext().getGlobalOption("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
-                String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                log.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", host, port, scheme);
-                HttpHost proxy = new HttpHost(host, port, scheme);
+            HttpHost proxy = createGlobalProxy();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -223,6 +238,140 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    public CloseableHttpAsyncClient getAsyncHttpClient() {
+        return asyncHttpClient;
+    }
+
+    /**
+     * Sets a custom HttpAsyncClient to be used by the producer when useAsyncHttpClient is enabled
+     */
+    public void setAsyncHttpClient(CloseableHttpAsyncClient asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
+    /**
+     * Gets the non-blocking {@link CloseableHttpAsyncClient} to be used by the producer, which is created
+     * on demand, and started if not already running.
+     */
+    protected synchronized CloseableHttpAsyncClient resolveAsyncHttpClient() throws Exception {
+        if (asyncHttpClient == null) {
+            asyncHttpClient = createAsyncHttpClient();
+        }
+        if (!asyncHttpClient.isRunning()) {
+            asyncHttpClient.start();
+        }
+        return asyncHttpClient;
+    }
+
+    /**
+     * Factory method to create a new non-blocking {@link CloseableHttpAsyncClient} instance
+     * <p/>
+     * The client uses its own connection pool which is configured with the same limits as
+     * the connection manager of the blocking {@link HttpClient}.
+     * <p/>
+     * Producers should use the {@link #resolveAsyncHttpClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createAsyncHttpClient() throws Exception {
+        asyncClientConnectionManager = createAsyncClientConnectionManager();
+
+        HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create();
+        // use the same request configuration (such as timeouts) and httpClient options as the blocking client
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+        if (httpClientOptions != null) {
+            Map<String, Object> options = new HashMap<>(httpClientOptions);
+            IntrospectionSupport.setProperties(builder, options);
+            IntrospectionSupport.setProperties(requestConfigBuilder, options);
+            if (!options.isEmpty()) {
+                log.warn("The httpClient options {} are not supported by the HttpAsyncClient and are ignored", options.keySet());
+            }
+        }
+        builder.setDefaultRequestConfig(requestConfigBuilder.build());
+
+        builder.setConnectionManager(asyncClientConnectionManager);
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            builder.setDefaultCookieStore(new NoopCookieStore());
+        } else {
+            builder.setDefaultCookieStore(cookieStore);
+        }
+
+        if (!useSystemProperties) {
+            // configure http proxy from camelContext
+            HttpHost proxy = createGlobalProxy();
+            if (proxy != null) {
+                builder.setProxy(proxy);
+            }
+        } else {
+            builder.useSystemProperties();
+        }
+
+        if (isAuthenticationPreemptive()) {
+            // setup the PreemptiveAuthInterceptor here
+            builder.addInterceptorFirst(new PreemptiveAuthInterceptor());
+        }
+
+        // such as the authentication and proxy options
+        HttpClientConfigurer configurer = getHttpClientConfigurer();
+        if (configurer != null) {
+            configurer.configureHttpAsyncClient(builder);
+        }
+
+        log.debug("Setup the HttpAsyncClientBuilder {}", builder);
+        return builder.build();
+    }
+
+    protected NHttpClientConnectionManager createAsyncClientConnectionManager() throws Exception {
+        SSLContext sslContext;
+        if (sslContextParameters != null) {
+            sslContext = sslContextParameters.createSSLContext(getCamelContext());
+        } else {
+            sslContext = SSLContexts.createDefault();
+        }
+        HostnameVerifier hostnameVerifier = x509HostnameVerifier;
+        if (hostnameVerifier == null) {
+            hostnameVerifier = getComponent() != null ? getComponent().getX509HostnameVerifier() : new DefaultHostnameVerifier();
+        }
+        SSLIOSessionStrategy sslStrategy = new SSLIOSessionStrategy(sslContext, hostnameVerifier);
+
+        RegistryBuilder<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy>create();
+        registry.register("http", NoopIOSessionStrategy.INSTANCE);
+        registry.register("http4", NoopIOSessionStrategy.INSTANCE);
+        registry.register("https", sslStrategy);
+        registry.register("https4", sslStrategy);
+
+        // setup the connection live time
+        long timeToLive = getComponent() != null ? getComponent().getConnectionTimeToLive() : -1;
+        PoolingNHttpClientConnectionManager answer = new PoolingNHttpClientConnectionManager(
+            new DefaultConnectingIOReactor(), null, registry.build(), null, null, timeToLive, TimeUnit.MILLISECONDS);
+        if (clientConnectionManager instanceof PoolingHttpClientConnectionManager) {
+            PoolingHttpClientConnectionManager pool = (PoolingHttpClientConnectionManager) clientConnectionManager;
+            answer.setMaxTotal(pool.getMaxTotal());
+            answer.setDefaultMaxPerRoute(pool.getDefaultMaxPerRoute());
+        }
+        log.debug("Created NHttpClientConnectionManager {}", answer);
+        return answer;
+    }
+
+    /**
+     * Creates the http proxy configured on the {@link org.apache.camel.CamelContext} global options
+     *
+     * @return the proxy, or <tt>null</tt> if no proxy has been configured
+     */
+    private HttpHost createGlobalProxy() {
+        if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost")) && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+            String host = getCamelContext().getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+            String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            log.debug("CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}", host, port, scheme);
+            return new HttpHost(host, port, scheme);
+        }
+        return null;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -237,6 +386,12 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable) {
             IOHelper.close((Closeable)httpClient);
         }
+        if (asyncClientConnectionManager != null) {
+            // only close the async client if it was created by this endpoint
+            IOHelper.close(asyncHttpClient);
+            asyncHttpClient = null;
+            asyncClientConnectionManager = null;
+        }
     }
 
     // Properties
@@ -369,6 +524,21 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.useSystemProperties = useSystemProperties;
     }
 
+    public boolean isUseAsyncHttpClient() {
+        return useAsyncHttpClient;
+    }
+
+    /**
+     * Whether the producer should use the non-blocking HttpAsyncClient to call the remote server.
+     * <p/>
+     * The producer then does not block a thread while waiting for the response, and the exchange continues
+     * being routed by the I/O dispatcher thread of the HttpAsyncClient when the response has been received.
+     * Notice the response body is read into memory before the exchange continues being routed.
+     */
+    public void setUseAsyncHttpClient(boolean useAsyncHttpClient) {
+        this.useAsyncHttpClient = useAsyncHttpClient;
+    }
+
     public int getMaxTotalConnections() {
         return maxTotalConnections;
     }
@@ -477,63 +647,47 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
-        if (pool != null) {
-            PoolStats stats = pool.getTotalStats();
-            if (stats != null) {
-                return stats.getMax();
-            }
-        }
-        return -1;
+        PoolStats stats = getClientConnectionsPoolStats();
+        return stats != null ? stats.getMax() : -1;
     }
 
     @ManagedAttribute(description = "Number of available idle persistent connections")
     public int getClientConnectionsPoolStatsAvailable() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
-        if (pool != null) {
-            PoolStats stats = pool.getTotalStats();
-            if (stats != null) {
-                return stats.getAvailable();
-            }
-        }
-        return -1;
+        PoolStats stats = getClientConnectionsPoolStats();
+        return stats != null ? stats.getAvailable() : -1;
     }
 
     @ManagedAttribute(description = "Number of persistent connections tracked by the connection manager currently being used to execute requests")
     public int getClientConnectionsPoolStatsLeased() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
-        if (pool != null) {
-            PoolStats stats = pool.getTotalStats();
-            if (stats != null) {
-                return stats.getLeased();
-            }
-        }
-        return -1;
+        PoolStats stats = getClientConnectionsPoolStats();
+        return stats != null ? stats.getLeased() : -1;
     }
 
     @ManagedAttribute(description = "Number of connection requests being blocked awaiting a free connection."
         + " This can happen only if there are more worker threads contending for fewer connections.")
     public int getClientConnectionsPoolStatsPending() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
-        if (pool != null) {
-            PoolStats stats = pool.getTotalStats();
-            if (stats != null) {
-                return stats.getPending();
-            }
+        PoolStats stats = getClientConnectionsPoolStats();
+        return stats != null ? stats.getPending() : -1;
+    }
+
+    @ManagedAttribute(description = "Whether the producer uses the non-blocking HttpAsyncClient")
+    public boolean isClientConnectionsPoolAsync() {
+        return useAsyncHttpClient;
+    }
+
+    /**
+     * Gets the statistics of the connection pool in use, which is the pool of the HttpAsyncClient
+     * when the producer uses the non-blocking client.
+     * <p/>
+     * Returns <tt>null</tt> when the statistics are unknown, such as when a custom HttpAsyncClient is used,
+     * as its connection manager cannot be accessed, or before the HttpAsyncClient has been created.
+     */
+    private PoolStats getClientConnectionsPoolStats() {
+        Object manager = useAsyncHttpClient ? asyncClientConnectionManager : clientConnectionManager;
+        if (manager instanceof ConnPoolControl) {
+            return ((ConnPoolControl<?>) manager).getTotalStats();
         }
-        return -1;
+        return null;
     }
 
 }
@@ -35,6 +35,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -45,7 +46,7 @@ import org.apache.camel.http.common.HttpHelper;
 import org.apache.camel.http.common.HttpOperationFailedException;
 import org.apache.camel.http.common.HttpProtocolHeaderFilterStrategy;
 import org.apache.camel.spi.HeaderFilterStrategy;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.GZIPHelper;
 import org.apache.camel.support.MessageHelper;
@@ -58,6 +59,7 @@ import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpVersion;
 import org.apache.http.client.HttpClient;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
@@ -67,14 +69,16 @@ import org.apache.http.entity.FileEntity;
 import org.apache.http.entity.InputStreamEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.auth.BasicScheme;
+import org.apache.http.nio.client.HttpAsyncClient;
 import org.apache.http.protocol.BasicHttpContext;
 import org.apache.http.protocol.HTTP;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.util.EntityUtils;
 
-public class HttpProducer extends DefaultProducer {
+public class HttpProducer extends DefaultAsyncProducer {
 
     private HttpClient httpClient;
+    private HttpAsyncClient asyncHttpClient;
     private HttpContext httpContext;
     private boolean throwException;
     private boolean transferException;
@@ -88,8 +92,89 @@ public class HttpProducer extends DefaultProducer {
         this.transferException = endpoint.isTransferException();
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (getEndpoint().isUseAsyncHttpClient() && asyncHttpClient == null) {
+            asyncHttpClient = getEndpoint().resolveAsyncHttpClient();
+        }
+    }
+
+    @Override
     public void process(Exchange exchange) throws Exception {
+        if (asyncHttpClient == null) {
+            // call the remote server directly in the current thread
+            processInternal(exchange);
+        } else {
+            super.process(exchange);
+        }
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        if (asyncHttpClient == null) {
+            try {
+                processInternal(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+            callback.done(true);
+            return true;
+        }
+
+        final HttpRequestBase httpRequest;
+        try {
+            httpRequest = prepareRequest(exchange);
+            if (log.isDebugEnabled()) {
+                log.debug("Executing http {} method asynchronously: {}", httpRequest.getMethod(), httpRequest.getURI());
+            }
+            // the callback is invoked by the I/O dispatcher thread when the response has been received
+            asyncHttpClient.execute(httpRequest, createHttpContext(), new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(HttpResponse httpResponse) {
+                    try {
+                        processResponse(exchange, httpRequest, httpResponse);
+                    } catch (Exception e) {
+                        exchange.setException(e);
+                    } finally {
+                        callback.done(false);
+                    }
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    exchange.setException(e);
+                    callback.done(false);
+                }
+
+                @Override
+                public void cancelled() {
+                    exchange.setException(new CamelExchangeException("Http request cancelled: " + httpRequest.getURI(), exchange));
+                    callback.done(false);
+                }
+            });
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    protected void processInternal(Exchange exchange) throws Exception {
+        HttpRequestBase httpRequest = prepareRequest(exchange);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+        }
+        HttpResponse httpResponse = executeMethod(httpRequest);
+        processResponse(exchange, httpRequest, httpResponse);
+    }
 
+    /**
+     * Creates the HTTP request from the exchange, including the HTTP headers
+     */
+    protected HttpRequestBase prepareRequest(Exchange exchange) throws Exception {
         if (getEndpoint().isClearExpiredCookies() && !getEndpoint().isBridgeEndpoint()) {
             // create the cookies before the invocation
             getEndpoint().getCookieStore().clearExpired(new Date());
@@ -179,13 +264,19 @@ public class HttpProducer extends DefaultProducer {
             httpRequest.addHeader("Connection", HTTP.CONN_CLOSE);
         }
 
+        return httpRequest;
+    }
+
+    /**
+     * Processes the HTTP response by storing the result in the output message,
+     * or by throwing a {@link HttpOperationFailedException} if the response is a failure.
+     */
+    protected void processResponse(Exchange exchange, HttpRequestBase httpRequest, HttpResponse httpResponse) throws Exception {
+        Message in = exchange.getIn();
+        HeaderFilterStrategy strategy = getEndpoint().getHeaderFilterStrategy();
+
         // lets store the result in the output message.
-        HttpResponse httpResponse = null;
         try {
-            if (log.isDebugEnabled()) {
-                log.debug("Executing http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
-            }
-            httpResponse = executeMethod(httpRequest);
             int responseCode = httpResponse.getStatusLine().getStatusCode();
             log.debug("Http responseCode: {}", responseCode);
 
@@ -318,6 +409,13 @@ public class HttpProducer extends DefaultProducer {
      * @throws IOException can be thrown
      */
     protected HttpResponse executeMethod(HttpUriRequest httpRequest) throws IOException {
+        return httpClient.execute(httpRequest, createHttpContext());
+    }
+
+    /**
+     * Creates the {@link HttpContext} to use for executing a request
+     */
+    protected HttpContext createHttpContext() {
         HttpContext localContext = new BasicHttpContext();
         if (getEndpoint().isAuthenticationPreemptive()) {
             BasicScheme basicAuth = new BasicScheme();
@@ -326,7 +424,7 @@ public class HttpProducer extends DefaultProducer {
         if (httpContext != null) {
             localContext = new BasicHttpContext(httpContext);
         }
-        return httpClient.execute(httpRequest, localContext);
+        return localContext;
     }
 
     /**
@@ -578,4 +676,12 @@ public class HttpProducer extends DefaultProducer {
         this.httpClient = httpClient;
     }
 
+    public HttpAsyncClient getAsyncHttpClient() {
+        return asyncHttpClient;
+    }
+
+    public void setAsyncHttpClient(HttpAsyncClient asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
 }
@@ -92,6 +92,39 @@ public class HttpAuthenticationTest extends BaseHttpTest {
         assertExchange(exchange);
     }
 
+    @Test
+    public void basicAuthenticationWithAsyncHttpClientShouldSuccess() throws Exception {
+        Exchange exchange = template.request("http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + "/search?authUsername=" + user + "&authPassword="
+            + password + "&useAsyncHttpClient=true", new Processor() {
+                public void process(Exchange exchange) throws Exception {
+                }
+            });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void basicAuthenticationPreemptiveWithAsyncHttpClientShouldSuccess() throws Exception {
+        Exchange exchange = template.request("http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + "/search?authUsername=" + user + "&authPassword="
+            + password + "&authenticationPreemptive=true&useAsyncHttpClient=true", new Processor() {
+                public void process(Exchange exchange) throws Exception {
+                }
+            });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void basicAuthenticationWithAsyncHttpClientShouldFailWithWrongCreds() throws Exception {
+        Exchange exchange = template.request("http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort()
+            + "/search?throwExceptionOnFailure=false&authUsername=camel&authPassword=wrong&useAsyncHttpClient=true", new Processor() {
+                public void process(Exchange exchange) throws Exception {
+                }
+            });
+
+        assertExchangeFailed(exchange);
+    }
+
     @Test
     public void basicAuthenticationShouldFailWithoutCreds() throws Exception {
         Exchange exchange = template.request("http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + "/search?throwExceptionOnFailure=false", new Processor() {
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.http4.handler.DelayValidationHandler;
+import org.apache.camel.http.common.HttpOperationFailedException;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpProducerAsyncClientTest extends BaseHttpTest {
+
+    private static final int SIZE = 20;
+    private static final int DELAY = 1000;
+
+    private HttpServer localServer;
+    private String uri;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().
+                setHttpProcessor(getBasicHttpProcessor()).
+                setConnectionReuseStrategy(getConnectionReuseStrategy()).
+                setResponseFactory(getHttpResponseFactory()).
+                setExpectationVerifier(getHttpExpectationVerifier()).
+                setSslContext(getSSLContext()).
+                registerHandler("/slow", new DelayValidationHandler("GET", null, null, getExpectedContent(), DELAY)).create();
+        localServer.start();
+
+        uri = "http4://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort();
+
+        super.setUp();
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncHttpClient() throws Exception {
+        Exchange exchange = template.request(uri + "/slow?useAsyncHttpClient=true", e -> { });
+
+        assertExchange(exchange);
+    }
+
+    @Test
+    public void testAsyncHttpClientDoesNotBlock() throws Exception {
+        HttpEndpoint endpoint = context.getEndpoint(uri + "/slow?useAsyncHttpClient=true", HttpEndpoint.class);
+        AsyncProducer producer = (AsyncProducer) endpoint.createProducer();
+        producer.start();
+
+        List<Exchange> exchanges = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(SIZE);
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < SIZE; i++) {
+            Exchange exchange = endpoint.createExchange();
+            exchanges.add(exchange);
+            // the producer should not block the calling thread while waiting for the response
+            boolean sync = producer.process(exchange, doneSync -> latch.countDown());
+            assertFalse("Should be processed asynchronously", sync);
+        }
+        assertTrue("Should complete all requests", latch.await(20, TimeUnit.SECONDS));
+        long taken = System.currentTimeMillis() - start;
+
+        // all the requests should be in flight at the same time using a single calling thread
+        assertTrue("Should call the server concurrently, took " + taken + " millis", taken < SIZE * DELAY / 2);
+        for (Exchange exchange : exchanges) {
+            assertExchange(exchange);
+        }
+
+        assertTrue(endpoint.isClientConnectionsPoolAsync());
+        assertEquals(200, endpoint.getClientConnectionsPoolStatsMax());
+        assertEquals(0, endpoint.getClientConnectionsPoolStatsPending());
+
+        producer.stop();
+    }
+
+    @Test
+    public void testAsyncHttpClientFailure() throws Exception {
+        Exchange exchange = template.request(uri + "/unknown?useAsyncHttpClient=true", e -> { });
+
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, exchange.getException());
+        assertTrue(cause.getStatusCode() >= 400);
+    }
+
+    @Test
+    public void testCustomAsyncHttpClientPoolStatsUnknown() throws Exception {
+        CloseableHttpAsyncClient client = HttpAsyncClients.createDefault();
+        try {
+            HttpEndpoint endpoint = context.getEndpoint(uri + "/slow?useAsyncHttpClient=true", HttpEndpoint.class);
+            endpoint.setAsyncHttpClient(client);
+
+            Exchange exchange = template.request(endpoint, e -> { });
+            assertExchange(exchange);
+
+            // the connection manager of a custom client cannot be accessed
+            assertTrue(endpoint.isClientConnectionsPoolAsync());
+            assertEquals(-1, endpoint.getClientConnectionsPoolStatsMax());
+            assertEquals(-1, endpoint.getClientConnectionsPoolStatsPending());
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -64,6 +64,10 @@ public class JdbcEndpoint extends DefaultEndpoint {
     private String outputClass;
     @UriParam(label = "advanced")
     private BeanRowMapper beanRowMapper = new DefaultBeanRowMapper();
+    @UriParam(label = "advanced")
+    private int microBatchSize;
+    @UriParam(label = "advanced", defaultValue = "10")
+    private long microBatchTimeout = 10;
 
     public JdbcEndpoint() {
     }
@@ -260,6 +264,32 @@ public class JdbcEndpoint extends DefaultEndpoint {
         this.useGetBytesForBlob = useGetBytesForBlob;
     }
 
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer collects the statements from concurrent exchanges
+     * and executes them as one JDBC batch, when this number of statements has been collected or the microBatchTimeout elapsed.
+     * The batch is executed in one transaction, unless resetAutoCommit is false.
+     * <p/>
+     * This can only be used for insert, update and delete statements.
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public long getMicroBatchTimeout() {
+        return microBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for more statements before executing the micro batch.
+     */
+    public void setMicroBatchTimeout(long microBatchTimeout) {
+        this.microBatchTimeout = microBatchTimeout;
+    }
+
     @Override
     protected String createEndpointUri() {
         return dataSourceName != null ? "jdbc:" + dataSourceName : "jdbc";
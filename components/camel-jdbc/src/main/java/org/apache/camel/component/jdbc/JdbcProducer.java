@@ -28,19 +28,25 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.sql.DataSource;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.Synchronization;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.IntrospectionSupport;
+import org.apache.camel.support.MicroBatchStatement;
+import org.apache.camel.support.MicroBatcher;
 
-public class JdbcProducer extends DefaultProducer {
+public class JdbcProducer extends DefaultAsyncProducer {
 
     private DataSource dataSource;
     private int readSize;
     private Map<String, Object> parameters;
+    private ScheduledExecutorService microBatchScheduler;
+    private MicroBatcher<MicroBatchStatement> microBatcher;
 
     public JdbcProducer(JdbcEndpoint endpoint, DataSource dataSource, int readSize, Map<String, Object> parameters) throws Exception {
         super(endpoint);
@@ -54,10 +60,57 @@ public class JdbcProducer extends DefaultProducer {
         return (JdbcEndpoint) super.getEndpoint();
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (getEndpoint().getMicroBatchSize() > 0) {
+            microBatchScheduler = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "JdbcMicroBatch");
+            microBatcher = new MicroBatcher<>(microBatchScheduler, getEndpoint().getMicroBatchSize(), getEndpoint().getMicroBatchTimeout(), this::processMicroBatch);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (microBatcher != null) {
+            // execute the pending statements before stopping, and any statement added afterwards right away
+            microBatcher.shutdown();
+            microBatcher = null;
+        }
+        if (microBatchScheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(microBatchScheduler);
+            microBatchScheduler = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            // read the field once as it is cleared when the producer is stopped
+            MicroBatcher<MicroBatchStatement> batcher = microBatcher;
+            String sql = batcher != null ? exchange.getIn().getBody(String.class) : null;
+            if (batcher != null && isMicroBatchSupported(exchange, sql)) {
+                String preparedQuery = sql;
+                if (getEndpoint().isUseHeadersAsParameters()) {
+                    preparedQuery = getEndpoint().getPrepareStatementStrategy().prepareQuery(sql, getEndpoint().isAllowNamedParameters());
+                }
+                // the callback is called when the micro batch has been executed
+                batcher.add(new MicroBatchStatement(exchange, callback, sql, preparedQuery));
+                return false;
+            }
+            processInternal(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
     /**
      * Execute sql of exchange and set results on output
      */
-    public void process(Exchange exchange) throws Exception {
+    protected void processInternal(Exchange exchange) throws Exception {
         if (getEndpoint().isResetAutoCommit()) {
             processingSqlBySettingAutoCommit(exchange);
         } else {
@@ -238,6 +291,143 @@ public class JdbcProducer extends DefaultProducer {
         return shouldCloseResources;
     }
 
+    /**
+     * Executes the statements collected from concurrent exchanges as JDBC batches in one transaction.
+     * If the batch fails then the statements are executed one by one, so each exchange gets its own update count or error.
+     */
+    protected void processMicroBatch(List<MicroBatchStatement> statements) {
+        try {
+            executeMicroBatch(statements);
+        } catch (Exception e) {
+            log.debug("Error executing micro batch with {} statements due {}. Will execute the statements one by one.", statements.size(), e.getMessage(), e);
+            for (MicroBatchStatement statement : statements) {
+                try {
+                    processInternal(statement.getExchange());
+                } catch (Exception ex) {
+                    statement.getExchange().setException(ex);
+                }
+            }
+        }
+        for (MicroBatchStatement statement : statements) {
+            statement.getCallback().done(false);
+        }
+    }
+
+    private void executeMicroBatch(List<MicroBatchStatement> statements) throws Exception {
+        Connection conn = null;
+        Boolean autoCommit = null;
+        boolean commit = false;
+
+        try {
+            conn = dataSource.getConnection();
+            // always execute the batch in a transaction (regardless of resetAutoCommit) so a batch which fails part way
+            // is rolled back before the statements are executed one by one, as otherwise they would be executed twice
+            autoCommit = conn.getAutoCommit();
+            if (autoCommit) {
+                conn.setAutoCommit(false);
+            }
+            commit = autoCommit || getEndpoint().isResetAutoCommit();
+
+            if (getEndpoint().isUseHeadersAsParameters()) {
+                // group the statements by query while keeping the order of the statements
+                Map<String, List<MicroBatchStatement>> queries = new LinkedHashMap<>();
+                for (MicroBatchStatement statement : statements) {
+                    queries.computeIfAbsent(statement.getPreparedQuery(), k -> new ArrayList<>()).add(statement);
+                }
+                for (Map.Entry<String, List<MicroBatchStatement>> entry : queries.entrySet()) {
+                    executePreparedMicroBatch(conn, entry.getKey(), entry.getValue());
+                }
+            } else {
+                executeMicroBatch(conn, statements);
+            }
+
+            if (commit) {
+                conn.commit();
+            }
+        } catch (Exception e) {
+            try {
+                if (conn != null) {
+                    conn.rollback();
+                }
+            } catch (Throwable sqle) {
+                log.warn("Error occurred during jdbc rollback. This exception will be ignored.", sqle);
+            }
+            throw e;
+        } finally {
+            resetAutoCommit(conn, autoCommit);
+            closeQuietly(conn);
+        }
+
+        // the statements has been executed so we can update the exchanges
+        for (MicroBatchStatement statement : statements) {
+            Exchange exchange = statement.getExchange();
+            // preserve headers
+            exchange.getOut().getHeaders().putAll(exchange.getIn().getHeaders());
+            // and then set the new header
+            exchange.getOut().setHeader(JdbcConstants.JDBC_UPDATE_COUNT, statement.getUpdateCount());
+        }
+    }
+
+    private void executeMicroBatch(Connection conn, List<MicroBatchStatement> statements) throws Exception {
+        Statement stmt = null;
+        try {
+            stmt = conn.createStatement();
+
+            if (parameters != null && !parameters.isEmpty()) {
+                Map<String, Object> copy = new HashMap<>(parameters);
+                IntrospectionSupport.setProperties(stmt, copy);
+            }
+
+            log.debug("Executing JDBC Statement batch with {} statements", statements.size());
+
+            for (MicroBatchStatement statement : statements) {
+                stmt.addBatch(statement.getSql());
+            }
+            setUpdateCounts(statements, stmt.executeBatch());
+        } finally {
+            closeQuietly(stmt);
+        }
+    }
+
+    private void executePreparedMicroBatch(Connection conn, String preparedQuery, List<MicroBatchStatement> statements) throws Exception {
+        PreparedStatement ps = null;
+        try {
+            ps = conn.prepareStatement(preparedQuery);
+
+            int expectedCount = ps.getParameterMetaData().getParameterCount();
+            for (MicroBatchStatement statement : statements) {
+                if (expectedCount > 0) {
+                    Exchange exchange = statement.getExchange();
+                    Iterator<?> it = getEndpoint().getPrepareStatementStrategy()
+                            .createPopulateIterator(statement.getSql(), preparedQuery, expectedCount, exchange, exchange.getIn().getBody());
+                    getEndpoint().getPrepareStatementStrategy().populateStatement(ps, it, expectedCount);
+                }
+                ps.addBatch();
+            }
+
+            log.debug("Executing JDBC PreparedStatement batch with {} statements: {}", statements.size(), preparedQuery);
+
+            setUpdateCounts(statements, ps.executeBatch());
+        } finally {
+            closeQuietly(ps);
+        }
+    }
+
+    private static void setUpdateCounts(List<MicroBatchStatement> statements, int[] updateCounts) {
+        for (int i = 0; i < statements.size(); i++) {
+            statements.get(i).setUpdateCount(i < updateCounts.length ? updateCounts[i] : Statement.SUCCESS_NO_INFO);
+        }
+    }
+
+    private boolean isMicroBatchSupported(Exchange exchange, String sql) {
+        // only insert, update, delete and merge statements can be batched, as queries return a result set,
+        // transacted exchanges must execute the statement in the transaction of the current thread,
+        // and the generated keys are not available from a batch
+        return MicroBatchStatement.isDataManipulation(sql) && !exchange.isTransacted()
+            && getEndpoint().getOutputType() != JdbcOutputType.StreamList
+            && !exchange.getIn().getHeader(JdbcConstants.JDBC_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+    }
+
     private void closeQuietly(ResultSet rs) {
         if (rs != null) {
             try {
@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class JdbcProducerMicroBatchTest extends AbstractJdbcTestSupport {
+
+    @Test
+    public void testConcurrentInserts() throws Exception {
+        int size = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(size);
+        List<Future<Exchange>> responses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int index = i;
+            responses.add(executor.submit(new Callable<Exchange>() {
+                public Exchange call() throws Exception {
+                    return template.request("direct:start",
+                        e -> e.getIn().setBody("insert into customer values('batch" + index + "','camel')"));
+                }
+            }));
+        }
+
+        for (Future<Exchange> response : responses) {
+            Exchange out = response.get();
+            assertNull(out.getException());
+            assertEquals(1, out.getOut().getHeader(JdbcConstants.JDBC_UPDATE_COUNT));
+        }
+        executor.shutdownNow();
+
+        List<?> rows = template.requestBody("direct:query", "select * from customer where name = 'camel'", List.class);
+        assertEquals(size, rows.size());
+    }
+
+    @Test
+    public void testFailedStatementOnlyFailsItsExchange() throws Exception {
+        assertFailedStatementOnlyFailsItsExchange("direct:start");
+    }
+
+    @Test
+    public void testFailedStatementDoesNotDuplicateRowsWithoutResetAutoCommit() throws Exception {
+        assertFailedStatementOnlyFailsItsExchange("direct:noReset");
+    }
+
+    @Test
+    public void testSelectIsNotBatched() throws Exception {
+        List<?> rows = template.requestBody("direct:start", "select * from customer", List.class);
+        assertEquals(3, rows.size());
+    }
+
+    private void assertFailedStatementOnlyFailsItsExchange(String uri) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Future<Exchange> good = executor.submit(() -> template.request(uri,
+            e -> e.getIn().setBody("insert into customer values('good1','camel')")));
+        Future<Exchange> bad = executor.submit(() -> template.request(uri,
+            e -> e.getIn().setBody("insert into unknown values('bad','camel')")));
+        Future<Exchange> good2 = executor.submit(() -> template.request(uri,
+            e -> e.getIn().setBody("insert into customer values('good2','camel')")));
+
+        assertNull(good.get().getException());
+        assertNotNull(bad.get().getException());
+        assertNull(good2.get().getException());
+        executor.shutdownNow();
+
+        List<?> rows = template.requestBody("direct:query", "select * from customer where name = 'camel'", List.class);
+        assertEquals(2, rows.size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("direct:start").to("jdbc:testdb?microBatchSize=10&microBatchTimeout=100");
+
+                from("direct:noReset").to("jdbc:testdb?resetAutoCommit=false&microBatchSize=10&microBatchTimeout=100");
+
+                from("direct:query").to("jdbc:testdb");
+            }
+        };
+    }
+}
@@ -135,6 +135,10 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     @UriParam(label = "consumer")
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
+    private int workerLanes;
+    @UriParam(label = "consumer", defaultValue = "partition", enums = "partition,key")
+    private String workerLanesOrderBy = "partition";
+    @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
 
     //Producer Camel specific configuration properties
@@ -402,7 +406,13 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         addPropertyIfNotNull(props, ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, getInterceptorClasses());
         addPropertyIfNotNull(props, ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, getAutoOffsetReset());
         addPropertyIfNotNull(props, ConsumerConfig.CONNECTIONS_MAX_IDLE_MS_CONFIG, getConnectionMaxIdleMs());
-        addPropertyIfNotNull(props, ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, isAutoCommitEnable());
+        if (getWorkerLanes() > 0) {
+            // the Kafka client must not commit the position of records still in progress by the worker lanes,
+            // instead the offsets of the completed records are committed by the consumer
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        } else {
+            addPropertyIfNotNull(props, ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, isAutoCommitEnable());
+        }
         addPropertyIfNotNull(props, ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, getPartitionAssignor());
         addPropertyIfNotNull(props, ConsumerConfig.RECEIVE_BUFFER_CONFIG, getReceiveBufferBytes());
         addPropertyIfNotNull(props, ConsumerConfig.REQUEST_TIMEOUT_MS_CONFIG, getConsumerRequestTimeoutMs());
@@ -761,6 +771,37 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public int getWorkerLanes() {
+        return workerLanes;
+    }
+
+    /**
+     * Number of ordered worker lanes per consumer thread. When set to a value greater than zero, then the records
+     * of each poll are not processed by the polling thread, but handed over to worker lanes, where each lane processes
+     * its records one after another. The lane is selected by the partition or the key of the record (see workerLanesOrderBy),
+     * so the ordering per partition (or key) is kept, while a slow partition does not stall the other partitions.
+     * The offsets of completed records are tracked per partition, and committed asynchronously in batches
+     * (or saved in the offset repository if in use), so the auto commit of the Kafka client is turned off when using worker lanes.
+     * This option cannot be used together with allowManualCommit or breakOnFirstError.
+     */
+    public void setWorkerLanes(int workerLanes) {
+        this.workerLanes = workerLanes;
+    }
+
+    public String getWorkerLanesOrderBy() {
+        return workerLanesOrderBy;
+    }
+
+    /**
+     * Whether to select the worker lane by the partition or by the key of the record, when using workerLanes.
+     * Selecting by key allows records from the same partition to be processed in parallel, while the ordering is kept per key.
+     * Records without a key are selected by their partition, so they are ordered per partition, but not relative to
+     * the records with a key from the same partition.
+     */
+    public void setWorkerLanesOrderBy(String workerLanesOrderBy) {
+        this.workerLanesOrderBy = workerLanesOrderBy;
+    }
+
     public String getBrokers() {
         return brokers;
     }
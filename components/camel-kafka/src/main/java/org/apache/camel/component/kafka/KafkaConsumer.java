@@ -21,7 +21,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
@@ -31,9 +33,12 @@ import java.util.stream.StreamSupport;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
+import org.apache.camel.ThreadPoolRejectedPolicy;
 import org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
+import org.apache.camel.spi.ShutdownStrategy;
 import org.apache.camel.spi.StateRepository;
+import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -120,6 +125,11 @@ public class KafkaConsumer extends DefaultConsumer {
             }
         }
 
+        int lanes = endpoint.getConfiguration().getWorkerLanes();
+        if (lanes > 0 && (endpoint.getConfiguration().isAllowManualCommit() || endpoint.getConfiguration().isBreakOnFirstError())) {
+            throw new IllegalArgumentException("The option workerLanes cannot be used together with allowManualCommit or breakOnFirstError");
+        }
+
         executor = endpoint.createExecutor();
 
         String topic = endpoint.getConfiguration().getTopic();
@@ -130,6 +140,9 @@ public class KafkaConsumer extends DefaultConsumer {
 
         for (int i = 0; i < endpoint.getConfiguration().getConsumersCount(); i++) {
             KafkaFetchRecords task = new KafkaFetchRecords(topic, pattern, i + "", getProps());
+            if (lanes > 0) {
+                task.workerLanes = createWorkerLanes(lanes);
+            }
             // pre-initialize task during startup so if there is any error we have it thrown asap
             task.preInit();
             executor.submit(task);
@@ -152,6 +165,8 @@ public class KafkaConsumer extends DefaultConsumer {
                 executor.shutdownNow();
             }
         }
+        // the worker lanes are completed when the tasks has ended so we can shutdown their threads
+        tasks.forEach(KafkaFetchRecords::shutdownWorkerLanes);
         tasks.clear();
         executor = null;
 
@@ -164,8 +179,27 @@ public class KafkaConsumer extends DefaultConsumer {
         super.doStop();
     }
 
+    private KafkaWorkerLanes createWorkerLanes(int size) {
+        // a lane has a single platform thread to keep the ordering, and an unbounded queue as the number of records
+        // in progress is bounded by pausing the consumer, so a record is never rejected or run by the polling thread
+        ThreadPoolProfile profile = new ThreadPoolProfile("KafkaWorkerLane");
+        profile.setPoolSize(1);
+        profile.setMaxPoolSize(1);
+        profile.setMaxQueueSize(-1);
+        profile.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+        profile.setVirtualThreads(false);
+        ExecutorService[] lanes = new ExecutorService[size];
+        for (int i = 0; i < size; i++) {
+            lanes[i] = endpoint.getCamelContext().getExecutorServiceManager().newThreadPool(this,
+                    "KafkaWorkerLane[" + endpoint.getConfiguration().getTopic() + "]", profile.clone());
+        }
+        boolean orderByKey = "key".equals(endpoint.getConfiguration().getWorkerLanesOrderBy());
+        return new KafkaWorkerLanes(lanes, orderByKey);
+    }
+
     class KafkaFetchRecords implements Runnable, ConsumerRebalanceListener {
 
+        private KafkaWorkerLanes workerLanes;
         private org.apache.kafka.clients.consumer.KafkaConsumer consumer;
         private final String topicName;
         private final Pattern topicPattern;
@@ -240,6 +274,10 @@ public class KafkaConsumer extends DefaultConsumer {
                 if (topicPattern != null) {
                     log.info("Subscribing {} to topic pattern {}", threadId, topicName);
                     consumer.subscribe(topicPattern, this);
+                } else if (workerLanes != null) {
+                    log.info("Subscribing {} to topic {}", threadId, topicName);
+                    // need to be notified on re-balance so the worker lanes can complete before partitions are revoked
+                    consumer.subscribe(Arrays.asList(topicName.split(",")), this);
                 } else {
                     log.info("Subscribing {} to topic {}", threadId, topicName);
                     consumer.subscribe(Arrays.asList(topicName.split(",")));
@@ -289,6 +327,12 @@ public class KafkaConsumer extends DefaultConsumer {
                     log.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
                     ConsumerRecords<Object, Object> allRecords = consumer.poll(pollTimeoutMs);
 
+                    if (workerLanes != null) {
+                        // the records are processed by the worker lanes, and not by this thread
+                        processInWorkerLanes(allRecords, offsetRepository);
+                        continue;
+                    }
+
                     for (TopicPartition partition : allRecords.partitions()) {
 
                         long partitionLastOffset = -1;
@@ -357,7 +401,18 @@ public class KafkaConsumer extends DefaultConsumer {
                     }
                 }
 
-                if (!reConnect) {
+                if (!reConnect && workerLanes != null) {
+                    // let the worker lanes complete the records in progress so we can commit their offsets
+                    log.debug("Waiting for {} records in progress by the worker lanes of {}", workerLanes.getInflight(), threadId);
+                    if (!workerLanes.awaitCompleted(consumer.assignment(), getWorkerLanesTimeout(), () -> true)) {
+                        log.warn("Timeout waiting for {} records in progress by the worker lanes of {}, which will be consumed again",
+                                workerLanes.getInflight(), threadId);
+                    }
+                    commitCompletedOffsets(offsetRepository, true);
+                }
+
+                if (!reConnect && workerLanes == null) {
+                    // the worker lanes have committed the offsets of the completed records (committing the position would include records not completed)
                     if (isAutoCommitEnabled()) {
                         if ("async".equals(endpoint.getConfiguration().getAutoCommitOnStop())) {
                             log.info("Auto commitAsync on stop {} from topic {}", threadId, topicName);
@@ -391,11 +446,96 @@ public class KafkaConsumer extends DefaultConsumer {
             } finally {
                 log.debug("Closing {}", threadId);
                 IOHelper.close(consumer);
+                if (workerLanes != null) {
+                    // any records in progress will be polled again from the last committed offset
+                    workerLanes.clear();
+                }
             }
 
             return reConnect;
         }
 
+        private void processInWorkerLanes(ConsumerRecords<Object, Object> allRecords, StateRepository<String, String> offsetRepository) {
+            for (ConsumerRecord<Object, Object> record : allRecords) {
+                if (log.isTraceEnabled()) {
+                    log.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(), record.offset(), record.key(),
+                            record.value());
+                }
+                final Exchange exchange = endpoint.createKafkaExchange(record);
+
+                propagateHeaders(record, exchange, endpoint.getConfiguration());
+
+                workerLanes.submit(record, () -> {
+                    try {
+                        processor.process(exchange);
+                    } catch (Exception e) {
+                        exchange.setException(e);
+                    }
+                    if (exchange.getException() != null) {
+                        // will handle/log the exception and then continue to next
+                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                    }
+                });
+            }
+
+            commitCompletedOffsets(offsetRepository, false);
+
+            // pause fetching while the worker lanes are busy, we must still keep polling to stay in the consumer group
+            Integer maxPollRecords = endpoint.getConfiguration().getMaxPollRecords();
+            int maxInflight = (maxPollRecords != null ? maxPollRecords : 500) * workerLanes.getLanes().length;
+            if (workerLanes.getInflight() >= maxInflight) {
+                if (consumer.paused().isEmpty()) {
+                    log.debug("Pausing {} from topic {} as there are {} records in progress", threadId, topicName, workerLanes.getInflight());
+                    consumer.pause(consumer.assignment());
+                }
+            } else if (!consumer.paused().isEmpty()) {
+                log.debug("Resuming {} from topic {}", threadId, topicName);
+                consumer.resume(consumer.paused());
+            }
+        }
+
+        private void commitCompletedOffsets(StateRepository<String, String> offsetRepository, boolean sync) {
+            Map<TopicPartition, Long> offsets = workerLanes.collectCompletedOffsets();
+            if (offsets.isEmpty()) {
+                return;
+            }
+
+            if (offsetRepository != null) {
+                for (Map.Entry<TopicPartition, Long> entry : offsets.entrySet()) {
+                    log.debug("Saving offset repository state {} from topic {} with offset: {}", threadId, topicName, entry.getValue());
+                    offsetRepository.setState(serializeOffsetKey(entry.getKey()), serializeOffsetValue(entry.getValue()));
+                }
+            } else if (isAutoCommitEnabled()) {
+                Map<TopicPartition, OffsetAndMetadata> commits = new LinkedHashMap<>();
+                offsets.forEach((partition, offset) -> commits.put(partition, new OffsetAndMetadata(offset + 1)));
+                if (sync) {
+                    log.debug("Auto commitSync {} from topic {} with offsets: {}", threadId, topicName, commits);
+                    consumer.commitSync(commits);
+                } else {
+                    log.debug("Auto commitAsync {} from topic {} with offsets: {}", threadId, topicName, commits);
+                    consumer.commitAsync(commits, (committed, e) -> {
+                        if (e != null) {
+                            log.warn("Error committing offsets {} from topic {} with offsets: {} due {}", threadId, topicName, committed, e.getMessage(), e);
+                        }
+                    });
+                }
+            }
+        }
+
+        private long getWorkerLanesTimeout() {
+            // wait at most as long as the graceful shutdown of the routes
+            ShutdownStrategy strategy = endpoint.getCamelContext().getShutdownStrategy();
+            return strategy.getTimeUnit().toMillis(strategy.getTimeout());
+        }
+
+        private void shutdownWorkerLanes() {
+            if (workerLanes != null) {
+                for (ExecutorService lane : workerLanes.getLanes()) {
+                    endpoint.getCamelContext().getExecutorServiceManager().shutdownGraceful(lane);
+                }
+            }
+        }
+
         private void commitOffset(StateRepository<String, String> offsetRepository, TopicPartition partition, long partitionLastOffset, boolean forceCommit) {
             if (partitionLastOffset != -1) {
                 if (!endpoint.getConfiguration().isAllowManualCommit() && offsetRepository != null) {
@@ -421,7 +561,16 @@ public class KafkaConsumer extends DefaultConsumer {
             log.debug("onPartitionsRevoked: {} from topic {}", threadId, topicName);
 
             StateRepository<String, String> offsetRepository = endpoint.getConfiguration().getOffsetRepository();
-            if (offsetRepository != null) {
+            if (workerLanes != null) {
+                // complete the records in progress and commit before another consumer takes over the partitions
+                // but stop waiting if the consumer is being stopped, as the records will then be consumed again
+                if (!workerLanes.awaitCompleted(partitions, getWorkerLanesTimeout(), KafkaConsumer.this::isRunAllowed)) {
+                    log.warn("Stopped waiting for {} records in progress by the worker lanes of {} before the partitions are revoked",
+                            workerLanes.getInflight(), threadId);
+                }
+                commitCompletedOffsets(offsetRepository, true);
+                workerLanes.remove(partitions);
+            } else if (offsetRepository != null) {
                 for (TopicPartition partition : partitions) {
                     long offset = consumer.position(partition);
                     log.debug("Saving offset repository state {} from topic {} with offset: {}", threadId, topicName, offset);
@@ -0,0 +1,183 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Ordered worker lanes used by {@link KafkaConsumer} to process the records of a poll in parallel.
+ * <p/>
+ * Each lane is a single threaded executor with an unbounded queue, and a record is always handed to the same lane
+ * for its partition (or key), which keeps the ordering. The number of records in the queues is bounded by the consumer
+ * pausing the partitions while too many records are in progress. The offsets of the records in progress are tracked per partition,
+ * so the offsets that are safe to commit are the ones before the lowest offset still in progress.
+ * <p/>
+ * This class is not thread safe for submitting and collecting offsets, which must be done by the polling thread.
+ */
+class KafkaWorkerLanes {
+
+    private final ExecutorService[] lanes;
+    private final boolean orderByKey;
+    private final Map<TopicPartition, NavigableSet<Long>> inProgress = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> dispatched = new HashMap<>();
+    private final Map<TopicPartition, Long> collected = new HashMap<>();
+    private final AtomicInteger inflight = new AtomicInteger();
+    // notified when all the records in progress of a partition has been completed
+    private final Object lock = new Object();
+
+    KafkaWorkerLanes(ExecutorService[] lanes, boolean orderByKey) {
+        this.lanes = lanes;
+        this.orderByKey = orderByKey;
+    }
+
+    /**
+     * Submits the task for processing the given record to its lane
+     */
+    void submit(ConsumerRecord<Object, Object> record, Runnable task) {
+        final TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        final long offset = record.offset();
+        final NavigableSet<Long> offsets = inProgress.computeIfAbsent(partition, k -> new ConcurrentSkipListSet<>());
+        offsets.add(offset);
+        dispatched.put(partition, offset);
+        inflight.incrementAndGet();
+
+        // records without a key are selected by their partition, so they are ordered per partition, but not
+        // relative to the records with a key from the same partition
+        int hash = orderByKey && record.key() != null ? record.key().hashCode() : partition.hashCode();
+        ExecutorService lane = lanes[(hash & Integer.MAX_VALUE) % lanes.length];
+        try {
+            lane.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    completed(offsets, offset);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // such as when the lanes are being shutdown, then the record is consumed again from the last committed offset
+            completed(offsets, offset);
+            throw e;
+        }
+    }
+
+    private void completed(NavigableSet<Long> offsets, long offset) {
+        offsets.remove(offset);
+        inflight.decrementAndGet();
+        if (offsets.isEmpty()) {
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Number of records submitted which has not yet been completed
+     */
+    int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Collects the last offset per partition which is safe to commit, for the partitions that has
+     * progressed since last time the offsets was collected.
+     *
+     * @return the last completed offset per partition, where all the previous offsets are completed as well
+     */
+    Map<TopicPartition, Long> collectCompletedOffsets() {
+        Map<TopicPartition, Long> answer = new LinkedHashMap<>();
+        for (Map.Entry<TopicPartition, Long> entry : dispatched.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            NavigableSet<Long> offsets = inProgress.get(partition);
+            // use ceiling as the set may become empty concurrently
+            Long lowest = offsets != null ? offsets.ceiling(Long.MIN_VALUE) : null;
+            long last = lowest != null ? lowest - 1 : entry.getValue();
+            Long previous = collected.get(partition);
+            if (last >= 0 && (previous == null || last > previous)) {
+                answer.put(partition, last);
+                collected.put(partition, last);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Waits for the records in progress for the given partitions to be completed.
+     *
+     * @param partitions  the partitions
+     * @param timeout     the maximum time to wait in millis
+     * @param keepWaiting whether to keep waiting, which is checked at least every second
+     * @return <tt>true</tt> if completed, or <tt>false</tt> if timed out, interrupted or no longer waiting
+     */
+    boolean awaitCompleted(Collection<TopicPartition> partitions, long timeout, BooleanSupplier keepWaiting) {
+        long deadline = System.currentTimeMillis() + timeout;
+        synchronized (lock) {
+            for (TopicPartition partition : partitions) {
+                NavigableSet<Long> offsets = inProgress.get(partition);
+                while (offsets != null && !offsets.isEmpty()) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0 || !keepWaiting.getAsBoolean()) {
+                        return false;
+                    }
+                    try {
+                        lock.wait(Math.min(remaining, 1000));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forgets the tracked offsets of the given partitions, such as when they have been revoked
+     */
+    void remove(Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            inProgress.remove(partition);
+            dispatched.remove(partition);
+            collected.remove(partition);
+        }
+    }
+
+    /**
+     * Forgets all the tracked offsets
+     */
+    void clear() {
+        inProgress.clear();
+        dispatched.clear();
+        collected.clear();
+    }
+
+    ExecutorService[] getLanes() {
+        return lanes;
+    }
+}
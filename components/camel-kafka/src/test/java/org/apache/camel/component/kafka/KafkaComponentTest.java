@@ -22,6 +22,7 @@ import java.util.Properties;
 
 import org.apache.camel.CamelContext;
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.config.SaslConfigs;
 import org.apache.kafka.common.config.SslConfigs;
@@ -115,6 +116,17 @@ public class KafkaComponentTest {
         assertEquals("PKIX", endpoint.getConfiguration().getSslTrustmanagerAlgorithm());
     }
 
+    @Test
+    public void testWorkerLanesTurnsOffAutoCommit() throws Exception {
+        String uri = "kafka:mytopic?brokers=broker1:12345&autoCommitEnable=true";
+        KafkaEndpoint endpoint = (KafkaEndpoint) new KafkaComponent(context).createEndpoint(uri);
+        assertEquals("true", endpoint.getConfiguration().createConsumerProperties().get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG));
+
+        uri = "kafka:mytopic?brokers=broker1:12345&autoCommitEnable=true&workerLanes=2";
+        endpoint = (KafkaEndpoint) new KafkaComponent(context).createEndpoint(uri);
+        assertEquals("false", endpoint.getConfiguration().createConsumerProperties().get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG));
+    }
+
     @Test
     public void testAllProducerKeys() throws Exception {
         Map<String, Object> params = new HashMap<>();
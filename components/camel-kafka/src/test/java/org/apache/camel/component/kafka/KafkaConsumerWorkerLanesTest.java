@@ -0,0 +1,152 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KafkaConsumerWorkerLanesTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "lanes";
+    public static final String RESTART_TOPIC = "lanes-restart";
+
+    @EndpointInject(uri = "kafka:" + TOPIC
+            + "?groupId=group1&autoOffsetReset=earliest"
+            + "&workerLanes=4&workerLanesOrderBy=key"
+    )
+    private Endpoint from;
+
+    @EndpointInject(uri = "mock:result")
+    private MockEndpoint to;
+
+    private final Set<String> processed = ConcurrentHashMap.newKeySet();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @Before
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @After
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("foo").to(to);
+
+                from("kafka:" + RESTART_TOPIC + "?groupId=group2&autoOffsetReset=earliest&workerLanes=2&maxPollRecords=50")
+                    .routeId("slow")
+                    .process(exchange -> {
+                        // slow processing so records are queued in the worker lanes
+                        Thread.sleep(20);
+                        processed.add(exchange.getIn().getBody(String.class));
+                    });
+            }
+        };
+    }
+
+    @Test
+    public void kafkaMessagesAreConsumedInOrderPerKey() throws Exception {
+        to.expectedMessageCount(20);
+        // the ordering is kept per key
+        to.expectedBodiesReceivedInAnyOrder("a1", "a2", "a3", "a4", "a5", "a6", "a7", "a8", "a9", "a10",
+            "b1", "b2", "b3", "b4", "b5", "b6", "b7", "b8", "b9", "b10");
+
+        for (int k = 1; k <= 10; k++) {
+            producer.send(new ProducerRecord<>(TOPIC, "a", "a" + k));
+            producer.send(new ProducerRecord<>(TOPIC, "b", "b" + k));
+        }
+
+        to.assertIsSatisfied();
+
+        int lastA = 0;
+        int lastB = 0;
+        for (Exchange exchange : to.getReceivedExchanges()) {
+            String body = exchange.getIn().getBody(String.class);
+            int number = Integer.parseInt(body.substring(1));
+            if (body.startsWith("a")) {
+                assertTrue("Should be in order for key a", number > lastA);
+                lastA = number;
+            } else {
+                assertTrue("Should be in order for key b", number > lastB);
+                lastB = number;
+            }
+        }
+
+        // restarting should not consume the committed messages again
+        to.reset();
+        to.expectedMessageCount(0);
+
+        context.getRouteController().stopRoute("foo");
+        context.getRouteController().startRoute("foo");
+
+        to.setAssertPeriod(2000);
+        to.assertIsSatisfied();
+    }
+
+    @Test
+    public void kafkaMessagesInProgressAreNotLostWhenRestarting() throws Exception {
+        for (int k = 1; k <= 200; k++) {
+            producer.send(new ProducerRecord<>(RESTART_TOPIC, "k" + (k % 10), "m" + k));
+        }
+
+        // restart while records are still queued in the worker lanes, and do not let the lanes complete them
+        awaitProcessed(10);
+        assertTrue("Should restart while records are in progress", processed.size() < 200);
+        long timeout = context.getExecutorServiceManager().getShutdownAwaitTermination();
+        context.getExecutorServiceManager().setShutdownAwaitTermination(100);
+        try {
+            context.getRouteController().stopRoute("slow");
+        } finally {
+            context.getExecutorServiceManager().setShutdownAwaitTermination(timeout);
+        }
+        context.getRouteController().startRoute("slow");
+
+        // the records which were not committed are polled again so none are lost
+        awaitProcessed(200);
+        for (int k = 1; k <= 200; k++) {
+            assertTrue("Should have processed m" + k, processed.contains("m" + k));
+        }
+    }
+
+    private void awaitProcessed(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (processed.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
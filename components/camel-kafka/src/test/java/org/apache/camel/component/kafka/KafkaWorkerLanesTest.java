@@ -0,0 +1,141 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class KafkaWorkerLanesTest {
+
+    private final TopicPartition partition = new TopicPartition("test", 0);
+    private final ExecutorService[] lanes = new ExecutorService[] {Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor()};
+
+    @After
+    public void after() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCompletedOffsetsStopsAtRecordInProgress() throws Exception {
+        KafkaWorkerLanes workerLanes = new KafkaWorkerLanes(lanes, true);
+
+        CountDownLatch slow = new CountDownLatch(1);
+
+        // offset 0 and 2 are processed by one lane, and offset 1 by the other lane which is slow
+        workerLanes.submit(record(0, "a"), () -> { });
+        workerLanes.submit(record(1, "b"), () -> await(slow));
+        workerLanes.submit(record(2, "a"), () -> { });
+
+        // wait for the fast lane to complete
+        long deadline = System.currentTimeMillis() + 5000;
+        while (workerLanes.getInflight() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Map<TopicPartition, Long> offsets = workerLanes.collectCompletedOffsets();
+        assertEquals(Long.valueOf(0), offsets.get(partition));
+        assertEquals(1, workerLanes.getInflight());
+
+        slow.countDown();
+        assertTrue(workerLanes.awaitCompleted(Collections.singletonList(partition), 5000, () -> true));
+        offsets = workerLanes.collectCompletedOffsets();
+        assertEquals(Long.valueOf(2), offsets.get(partition));
+
+        // nothing has progressed since last time
+        assertTrue(workerLanes.collectCompletedOffsets().isEmpty());
+    }
+
+    @Test
+    public void testAwaitCompletedStopsWaiting() throws Exception {
+        KafkaWorkerLanes workerLanes = new KafkaWorkerLanes(lanes, false);
+
+        CountDownLatch slow = new CountDownLatch(1);
+        workerLanes.submit(record(0, "a"), () -> await(slow));
+
+        // times out
+        assertFalse(workerLanes.awaitCompleted(Collections.singletonList(partition), 100, () -> true));
+        // no longer waiting, such as when the consumer is being stopped
+        assertFalse(workerLanes.awaitCompleted(Collections.singletonList(partition), 5000, () -> false));
+
+        slow.countDown();
+        assertTrue(workerLanes.awaitCompleted(Collections.singletonList(partition), 5000, () -> true));
+        assertEquals(0, workerLanes.getInflight());
+    }
+
+    @Test
+    public void testRecordsWithoutKeyAreOrderedByPartition() throws Exception {
+        KafkaWorkerLanes workerLanes = new KafkaWorkerLanes(lanes, true);
+
+        List<Long> processed = new CopyOnWriteArrayList<>();
+        for (long offset = 0; offset < 100; offset++) {
+            final long current = offset;
+            workerLanes.submit(record(offset, null), () -> processed.add(current));
+        }
+
+        assertTrue(workerLanes.awaitCompleted(Collections.singletonList(partition), 5000, () -> true));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Long.valueOf(i), processed.get(i));
+        }
+    }
+
+    @Test
+    public void testRejectedRecordIsNotInProgress() throws Exception {
+        KafkaWorkerLanes workerLanes = new KafkaWorkerLanes(lanes, false);
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+
+        try {
+            workerLanes.submit(record(0, "a"), () -> { });
+            fail("Should have thrown exception");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        assertEquals(0, workerLanes.getInflight());
+        assertTrue(workerLanes.awaitCompleted(Collections.singletonList(partition), 100, () -> true));
+    }
+
+    private ConsumerRecord<Object, Object> record(long offset, String key) {
+        return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, key, "value" + offset);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
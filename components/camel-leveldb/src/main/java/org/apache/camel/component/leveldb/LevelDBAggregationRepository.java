@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeHolderCodec;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -394,6 +395,19 @@ public class LevelDBAggregationRepository extends ServiceSupport implements Reco
         this.allowSerializedHeaders = allowSerializedHeaders;
     }
 
+    public ExchangeHolderCodec getExchangeHolderCodec() {
+        return codec.getExchangeHolderCodec();
+    }
+
+    /**
+     * Sets a custom codec for encoding and decoding the exchanges, such as
+     * {@link org.apache.camel.support.BinaryExchangeHolderCodec} which is more compact and faster
+     * than the default Java serialization. Exchanges which has been stored using Java serialization can still be read.
+     */
+    public void setExchangeHolderCodec(ExchangeHolderCodec exchangeHolderCodec) {
+        codec.setExchangeHolderCodec(exchangeHolderCodec);
+    }
+
     @Override
     protected void doStart() throws Exception {
         // either we have a LevelDB configured or we use a provided fileName
@@ -23,6 +23,7 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.ExchangeHolderCodec;
 import org.fusesource.hawtbuf.Buffer;
 import org.fusesource.hawtbuf.DataByteArrayInputStream;
 import org.fusesource.hawtbuf.DataByteArrayOutputStream;
@@ -34,6 +35,20 @@ public final class LevelDBCamelCodec {
 
     private Codec<String> keyCodec = new StringCodec();
     private Codec<DefaultExchangeHolder> exchangeCodec = new ObjectCodec<>();
+    private ExchangeHolderCodec exchangeHolderCodec;
+
+    public ExchangeHolderCodec getExchangeHolderCodec() {
+        return exchangeHolderCodec;
+    }
+
+    /**
+     * Sets a custom codec to use for encoding and decoding the exchanges, such as
+     * {@link org.apache.camel.support.BinaryExchangeHolderCodec} which is more compact and faster
+     * than the default Java serialization.
+     */
+    public void setExchangeHolderCodec(ExchangeHolderCodec exchangeHolderCodec) {
+        this.exchangeHolderCodec = exchangeHolderCodec;
+    }
 
     public Buffer marshallKey(String key) throws IOException {
         DataByteArrayOutputStream baos = new DataByteArrayOutputStream();
@@ -48,7 +63,6 @@ public final class LevelDBCamelCodec {
     }
 
     public Buffer marshallExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders) throws IOException {
-        DataByteArrayOutputStream baos = new DataByteArrayOutputStream();
         // use DefaultExchangeHolder to marshal to a serialized object
         DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
         // add the aggregated size and timeout property as the only properties we want to retain
@@ -64,13 +78,26 @@ public final class LevelDBCamelCodec {
         if (exchange.getFromEndpoint() != null) {
             DefaultExchangeHolder.addProperty(pe, "CamelAggregatedFromEndpoint", exchange.getFromEndpoint().getEndpointUri());
         }
+        if (exchangeHolderCodec != null) {
+            return new Buffer(exchangeHolderCodec.encode(pe));
+        }
+        DataByteArrayOutputStream baos = new DataByteArrayOutputStream();
         exchangeCodec.encode(pe, baos);
         return baos.toBuffer();
     }
 
     public Exchange unmarshallExchange(CamelContext camelContext, Buffer buffer) throws IOException {
-        DataByteArrayInputStream bais = new DataByteArrayInputStream(buffer);
-        DefaultExchangeHolder pe = exchangeCodec.decode(bais);
+        DefaultExchangeHolder pe;
+        if (exchangeHolderCodec != null && !isObjectCodecEncoded(buffer)) {
+            try {
+                pe = exchangeHolderCodec.decode(camelContext, buffer.toByteArray());
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Error decoding exchange due " + e.getMessage(), e);
+            }
+        } else {
+            DataByteArrayInputStream bais = new DataByteArrayInputStream(buffer);
+            pe = exchangeCodec.decode(bais);
+        }
         Exchange answer = new DefaultExchange(camelContext);
         DefaultExchangeHolder.unmarshal(answer, pe);
         // restore the from endpoint
@@ -84,4 +111,14 @@ public final class LevelDBCamelCodec {
         return answer;
     }
 
+    /**
+     * Whether the buffer has been encoded using the {@link ObjectCodec} which writes the length of the data
+     * followed by the Java serialization stream.
+     */
+    private static boolean isObjectCodecEncoded(Buffer buffer) {
+        return buffer.length > 6
+            && buffer.data[buffer.offset + 4] == (byte) 0xAC
+            && buffer.data[buffer.offset + 5] == (byte) 0xED;
+    }
+
 }
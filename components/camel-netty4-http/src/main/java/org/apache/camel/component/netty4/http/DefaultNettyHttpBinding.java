@@ -17,6 +17,7 @@
 package org.apache.camel.component.netty4.http;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -40,6 +41,7 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -91,7 +93,10 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             populateCamelHeaders(request, answer.getHeaders(), exchange, configuration);
         }
 
-        if (configuration.isDisableStreamCache()) {
+        if (request instanceof NettyHttpStreamingRequest) {
+            // the body is streamed as the content is being received (the stream is closed when the response has been written)
+            answer.setBody(((NettyHttpStreamingRequest) request).getContentStream());
+        } else if (configuration.isDisableStreamCache()) {
             // keep the body as is, and use type converters
             answer.setBody(request.content());
         } else {
@@ -270,7 +275,10 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             populateCamelHeaders(response, answer.getHeaders(), exchange, configuration);
         }
 
-        if (configuration.isDisableStreamCache()) {
+        if (response instanceof NettyHttpStreamingResponse) {
+            // the body is streamed as the content is being received (the stream is closed when the exchange is done)
+            answer.setBody(((NettyHttpStreamingResponse) response).getContentStream());
+        } else if (configuration.isDisableStreamCache()) {
             // keep the body as is, and use type converters
             answer.setBody(response.content());
         } else {
@@ -363,7 +371,12 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             ExchangeHelper.setFailureHandled(message.getExchange());
         }
 
-        if (body instanceof ByteBuf) {
+        InputStream stream = null;
+        if (cause == null && configuration.isStreaming() && body instanceof InputStream) {
+            // stream the body using chunked transfer encoding instead of reading it into a buffer
+            stream = (InputStream) body;
+            buffer = null;
+        } else if (body instanceof ByteBuf) {
             buffer = (ByteBuf) body;
         } else {
             // try to convert to buffer first
@@ -388,7 +401,9 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
         
         HttpResponse response;
         
-        if (buffer != null) {
+        if (stream != null) {
+            response = new NettyHttpChunkedResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(code), stream);
+        } else if (buffer != null) {
             response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(code), buffer);
             // We just need to reset the readerIndex this time
             if (buffer.readerIndex() == buffer.writerIndex()) {
@@ -422,6 +437,12 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             }
         }
 
+        if (stream != null) {
+            // set transfer-encoding
+            HttpUtil.setTransferEncodingChunked(response, true);
+            LOG.trace("Transfer-Encoding: chunked");
+        }
+
         // set the content type in the response.
         String contentType = MessageHelper.getContentType(message);
         if (contentType != null) {
@@ -62,6 +62,11 @@ public class HttpServerBootstrapFactory extends SingleTCPNettyServerBootstrapFac
                 throw new IllegalArgumentException("Bootstrap configuration must be identical when adding additional consumer: " + consumer.getEndpoint() + " on same port: " + port
                     + ".\n  Existing " + bootstrapConfiguration.toStringBootstrapConfiguration() + "\n       New " + consumer.getConfiguration().toStringBootstrapConfiguration());
             }
+            // the pipeline is also created from the configuration of the 1st consumer, so streaming must match as well
+            if (bootstrapConfiguration instanceof NettyHttpConfiguration
+                && ((NettyHttpConfiguration) bootstrapConfiguration).isStreaming() != ((NettyHttpConsumer) consumer).getConfiguration().isStreaming()) {
+                throw new IllegalArgumentException("Streaming must be identical when adding additional consumer: " + consumer.getEndpoint() + " on same port: " + port);
+            }
         }
 
         if (LOG.isDebugEnabled()) {
@@ -30,6 +30,7 @@ import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.camel.CamelContext;
 import org.apache.camel.RuntimeCamelException;
@@ -37,6 +38,7 @@ import org.apache.camel.component.netty4.ChannelHandlerFactory;
 import org.apache.camel.component.netty4.NettyConsumer;
 import org.apache.camel.component.netty4.NettyServerBootstrapConfiguration;
 import org.apache.camel.component.netty4.ServerInitializerFactory;
+import org.apache.camel.component.netty4.http.handlers.HttpServerStreamingHandler;
 import org.apache.camel.component.netty4.ssl.SSLEngineFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -107,7 +109,12 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
             }
             pipeline.addLast("encoder-" + x, encoder);
         }
-        pipeline.addLast("aggregator", new HttpObjectAggregator(configuration.getChunkedMaxContentLength()));
+        if (configuration.isStreaming()) {
+            // stream the content to the route instead of aggregating it into a full message
+            pipeline.addLast("streaming", new HttpServerStreamingHandler(configuration.getChunkedMaxContentLength()));
+        } else {
+            pipeline.addLast("aggregator", new HttpObjectAggregator(configuration.getChunkedMaxContentLength()));
+        }
         if (supportCompressed()) {
             pipeline.addLast("deflater", new HttpContentCompressor());
         }
@@ -117,6 +124,10 @@ public class HttpServerInitializerFactory extends ServerInitializerFactory {
         
         if (consumer.getConfiguration().isUsingExecutorService()) {
             EventExecutorGroup applicationExecutor = consumer.getEndpoint().getComponent().getExecutorService();
+            if (configuration.isStreaming()) {
+                // the response stream may block while reading so it must not be written by the event loop
+                pipeline.addLast(applicationExecutor, "chunkedWriter", new ChunkedWriteHandler());
+            }
             pipeline.addLast(applicationExecutor, "handler", handler);
         } else {
             pipeline.addLast("handler", handler);
@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import java.io.InputStream;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedStream;
+
+/**
+ * A HTTP response used in streaming mode, which is written by the {@link io.netty.handler.stream.ChunkedWriteHandler}
+ * as the status line and headers followed by the body read from the given {@link InputStream} using chunked transfer encoding.
+ */
+public class NettyHttpChunkedResponse extends DefaultHttpResponse implements ChunkedInput<HttpObject> {
+
+    private final HttpChunkedInput input;
+    private boolean headersWritten;
+
+    public NettyHttpChunkedResponse(HttpVersion version, HttpResponseStatus status, InputStream stream) {
+        super(version, status);
+        this.input = new HttpChunkedInput(new ChunkedStream(stream));
+    }
+
+    @Override
+    public boolean isEndOfInput() throws Exception {
+        return headersWritten && input.isEndOfInput();
+    }
+
+    @Override
+    public void close() throws Exception {
+        input.close();
+    }
+
+    @Override
+    @Deprecated
+    public HttpObject readChunk(ChannelHandlerContext ctx) throws Exception {
+        return readChunk(ctx.alloc());
+    }
+
+    @Override
+    public HttpObject readChunk(ByteBufAllocator allocator) throws Exception {
+        if (!headersWritten) {
+            headersWritten = true;
+            // the status line and headers must be written before the content chunks
+            return new DefaultHttpResponse(protocolVersion(), status(), headers());
+        }
+        return input.readChunk(allocator);
+    }
+
+    @Override
+    public long length() {
+        return input.length();
+    }
+
+    @Override
+    public long progress() {
+        return input.progress();
+    }
+}
@@ -63,6 +63,8 @@ public class NettyHttpConfiguration extends NettyConfiguration {
     private int chunkedMaxContentLength = 1024 * 1024;
     @UriParam(label = "consumer,advanced", defaultValue = "8192")
     private int maxHeaderSize = 8192;
+    @UriParam(label = "advanced")
+    private boolean streaming;
     @UriParam(label = "producer,advanced", defaultValue = "200-299")
     private String okStatusCodeRange = "200-299";
     @UriParam(label = "producer,advanced")
@@ -293,6 +295,24 @@ public class NettyHttpConfiguration extends NettyConfiguration {
         this.maxHeaderSize = maxHeaderSize;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether the Netty HTTP server should stream the request body, and the Netty HTTP client the response body,
+     * instead of aggregating the chunks into a full message in memory. When enabled the message body is a
+     * {@link java.io.InputStream} which is fed with the chunks as they are received, and the <tt>chunkedMaxContentLength</tt>
+     * option is used as the maximum number of bytes to buffer before Netty stops reading from the socket until the
+     * route has consumed the buffered data. An {@link java.io.InputStream} response body is streamed back to the client
+     * using chunked transfer encoding.
+     * <p/>
+     * This option requires <tt>usingExecutorService</tt> to be enabled, and is not supported by the shared Netty HTTP server.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     // Don't support allowDefaultCodec
     public boolean isAllowDefaultCodec() {
         return false;
@@ -43,6 +43,13 @@ public class NettyHttpConsumer extends NettyConsumer implements Suspendable {
 
     @Override
     protected void doStart() throws Exception {
+        if (getConfiguration().isStreaming() && !getConfiguration().isUsingExecutorService()) {
+            // the route would block the event loop which receives the content it is reading
+            throw new IllegalArgumentException("The option usingExecutorService must be enabled when using streaming on endpoint: " + getEndpoint());
+        }
+        if (getConfiguration().isStreaming() && getEndpoint().getNettySharedHttpServer() != null) {
+            throw new IllegalArgumentException("Streaming is not supported when using a NettySharedHttpServer on endpoint: " + getEndpoint());
+        }
         super.doStart();
         ObjectHelper.notNull(getNettyServerBootstrapFactory(), "HttpServerBootstrapFactory", this);
         getNettyServerBootstrapFactory().addConsumer(this);
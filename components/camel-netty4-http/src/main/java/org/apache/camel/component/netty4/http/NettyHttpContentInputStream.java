@@ -0,0 +1,201 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * An {@link InputStream} which is fed with the HTTP content chunks as they are received by the Netty HTTP server
+ * or client, when using streaming mode.
+ * <p/>
+ * The stream applies backpressure by turning off auto read on the {@link io.netty.channel.Channel} when the number of buffered
+ * bytes reaches the maximum buffer size, and turning it on again when half of the buffered bytes has been read,
+ * or the stream is closed. The streams of the messages received on the same channel share a {@link NettyHttpReadSuspension},
+ * so reading is only turned on again when none of the streams has turned it off.
+ */
+public class NettyHttpContentInputStream extends InputStream {
+
+    private final NettyHttpReadSuspension suspension;
+    private final int maxBufferSize;
+    private final boolean resumeOnComplete;
+    private final Deque<ByteBuf> chunks = new ArrayDeque<>();
+    private int buffered;
+    private boolean complete;
+    private boolean closed;
+    private boolean suspended;
+    private Throwable failure;
+    private long suspendedCount;
+
+    /**
+     * Creates a stream.
+     *
+     * @param suspension        the suspension of reading from the channel, shared by the streams of the channel
+     * @param maxBufferSize     the maximum number of bytes to buffer before reading from the channel is suspended
+     * @param resumeOnComplete  whether to resume reading from the channel when the last chunk has been received,
+     *                          even if the buffer is full, such as when the channel is to be reused by somebody else
+     *                          when the message is complete. Otherwise reading is resumed when the buffer has been
+     *                          read or the stream is closed, which applies backpressure to pipelined HTTP requests.
+     */
+    public NettyHttpContentInputStream(NettyHttpReadSuspension suspension, int maxBufferSize, boolean resumeOnComplete) {
+        this.suspension = suspension;
+        this.maxBufferSize = maxBufferSize;
+        this.resumeOnComplete = resumeOnComplete;
+    }
+
+    /**
+     * Adds the received chunk to the stream, which takes over the ownership of the buffer.
+     */
+    public synchronized void offer(ByteBuf chunk) {
+        if (closed || !chunk.isReadable()) {
+            chunk.release();
+            return;
+        }
+        chunks.add(chunk);
+        buffered += chunk.readableBytes();
+        if (buffered >= maxBufferSize && !suspended) {
+            // the route is not keeping up so stop reading from the socket
+            suspended = true;
+            suspendedCount++;
+            suspension.suspend(this);
+        }
+        notifyAll();
+    }
+
+    /**
+     * Marks the stream as complete as the last chunk has been received.
+     */
+    public synchronized void complete() {
+        complete = true;
+        if (resumeOnComplete) {
+            // there is no more content for this message so the channel must read the next message
+            resume();
+        }
+        notifyAll();
+    }
+
+    /**
+     * Marks the stream as failed, such as when the connection was closed before the last chunk was received.
+     */
+    public synchronized void fail(Throwable cause) {
+        if (!complete) {
+            failure = cause;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Number of times reading from the socket has been suspended because the buffer was full.
+     */
+    public synchronized long getSuspendedCount() {
+        return suspendedCount;
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        ByteBuf chunk = awaitChunk();
+        if (chunk == null) {
+            return -1;
+        }
+        int answer = chunk.readByte() & 0xFF;
+        consumed(chunk, 1);
+        return answer;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuf chunk = awaitChunk();
+        if (chunk == null) {
+            return -1;
+        }
+        int answer = Math.min(len, chunk.readableBytes());
+        chunk.readBytes(b, off, answer);
+        consumed(chunk, answer);
+        return answer;
+    }
+
+    @Override
+    public synchronized int available() throws IOException {
+        return closed ? 0 : buffered;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ByteBuf chunk : chunks) {
+            chunk.release();
+        }
+        chunks.clear();
+        buffered = 0;
+        // any remaining content is discarded so continue reading from the socket
+        resume();
+        notifyAll();
+    }
+
+    private ByteBuf awaitChunk() throws IOException {
+        while (true) {
+            if (failure != null) {
+                throw new IOException("Error receiving HTTP content due " + failure.getMessage(), failure);
+            }
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            ByteBuf chunk = chunks.peek();
+            if (chunk != null) {
+                return chunk;
+            }
+            if (complete) {
+                return null;
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for HTTP content");
+            }
+        }
+    }
+
+    private void consumed(ByteBuf chunk, int bytes) {
+        buffered -= bytes;
+        if (!chunk.isReadable()) {
+            chunks.poll();
+            chunk.release();
+        }
+        if (buffered <= maxBufferSize / 2) {
+            resume();
+        }
+    }
+
+    private void resume() {
+        if (suspended) {
+            suspended = false;
+            suspension.resume(this);
+        }
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.camel.component.netty4.http;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
+import io.netty.channel.ChannelFuture;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpUtil;
@@ -29,7 +31,9 @@ import org.apache.camel.Exchange;
 import org.apache.camel.component.netty4.NettyConfiguration;
 import org.apache.camel.component.netty4.NettyConstants;
 import org.apache.camel.component.netty4.NettyProducer;
+import org.apache.camel.component.netty4.http.handlers.HttpClientStreamingHandler;
 import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.util.IOHelper;
 
 
 /**
@@ -51,6 +55,15 @@ public class NettyHttpProducer extends NettyProducer {
         return (NettyHttpConfiguration) super.getConfiguration();
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (getConfiguration().isStreaming() && getEndpoint().getComponent().getExecutorService() == null) {
+            // the route would block the event loop which receives the content it is reading
+            throw new IllegalArgumentException("The option usingExecutorService must be enabled on the component when using streaming on endpoint: " + getEndpoint());
+        }
+        super.doStart();
+    }
+
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         return super.process(exchange, new NettyHttpProducerCallback(exchange, callback, getConfiguration()));
@@ -88,6 +101,16 @@ public class NettyHttpProducer extends NettyProducer {
         return request;
     }
 
+    @Override
+    protected void releaseChannel(ChannelFuture channelFuture) {
+        HttpClientStreamingHandler streaming = channelFuture.channel().pipeline().get(HttpClientStreamingHandler.class);
+        if (streaming != null && streaming.releaseWhenComplete(() -> super.releaseChannel(channelFuture))) {
+            log.trace("Releasing channel when the streamed response is complete {}", channelFuture.channel());
+            return;
+        }
+        super.releaseChannel(channelFuture);
+    }
+
     /**
      * Callback that ensures the channel is returned to the pool when we are done.
      */
@@ -105,6 +128,7 @@ public class NettyHttpProducer extends NettyProducer {
 
         @Override
         public void done(boolean doneSync) {
+            boolean streaming = false;
             try {
                 // only handle when we are done asynchronous as then the netty producer is done sending, and we have a response
                 if (!doneSync) {
@@ -115,6 +139,18 @@ public class NettyHttpProducer extends NettyProducer {
                         if (response != null) {
                             response.content().retain();
 
+                            if (response instanceof NettyHttpStreamingResponse) {
+                                streaming = true;
+                                // close the stream when we are done, which discards any content that has not been read
+                                final NettyHttpContentInputStream stream = ((NettyHttpStreamingResponse) response).getContentStream();
+                                exchange.addOnCompletion(new SynchronizationAdapter() {
+                                    @Override
+                                    public void onDone(Exchange exchange) {
+                                        IOHelper.close(stream);
+                                    }
+                                });
+                            }
+
                             // need to release the response when we are done
                             exchange.addOnCompletion(new SynchronizationAdapter() {
                                 @Override
@@ -142,8 +178,19 @@ public class NettyHttpProducer extends NettyProducer {
                     }
                 }
             } finally {
-                // ensure we call the delegated callback
-                callback.done(doneSync);
+                if (streaming) {
+                    // continue routing in another thread, as reading the stream in the event loop would block
+                    // the event loop from receiving the content
+                    try {
+                        getEndpoint().getComponent().getExecutorService().execute(() -> callback.done(false));
+                    } catch (RejectedExecutionException e) {
+                        exchange.setException(e);
+                        callback.done(doneSync);
+                    }
+                } else {
+                    // ensure we call the delegated callback
+                    callback.done(doneSync);
+                }
             }
         }
     }
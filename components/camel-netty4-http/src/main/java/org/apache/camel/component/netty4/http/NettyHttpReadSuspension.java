@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import io.netty.channel.Channel;
+
+/**
+ * Turns off and on auto read on a {@link Channel} on behalf of the {@link NettyHttpContentInputStream}s of the
+ * HTTP messages received on the channel, such as pipelined HTTP/1.1 requests.
+ * <p/>
+ * Reading from the channel is suspended when any of the streams has suspended it, and only resumed when none
+ * of the streams has it suspended anymore, so one stream cannot turn off the backpressure of another stream.
+ */
+public class NettyHttpReadSuspension {
+
+    private final Channel channel;
+    private final Map<Object, Boolean> suspenders = new IdentityHashMap<>();
+
+    public NettyHttpReadSuspension(Channel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Suspends reading from the channel on behalf of the given stream.
+     */
+    public synchronized void suspend(Object stream) {
+        if (suspenders.put(stream, Boolean.TRUE) == null && suspenders.size() == 1) {
+            channel.config().setAutoRead(false);
+        }
+    }
+
+    /**
+     * Resumes reading from the channel on behalf of the given stream, which is done if no other stream
+     * has suspended reading.
+     */
+    public synchronized void resume(Object stream) {
+        if (suspenders.remove(stream) != null && suspenders.isEmpty()) {
+            channel.config().setAutoRead(true);
+        }
+    }
+
+    /**
+     * Whether any stream has suspended reading from the channel.
+     */
+    public synchronized boolean isSuspended() {
+        return !suspenders.isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
+
+/**
+ * A {@link io.netty.handler.codec.http.FullHttpResponse} used in streaming mode, which carries the status line and
+ * headers, but has empty content as the body is streamed using {@link #getContentStream()}.
+ */
+public class NettyHttpStreamingResponse extends DefaultFullHttpResponse {
+
+    private final NettyHttpContentInputStream contentStream;
+
+    public NettyHttpStreamingResponse(HttpResponse response, NettyHttpContentInputStream contentStream) {
+        super(response.protocolVersion(), response.status(), Unpooled.buffer(0), response.headers(), new DefaultHttpHeaders(false));
+        setDecoderResult(response.decoderResult());
+        this.contentStream = contentStream;
+    }
+
+    /**
+     * The stream which is fed with the content of the response as it is received.
+     */
+    public NettyHttpContentInputStream getContentStream() {
+        return contentStream;
+    }
+}
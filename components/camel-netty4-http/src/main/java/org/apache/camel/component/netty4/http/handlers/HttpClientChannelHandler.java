@@ -29,6 +29,7 @@ import org.apache.camel.Message;
 import org.apache.camel.component.netty4.NettyConstants;
 import org.apache.camel.component.netty4.handlers.ClientChannelHandler;
 import org.apache.camel.component.netty4.http.NettyHttpProducer;
+import org.apache.camel.component.netty4.http.NettyHttpStreamingResponse;
 
 /**
  * Netty HTTP {@link org.apache.camel.component.netty4.handlers.ClientChannelHandler} that handles the response combing
@@ -45,7 +46,20 @@ public class HttpClientChannelHandler extends ClientChannelHandler {
     @Override
     protected Message getResponseMessage(Exchange exchange, ChannelHandlerContext ctx, Object message) throws Exception {
         FullHttpResponse response = (FullHttpResponse) message;
-        if (!HttpUtil.isKeepAlive(response)) {
+        if (response instanceof NettyHttpStreamingResponse) {
+            // the content is still being received while the exchange continues routing in another thread,
+            // so it must not be called back again when the channel is closed
+            producer.getCorrelationManager().removeState(ctx, ctx.channel());
+            if (!producer.getConfiguration().isReuseChannel()) {
+                // and the channel must not be closed before the content has been received
+                Boolean close = exchange.getProperty(NettyConstants.NETTY_CLOSE_CHANNEL_WHEN_COMPLETE, Boolean.class);
+                boolean disconnect = close != null ? close : producer.getConfiguration().isDisconnect();
+                if (disconnect) {
+                    ctx.pipeline().get(HttpClientStreamingHandler.class).closeWhenComplete();
+                }
+                exchange.setProperty(NettyConstants.NETTY_CLOSE_CHANNEL_WHEN_COMPLETE, false);
+            }
+        } else if (!HttpUtil.isKeepAlive(response)) {
             // just want to make sure we close the channel if the keepAlive is not true
             exchange.setProperty(NettyConstants.NETTY_CLOSE_CHANNEL_WHEN_COMPLETE, true);
         }
@@ -0,0 +1,163 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http.handlers;
+
+import java.io.IOException;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.apache.camel.component.netty4.NettyHelper;
+import org.apache.camel.component.netty4.http.NettyHttpContentInputStream;
+import org.apache.camel.component.netty4.http.NettyHttpReadSuspension;
+import org.apache.camel.component.netty4.http.NettyHttpStreamingResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Netty HTTP client handler used in streaming mode instead of the {@link io.netty.handler.codec.http.HttpObjectAggregator},
+ * which passes on a {@link NettyHttpStreamingResponse} as soon as the status line and headers has been received,
+ * and feeds its {@link NettyHttpContentInputStream} with the content as it is received.
+ * <p/>
+ * As the content is still being received when the producer is done, the channel must not be reused before the response
+ * is complete, which is why the release of the channel can be deferred using {@link #releaseWhenComplete(Runnable)}.
+ * <p/>
+ * This handler is not sharable as it keeps state about the response on the channel.
+ */
+public class HttpClientStreamingHandler extends ChannelInboundHandlerAdapter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpClientStreamingHandler.class);
+
+    private final int maxBufferSize;
+    // the suspension of reading from the channel which is shared by the streams of the channel
+    private NettyHttpReadSuspension suspension;
+    // the stream of the response which is currently being received
+    private NettyHttpContentInputStream current;
+    private boolean closeWhenComplete;
+    private Runnable release;
+
+    public HttpClientStreamingHandler(int maxBufferSize) {
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof HttpResponse && !(msg instanceof FullHttpResponse)) {
+            HttpResponse response = (HttpResponse) msg;
+            if (response.status().codeClass() == HttpStatusClass.INFORMATIONAL) {
+                // such as 100-continue which is followed by the actual response
+                LOG.trace("Ignoring informational response: {}", response);
+                return;
+            }
+            if (suspension == null) {
+                suspension = new NettyHttpReadSuspension(ctx.channel());
+            }
+            // resume reading when the response is complete as the channel is then released for another exchange
+            NettyHttpContentInputStream stream = new NettyHttpContentInputStream(suspension, maxBufferSize, true);
+            synchronized (this) {
+                current = stream;
+                closeWhenComplete = !HttpUtil.isKeepAlive(response);
+            }
+            LOG.trace("Streaming response: {}", response);
+            ctx.fireChannelRead(new NettyHttpStreamingResponse(response, stream));
+        } else if (msg instanceof HttpContent && !(msg instanceof FullHttpResponse)) {
+            HttpContent content = (HttpContent) msg;
+            NettyHttpContentInputStream stream = getCurrent();
+            if (stream != null) {
+                // the stream takes over the buffer
+                stream.offer(content.content());
+                if (content instanceof LastHttpContent) {
+                    stream.complete();
+                    done(ctx);
+                }
+            } else {
+                content.release();
+            }
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        NettyHttpContentInputStream stream = getCurrent();
+        if (stream != null) {
+            stream.fail(new IOException("Channel closed before the HTTP content was received"));
+            done(ctx);
+        }
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        NettyHttpContentInputStream stream = getCurrent();
+        if (stream != null) {
+            stream.fail(cause);
+        }
+        ctx.fireExceptionCaught(cause);
+    }
+
+    /**
+     * Closes the channel when the response currently being received is complete, instead of when the producer is done.
+     */
+    public synchronized void closeWhenComplete() {
+        closeWhenComplete = true;
+    }
+
+    /**
+     * Defers releasing the channel until the response currently being received is complete.
+     *
+     * @param release  the task which releases the channel
+     * @return <tt>true</tt> if the release is deferred, or <tt>false</tt> if no response is being received, and the
+     *         channel can be released right away
+     */
+    public synchronized boolean releaseWhenComplete(Runnable release) {
+        if (current == null) {
+            return false;
+        }
+        this.release = release;
+        return true;
+    }
+
+    private synchronized NettyHttpContentInputStream getCurrent() {
+        return current;
+    }
+
+    private void done(ChannelHandlerContext ctx) {
+        boolean close;
+        Runnable task;
+        synchronized (this) {
+            close = closeWhenComplete;
+            task = release;
+            current = null;
+            closeWhenComplete = false;
+            release = null;
+        }
+        if (close) {
+            LOG.trace("Closing channel as the response is complete: {}", ctx.channel());
+            NettyHelper.close(ctx.channel());
+        }
+        if (task != null) {
+            task.run();
+        }
+    }
+}
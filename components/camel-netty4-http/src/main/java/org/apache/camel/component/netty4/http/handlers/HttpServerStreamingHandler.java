@@ -0,0 +1,146 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http.handlers;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.apache.camel.component.netty4.http.NettyHttpContentInputStream;
+import org.apache.camel.component.netty4.http.NettyHttpReadSuspension;
+import org.apache.camel.component.netty4.http.NettyHttpStreamingRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Netty HTTP server handler used in streaming mode instead of the {@link io.netty.handler.codec.http.HttpObjectAggregator},
+ * which passes on a {@link NettyHttpStreamingRequest} as soon as the request line and headers has been received,
+ * and feeds the content chunks to its {@link NettyHttpContentInputStream} as they are received.
+ * <p/>
+ * The stream of a request is closed when the response has been written, which discards any content the route did not read.
+ * <p/>
+ * The streams of pipelined requests share a {@link NettyHttpReadSuspension}, so reading from the channel is only resumed
+ * when none of the streams has a full buffer, and a stream whose content is complete keeps reading suspended until its
+ * buffer has been read or it is closed.
+ * <p/>
+ * This handler is not sharable as it keeps state about the requests on the channel.
+ */
+public class HttpServerStreamingHandler extends ChannelDuplexHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpServerStreamingHandler.class);
+
+    private final int maxBufferSize;
+    // the suspension of reading from the channel which is shared by the streams of the channel
+    private NettyHttpReadSuspension suspension;
+    // the streams of the requests which has not been responded yet
+    private final Deque<NettyHttpContentInputStream> streams = new ArrayDeque<>();
+    // the stream of the request which is currently being received
+    private NettyHttpContentInputStream current;
+
+    public HttpServerStreamingHandler(int maxBufferSize) {
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof HttpRequest && !(msg instanceof FullHttpRequest)) {
+            HttpRequest request = (HttpRequest) msg;
+            if (HttpUtil.is100ContinueExpected(request)) {
+                // the aggregator is not in use so we must tell the client to continue sending the content
+                ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER));
+                request.headers().remove(HttpHeaderNames.EXPECT);
+            }
+            if (suspension == null) {
+                suspension = new NettyHttpReadSuspension(ctx.channel());
+            }
+            current = new NettyHttpContentInputStream(suspension, maxBufferSize, false);
+            streams.add(current);
+            LOG.trace("Streaming request: {}", request);
+            ctx.fireChannelRead(new NettyHttpStreamingRequest(request, current));
+        } else if (msg instanceof HttpContent && !(msg instanceof FullHttpRequest)) {
+            HttpContent content = (HttpContent) msg;
+            if (current != null) {
+                // the stream takes over the buffer
+                current.offer(content.content());
+                if (content instanceof LastHttpContent) {
+                    current.complete();
+                    current = null;
+                }
+            } else {
+                content.release();
+            }
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof LastHttpContent && !isInformational(msg)) {
+            final NettyHttpContentInputStream stream = streams.poll();
+            if (stream != null) {
+                promise.addListener(future -> stream.close());
+            }
+        }
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        failStreams(new IOException("Channel closed before the HTTP content was received"));
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        failStreams(cause);
+        ctx.fireExceptionCaught(cause);
+    }
+
+    private void failStreams(Throwable cause) {
+        current = null;
+        for (NettyHttpContentInputStream stream : streams) {
+            // the response cannot be written so release the content
+            stream.fail(cause);
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+        streams.clear();
+    }
+
+    private static boolean isInformational(Object msg) {
+        return msg instanceof HttpResponse && ((HttpResponse) msg).status().codeClass() == HttpStatusClass.INFORMATIONAL;
+    }
+}
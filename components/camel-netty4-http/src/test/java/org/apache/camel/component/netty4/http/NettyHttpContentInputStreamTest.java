@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NettyHttpContentInputStreamTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private final NettyHttpReadSuspension suspension = new NettyHttpReadSuspension(channel);
+
+    @Test
+    public void testResumeWhenRead() throws Exception {
+        NettyHttpContentInputStream stream = new NettyHttpContentInputStream(suspension, 8, false);
+        stream.offer(Unpooled.wrappedBuffer(new byte[8]));
+        assertFalse(channel.config().isAutoRead());
+        assertEquals(1, stream.getSuspendedCount());
+
+        assertEquals(4, stream.read(new byte[4], 0, 4));
+        assertTrue(channel.config().isAutoRead());
+        stream.close();
+    }
+
+    @Test
+    public void testPipelinedStreamKeepsReadingSuspended() throws Exception {
+        NettyHttpContentInputStream first = new NettyHttpContentInputStream(suspension, 8, false);
+        NettyHttpContentInputStream second = new NettyHttpContentInputStream(suspension, 8, false);
+
+        // the first request is complete but its content has not been read
+        first.offer(Unpooled.wrappedBuffer(new byte[8]));
+        first.complete();
+        assertFalse(channel.config().isAutoRead());
+
+        second.offer(Unpooled.wrappedBuffer(new byte[8]));
+        assertFalse(channel.config().isAutoRead());
+
+        // closing the first stream must not resume reading as the second stream is still full
+        first.close();
+        assertFalse(channel.config().isAutoRead());
+
+        assertEquals(8, second.read(new byte[8], 0, 8));
+        assertTrue(channel.config().isAutoRead());
+        second.close();
+    }
+
+    @Test
+    public void testResumeOnComplete() throws Exception {
+        NettyHttpContentInputStream stream = new NettyHttpContentInputStream(suspension, 8, true);
+        stream.offer(Unpooled.wrappedBuffer(new byte[8]));
+        assertFalse(channel.config().isAutoRead());
+
+        stream.complete();
+        assertTrue(channel.config().isAutoRead());
+        stream.close();
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty4.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.IOHelper;
+import org.junit.Test;
+
+public class NettyHttpStreamingTest extends BaseNettyTest {
+
+    private static final int SIZE = 5 * 1024 * 1024;
+    // the client only reads the response after the request has been sent, so the echoed body must fit in the socket buffers
+    private static final int ECHO_SIZE = 128 * 1024;
+
+    @Test
+    public void testStreamingUpload() throws Exception {
+        HttpURLConnection con = post("upload", SIZE);
+
+        assertEquals(200, con.getResponseCode());
+        String body;
+        try (InputStream is = con.getInputStream()) {
+            body = context.getTypeConverter().convertTo(String.class, is);
+        }
+        assertReadSlowly(body);
+    }
+
+    @Test
+    public void testStreamingDownload() throws Exception {
+        // download twice to ensure the channel can be reused when the response is complete
+        assertReadSlowly(template.requestBody("direct:download", "Hello", String.class));
+        assertReadSlowly(template.requestBody("direct:download", "World", String.class));
+    }
+
+    @Test
+    public void testStreamingEcho() throws Exception {
+        HttpURLConnection con = post("echo", ECHO_SIZE);
+
+        assertEquals(200, con.getResponseCode());
+        assertEquals("chunked", con.getHeaderField("Transfer-Encoding"));
+        assertNull(con.getHeaderField("Content-Length"));
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (InputStream is = con.getInputStream()) {
+            IOHelper.copy(is, bos);
+        }
+        assertTrue("The echoed body should be the uploaded body", Arrays.equals(createBody(ECHO_SIZE), bos.toByteArray()));
+    }
+
+    private static void assertReadSlowly(String body) {
+        String[] parts = body.split(":");
+        assertEquals(NettyHttpContentInputStream.class.getName(), parts[0]);
+        assertEquals(SIZE, Long.parseLong(parts[1]));
+        assertTrue("Reading from the socket should have been suspended while the stream was read slowly", Long.parseLong(parts[2]) > 0);
+    }
+
+    private HttpURLConnection post(String path, int size) throws Exception {
+        HttpURLConnection con = (HttpURLConnection) new URL("http://localhost:" + getPort() + "/" + path).openConnection();
+        con.setRequestMethod("POST");
+        con.setDoOutput(true);
+        con.setChunkedStreamingMode(8192);
+        try (OutputStream os = con.getOutputStream()) {
+            os.write(createBody(size));
+        }
+        return con;
+    }
+
+    private static byte[] createBody(int size) {
+        byte[] body = new byte[size];
+        for (int i = 0; i < size; i++) {
+            body[i] = (byte) i;
+        }
+        return body;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // buffer far less than the uploaded body so reading from the socket is suspended while the route is reading
+                from("netty4-http:http://0.0.0.0:{{port}}/upload?streaming=true&chunkedMaxContentLength=65536")
+                    .process(exchange -> readSlowly(exchange));
+
+                // the request stream is streamed back as the response while it is received
+                from("netty4-http:http://0.0.0.0:{{port}}/echo?streaming=true&chunkedMaxContentLength=65536")
+                    .to("log:echo");
+
+                // the response is streamed to the producer
+                from("netty4-http:http://0.0.0.0:{{port}}/download?streaming=true")
+                    .process(exchange -> exchange.getIn().setBody(new ByteArrayInputStream(createBody(SIZE))));
+
+                from("direct:download")
+                    .to("netty4-http:http://localhost:{{port}}/download?streaming=true&chunkedMaxContentLength=65536")
+                    .process(exchange -> readSlowly(exchange));
+            }
+        };
+    }
+
+    private static void readSlowly(Exchange exchange) throws Exception {
+        InputStream is = exchange.getIn().getBody(InputStream.class);
+        long count = 0;
+        int reads = 0;
+        byte[] buffer = new byte[4096];
+        int len;
+        while ((len = is.read(buffer)) != -1) {
+            // simulate a slow consumer of the stream
+            if (++reads % 256 == 0) {
+                Thread.sleep(10);
+            }
+            count += len;
+        }
+        long suspended = ((NettyHttpContentInputStream) is).getSuspendedCount();
+        exchange.getIn().setBody(is.getClass().getName() + ":" + count + ":" + suspended);
+    }
+
+}
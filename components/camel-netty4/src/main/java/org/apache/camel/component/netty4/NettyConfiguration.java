@@ -108,6 +108,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     private boolean clientMode;
     @UriParam(label = "producer,advanced")
     private boolean useByteBuf;
+    @UriParam(label = "producer,advanced")
+    private boolean useFileRegion;
     @UriParam(label = "advanced")
     private boolean udpByteArrayCodec;
     @UriParam(label = "common")
@@ -649,6 +651,20 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.useByteBuf = useByteBuf;
     }
 
+    public boolean isUseFileRegion() {
+        return useFileRegion;
+    }
+
+    /**
+     * If the useFileRegion is true, netty producer will send message bodies which are files (such as from the file consumer,
+     * a java.io.File or a java.nio.channels.FileChannel) as a {@link io.netty.channel.FileRegion}, which transfers the file content
+     * to the socket without copying it into the Java heap (zero copy). This cannot be used together with SSL or codecs which
+     * needs to encode the content.
+     */
+    public void setUseFileRegion(boolean useFileRegion) {
+        this.useFileRegion = useFileRegion;
+    }
+
     public boolean isUdpByteArrayCodec() {
         return udpByteArrayCodec;
     }
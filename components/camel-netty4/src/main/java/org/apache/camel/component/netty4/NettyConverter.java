@@ -16,11 +16,13 @@
  */
 package org.apache.camel.component.netty4;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.channels.FileChannel;
 
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
@@ -32,6 +34,8 @@ import org.w3c.dom.Document;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
 
@@ -89,6 +93,24 @@ public final class NettyConverter {
         return buf;
     }
 
+    /**
+     * Creates a {@link FileRegion} which lets Netty transfer the file to the socket without copying it into the heap.
+     * The file is opened when the region is written.
+     */
+    @Converter
+    public static FileRegion toFileRegion(File file) {
+        return new DefaultFileRegion(file, 0, file.length());
+    }
+
+    /**
+     * Creates a {@link FileRegion} of the remaining content of the file channel, from its current position.
+     */
+    @Converter
+    public static FileRegion toFileRegion(FileChannel channel) throws IOException {
+        long position = channel.position();
+        return new DefaultFileRegion(channel, position, channel.size() - position);
+    }
+
     @Converter
     public static ByteBuf toByteBuffer(String s, Exchange exchange) {
         byte[] bytes;
@@ -16,11 +16,15 @@
  */
 package org.apache.camel.component.netty4;
 
+import java.io.File;
 import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.AddressedEnvelope;
+import io.netty.channel.FileRegion;
 import org.apache.camel.Exchange;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.support.DefaultExchangeHolder;
 
 /**
@@ -41,6 +45,16 @@ public final class NettyPayloadHelper {
             // we should transfer the entire exchange over the wire (includes in/out)
             return DefaultExchangeHolder.marshal(exchange, true, endpoint.getConfiguration().isAllowSerializedHeaders());
         } else {
+            if (endpoint.getConfiguration().isUseFileRegion()) {
+                Object body = exchange.getIn().getBody();
+                if (body instanceof File || body instanceof FileChannel || body instanceof WrappedFile) {
+                    // let netty transfer the file content to the socket (zero copy)
+                    FileRegion region = exchange.getContext().getTypeConverter().tryConvertTo(FileRegion.class, exchange, body);
+                    if (region != null) {
+                        return region;
+                    }
+                }
+            }
             if (endpoint.getConfiguration().isUseByteBuf()) {
                 // Just leverage the type converter 
                 return exchange.getIn().getBody(ByteBuf.class);
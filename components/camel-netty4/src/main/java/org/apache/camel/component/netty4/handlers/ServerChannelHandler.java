@@ -125,15 +125,19 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
     }
 
     private void processSynchronously(final Exchange exchange, final ChannelHandlerContext ctx, final Object message) {
+        boolean written = false;
         try {
             consumer.getProcessor().process(exchange);
             if (consumer.getConfiguration().isSync()) {
-                sendResponse(message, ctx, exchange);
+                written = sendResponse(message, ctx, exchange);
             }
         } catch (Throwable e) {
             consumer.getExceptionHandler().handleException(e);
         } finally {
             consumer.doneUoW(exchange);
+            if (!written) {
+                consumer.releaseExchange(exchange);
+            }
         }
     }
 
@@ -142,20 +146,29 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
             @Override
             public void done(boolean doneSync) {
                 // send back response if the communication is synchronous
+                boolean written = false;
                 try {
                     if (consumer.getConfiguration().isSync()) {
-                        sendResponse(message, ctx, exchange);
+                        written = sendResponse(message, ctx, exchange);
                     }
                 } catch (Throwable e) {
                     consumer.getExceptionHandler().handleException(e);
                 } finally {
                     consumer.doneUoW(exchange);
+                    if (!written) {
+                        consumer.releaseExchange(exchange);
+                    }
                 }
             }
         });
     }
 
-    private void sendResponse(Object message, ChannelHandlerContext ctx, Exchange exchange) throws Exception {
+    /**
+     * Sends the response.
+     *
+     * @return <tt>true</tt> if the response is being written, where the exchange is released when the write is complete
+     */
+    private boolean sendResponse(Object message, ChannelHandlerContext ctx, Exchange exchange) throws Exception {
         Object body = getResponseBody(exchange);
 
         if (body == null) {
@@ -175,13 +188,25 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
             }
 
             // we got a body to write
-            ChannelFutureListener listener = createResponseFutureListener(consumer, exchange, ctx.channel().remoteAddress());
+            final ChannelFutureListener listener = createResponseFutureListener(consumer, exchange, ctx.channel().remoteAddress());
+            // release the exchange when the write is complete
+            ChannelFutureListener releaseListener = future -> {
+                try {
+                    if (listener != null) {
+                        listener.operationComplete(future);
+                    }
+                } finally {
+                    consumer.releaseExchange(exchange);
+                }
+            };
             if (consumer.getConfiguration().isTcp()) {
-                NettyHelper.writeBodyAsync(LOG, ctx.channel(), null, body, exchange, listener);
+                NettyHelper.writeBodyAsync(LOG, ctx.channel(), null, body, exchange, releaseListener);
             } else {
-                NettyHelper.writeBodyAsync(LOG, ctx.channel(), exchange.getProperty(NettyConstants.NETTY_REMOTE_ADDRESS, SocketAddress.class), body, exchange, listener);
+                NettyHelper.writeBodyAsync(LOG, ctx.channel(), exchange.getProperty(NettyConstants.NETTY_REMOTE_ADDRESS, SocketAddress.class), body, exchange, releaseListener);
             }
+            return true;
         }
+        return false;
     }
 
     /**
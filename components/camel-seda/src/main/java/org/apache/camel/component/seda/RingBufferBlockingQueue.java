@@ -0,0 +1,309 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A bounded lock-free multi producer multi consumer {@link BlockingQueue} backed by a ring buffer.
+ * <p/>
+ * Each slot in the ring buffer has a sequence number which tells whether the slot is ready to be
+ * written or read at a given position, so producers and consumers only need to compare-and-set the
+ * tail and head positions, and never acquire a lock. The blocking operations wait using the
+ * configured {@link RingBufferWaitStrategy}.
+ * <p/>
+ * Removing an arbitrary element marks the sequence number of its slot as removed, and the slot is then skipped
+ * by consumers. As the mark includes the position of the element, then an element which is consumed and offered
+ * again (such as a pooled exchange) is never mistaken for the removed element. A removed element is no longer
+ * counted in the size of the queue, but its slot is first reused when the consumers have moved past it.
+ * The iterator is a weakly consistent snapshot of the queue.
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    // flag on the sequence number of a published slot which has been taken by a consumer or removed
+    private static final long CLAIMED = Long.MIN_VALUE;
+
+    private final int capacity;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicInteger count = new AtomicInteger();
+    private final RingBufferWaitStrategy waitStrategy;
+
+    public RingBufferBlockingQueue(int capacity) {
+        this(capacity, RingBufferWaitStrategy.Parking);
+    }
+
+    public RingBufferBlockingQueue(int capacity, RingBufferWaitStrategy waitStrategy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was " + capacity);
+        }
+        ObjectHelper.notNull(waitStrategy, "waitStrategy");
+        this.capacity = capacity;
+        this.waitStrategy = waitStrategy;
+        this.sequences = new AtomicLongArray(capacity);
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public RingBufferWaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        ObjectHelper.notNull(e, "element");
+        long pos = tail.get();
+        while (true) {
+            int index = index(pos);
+            long diff = (sequences.get(index) & ~CLAIMED) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    count.incrementAndGet();
+                    buffer.set(index, e);
+                    // publish the slot to the consumers
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // the slot has not been consumed yet, so we are full
+                return false;
+            } else {
+                // another producer claimed the slot
+                pos = tail.get();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long pos = head.get();
+        while (true) {
+            int index = index(pos);
+            long diff = (sequences.get(index) & ~CLAIMED) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    // the element is ours unless it has been removed
+                    boolean removed = !sequences.compareAndSet(index, pos + 1, (pos + 1) | CLAIMED);
+                    Object item = buffer.getAndSet(index, null);
+                    // release the slot to the producers for the next lap
+                    sequences.set(index, pos + capacity);
+                    if (!removed) {
+                        count.decrementAndGet();
+                        return (E) item;
+                    }
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                // the slot has not been published yet, so we are empty
+                return null;
+            } else {
+                // another consumer claimed the slot
+                pos = head.get();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long end = tail.get();
+        for (long pos = head.get(); pos < end; pos++) {
+            int index = index(pos);
+            Object item = buffer.get(index);
+            if (item != null && sequences.get(index) == pos + 1) {
+                return (E) item;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        int counter = 0;
+        while (!offer(e)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(++counter);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int counter = 0;
+        while (!offer(e)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            waitStrategy.idle(++counter);
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        int counter = 0;
+        E answer;
+        while ((answer = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(++counter);
+        }
+        return answer;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int counter = 0;
+        E answer;
+        while ((answer = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            waitStrategy.idle(++counter);
+        }
+        return answer;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        ObjectHelper.notNull(c, "collection");
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain queue to itself");
+        }
+        int count = 0;
+        E e;
+        while (count < maxElements && (e = poll()) != null) {
+            c.add(e);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long end = tail.get();
+        for (long pos = head.get(); pos < end; pos++) {
+            int index = index(pos);
+            if (sequences.get(index) != pos + 1) {
+                // not published, or already taken or removed
+                continue;
+            }
+            Object item = buffer.get(index);
+            // only a consumer or a remover that claims the sequence number of the position owns the element,
+            // which fails if the slot has been released and reused for a later position in the meantime
+            if (item != null && o.equals(item) && sequences.compareAndSet(index, pos + 1, (pos + 1) | CLAIMED)) {
+                count.decrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        List<E> snapshot = new ArrayList<>();
+        long end = tail.get();
+        for (long pos = head.get(); pos < end; pos++) {
+            int index = index(pos);
+            Object item = buffer.get(index);
+            if (item != null && sequences.get(index) == pos + 1) {
+                snapshot.add((E) item);
+            }
+        }
+        final Iterator<E> it = snapshot.iterator();
+        return new Iterator<E>() {
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                RingBufferBlockingQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    private int index(long pos) {
+        return (int) (pos % capacity);
+    }
+
+}
@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The strategy used by {@link RingBufferBlockingQueue} when a thread has to wait
+ * for the queue to become non empty or non full.
+ */
+public enum RingBufferWaitStrategy {
+
+    /**
+     * Busy spins in a tight loop. Lowest latency, but burns a CPU core per waiting thread.
+     */
+    BusySpin {
+        @Override
+        public void idle(int counter) {
+            // spin
+        }
+    },
+
+    /**
+     * Spins for a while and then yields the thread to let other threads run.
+     */
+    Yielding {
+        @Override
+        public void idle(int counter) {
+            if (counter > SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    },
+
+    /**
+     * Spins and yields for a while and then parks the thread with an increasing back off.
+     * This is the most CPU friendly strategy.
+     */
+    Parking {
+        @Override
+        public void idle(int counter) {
+            if (counter > SPIN_TRIES + YIELD_TRIES) {
+                // back off exponentially up till the max park time
+                int shift = Math.min(counter - SPIN_TRIES - YIELD_TRIES, MAX_PARK_SHIFT);
+                LockSupport.parkNanos(MIN_PARK_NANOS << shift);
+            } else if (counter > SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MIN_PARK_NANOS = 1000;
+    // 1 micro second shifted 10 times is about 1 milli second
+    private static final int MAX_PARK_SHIFT = 10;
+
+    /**
+     * Waits before the next attempt.
+     *
+     * @param counter the number of attempts so far
+     */
+    public abstract void idle(int counter);
+
+}
@@ -66,6 +66,10 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private BlockingQueue queue;
     @UriParam(defaultValue = "" + SedaConstants.QUEUE_SIZE)
     private int size = SedaConstants.QUEUE_SIZE;
+    @UriParam(label = "advanced")
+    private boolean ringBuffer;
+    @UriParam(label = "advanced", defaultValue = "Parking")
+    private RingBufferWaitStrategy ringBufferWaitStrategy = RingBufferWaitStrategy.Parking;
 
     @UriParam(label = "consumer", defaultValue = "1")
     private int concurrentConsumers = 1;
@@ -77,6 +81,8 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int maxMessagesPerPoll = 1;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -166,7 +172,7 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
             if (getComponent() != null) {
                 // use null to indicate default size (= use what the existing queue has been configured with)
                 Integer size = (getSize() == Integer.MAX_VALUE || getSize() == SedaConstants.QUEUE_SIZE) ? null : getSize();
-                QueueReference ref = getComponent().getOrCreateQueue(this, size, isMultipleConsumers(), queueFactory);
+                QueueReference ref = getComponent().getOrCreateQueue(this, size, isMultipleConsumers(), getQueueFactory());
                 queue = ref.getQueue();
                 String key = getComponent().getQueueKey(getEndpointUri());
                 log.info("Endpoint {} is using shared queue: {} with size: {}", this, key, ref.getSize() !=  null ? ref.getSize() : Integer.MAX_VALUE);
@@ -184,11 +190,25 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     }
 
     protected BlockingQueue<Exchange> createQueue() {
+        BlockingQueueFactory<Exchange> factory = getQueueFactory();
+        if (factory == null) {
+            factory = new LinkedBlockingQueueFactory<>();
+        }
         if (size > 0) {
-            return queueFactory.create(size);
+            return factory.create(size);
         } else {
-            return queueFactory.create();
+            return factory.create();
+        }
+    }
+
+    /**
+     * Gets the factory to use for creating the queue, which is the lock-free ring buffer if enabled.
+     */
+    protected BlockingQueueFactory<Exchange> getQueueFactory() {
+        if (ringBuffer) {
+            return new RingBufferBlockingQueueFactory<>(ringBufferWaitStrategy);
         }
+        return queueFactory;
     }
 
     /**
@@ -375,6 +395,38 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.discardIfNoConsumers = discardIfNoConsumers;
     }
 
+    @ManagedAttribute
+    public boolean isRingBuffer() {
+        return ringBuffer;
+    }
+
+    /**
+     * Whether to use a lock-free ring buffer as the queue, which reduces contention when many threads
+     * are sending to and consuming from the queue. The ring buffer is bounded by the size option.
+     * When enabled, the queueFactory option is not in use.
+     */
+    public void setRingBuffer(boolean ringBuffer) {
+        this.ringBuffer = ringBuffer;
+    }
+
+    public RingBufferWaitStrategy getRingBufferWaitStrategy() {
+        return ringBufferWaitStrategy;
+    }
+
+    @ManagedAttribute
+    public String getRingBufferWaitStrategyName() {
+        return ringBufferWaitStrategy != null ? ringBufferWaitStrategy.name() : null;
+    }
+
+    /**
+     * The strategy used by the ring buffer when a thread has to wait for the queue to become non empty or non full.
+     * BusySpin has the lowest latency but uses a CPU core per waiting thread, Yielding spins and yields the thread,
+     * and Parking spins, yields and then parks the thread, which is the most CPU friendly.
+     */
+    public void setRingBufferWaitStrategy(RingBufferWaitStrategy ringBufferWaitStrategy) {
+        this.ringBufferWaitStrategy = ringBufferWaitStrategy;
+    }
+
     @ManagedAttribute
     public boolean isMultipleConsumers() {
         return multipleConsumers;
@@ -402,6 +454,21 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getMaxMessagesPerPoll() {
+        return maxMessagesPerPoll;
+    }
+
+    /**
+     * The maximum number of messages the consumer takes from the queue per poll.
+     * When using a value greater than 1, then the consumer drains up to this number of messages from the queue at once,
+     * and processes them one after another before polling again. Each message is marked with the batch properties
+     * (CamelBatchIndex, CamelBatchSize and CamelBatchComplete) so the batch can be aggregated using completionFromBatchConsumer.
+     */
+    public void setMaxMessagesPerPoll(int maxMessagesPerPoll) {
+        this.maxMessagesPerPoll = maxMessagesPerPoll;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
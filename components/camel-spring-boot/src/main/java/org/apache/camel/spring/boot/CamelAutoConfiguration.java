@@ -192,6 +192,9 @@ public class CamelAutoConfiguration {
         if (config.getStreamCachingSpoolUsedHeapMemoryThreshold() != 0) {
             camelContext.getStreamCachingStrategy().setSpoolUsedHeapMemoryThreshold(config.getStreamCachingSpoolUsedHeapMemoryThreshold());
         }
+        if (config.getStreamCachingOffHeapMemoryLimit() != 0) {
+            camelContext.getStreamCachingStrategy().setOffHeapMemoryLimit(config.getStreamCachingOffHeapMemoryLimit());
+        }
 
         camelContext.setMessageHistory(config.isMessageHistory());
         camelContext.setLogMask(config.isLogMask());
@@ -249,6 +249,14 @@ public class CamelConfigurationProperties {
      */
     private String streamCachingSpoolUsedHeapMemoryLimit;
 
+    /**
+     * Sets a limit in bytes of off-heap memory to use for in-memory stream caches.
+     * When set, the in-memory stream caches are stored in pooled off-heap buffers instead of on the heap,
+     * and the stream caches are spooled to disk when the limit is reached.
+     * The default is 0 which means off-heap memory is not used.
+     */
+    private long streamCachingOffHeapMemoryLimit;
+
     /**
      * Sets whether if just any of the org.apache.camel.spi.StreamCachingStrategy.SpoolRule rules
      * returns true then shouldSpoolCache(long) returns true, to allow spooling to disk.
@@ -698,6 +706,14 @@ public class CamelConfigurationProperties {
         this.streamCachingSpoolUsedHeapMemoryLimit = streamCachingSpoolUsedHeapMemoryLimit;
     }
 
+    public long getStreamCachingOffHeapMemoryLimit() {
+        return streamCachingOffHeapMemoryLimit;
+    }
+
+    public void setStreamCachingOffHeapMemoryLimit(long streamCachingOffHeapMemoryLimit) {
+        this.streamCachingOffHeapMemoryLimit = streamCachingOffHeapMemoryLimit;
+    }
+
     public boolean isStreamCachingAnySpoolRules() {
         return streamCachingAnySpoolRules;
     }
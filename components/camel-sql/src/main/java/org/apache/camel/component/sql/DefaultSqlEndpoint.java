@@ -110,6 +110,12 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
     private String outputHeader;
     @UriParam(label = "producer", description = "Whether to use the message body as the SQL and then headers for parameters. If this option is enabled then the SQL in the uri is not used.")
     private boolean useMessageBodyForSql;
+    @UriParam(label = "producer,advanced", description = "If set greater than zero, then the producer collects the statements from concurrent exchanges"
+            + " and executes them as one JDBC batch in one transaction, when this number of statements has been collected or the microBatchTimeout elapsed."
+            + " This can only be used for insert, update and delete statements.")
+    private int microBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "10", description = "The maximum time in millis to wait for more statements before executing the micro batch.")
+    private long microBatchTimeout = 10;
     @UriParam(label = "advanced", defaultValue = "#", description = "Specifies a character that will be replaced to ? in SQL query."
             + " Notice, that it is simple String.replaceAll() operation and no SQL parsing is involved (quoted strings will also change).")
     private String placeholder = "#";
@@ -344,6 +350,32 @@ public abstract class DefaultSqlEndpoint extends DefaultPollingEndpoint {
         this.useMessageBodyForSql = useMessageBodyForSql;
     }
 
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * If set greater than zero, then the producer collects the statements from concurrent exchanges
+     * and executes them as one JDBC batch in one transaction, when this number of statements has been collected
+     * or the microBatchTimeout elapsed.
+     * <p/>
+     * This can only be used for insert, update and delete statements.
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public long getMicroBatchTimeout() {
+        return microBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis to wait for more statements before executing the micro batch.
+     */
+    public void setMicroBatchTimeout(long microBatchTimeout) {
+        this.microBatchTimeout = microBatchTimeout;
+    }
+
     public String getDataSourceRef() {
         return dataSourceRef;
     }
@@ -67,6 +67,8 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         SqlProducer result = new SqlProducer(this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        result.setMicroBatchSize(getMicroBatchSize());
+        result.setMicroBatchTimeout(getMicroBatchTimeout());
         return result;
     }
 
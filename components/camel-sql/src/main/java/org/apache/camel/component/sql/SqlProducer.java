@@ -21,13 +21,19 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.MicroBatchStatement;
+import org.apache.camel.support.MicroBatcher;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
 import org.springframework.jdbc.core.PreparedStatementCreator;
@@ -36,7 +42,7 @@ import static org.springframework.jdbc.support.JdbcUtils.closeConnection;
 import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
 import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
 
-public class SqlProducer extends DefaultProducer {
+public class SqlProducer extends DefaultAsyncProducer {
     private final String query;
     private String resolvedQuery;
     private final JdbcTemplate jdbcTemplate;
@@ -45,6 +51,10 @@ public class SqlProducer extends DefaultProducer {
     private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
     private final boolean useMessageBodyForSql;
     private int parametersCount;
+    private int microBatchSize;
+    private long microBatchTimeout;
+    private ScheduledExecutorService microBatchScheduler;
+    private MicroBatcher<MicroBatchStatement> microBatcher;
 
     public SqlProducer(SqlEndpoint endpoint, String query, JdbcTemplate jdbcTemplate, SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
                        boolean batch, boolean alwaysPopulateStatement, boolean useMessageBodyForSql) {
@@ -68,16 +78,49 @@ public class SqlProducer extends DefaultProducer {
 
         String placeholder = getEndpoint().isUsePlaceholder() ? getEndpoint().getPlaceholder() : null;
         resolvedQuery = SqlHelper.resolveQuery(getEndpoint().getCamelContext(), query, placeholder);
+
+        if (microBatchSize > 0) {
+            microBatchScheduler = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "SqlMicroBatch");
+            microBatcher = new MicroBatcher<>(microBatchScheduler, microBatchSize, microBatchTimeout, this::processMicroBatch);
+        }
     }
 
-    public void process(final Exchange exchange) throws Exception {
-        final String sql;
-        if (useMessageBodyForSql) {
-            sql = exchange.getIn().getBody(String.class);
-        } else {
-            String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
-            sql = queryHeader != null ? queryHeader : resolvedQuery;
+    @Override
+    protected void doStop() throws Exception {
+        if (microBatcher != null) {
+            // execute the pending statements before stopping, and any statement added afterwards right away
+            microBatcher.shutdown();
+            microBatcher = null;
+        }
+        if (microBatchScheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(microBatchScheduler);
+            microBatchScheduler = null;
         }
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        try {
+            // read the field once as it is cleared when the producer is stopped
+            MicroBatcher<MicroBatchStatement> batcher = microBatcher;
+            String sql = batcher != null ? resolveSql(exchange) : null;
+            if (batcher != null && isMicroBatchSupported(exchange, sql)) {
+                String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+                // the callback is called when the micro batch has been executed
+                batcher.add(new MicroBatchStatement(exchange, callback, sql, preparedQuery));
+                return false;
+            }
+            processInternal(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    protected void processInternal(final Exchange exchange) throws Exception {
+        final String sql = resolveSql(exchange);
         final String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
 
         final Boolean shouldRetrieveGeneratedKeys =
@@ -307,7 +350,131 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    /**
+     * Executes the statements collected from concurrent exchanges as JDBC batches in one transaction.
+     * If the batch fails then the statements are executed one by one, so each exchange gets its own update count or error.
+     */
+    protected void processMicroBatch(List<MicroBatchStatement> statements) {
+        try {
+            executeMicroBatch(statements);
+        } catch (Exception e) {
+            log.debug("Error executing micro batch with {} statements due {}. Will execute the statements one by one.", statements.size(), e.getMessage(), e);
+            for (MicroBatchStatement statement : statements) {
+                try {
+                    processInternal(statement.getExchange());
+                } catch (Exception ex) {
+                    statement.getExchange().setException(ex);
+                }
+            }
+        }
+        for (MicroBatchStatement statement : statements) {
+            statement.getCallback().done(false);
+        }
+    }
+
+    private void executeMicroBatch(List<MicroBatchStatement> statements) throws Exception {
+        // group the statements by query while keeping the order of the statements
+        Map<String, List<MicroBatchStatement>> queries = new LinkedHashMap<>();
+        for (MicroBatchStatement statement : statements) {
+            queries.computeIfAbsent(statement.getPreparedQuery(), k -> new ArrayList<>()).add(statement);
+        }
+
+        Connection con = null;
+        boolean autoCommit = false;
+        try {
+            con = jdbcTemplate.getDataSource().getConnection();
+            autoCommit = con.getAutoCommit();
+            if (autoCommit) {
+                con.setAutoCommit(false);
+            }
+            for (Map.Entry<String, List<MicroBatchStatement>> entry : queries.entrySet()) {
+                executeMicroBatch(con, entry.getKey(), entry.getValue());
+            }
+            con.commit();
+        } catch (Exception e) {
+            if (con != null) {
+                try {
+                    con.rollback();
+                } catch (Throwable ex) {
+                    log.warn("Error occurred during jdbc rollback. This exception will be ignored.", ex);
+                }
+            }
+            throw e;
+        } finally {
+            if (con != null && autoCommit) {
+                try {
+                    con.setAutoCommit(true);
+                } catch (Throwable ex) {
+                    log.debug("Error by resetting auto commit to its original value", ex);
+                }
+            }
+            closeConnection(con);
+        }
+
+        // the transaction is committed so we can update the exchanges
+        for (MicroBatchStatement statement : statements) {
+            statement.getExchange().getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, statement.getUpdateCount());
+        }
+    }
+
+    private void executeMicroBatch(Connection con, String preparedQuery, List<MicroBatchStatement> statements) throws SQLException {
+        log.trace("executeMicroBatch: {} with {} statements", preparedQuery, statements.size());
+
+        PreparedStatement ps = null;
+        try {
+            ps = con.prepareStatement(preparedQuery);
+            int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
+            for (MicroBatchStatement statement : statements) {
+                // only populate if really needed
+                if (alwaysPopulateStatement || expected > 0) {
+                    Exchange exchange = statement.getExchange();
+                    Object value;
+                    if (useMessageBodyForSql) {
+                        value = exchange.getIn().getHeader(SqlConstants.SQL_PARAMETERS);
+                    } else {
+                        value = exchange.getIn().getBody();
+                    }
+                    Iterator<?> i = sqlPrepareStatementStrategy.createPopulateIterator(statement.getSql(), preparedQuery, expected, exchange, value);
+                    sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
+                }
+                ps.addBatch();
+            }
+            int[] updateCounts = ps.executeBatch();
+            for (int i = 0; i < statements.size(); i++) {
+                statements.get(i).setUpdateCount(i < updateCounts.length ? updateCounts[i] : Statement.SUCCESS_NO_INFO);
+            }
+        } finally {
+            closeStatement(ps);
+        }
+    }
+
+    private boolean isMicroBatchSupported(Exchange exchange, String sql) {
+        // only insert, update, delete and merge statements can be batched, as queries return a result set,
+        // transacted exchanges must execute the statement in the transaction of the current thread,
+        // and the generated keys are not available from a batch
+        return !batch && MicroBatchStatement.isDataManipulation(sql) && !exchange.isTransacted()
+            && getEndpoint().getOutputType() != SqlOutputType.StreamList
+            && !exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class);
+    }
+
+    private String resolveSql(Exchange exchange) {
+        if (useMessageBodyForSql) {
+            return exchange.getIn().getBody(String.class);
+        } else {
+            String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+            return queryHeader != null ? queryHeader : resolvedQuery;
+        }
+    }
+
     public void setParametersCount(int parametersCount) {
         this.parametersCount = parametersCount;
     }
+
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public void setMicroBatchTimeout(long microBatchTimeout) {
+        this.microBatchTimeout = microBatchTimeout;
+    }
 }
@@ -31,6 +31,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.OptimisticLockingAggregationRepository;
 import org.apache.camel.spi.RecoverableAggregationRepository;
+import org.apache.camel.support.ExchangeHolderCodec;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -450,6 +451,19 @@ public class JdbcAggregationRepository extends ServiceSupport implements Recover
         this.codec = codec;
     }
 
+    public ExchangeHolderCodec getExchangeHolderCodec() {
+        return codec.getExchangeHolderCodec();
+    }
+
+    /**
+     * Sets a custom codec for encoding and decoding the exchanges, such as
+     * {@link org.apache.camel.support.BinaryExchangeHolderCodec} which is more compact and faster
+     * than the default Java serialization. The binary codec can also read exchanges stored using Java serialization.
+     */
+    public void setExchangeHolderCodec(ExchangeHolderCodec exchangeHolderCodec) {
+        codec.setExchangeHolderCodec(exchangeHolderCodec);
+    }
+
     public boolean hasHeadersToStoreAsText() {
         return this.headersToStoreAsText != null && !this.headersToStoreAsText.isEmpty();
     }
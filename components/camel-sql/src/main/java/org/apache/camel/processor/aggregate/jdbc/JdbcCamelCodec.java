@@ -27,6 +27,7 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.ExchangeHolderCodec;
 import org.apache.camel.util.IOHelper;
 
 /**
@@ -34,6 +35,21 @@ import org.apache.camel.util.IOHelper;
  */
 public class JdbcCamelCodec {
 
+    private ExchangeHolderCodec exchangeHolderCodec;
+
+    public ExchangeHolderCodec getExchangeHolderCodec() {
+        return exchangeHolderCodec;
+    }
+
+    /**
+     * Sets a custom codec to use for encoding and decoding the exchanges, such as
+     * {@link org.apache.camel.support.BinaryExchangeHolderCodec} which is more compact and faster
+     * than the default Java serialization.
+     */
+    public void setExchangeHolderCodec(ExchangeHolderCodec exchangeHolderCodec) {
+        this.exchangeHolderCodec = exchangeHolderCodec;
+    }
+
     public byte[] marshallExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders) throws IOException {
         // use DefaultExchangeHolder to marshal to a serialized object
         DefaultExchangeHolder pe = DefaultExchangeHolder.marshal(exchange, false, allowSerializedHeaders);
@@ -69,7 +85,10 @@ public class JdbcCamelCodec {
         return answer;
     }
 
-    private byte[] encode(Object object) throws IOException {
+    private byte[] encode(DefaultExchangeHolder object) throws IOException {
+        if (exchangeHolderCodec != null) {
+            return exchangeHolderCodec.encode(object);
+        }
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
         ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut);
         objectOut.writeObject(object);
@@ -79,6 +98,9 @@ public class JdbcCamelCodec {
     }
 
     private DefaultExchangeHolder decode(CamelContext camelContext, byte[] dataIn) throws IOException, ClassNotFoundException {
+        if (exchangeHolderCodec != null) {
+            return exchangeHolderCodec.decode(camelContext, dataIn);
+        }
         ByteArrayInputStream bytesIn = new ByteArrayInputStream(dataIn);
 
         ObjectInputStream objectIn = null;
@@ -17,10 +17,16 @@
 package org.apache.camel.processor.idempotent.jdbc;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 import javax.sql.DataSource;
 
+import org.apache.camel.support.processor.idempotent.BulkIdempotentRepository;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -28,7 +34,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 /**
  * Default implementation of {@link AbstractJdbcMessageIdRepository}
  */
-public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository {
+public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository implements BulkIdempotentRepository {
 
     private boolean createTableIfNotExists = true;
     private String tableExistsString = "SELECT 1 FROM CAMEL_MESSAGEPROCESSED WHERE 1 = 0";
@@ -37,6 +43,7 @@ public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository {
     private String insertString = "INSERT INTO CAMEL_MESSAGEPROCESSED (processorName, messageId, createdAt) VALUES (?, ?, ?)";
     private String deleteString = "DELETE FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ? AND messageId = ?";
     private String clearString = "DELETE FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ?";
+    private String queryKeysString = "SELECT messageId FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ?";
 
     public JdbcMessageIdRepository() {
     }
@@ -105,6 +112,29 @@ public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository {
         return jdbcTemplate.update(getClearString(), processorName);
     }
 
+    @Override
+    public void forEachKey(Consumer<String> action) {
+        jdbcTemplate.query(getQueryKeysString(), (RowCallbackHandler) rs -> {
+            action.accept(rs.getString(1));
+        }, processorName);
+    }
+
+    @Override
+    public void addAll(Collection<String> keys) {
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+        final List<Object[]> args = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            args.add(new Object[]{processorName, key, now});
+        }
+        // insert all the keys as a batch in a single transaction
+        transactionTemplate.execute(new TransactionCallback<Boolean>() {
+            public Boolean doInTransaction(TransactionStatus status) {
+                jdbcTemplate.batchUpdate(getInsertString(), args);
+                return Boolean.TRUE;
+            }
+        });
+    }
+
     public boolean isCreateTableIfNotExists() {
         return createTableIfNotExists;
     }
@@ -160,4 +190,12 @@ public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository {
     public void setClearString(String clearString) {
         this.clearString = clearString;
     }
+
+    public String getQueryKeysString() {
+        return queryKeysString;
+    }
+
+    public void setQueryKeysString(String queryKeysString) {
+        this.queryKeysString = queryKeysString;
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class SqlProducerMicroBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+
+    @Test
+    public void testConcurrentInserts() throws Exception {
+        int size = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(size);
+        List<Future<Exchange>> responses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int id = 100 + i;
+            responses.add(executor.submit(() -> template.request("direct:insert",
+                e -> e.getIn().setBody(Arrays.asList(id, "Project" + id, "ASF")))));
+        }
+
+        for (Future<Exchange> response : responses) {
+            Exchange out = response.get();
+            assertNull(out.getException());
+            assertEquals(1, out.getIn().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+        executor.shutdownNow();
+
+        assertEquals(3 + size, new JdbcTemplate(db).queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testFailedStatementOnlyFailsItsExchange() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Future<Exchange> good = executor.submit(() -> template.request("direct:insert",
+            e -> e.getIn().setBody(Arrays.asList(10, "Karaf", "ASF"))));
+        // duplicate primary key
+        Future<Exchange> bad = executor.submit(() -> template.request("direct:insert",
+            e -> e.getIn().setBody(Arrays.asList(1, "Camel", "ASF"))));
+        Future<Exchange> good2 = executor.submit(() -> template.request("direct:insert",
+            e -> e.getIn().setBody(Arrays.asList(11, "Kafka", "ASF"))));
+
+        assertNull(good.get().getException());
+        assertNotNull(bad.get().getException());
+        assertNull(good2.get().getException());
+        executor.shutdownNow();
+
+        assertEquals(5, new JdbcTemplate(db).queryForObject("select count(*) from projects", Integer.class).intValue());
+    }
+
+    @Test
+    public void testSelectIsNotBatched() throws Exception {
+        List<?> rows = template.requestBody("direct:select", null, List.class);
+        assertEquals(3, rows.size());
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.DERBY).addScript("sql/createAndPopulateDatabase.sql").build();
+
+        super.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:insert")
+                    .to("sql:insert into projects values (#, #, #)?microBatchSize=10&microBatchTimeout=100");
+
+                from("direct:select")
+                    .to("sql:select * from projects order by id?microBatchSize=10&microBatchTimeout=100");
+            }
+        };
+    }
+}
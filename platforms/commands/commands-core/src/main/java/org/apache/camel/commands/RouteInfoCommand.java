@@ -72,6 +72,10 @@ public class RouteInfoCommand extends AbstractRouteCommand {
             out.println(stringEscape.unescapeJava("\tMin Processing Time: " + route.getMinProcessingTime() + " ms"));
             out.println(stringEscape.unescapeJava("\tMax Processing Time: " + route.getMaxProcessingTime() + " ms"));
             out.println(stringEscape.unescapeJava("\tMean Processing Time: " + route.getMeanProcessingTime() + " ms"));
+            out.println(stringEscape.unescapeJava("\tP50 Processing Time: " + route.getP50ProcessingTime() + " ms"));
+            out.println(stringEscape.unescapeJava("\tP90 Processing Time: " + route.getP90ProcessingTime() + " ms"));
+            out.println(stringEscape.unescapeJava("\tP99 Processing Time: " + route.getP99ProcessingTime() + " ms"));
+            out.println(stringEscape.unescapeJava("\tP999 Processing Time: " + route.getP999ProcessingTime() + " ms"));
             out.println(stringEscape.unescapeJava("\tTotal Processing Time: " + route.getTotalProcessingTime() + " ms"));
             out.println(stringEscape.unescapeJava("\tLast Processing Time: " + route.getLastProcessingTime() + " ms"));
             out.println(stringEscape.unescapeJava("\tDelta Processing Time: " + route.getDeltaProcessingTime() + " ms"));
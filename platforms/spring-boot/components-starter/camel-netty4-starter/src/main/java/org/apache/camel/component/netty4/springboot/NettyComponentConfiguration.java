@@ -318,6 +318,16 @@ public class NettyComponentConfiguration
          * into ByteBuf before sending it out.
          */
         private Boolean useByteBuf = false;
+        /**
+         * If the useFileRegion is true, netty producer will send message
+         * bodies which are files (such as from the file consumer, a
+         * java.io.File or a java.nio.channels.FileChannel) as a
+         * io.netty.channel.FileRegion, which transfers the file content to the
+         * socket without copying it into the Java heap (zero copy). This
+         * cannot be used together with SSL or codecs which needs to encode the
+         * content.
+         */
+        private Boolean useFileRegion = false;
         /**
          * For UDP only. If enabled the using byte array codec instead of Java
          * serialization protocol.
@@ -807,6 +817,14 @@ public class NettyComponentConfiguration
             this.useByteBuf = useByteBuf;
         }
 
+        public Boolean getUseFileRegion() {
+            return useFileRegion;
+        }
+
+        public void setUseFileRegion(Boolean useFileRegion) {
+            this.useFileRegion = useFileRegion;
+        }
+
         public Boolean getUdpByteArrayCodec() {
             return udpByteArrayCodec;
         }
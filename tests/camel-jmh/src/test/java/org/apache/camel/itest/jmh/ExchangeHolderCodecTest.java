@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.BinaryExchangeHolderCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.ExchangeHolderCodec;
+import org.apache.camel.support.SerializationExchangeHolderCodec;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests encoding and decoding an aggregated exchange using Java serialization vs the binary exchange holder codec,
+ * as done by the JDBC and LevelDB aggregation repositories.
+ */
+public class ExchangeHolderCodecTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .addProfiler(GCProfiler.class)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"serialization", "binary"})
+        String codec;
+
+        CamelContext camel;
+        ExchangeHolderCodec exchangeHolderCodec;
+        DefaultExchangeHolder holder;
+        byte[] data;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            exchangeHolderCodec = "binary".equals(codec) ? new BinaryExchangeHolderCodec() : new SerializationExchangeHolderCodec();
+
+            Exchange exchange = new DefaultExchange(camel);
+            exchange.getIn().setBody("<order><id>123</id><amount>1234.56</amount><customer>Camel Rider</customer></order>");
+            exchange.getIn().setHeader("orderId", 123);
+            exchange.getIn().setHeader("customer", "Camel Rider");
+            exchange.getIn().setHeader("priority", true);
+            exchange.getIn().setHeader("timestamp", System.currentTimeMillis());
+            exchange.setProperty(Exchange.AGGREGATED_SIZE, 10);
+            exchange.setProperty(Exchange.AGGREGATED_CORRELATION_KEY, "123");
+
+            holder = DefaultExchangeHolder.marshal(exchange, true);
+            data = exchangeHolderCodec.encode(holder);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            try {
+                camel.stop();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+    }
+
+    @Benchmark
+    public void encode(BenchmarkState state, Blackhole bh) throws Exception {
+        bh.consume(state.exchangeHolderCodec.encode(state.holder));
+    }
+
+    @Benchmark
+    public void decode(BenchmarkState state, Blackhole bh) throws Exception {
+        bh.consume(state.exchangeHolderCodec.decode(state.camel, state.data));
+    }
+
+}
@@ -0,0 +1,125 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the allocation rate of creating and copying a {@link DefaultExchange} with the typical internal properties.
+ * <p/>
+ * The benchmark runs with the GC profiler (same as <tt>-prof gc</tt>) so the <tt>gc.alloc.rate.norm</tt>
+ * shows the number of bytes allocated per operation.
+ */
+public class ExchangePropertiesTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .addProfiler(GCProfiler.class)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        CamelContext camel;
+        Date created;
+        Exchange exchange;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+            created = new Date();
+            exchange = new DefaultExchange(camel);
+            exchange.setProperty(Exchange.CREATED_TIMESTAMP, created);
+            exchange.setProperty(Exchange.CORRELATION_ID, "123");
+            exchange.setProperty(Exchange.SPLIT_INDEX, 1);
+            exchange.setProperty(Exchange.SPLIT_SIZE, 10);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 100000)
+    public void createExchange(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.setProperty(Exchange.CREATED_TIMESTAMP, state.created);
+        exchange.setProperty(Exchange.TO_ENDPOINT, "mock://result");
+        bh.consume(exchange.getProperty(Exchange.CREATED_TIMESTAMP));
+        bh.consume(exchange);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 100000)
+    public void createExchangeWithUserProperty(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.setProperty(Exchange.CREATED_TIMESTAMP, state.created);
+        exchange.setProperty("myProperty", "123");
+        bh.consume(exchange.getProperty("myProperty"));
+        bh.consume(exchange);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 100000)
+    public void copyExchange(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.exchange.copy());
+    }
+
+}
@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.component.headersmap.FastHeadersMapFactory;
+import org.apache.camel.impl.CaseInsensitiveHashHeadersMapFactory;
+import org.apache.camel.impl.DefaultHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the {@link HeadersMapFactory} implementations, which are {@link DefaultHeadersMapFactory},
+ * {@link CaseInsensitiveHashHeadersMapFactory} and {@link FastHeadersMapFactory} from camel-headersmap.
+ */
+public class HeadersMapFactoryTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(5))
+            .measurementIterations(5)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"default", "hash", "fast"})
+        String factoryName;
+
+        HeadersMapFactory factory;
+        Map<String, Object> headers;
+        String[] keys = {"CamelFileName", "CamelFileLength", "Content-Type", "breadcrumbId", "JMSMessageID",
+                         "CamelHttpMethod", "CamelHttpUri", "Accept", "User-Agent", "Host"};
+        String[] lookupKeys = {"camelfilename", "CamelFileLength", "content-type", "BREADCRUMBID", "JMSMessageID"};
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            if ("hash".equals(factoryName)) {
+                factory = new CaseInsensitiveHashHeadersMapFactory();
+            } else if ("fast".equals(factoryName)) {
+                factory = new FastHeadersMapFactory();
+            } else {
+                factory = new DefaultHeadersMapFactory();
+            }
+            headers = factory.newMap();
+            for (int i = 0; i < keys.length; i++) {
+                headers.put(keys[i], "value" + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void populate(BenchmarkState state, Blackhole bh) {
+        Map<String, Object> map = state.factory.newMap();
+        for (String key : state.keys) {
+            map.put(key, key);
+        }
+        bh.consume(map);
+    }
+
+    @Benchmark
+    public void lookup(BenchmarkState state, Blackhole bh) {
+        for (String key : state.lookupKeys) {
+            bh.consume(state.headers.get(key));
+        }
+    }
+
+    @Benchmark
+    public void copy(BenchmarkState state, Blackhole bh) {
+        // such as an exchange copied by the multicast, splitter or wire tap, where the copy is only read
+        Map<String, Object> copy = state.factory.newMap(state.headers);
+        bh.consume(copy.get("content-type"));
+        bh.consume(copy);
+    }
+
+    @Benchmark
+    public void copyAndChange(BenchmarkState state, Blackhole bh) {
+        // such as an exchange copied by the splitter where each copy sets a header
+        Map<String, Object> copy = state.factory.newMap(state.headers);
+        copy.put("CamelSplitIndex", 1);
+        bh.consume(copy.get("content-type"));
+        bh.consume(copy);
+    }
+
+}
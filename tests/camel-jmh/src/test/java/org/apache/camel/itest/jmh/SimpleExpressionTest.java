@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.simple.SimpleLanguage;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.spi.Language;
 import org.junit.Test;
@@ -28,6 +29,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -39,7 +41,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 /**
- * Tests a Simple expression
+ * Tests a Simple expression and predicate, both interpreted and compiled
  */
 public class SimpleExpressionTest {
 
@@ -69,18 +71,24 @@ public class SimpleExpressionTest {
     // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
     @State(Scope.Thread)
     public static class BenchmarkState {
+        @Param({"false", "true"})
+        String compiled;
+
         CamelContext camel;
         String expression = "Hello ${body}";
+        String predicate = "${header.amount} > 100 && ${body} contains 'World'";
         Exchange exchange;
         Language simple;
 
         @Setup(Level.Trial)
         public void initialize() {
             camel = new DefaultCamelContext();
+            camel.getGlobalOptions().put(SimpleLanguage.SIMPLE_COMPILED, compiled);
             try {
                 camel.start();
                 exchange = new DefaultExchange(camel);
                 exchange.getIn().setBody("World");
+                exchange.getIn().setHeader("amount", 123);
                 simple = camel.resolveLanguage("simple");
 
             } catch (Exception e) {
@@ -109,4 +117,14 @@ public class SimpleExpressionTest {
         bh.consume(out);
     }
 
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simplePredicate(BenchmarkState state, Blackhole bh) {
+        boolean out = state.simple.createPredicate(state.predicate).matches(state.exchange);
+        if (!out) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+    }
+
 }
@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.test.perf;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.StopWatch;
+import org.junit.Test;
+
+/**
+ * Compares the seda consumer polling one message at a time, with draining up to 100 messages per poll.
+ */
+public class SedaBatchPerformanceTest extends AbstractBasePerformanceTest {
+
+    private final int count = 100000;
+
+    @Test
+    public void testSedaSinglePoll() throws InterruptedException {
+        template.setDefaultEndpointUri("seda:single?size=200000&blockWhenFull=true");
+
+        // warm up with 20.000 messages so that the JIT compiler kicks in
+        resetMock(20000);
+        execute(20000);
+        assertMockEndpointsSatisfied();
+
+        resetMock(count);
+
+        StopWatch watch = new StopWatch();
+        execute(count);
+
+        assertMockEndpointsSatisfied();
+        log.warn("Ran {} tests in {}ms", count, watch.taken());
+    }
+
+    @Test
+    public void testSedaBatchPoll() throws InterruptedException {
+        template.setDefaultEndpointUri("seda:batch?size=200000&blockWhenFull=true");
+
+        // warm up with 20.000 messages so that the JIT compiler kicks in
+        resetMock(20000);
+        execute(20000);
+        assertMockEndpointsSatisfied();
+
+        resetMock(count);
+
+        StopWatch watch = new StopWatch();
+        execute(count);
+
+        assertMockEndpointsSatisfied();
+        log.warn("Ran {} tests in {}ms", count, watch.taken());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("seda:single?size=200000")
+                    .to("mock:end");
+
+                from("seda:batch?size=200000&maxMessagesPerPoll=100")
+                    .to("mock:end");
+            }
+        };
+    }
+}
@@ -19,12 +19,14 @@ package org.apache.camel.tools.apt;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.lang.model.element.AnnotationMirror;
@@ -33,17 +35,31 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic;
 import javax.tools.JavaFileObject;
 
 @SupportedAnnotationTypes({"org.apache.camel.Converter"})
 public class ConverterProcessor extends AbstractCamelAnnotationProcessor {
 
+    private static final String CONVERTER = "org.apache.camel.Converter";
+    private static final String FALLBACK_CONVERTER = "org.apache.camel.FallbackConverter";
+
     @Override
     protected void doProcess(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) throws Exception {
         if (this.processingEnv.getElementUtils().getTypeElement("org.apache.camel.impl.converter.CoreStaticTypeConverterLoader") != null) {
+            // the core type converters are already generated, so generate a loader for each @Converter class in this module
+            TypeElement converterAnnotationType = this.processingEnv.getElementUtils().getTypeElement("org.apache.camel.Converter");
+            for (Element element : roundEnv.getElementsAnnotatedWith(converterAnnotationType)) {
+                if (element instanceof TypeElement && isTypeConverterLoaderSupported(processingEnv, (TypeElement) element)) {
+                    writeTypeConverterLoader((TypeElement) element);
+                }
+            }
             return;
         }
 
@@ -224,6 +240,221 @@ public class ConverterProcessor extends AbstractCamelAnnotationProcessor {
         }
     }
 
+    /**
+     * Whether a type converter loader can be generated for the given {@link org.apache.camel.Converter} class,
+     * which requires a public top-level class with public converter methods only.
+     */
+    static boolean isTypeConverterLoaderSupported(ProcessingEnvironment processingEnv, TypeElement classElement) {
+        if (processingEnv.getElementUtils().getTypeElement("org.apache.camel.impl.converter.CoreStaticTypeConverterLoader") == null
+                || processingEnv.getElementUtils().getTypeElement("org.apache.camel.support.SimpleTypeConverter") == null) {
+            return false;
+        }
+        if (classElement.getNestingKind() != NestingKind.TOP_LEVEL || !classElement.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+        List<ExecutableElement> converters = new ArrayList<>();
+        findConverterMethods(processingEnv, classElement, CONVERTER, converters);
+        List<ExecutableElement> fallbackConverters = new ArrayList<>();
+        findConverterMethods(processingEnv, classElement, FALLBACK_CONVERTER, fallbackConverters);
+        if (converters.isEmpty() && fallbackConverters.isEmpty()) {
+            return false;
+        }
+        for (ExecutableElement ee : converters) {
+            int size = ee.getParameters().size();
+            if (size != 1 && (size != 2 || !isExchange(ee.getParameters().get(1)))) {
+                return false;
+            }
+        }
+        for (ExecutableElement ee : fallbackConverters) {
+            int size = ee.getParameters().size();
+            if (size != 3 && (size != 4 || !isExchange(ee.getParameters().get(1)))) {
+                return false;
+            }
+        }
+        List<ExecutableElement> methods = new ArrayList<>(converters);
+        methods.addAll(fallbackConverters);
+        boolean abstractClass = classElement.getModifiers().contains(Modifier.ABSTRACT);
+        for (ExecutableElement ee : methods) {
+            Set<Modifier> modifiers = ee.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)
+                    || (abstractClass && !modifiers.contains(Modifier.STATIC))
+                    || !ee.getTypeParameters().isEmpty()) {
+                // let the type converter be loaded by reflection which logs these as bad converters
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isExchange(VariableElement parameter) {
+        return parameter.asType().toString().equals("org.apache.camel.Exchange");
+    }
+
+    /**
+     * Finds the methods annotated with the given annotation, including from super classes
+     */
+    private static void findConverterMethods(ProcessingEnvironment processingEnv, TypeElement classElement,
+                                             String annotation, List<ExecutableElement> methods) {
+        TypeElement annotationType = processingEnv.getElementUtils().getTypeElement(annotation);
+        Set<String> signatures = new HashSet<>();
+        for (TypeElement te = classElement; te != null && !te.getQualifiedName().contentEquals("java.lang.Object");) {
+            for (ExecutableElement ee : ElementFilter.methodsIn(te.getEnclosedElements())) {
+                boolean annotated = false;
+                for (AnnotationMirror ann : ee.getAnnotationMirrors()) {
+                    annotated |= ann.getAnnotationType().asElement() == annotationType;
+                }
+                // a method in a super class may be overridden
+                if (annotated && signatures.add(ee.getSimpleName() + processingEnv.getTypeUtils().erasure(ee.asType()).toString())) {
+                    methods.add(ee);
+                }
+            }
+            TypeMirror superclass = te.getSuperclass();
+            te = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) processingEnv.getTypeUtils().asElement(superclass) : null;
+        }
+    }
+
+    private void writeTypeConverterLoader(TypeElement classElement) throws Exception {
+        TypeElement converterAnnotationType = this.processingEnv.getElementUtils().getTypeElement(CONVERTER);
+        TypeElement fallbackAnnotationType = this.processingEnv.getElementUtils().getTypeElement(FALLBACK_CONVERTER);
+
+        List<ExecutableElement> converters = new ArrayList<>();
+        findConverterMethods(processingEnv, classElement, CONVERTER, converters);
+        List<ExecutableElement> fallbackConverters = new ArrayList<>();
+        findConverterMethods(processingEnv, classElement, FALLBACK_CONVERTER, fallbackConverters);
+
+        boolean ignoreOnLoadError = false;
+        for (AnnotationMirror ann : classElement.getAnnotationMirrors()) {
+            if (ann.getAnnotationType().asElement() == converterAnnotationType) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : ann.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("ignoreOnLoadError")) {
+                        ignoreOnLoadError = (Boolean) entry.getValue().getValue();
+                    }
+                }
+            }
+        }
+
+        String fqn = classElement.getQualifiedName().toString();
+        String p = fqn.substring(0, fqn.lastIndexOf('.'));
+        String c = classElement.getSimpleName() + "Loader";
+        boolean instance = false;
+        for (ExecutableElement ee : converters) {
+            instance |= !ee.getModifiers().contains(Modifier.STATIC);
+        }
+        for (ExecutableElement ee : fallbackConverters) {
+            instance |= !ee.getModifiers().contains(Modifier.STATIC);
+        }
+        JavaFileObject jfo = processingEnv.getFiler().createSourceFile(p + "." + c, classElement);
+        try (Writer writer = jfo.openWriter()) {
+
+            writer.append("package ").append(p).append(";\n");
+            writer.append("\n");
+            writer.append("import org.apache.camel.TypeConverterLoaderException;\n");
+            writer.append("import org.apache.camel.spi.TypeConverterLoader;\n");
+            writer.append("import org.apache.camel.spi.TypeConverterRegistry;\n");
+            writer.append("import org.apache.camel.support.SimpleTypeConverter;\n");
+            writer.append("\n");
+            writer.append("/**\n");
+            writer.append(" * Loads the type converters from {@link ").append(fqn).append("} without using reflection.\n");
+            writer.append(" */\n");
+            writer.append("@SuppressWarnings(\"unchecked\")\n");
+            writer.append("public final class ").append(c).append(" implements TypeConverterLoader {\n");
+            writer.append("\n");
+            if (instance) {
+                writer.append("    private volatile ").append(fqn).append(" converter;\n");
+                writer.append("\n");
+            }
+            writer.append("    @Override\n");
+            writer.append("    public void load(TypeConverterRegistry registry) throws TypeConverterLoaderException {\n");
+            if (ignoreOnLoadError) {
+                writer.append("        try {\n");
+                writer.append("            registerConverters(registry);\n");
+                writer.append("        } catch (LinkageError e) {\n");
+                writer.append("            // ignore as the converter class is marked with ignoreOnLoadError\n");
+                writer.append("        }\n");
+            } else {
+                writer.append("        registerConverters(registry);\n");
+            }
+            writer.append("    }\n");
+            writer.append("\n");
+            writer.append("    private void registerConverters(TypeConverterRegistry registry) {\n");
+            for (ExecutableElement ee : converters) {
+                boolean allowNull = getBooleanAttribute(ee, converterAnnotationType, "allowNull");
+                writer.append("        registry.addTypeConverter(").append(toErasure(ee.getReturnType())).append(".class, ")
+                        .append(toErasure(ee.getParameters().get(0).asType())).append(".class,\n");
+                writer.append("            new SimpleTypeConverter(").append(Boolean.toString(allowNull)).append(", (type, exchange, value) -> ")
+                        .append(toJavaLoader(ee, false)).append("));\n");
+            }
+            for (ExecutableElement ee : fallbackConverters) {
+                boolean allowNull = getBooleanAttribute(ee, fallbackAnnotationType, "allowNull");
+                boolean canPromote = getBooleanAttribute(ee, fallbackAnnotationType, "canPromote");
+                writer.append("        registry.addFallbackTypeConverter(\n");
+                writer.append("            new SimpleTypeConverter(").append(Boolean.toString(allowNull)).append(", (type, exchange, value) -> ")
+                        .append(toJavaLoader(ee, true)).append("), ").append(Boolean.toString(canPromote)).append(");\n");
+            }
+            writer.append("    }\n");
+            if (instance) {
+                writer.append("\n");
+                writer.append("    private ").append(fqn).append(" getConverter(TypeConverterRegistry registry) {\n");
+                writer.append("        if (converter == null) {\n");
+                writer.append("            synchronized (this) {\n");
+                writer.append("                if (converter == null) {\n");
+                writer.append("                    ").append(fqn).append(" answer = registry.getInjector().newInstance(").append(fqn).append(".class);\n");
+                TypeElement aware = processingEnv.getElementUtils().getTypeElement("org.apache.camel.spi.TypeConverterAware");
+                if (aware != null && processingEnv.getTypeUtils().isAssignable(classElement.asType(), aware.asType())) {
+                    // inject parent type converter
+                    writer.append("                    if (registry instanceof org.apache.camel.TypeConverter) {\n");
+                    writer.append("                        answer.setTypeConverter((org.apache.camel.TypeConverter) registry);\n");
+                    writer.append("                    }\n");
+                }
+                writer.append("                    converter = answer;\n");
+                writer.append("                }\n");
+                writer.append("            }\n");
+                writer.append("        }\n");
+                writer.append("        return converter;\n");
+                writer.append("    }\n");
+            }
+            writer.append("\n");
+            writer.append("}\n");
+            writer.flush();
+        }
+    }
+
+    private static boolean getBooleanAttribute(ExecutableElement ee, TypeElement annotationType, String name) {
+        for (AnnotationMirror ann : ee.getAnnotationMirrors()) {
+            if (ann.getAnnotationType().asElement() == annotationType) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : ann.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals(name)) {
+                        return (Boolean) entry.getValue().getValue();
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private String toErasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String toJavaLoader(ExecutableElement converter, boolean fallback) {
+        String pfx;
+        if (converter.getModifiers().contains(Modifier.STATIC)) {
+            pfx = converter.getEnclosingElement().toString() + "." + converter.getSimpleName();
+        } else {
+            pfx = "getConverter(registry)." + converter.getSimpleName();
+        }
+        List<? extends VariableElement> params = converter.getParameters();
+        if (fallback) {
+            String type = toErasure(params.get(params.size() - 2).asType());
+            String cast = type.equals("java.lang.Object") ? "" : "(" + type + ") ";
+            return pfx + "(type, " + (params.size() == 4 ? "exchange, " : "") + cast + "value, registry)";
+        } else {
+            String type = toErasure(params.get(0).asType());
+            String cast = type.equals("java.lang.Object") ? "" : "(" + type + ") ";
+            return pfx + "(" + cast + "value" + (params.size() == 2 ? ", exchange" : "") + ")";
+        }
+    }
+
     private String toString(TypeMirror type) {
         return type.toString().replaceAll("<.*>", "");
     }
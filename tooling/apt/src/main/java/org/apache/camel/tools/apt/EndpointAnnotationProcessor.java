@@ -17,29 +17,38 @@
 package org.apache.camel.tools.apt;
 
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
 import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 
 import org.apache.camel.spi.Metadata;
@@ -77,8 +86,12 @@ public class EndpointAnnotationProcessor extends AbstractCamelAnnotationProcesso
 
     // CHECKSTYLE:OFF
 
+    private static final String PROPERTY_CONFIGURER_SUPPORT = "org.apache.camel.support.PropertyConfigurerSupport";
+
     private static final String HEADER_FILTER_STRATEGY_JAVADOC = "To use a custom HeaderFilterStrategy to filter header to and from Camel message.";
 
+    private final Set<String> generatedConfigurers = new HashSet<>();
+
     protected void doProcess(Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) throws Exception {
         Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(UriEndpoint.class);
         for (Element element : elements) {
@@ -86,6 +99,31 @@ public class EndpointAnnotationProcessor extends AbstractCamelAnnotationProcesso
                 processEndpointClass(roundEnv, (TypeElement) element);
             }
         }
+
+        // generate reflection free property configurers for the endpoints, components and their configuration classes
+        if (processingEnv.getElementUtils().getTypeElement(PROPERTY_CONFIGURER_SUPPORT) != null) {
+            Set<TypeElement> configurable = new LinkedHashSet<>();
+            for (Element element : elements) {
+                if (element instanceof TypeElement) {
+                    configurable.add((TypeElement) element);
+                }
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(Component.class)) {
+                if (element instanceof TypeElement) {
+                    configurable.add((TypeElement) element);
+                }
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(UriParams.class)) {
+                if (element instanceof TypeElement) {
+                    configurable.add((TypeElement) element);
+                }
+            }
+            for (TypeElement classElement : configurable) {
+                if (isPropertyConfigurerSupported(classElement) && generatedConfigurers.add(classElement.getQualifiedName().toString())) {
+                    writePropertyConfigurer(classElement);
+                }
+            }
+        }
     }
 
     private void processEndpointClass(final RoundEnvironment roundEnv, final TypeElement classElement) {
@@ -815,6 +853,123 @@ public class EndpointAnnotationProcessor extends AbstractCamelAnnotationProcesso
         }
     }
 
+    private static boolean isPropertyConfigurerSupported(TypeElement classElement) {
+        return classElement.getKind() == ElementKind.CLASS
+                && classElement.getNestingKind() == NestingKind.TOP_LEVEL
+                && classElement.getModifiers().contains(Modifier.PUBLIC)
+                && !classElement.getModifiers().contains(Modifier.ABSTRACT)
+                && classElement.getTypeParameters().isEmpty();
+    }
+
+    /**
+     * Finds the public setter methods of the class and its super classes, keyed by the property name.
+     * Overloaded setters are left out as they need the best matching setter to be chosen at runtime.
+     */
+    private Map<String, ExecutableElement> findConfigurerSetters(TypeElement classElement) {
+        Types typeUtils = processingEnv.getTypeUtils();
+        Map<String, ExecutableElement> answer = new TreeMap<>();
+        Set<String> overloaded = new HashSet<>();
+        TypeElement te = classElement;
+        while (te != null && !"java.lang.Object".equals(te.getQualifiedName().toString())) {
+            for (ExecutableElement method : ElementFilter.methodsIn(te.getEnclosedElements())) {
+                String methodName = method.getSimpleName().toString();
+                Set<Modifier> modifiers = method.getModifiers();
+                if (methodName.length() <= 3 || !methodName.startsWith("set") || !modifiers.contains(Modifier.PUBLIC)
+                        || modifiers.contains(Modifier.STATIC) || method.getParameters().size() != 1
+                        || method.getReturnType().getKind() != TypeKind.VOID) {
+                    continue;
+                }
+                String name = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+                TypeMirror type = method.getParameters().get(0).asType();
+                ExecutableElement existing = answer.get(name);
+                if (existing != null) {
+                    // an overridden setter from a super class is fine, but not overloaded setters
+                    TypeMirror existingType = existing.getParameters().get(0).asType();
+                    if (!existing.getSimpleName().contentEquals(methodName)
+                            || !typeUtils.isSameType(typeUtils.erasure(existingType), typeUtils.erasure(type))) {
+                        overloaded.add(name);
+                    }
+                    continue;
+                }
+                if (overloaded.contains(name) || !isAccessibleType(typeUtils, type)) {
+                    overloaded.add(name);
+                    continue;
+                }
+                answer.put(name, method);
+            }
+            Element superClass = typeUtils.asElement(te.getSuperclass());
+            te = superClass instanceof TypeElement ? (TypeElement) superClass : null;
+        }
+        answer.keySet().removeAll(overloaded);
+        return answer;
+    }
+
+    private static boolean isAccessibleType(Types typeUtils, TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessibleType(typeUtils, ((ArrayType) type).getComponentType());
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            Element element = typeUtils.asElement(type);
+            while (element instanceof TypeElement) {
+                if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                    return false;
+                }
+                element = element.getEnclosingElement();
+            }
+            return true;
+        }
+        // type variables and the likes cannot be used as class literals
+        return false;
+    }
+
+    private void writePropertyConfigurer(TypeElement classElement) throws Exception {
+        Types typeUtils = processingEnv.getTypeUtils();
+        Map<String, ExecutableElement> setters = findConfigurerSetters(classElement);
+
+        String fqn = classElement.getQualifiedName().toString();
+        String p = fqn.substring(0, fqn.lastIndexOf('.'));
+        String c = classElement.getSimpleName() + "PropertyConfigurer";
+        if (processingEnv.getElementUtils().getTypeElement(p + "." + c) != null) {
+            // do not clash with an existing class which has the same name
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Skipping generating property configurer as class already exists: " + p + "." + c);
+            return;
+        }
+        JavaFileObject jfo = processingEnv.getFiler().createSourceFile(p + "." + c, classElement);
+        try (Writer writer = jfo.openWriter()) {
+            writer.append("package ").append(p).append(";\n");
+            writer.append("\n");
+            writer.append("import org.apache.camel.CamelContext;\n");
+            writer.append("import org.apache.camel.support.PropertyConfigurerSupport;\n");
+            writer.append("\n");
+            writer.append("/**\n");
+            writer.append(" * Configures the properties of {@link ").append(fqn).append("} without using reflection.\n");
+            writer.append(" */\n");
+            writer.append("@SuppressWarnings(\"unchecked\")\n");
+            writer.append("public class ").append(c).append(" extends PropertyConfigurerSupport {\n");
+            writer.append("\n");
+            writer.append("    @Override\n");
+            writer.append("    public boolean configure(CamelContext camelContext, Object target, String name, Object value) throws Exception {\n");
+            if (setters.isEmpty()) {
+                writer.append("        return false;\n");
+            } else {
+                writer.append("        ").append(fqn).append(" bean = (").append(fqn).append(") target;\n");
+                writer.append("        switch (name) {\n");
+                for (Map.Entry<String, ExecutableElement> entry : setters.entrySet()) {
+                    ExecutableElement method = entry.getValue();
+                    TypeMirror type = typeUtils.erasure(method.getParameters().get(0).asType());
+                    writer.append("        case \"").append(entry.getKey()).append("\": bean.").append(method.getSimpleName())
+                            .append("(property(camelContext, ").append(type.toString()).append(".class, value)); return true;\n");
+                }
+                writer.append("        default: return false;\n");
+                writer.append("        }\n");
+            }
+            writer.append("    }\n");
+            writer.append("\n");
+            writer.append("}\n");
+        }
+    }
+
     private static boolean excludeProperty(String excludeProperties, String name) {
         String[] excludes = excludeProperties.split(",");
         for (String exclude : excludes) {
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.tools.apt;
 
+import java.io.IOException;
 import java.io.Writer;
 import java.util.Map;
 import java.util.Set;
@@ -40,6 +41,7 @@ public class TypeConverterProcessor extends AbstractCamelAnnotationProcessor {
         TypeElement converterAnnotationType = this.processingEnv.getElementUtils().getTypeElement("org.apache.camel.Converter");
         Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(converterAnnotationType);
         Map<String, Element> converterClasses = new TreeMap<>();
+        Map<String, Element> converterLoaders = new TreeMap<>();
         for (Element element : elements) {
             if (element instanceof TypeElement) {
                 TypeElement classElement = (TypeElement) element;
@@ -47,21 +49,32 @@ public class TypeConverterProcessor extends AbstractCamelAnnotationProcessor {
                 // we only support top-level classes (not inner classes)
                 if (classElement.getNestingKind() == NestingKind.TOP_LEVEL) {
                     final String javaTypeName = canonicalClassName(classElement.getQualifiedName().toString());
-                    converterClasses.put(javaTypeName, element);
+                    // the converter classes with a generated loader do not need to be loaded by reflection
+                    if (ConverterProcessor.isTypeConverterLoaderSupported(processingEnv, classElement)) {
+                        converterLoaders.put(javaTypeName + "Loader", element);
+                    } else {
+                        converterClasses.put(javaTypeName, element);
+                    }
                 }
             }
         }
         if (!converterClasses.isEmpty()
                 && !converterClasses.containsKey("org.apache.camel.converter.IOConverter")) {
-            Filer filer = processingEnv.getFiler();
-            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT,
-                    "", "META-INF/services/org/apache/camel/TypeConverter",
-                    converterClasses.values().toArray(new Element[0]));
-            try (Writer w = resource.openWriter()) {
-                w.append("# Generated by camel annotation processor\n");
-                for (String s : converterClasses.keySet()) {
-                    w.append(s).append("\n");
-                }
+            writeServicesFile("META-INF/services/org/apache/camel/TypeConverter", converterClasses);
+        }
+        if (!converterLoaders.isEmpty()) {
+            writeServicesFile("META-INF/services/org/apache/camel/TypeConverterLoader", converterLoaders);
+        }
+    }
+
+    private void writeServicesFile(String fileName, Map<String, Element> names) throws IOException {
+        Filer filer = processingEnv.getFiler();
+        FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT,
+                "", fileName, names.values().toArray(new Element[0]));
+        try (Writer w = resource.openWriter()) {
+            w.append("# Generated by camel annotation processor\n");
+            for (String s : names.keySet()) {
+                w.append(s).append("\n");
             }
         }
     }
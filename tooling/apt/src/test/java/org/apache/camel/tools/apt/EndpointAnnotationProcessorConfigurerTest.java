@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.tools.apt;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EndpointAnnotationProcessorConfigurerTest {
+
+    // minimal versions of the camel classes the generated configurer depends on
+    private static final String CAMEL_CONTEXT = "package org.apache.camel;\n"
+        + "public interface CamelContext {\n"
+        + "}\n";
+    private static final String CONFIGURER_SUPPORT = "package org.apache.camel.support;\n"
+        + "public abstract class PropertyConfigurerSupport {\n"
+        + "    public abstract boolean configure(org.apache.camel.CamelContext camelContext, Object target, String name, Object value) throws Exception;\n"
+        + "    protected <T> T property(org.apache.camel.CamelContext camelContext, Class<T> type, Object value) {\n"
+        + "        return type.cast(value);\n"
+        + "    }\n"
+        + "}\n";
+    private static final String CONFIGURATION = "package org.foo;\n"
+        + "@org.apache.camel.spi.UriParams\n"
+        + "public class MyConfiguration {\n"
+        + "    private String name;\n"
+        + "    private int size;\n"
+        + "    public void setName(String name) { this.name = name; }\n"
+        + "    public void setSize(int size) { this.size = size; }\n"
+        + "    public void setSize(String size) { this.size = Integer.parseInt(size); }\n"
+        + "}\n";
+    // a handwritten class which has the name used by the configurers before, such as CxfEndpointConfigurer
+    private static final String CONFIGURATION_CONFIGURER = "package org.foo;\n"
+        + "public class MyConfigurationConfigurer {\n"
+        + "}\n";
+    private static final String OTHER_CONFIGURATION = "package org.foo;\n"
+        + "@org.apache.camel.spi.UriParams\n"
+        + "public class MyOtherConfiguration {\n"
+        + "    public void setName(String name) { }\n"
+        + "}\n";
+    // a handwritten class which has the name of the generated configurer
+    private static final String OTHER_CONFIGURATION_CONFIGURER = "package org.foo;\n"
+        + "public class MyOtherConfigurationPropertyConfigurer {\n"
+        + "}\n";
+
+    @Test
+    public void testGeneratePropertyConfigurer() throws Exception {
+        File dir = Files.createTempDirectory("apt").toFile();
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(dir,
+            source("org.apache.camel.CamelContext", CAMEL_CONTEXT),
+            source("org.apache.camel.support.PropertyConfigurerSupport", CONFIGURER_SUPPORT),
+            source("org.foo.MyConfiguration", CONFIGURATION),
+            source("org.foo.MyConfigurationConfigurer", CONFIGURATION_CONFIGURER),
+            source("org.foo.MyOtherConfiguration", OTHER_CONFIGURATION),
+            source("org.foo.MyOtherConfigurationPropertyConfigurer", OTHER_CONFIGURATION_CONFIGURER));
+        assertEquals("Should compile without errors: " + errors, 0, errors.size());
+
+        File generated = new File(dir, "org/foo/MyConfigurationPropertyConfigurer.java");
+        assertTrue("Should generate the configurer", generated.exists());
+        String code = new String(Files.readAllBytes(generated.toPath()), StandardCharsets.UTF_8);
+        assertTrue(code.contains("public class MyConfigurationPropertyConfigurer extends PropertyConfigurerSupport"));
+        assertTrue(code.contains("case \"name\": bean.setName(property(camelContext, java.lang.String.class, value)); return true;"));
+        // overloaded setters are left to reflection
+        assertFalse(code.contains("case \"size\""));
+        assertTrue(new File(dir, "org/foo/MyConfigurationPropertyConfigurer.class").exists());
+
+        // the existing class is kept as is
+        assertFalse(new File(dir, "org/foo/MyOtherConfigurationPropertyConfigurer.java").exists());
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(File dir, JavaFileObject... sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-s", dir.getPath(), "-d", dir.getPath(),
+                "-classpath", System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, Arrays.asList(sources));
+            task.setProcessors(Arrays.asList(new EndpointAnnotationProcessor()));
+            task.call();
+        }
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}